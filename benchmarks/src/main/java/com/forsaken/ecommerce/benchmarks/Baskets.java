@@ -0,0 +1,55 @@
+package com.forsaken.ecommerce.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic basket data shared by the benchmarks, so every run encodes the
+ * same prices, names and quantities.
+ */
+final class Baskets {
+
+    private static final long SEED = 20_240_501L;
+
+    private Baskets() {
+    }
+
+    /**
+     * One purchased line of a basket.
+     */
+    record Line(int productId, String name, String description, BigDecimal price, double quantity) {
+    }
+
+    /**
+     * @param size number of lines
+     * @return lines priced between 0.99 and 2,499.99 with one to five units each
+     */
+    static List<Line> lines(final int size) {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final List<Line> lines = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            lines.add(new Line(
+                    1000 + i,
+                    "Product " + i,
+                    "Description of catalogue product number " + i,
+                    BigDecimal.valueOf(random.nextLong(99, 250_000), 2),
+                    1 + random.nextInt(5)
+            ));
+        }
+        return lines;
+    }
+
+    /**
+     * @param lines lines of the basket
+     * @return sum of price times quantity, at scale 2
+     */
+    static BigDecimal total(final List<Line> lines) {
+        BigDecimal total = BigDecimal.ZERO.setScale(2);
+        for (final Line line : lines) {
+            total = total.add(line.price().multiply(BigDecimal.valueOf((long) line.quantity())));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,29 @@
+package com.forsaken.ecommerce.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs every benchmark of this module with the GC profiler attached, so each result
+ * also reports the allocation rate and bytes allocated per operation.
+ *
+ * <p>An optional argument restricts the run to benchmarks matching that regex, e.g.
+ * {@code EventEncoding}. The plain JMH launcher ({@code java -jar target/benchmarks.jar -prof gc})
+ * accepts the full set of JMH options.</p>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : BenchmarkRunner.class.getPackageName() + ".*")
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
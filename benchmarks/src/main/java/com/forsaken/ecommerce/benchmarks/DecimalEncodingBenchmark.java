@@ -0,0 +1,60 @@
+package com.forsaken.ecommerce.benchmarks;
+
+import com.forsaken.ecommerce.common.serialization.AvroDecimals;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of converting one price to its Avro {@code decimal(18, 2)} bytes.
+ *
+ * <p>{@link #perCallSchema()} is the former {@code convertBigDecimalToBytes}, which
+ * order-service ran once per purchased line; {@link #sharedConversion()} is
+ * {@link AvroDecimals#toBytes(BigDecimal)}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DecimalEncodingBenchmark {
+
+    private static final int PRICES = 1024;
+
+    private BigDecimal[] prices;
+    private int next;
+
+    @Setup
+    public void setup() {
+        final List<Baskets.Line> lines = Baskets.lines(PRICES);
+        prices = lines.stream().map(Baskets.Line::price).toArray(BigDecimal[]::new);
+    }
+
+    @Benchmark
+    public ByteBuffer perCallSchema() {
+        return LegacyAvroEncoding.convertBigDecimalToBytes(nextPrice());
+    }
+
+    @Benchmark
+    public ByteBuffer sharedConversion() {
+        return AvroDecimals.toBytes(nextPrice());
+    }
+
+    private BigDecimal nextPrice() {
+        next = (next + 1) & (PRICES - 1);
+        return prices[next];
+    }
+}
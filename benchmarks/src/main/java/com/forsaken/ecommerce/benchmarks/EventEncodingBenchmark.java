@@ -0,0 +1,122 @@
+package com.forsaken.ecommerce.benchmarks;
+
+import com.forsaken.ecommerce.avro.CustomerResponse;
+import com.forsaken.ecommerce.avro.OrderConfirmation;
+import com.forsaken.ecommerce.avro.PaymentConfirmation;
+import com.forsaken.ecommerce.avro.PaymentMethod;
+import com.forsaken.ecommerce.avro.PurchaseResponse;
+import com.forsaken.ecommerce.common.serialization.AvroBinaryCodec;
+import com.forsaken.ecommerce.common.serialization.AvroDecimals;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Builds and serialises the events order-service and payment-service write to the
+ * outbox, for baskets of increasing size.
+ *
+ * <p>The {@code legacy*} methods use the former per-call decimal schema and a new
+ * datum writer and buffered encoder per record; the others use
+ * {@link AvroDecimals} and {@link AvroBinaryCodec}. Run with {@code -prof gc} (or
+ * {@link BenchmarkRunner}) to compare {@code gc.alloc.rate.norm}, the bytes
+ * allocated per event.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EventEncodingBenchmark {
+
+    @Param({"1", "5", "20", "100"})
+    public int basketSize;
+
+    private List<Baskets.Line> lines;
+    private BigDecimal total;
+    private CustomerResponse customer;
+    private Instant paymentDate;
+
+    @Setup
+    public void setup() {
+        lines = Baskets.lines(basketSize);
+        total = Baskets.total(lines);
+        customer = CustomerResponse.newBuilder()
+                .setId("6650f0c2a1b2c3d4e5f60718")
+                .setFirstname("John")
+                .setLastname("Doe")
+                .setEmail("john.doe@example.com")
+                .build();
+        paymentDate = Instant.parse("2024-05-01T10:15:30Z");
+    }
+
+    @Benchmark
+    public byte[] legacyOrderConfirmation() {
+        return LegacyAvroEncoding.encode(orderConfirmation(LegacyAvroEncoding::convertBigDecimalToBytes));
+    }
+
+    @Benchmark
+    public byte[] orderConfirmation() {
+        return AvroBinaryCodec.encode(orderConfirmation(AvroDecimals::toBytes));
+    }
+
+    @Benchmark
+    public byte[] legacyPaymentConfirmation() {
+        return LegacyAvroEncoding.encode(paymentConfirmation(LegacyAvroEncoding::convertBigDecimalToBytes));
+    }
+
+    @Benchmark
+    public byte[] paymentConfirmation() {
+        return AvroBinaryCodec.encode(paymentConfirmation(AvroDecimals::toBytes));
+    }
+
+    private OrderConfirmation orderConfirmation(final Function<BigDecimal, ByteBuffer> decimals) {
+        final List<PurchaseResponse> products = new ArrayList<>(lines.size());
+        for (final Baskets.Line line : lines) {
+            products.add(PurchaseResponse.newBuilder()
+                    .setProductId(line.productId())
+                    .setName(line.name())
+                    .setDescription(line.description())
+                    .setPrice(decimals.apply(line.price()))
+                    .setQuantity(line.quantity())
+                    .build());
+        }
+        return OrderConfirmation.newBuilder()
+                .setOrderReference("ORD-2024-000042")
+                .setTotalAmount(decimals.apply(total))
+                .setPaymentMethod(PaymentMethod.CREDIT_CARD)
+                .setCustomer(customer)
+                .setProducts(products)
+                .setTraceId("traceId")
+                .build();
+    }
+
+    private PaymentConfirmation paymentConfirmation(final Function<BigDecimal, ByteBuffer> decimals) {
+        return PaymentConfirmation.newBuilder()
+                .setOrderReference("ORD-2024-000042")
+                .setAmount(decimals.apply(total))
+                .setPaymentMethod(PaymentMethod.CREDIT_CARD)
+                .setCustomerFirstname(customer.getFirstname())
+                .setCustomerLastname(customer.getLastname())
+                .setCustomerEmail(customer.getEmail())
+                .setPaymentDate(paymentDate)
+                .setTraceId("traceId")
+                .build();
+    }
+}
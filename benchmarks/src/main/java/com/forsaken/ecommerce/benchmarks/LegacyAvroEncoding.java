@@ -0,0 +1,57 @@
+package com.forsaken.ecommerce.benchmarks;
+
+import org.apache.avro.Conversions;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+/**
+ * The encoding path the services used before the shared utilities in
+ * {@code common.serialization}, kept as the baseline the benchmarks compare against.
+ */
+final class LegacyAvroEncoding {
+
+    private LegacyAvroEncoding() {
+    }
+
+    /**
+     * Rebuilds the decimal schema and conversion for every amount, as
+     * {@code convertBigDecimalToBytes} in order and payment did.
+     */
+    static ByteBuffer convertBigDecimalToBytes(final BigDecimal value) {
+        if (value == null) {
+            return null;
+        }
+        final Schema DECIMAL_SCHEMA =
+                LogicalTypes.decimal(18, 2)
+                        .addToSchema(Schema.create(Schema.Type.BYTES));
+
+        final Conversions.DecimalConversion DECIMAL_CONVERSION =
+                new Conversions.DecimalConversion();
+        return DECIMAL_CONVERSION.toBytes(value, DECIMAL_SCHEMA, DECIMAL_SCHEMA.getLogicalType());
+    }
+
+    /**
+     * Builds a new datum writer and a buffered encoder for every record.
+     */
+    static byte[] encode(final SpecificRecord record) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        final BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        try {
+            new SpecificDatumWriter<SpecificRecord>(record.getSchema()).write(record, encoder);
+            encoder.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode " + record.getSchema().getFullName(), e);
+        }
+        return out.toByteArray();
+    }
+}
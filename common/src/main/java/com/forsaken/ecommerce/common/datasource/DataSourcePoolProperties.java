@@ -0,0 +1,66 @@
+package com.forsaken.ecommerce.common.datasource;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Connection pool settings shared by every JDBC backed service.
+ *
+ * <p>Values are served per environment by the config server under the
+ * {@code datasource.pool} prefix so that each service can be sized independently
+ * of its code.
+ *
+ * @param maximumPoolSize               upper bound of physical connections held by the pool
+ * @param minimumIdle                   idle connections kept warm for bursts
+ * @param connectionTimeoutMs           how long a caller waits for a connection before failing
+ * @param idleTimeoutMs                 how long an idle connection above {@code minimumIdle} is kept
+ * @param maxLifetimeMs                 hard lifetime of a connection; keep it below the Aurora/proxy idle cut-off
+ * @param leakDetectionThresholdMs      time a connection may be out of the pool before a leak is logged, {@code 0} disables it
+ * @param prepareThreshold              executions after which the PostgreSQL driver switches to a server-side prepared statement
+ * @param preparedStatementCacheQueries number of prepared statements cached per connection
+ * @param preparedStatementCacheSizeMiB memory budget of the per-connection prepared statement cache
+ */
+@Validated
+@ConfigurationProperties(prefix = "datasource.pool")
+public record DataSourcePoolProperties(
+        @NotNull
+        @Min(1)
+        @Max(200)
+        Integer maximumPoolSize,
+
+        @NotNull
+        @Min(0)
+        Integer minimumIdle,
+
+        @NotNull
+        @Min(250)
+        Long connectionTimeoutMs,
+
+        @NotNull
+        @Min(10000)
+        Long idleTimeoutMs,
+
+        @NotNull
+        @Min(30000)
+        Long maxLifetimeMs,
+
+        @NotNull
+        @Min(0)
+        Long leakDetectionThresholdMs,
+
+        @NotNull
+        @Min(0)
+        Integer prepareThreshold,
+
+        @NotNull
+        @Min(0)
+        Integer preparedStatementCacheQueries,
+
+        @NotNull
+        @Min(0)
+        Integer preparedStatementCacheSizeMiB
+) {
+}
@@ -0,0 +1,164 @@
+package com.forsaken.ecommerce.common.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Builds pooled, instrumented {@link HikariDataSource} instances for the
+ * PostgreSQL/Aurora backed services.
+ *
+ * <p>The pool publishes its {@code hikaricp.connections.*} meters (acquire/wait
+ * time, active, idle, pending and timeout counts) to the supplied
+ * {@link MeterRegistry}, tagged with the pool name, so pools can be sized per
+ * service from the dashboards.
+ */
+public final class PooledDataSourceFactory {
+
+    private static final String POSTGRES_DRIVER = "org.postgresql.Driver";
+    private static final String JDBC_URL_FORMAT = "jdbc:postgresql://%s:%s/%s";
+
+    private PooledDataSourceFactory() {
+    }
+
+    /**
+     * Formats the PostgreSQL JDBC url for the given endpoint.
+     *
+     * @param host   database host
+     * @param port   database port
+     * @param dbName database name
+     * @return the jdbc url
+     */
+    public static String jdbcUrl(
+            final String host,
+            final String port,
+            final String dbName
+    ) {
+        return String.format(JDBC_URL_FORMAT, host, port, dbName);
+    }
+
+    /**
+     * Creates a Hikari pool for the given connection details.
+     *
+     * @param poolName       name of the pool, used as the {@code pool} tag on the published meters
+     * @param jdbcUrl        jdbc url of the target database
+     * @param userName       database user
+     * @param password       database password
+     * @param poolProperties pool sizing and statement cache settings
+     * @param meterRegistry  registry the pool metrics are published to
+     * @return a started pool, ready to hand out connections
+     */
+    public static HikariDataSource create(
+            final String poolName,
+            final String jdbcUrl,
+            final String userName,
+            final String password,
+            final DataSourcePoolProperties poolProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        return new HikariDataSource(config(poolName, jdbcUrl, userName, password, poolProperties, meterRegistry));
+    }
+
+    /**
+     * Creates a read-only Hikari pool for a reader endpoint. Unlike {@link #create}, the
+     * pool starts even when the reader is unreachable, so a reader outage never stops the
+     * service from booting.
+     *
+     * @see #create(String, String, String, String, DataSourcePoolProperties, MeterRegistry)
+     */
+    public static HikariDataSource createReplica(
+            final String poolName,
+            final String jdbcUrl,
+            final String userName,
+            final String password,
+            final DataSourcePoolProperties poolProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        final HikariConfig config = config(poolName, jdbcUrl, userName, password, poolProperties, meterRegistry);
+        config.setReadOnly(true);
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Sends read-only transactions to the readers of {@code router} and everything else to
+     * {@code writer}.
+     *
+     * <p>Physical connections are fetched lazily, on the first statement, so that the
+     * read-only flag set when a {@code @Transactional(readOnly = true)} transaction begins
+     * is known when the target is chosen.
+     *
+     * @param writerPoolName name of the writer pool, used as the {@code target} tag of fallbacks
+     * @param writer         pool of the writer endpoint; closed with the returned data source
+     * @param router         reader endpoints
+     * @return {@code writer} itself when there are no readers, otherwise the routing data source
+     */
+    public static DataSource readWriteSplit(
+            final String writerPoolName,
+            final DataSource writer,
+            final ReadReplicaRouter router
+    ) {
+        if (!router.hasReplicas()) {
+            return writer;
+        }
+        final LazyConnectionDataSourceProxy dataSource = new ClosingLazyConnectionDataSourceProxy(writer);
+        dataSource.setReadOnlyDataSource(router.readOnlyDataSource(writerPoolName, writer));
+        return dataSource;
+    }
+
+    private static HikariConfig config(
+            final String poolName,
+            final String jdbcUrl,
+            final String userName,
+            final String password,
+            final DataSourcePoolProperties poolProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        final HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setDriverClassName(POSTGRES_DRIVER);
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(userName);
+        config.setPassword(password);
+
+        config.setMaximumPoolSize(poolProperties.maximumPoolSize());
+        config.setMinimumIdle(Math.min(poolProperties.minimumIdle(), poolProperties.maximumPoolSize()));
+        config.setConnectionTimeout(poolProperties.connectionTimeoutMs());
+        config.setIdleTimeout(poolProperties.idleTimeoutMs());
+        config.setMaxLifetime(poolProperties.maxLifetimeMs());
+        config.setLeakDetectionThreshold(poolProperties.leakDetectionThresholdMs());
+
+        // PgJDBC statement cache: statements executed prepareThreshold times are
+        // promoted to server-side prepared statements and kept per connection.
+        config.addDataSourceProperty("prepareThreshold", poolProperties.prepareThreshold());
+        config.addDataSourceProperty("preparedStatementCacheQueries", poolProperties.preparedStatementCacheQueries());
+        config.addDataSourceProperty("preparedStatementCacheSizeMiB", poolProperties.preparedStatementCacheSizeMiB());
+        // Lets PgJDBC collapse JDBC batches of inserts into multi-row INSERT statements.
+        config.addDataSourceProperty("reWriteBatchedInserts", true);
+
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return config;
+    }
+
+    /**
+     * Lets the container close the writer pool on shutdown, as it would the bare pool.
+     */
+    private static final class ClosingLazyConnectionDataSourceProxy
+            extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+        private ClosingLazyConnectionDataSourceProxy(final DataSource writer) {
+            super(writer);
+        }
+
+        @Override
+        public void close() throws Exception {
+            if (obtainTargetDataSource() instanceof AutoCloseable writer) {
+                writer.close();
+            }
+        }
+    }
+}
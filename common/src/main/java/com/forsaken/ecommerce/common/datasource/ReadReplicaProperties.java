@@ -0,0 +1,36 @@
+package com.forsaken.ecommerce.common.datasource;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+/**
+ * Reader endpoints that read-only transactions are routed to.
+ *
+ * <p>Values are served per environment by the config server under the
+ * {@code datasource.replicas} prefix. Readers share the port, database and
+ * credentials of the writer and are pooled with the same {@code datasource.pool}
+ * settings.
+ *
+ * @param hosts              reader hosts; empty sends every transaction to the writer
+ * @param maxLagMs           replication lag above which a reader is skipped in favour of the writer
+ * @param lagCheckIntervalMs delay between two replication lag probes of every reader
+ */
+@Validated
+@ConfigurationProperties(prefix = "datasource.replicas")
+public record ReadReplicaProperties(
+        @NotNull
+        List<String> hosts,
+
+        @NotNull
+        @Min(0)
+        Long maxLagMs,
+
+        @NotNull
+        @Min(1000)
+        Long lagCheckIntervalMs
+) {
+}
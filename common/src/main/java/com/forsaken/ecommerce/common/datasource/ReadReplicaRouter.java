@@ -0,0 +1,217 @@
+package com.forsaken.ecommerce.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spreads read-only connections over the reader endpoints that keep up with the writer.
+ *
+ * <p>Every {@code datasource.replicas.lagCheckIntervalMs} each reader is probed for its
+ * replication lag. Connections are handed out round-robin among the readers whose last
+ * probe succeeded with a lag of at most {@code maxLagMs}; when none qualifies, or the
+ * chosen reader refuses the connection, the writer serves the read instead. Until the
+ * first probe completes every read goes to the writer. Reads may therefore be up to
+ * {@code maxLagMs} behind the writer.</p>
+ *
+ * <p>Metrics: {@code datasource.routing} counts connections per {@code target} pool and
+ * {@code reason} ({@code read-only}, {@code replica-lag}, {@code replica-unavailable}),
+ * and {@code datasource.replica.lag} reports the last probed lag of every reader
+ * ({@code -1} when unreachable).</p>
+ *
+ * @see PooledDataSourceFactory#readWriteSplit(String, DataSource, ReadReplicaRouter)
+ */
+@Slf4j
+public class ReadReplicaRouter implements AutoCloseable {
+
+    /**
+     * Zero on a primary and on a reader that has replayed all it received; otherwise the
+     * time since the last replayed transaction. Aurora readers report no receive position,
+     * so on an idle cluster their lag grows until the next write reaches them.
+     */
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM clock_timestamp() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+    private static final long UNAVAILABLE = -1;
+
+    private final List<Replica> replicas;
+    private final long maxLagMs;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param replicas reader pools by pool name, used as the {@code target} tag
+     * @param maxLagMs replication lag above which a reader is skipped
+     */
+    public ReadReplicaRouter(
+            final Map<String, DataSource> replicas,
+            final long maxLagMs,
+            final MeterRegistry meterRegistry
+    ) {
+        this.replicas = replicas.entrySet().stream()
+                .map(replica -> new Replica(replica.getKey(), replica.getValue(), meterRegistry))
+                .toList();
+        this.maxLagMs = maxLagMs;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Creates a pool per reader url, named {@code <poolNamePrefix>-<n>}.
+     *
+     * @param jdbcUrls       jdbc urls of the readers; may be empty
+     * @param poolProperties pool settings applied to every reader
+     */
+    public static ReadReplicaRouter create(
+            final String poolNamePrefix,
+            final List<String> jdbcUrls,
+            final String userName,
+            final String password,
+            final DataSourcePoolProperties poolProperties,
+            final long maxLagMs,
+            final MeterRegistry meterRegistry
+    ) {
+        final Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < jdbcUrls.size(); i++) {
+            final String poolName = poolNamePrefix + "-" + (i + 1);
+            replicas.put(poolName, PooledDataSourceFactory.createReplica(
+                    poolName, jdbcUrls.get(i), userName, password, poolProperties, meterRegistry));
+        }
+        return new ReadReplicaRouter(replicas, maxLagMs, meterRegistry);
+    }
+
+    public boolean hasReplicas() {
+        return !replicas.isEmpty();
+    }
+
+    /**
+     * Probes the replication lag of every reader. Runs once at startup and then every
+     * {@code datasource.replicas.lagCheckIntervalMs}.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replicas.lagCheckIntervalMs}")
+    public void refreshLag() {
+        for (final Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                rs.next();
+                replica.lagMs.set(Math.round(rs.getDouble(1)));
+            } catch (SQLException e) {
+                if (replica.lagMs.getAndSet(UNAVAILABLE) != UNAVAILABLE) {
+                    log.warn("Read replica {} is unavailable, routing its reads to the writer", replica.name, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param writerPoolName name of the writer pool, used as the {@code target} tag of fallbacks
+     * @param writer         serves the reads no reader can take
+     * @return a {@link DataSource} handing out reader connections, falling back to {@code writer}
+     */
+    public DataSource readOnlyDataSource(final String writerPoolName, final DataSource writer) {
+        final Counter lagFallbacks = routed(meterRegistry, writerPoolName, "replica-lag");
+        final Counter unavailableFallbacks = routed(meterRegistry, writerPoolName, "replica-unavailable");
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return route(writer, lagFallbacks, unavailableFallbacks, DataSource::getConnection);
+            }
+
+            @Override
+            public Connection getConnection(final String username, final String password) throws SQLException {
+                return route(writer, lagFallbacks, unavailableFallbacks,
+                        dataSource -> dataSource.getConnection(username, password));
+            }
+        };
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (final Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Connection route(
+            final DataSource writer,
+            final Counter lagFallbacks,
+            final Counter unavailableFallbacks,
+            final ConnectionSource source
+    ) throws SQLException {
+        final int size = replicas.size();
+        final int start = Math.floorMod(next.getAndIncrement(), size);
+        boolean lagging = false;
+        for (int i = 0; i < size; i++) {
+            final Replica replica = replicas.get((start + i) % size);
+            final long lagMs = replica.lagMs.get();
+            if (lagMs == UNAVAILABLE) {
+                continue;
+            }
+            if (lagMs > maxLagMs) {
+                lagging = true;
+                continue;
+            }
+            try {
+                final Connection connection = source.getConnection(replica.dataSource);
+                replica.routed.increment();
+                return connection;
+            } catch (SQLException e) {
+                log.warn("Read replica {} refused a connection, routing its reads to the writer", replica.name, e);
+                replica.lagMs.set(UNAVAILABLE);
+            }
+        }
+        (lagging ? lagFallbacks : unavailableFallbacks).increment();
+        return source.getConnection(writer);
+    }
+
+    private static Counter routed(final MeterRegistry meterRegistry, final String target, final String reason) {
+        return Counter.builder("datasource.routing")
+                .description("Read-only connections handed out, by the pool that served them")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection getConnection(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final AtomicLong lagMs = new AtomicLong(UNAVAILABLE);
+        private final Counter routed;
+
+        private Replica(final String name, final DataSource dataSource, final MeterRegistry meterRegistry) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.routed = routed(meterRegistry, name, "read-only");
+            TimeGauge.builder("datasource.replica.lag", lagMs, TimeUnit.MILLISECONDS, AtomicLong::get)
+                    .description("Replication lag of the read replica at its last probe, -1 when unreachable")
+                    .tag("target", name)
+                    .register(meterRegistry);
+        }
+    }
+}
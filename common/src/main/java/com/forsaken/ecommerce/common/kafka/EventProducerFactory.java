@@ -0,0 +1,71 @@
+package com.forsaken.ecommerce.common.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the Avro {@link ProducerFactory} shared by the event publishing services.
+ *
+ * <p>On top of the service's connection settings the factory applies acks, retries,
+ * the compression codec and the batching settings of {@link EventProducerProperties}.
+ * The Kafka client metrics ({@code kafka.producer.batch.size.avg},
+ * {@code kafka.producer.record.error.rate}, {@code kafka.producer.request.latency.avg},
+ * {@code kafka.producer.compression.rate.avg}, ...) are bound to the supplied
+ * {@link MeterRegistry}, tagged with the producing {@code service}.
+ */
+public final class EventProducerFactory {
+
+    private static final String NO_COMPRESSION = "none";
+
+    private EventProducerFactory() {
+    }
+
+    /**
+     * Creates a producer factory for keyed Avro events.
+     *
+     * @param clientId          client id of the producer, also used as the {@code service} meter tag
+     * @param connectionConfigs bootstrap servers, serializers and schema registry settings of the service
+     * @param acks              broker acknowledgements required per record
+     * @param retries           send retries before a record fails
+     * @param compressionType   batch compression codec, {@code none} or blank to disable
+     * @param properties        batching, idempotence and timeout settings
+     * @param meterRegistry     registry the Kafka client metrics are published to
+     * @return a producer factory creating tuned, instrumented producers
+     */
+    public static ProducerFactory<String, SpecificRecord> create(
+            final String clientId,
+            final Map<String, Object> connectionConfigs,
+            final String acks,
+            final int retries,
+            final String compressionType,
+            final EventProducerProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        final Map<String, Object> configs = new HashMap<>(connectionConfigs);
+        configs.put(ProducerConfig.CLIENT_ID_CONFIG, clientId);
+        configs.put(ProducerConfig.ACKS_CONFIG, acks);
+        configs.put(ProducerConfig.RETRIES_CONFIG, retries);
+        configs.put(ProducerConfig.COMPRESSION_TYPE_CONFIG,
+                compressionType == null || compressionType.isBlank() ? NO_COMPRESSION : compressionType);
+        configs.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, properties.enableIdempotence());
+        configs.put(ProducerConfig.LINGER_MS_CONFIG, properties.lingerMs());
+        configs.put(ProducerConfig.BATCH_SIZE_CONFIG, properties.batchSizeBytes());
+        configs.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, properties.maxInFlightRequestsPerConnection());
+        configs.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, properties.deliveryTimeoutMs());
+        configs.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, properties.requestTimeoutMs());
+        configs.put(ProducerConfig.BUFFER_MEMORY_CONFIG, properties.bufferMemoryBytes());
+
+        final DefaultKafkaProducerFactory<String, SpecificRecord> factory = new DefaultKafkaProducerFactory<>(configs);
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry, List.of(Tag.of("service", clientId))));
+        return factory;
+    }
+}
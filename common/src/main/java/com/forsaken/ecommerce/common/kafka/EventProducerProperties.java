@@ -0,0 +1,57 @@
+package com.forsaken.ecommerce.common.kafka;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Batching and delivery settings shared by every Avro event producer.
+ *
+ * <p>Values are served per environment by the config server under the
+ * {@code events.producer} prefix. Connection details, acks, retries and the
+ * compression codec stay with each service's {@code spring.kafka.producer} block.
+ *
+ * @param enableIdempotence                true to let the broker drop duplicates caused by producer retries; requires {@code acks=all}
+ * @param lingerMs                         how long the producer waits for more records before sending a partially filled batch
+ * @param batchSizeBytes                   upper bound of one per-partition batch, before compression
+ * @param maxInFlightRequestsPerConnection unacknowledged requests per broker; at most 5 keeps ordering with idempotence
+ * @param deliveryTimeoutMs                total time a send may take, retries included, before its future fails
+ * @param requestTimeoutMs                 time the producer waits for a single broker response
+ * @param bufferMemoryBytes                memory the producer may use to hold records waiting to be sent
+ */
+@Validated
+@ConfigurationProperties(prefix = "events.producer")
+public record EventProducerProperties(
+        @NotNull
+        Boolean enableIdempotence,
+
+        @NotNull
+        @Min(0)
+        @Max(1000)
+        Integer lingerMs,
+
+        @NotNull
+        @Min(1024)
+        @Max(1048576)
+        Integer batchSizeBytes,
+
+        @NotNull
+        @Min(1)
+        @Max(5)
+        Integer maxInFlightRequestsPerConnection,
+
+        @NotNull
+        @Min(1000)
+        Integer deliveryTimeoutMs,
+
+        @NotNull
+        @Min(100)
+        Integer requestTimeoutMs,
+
+        @NotNull
+        @Min(1048576)
+        Long bufferMemoryBytes
+) {
+}
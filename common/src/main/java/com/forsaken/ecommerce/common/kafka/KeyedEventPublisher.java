@@ -0,0 +1,78 @@
+package com.forsaken.ecommerce.common.kafka;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends Avro events keyed by the aggregate they belong to.
+ *
+ * <p>Keying by the order reference puts every event of one order on the same
+ * partition, so consumers can process orders in parallel while each order's events
+ * stay in sequence. Sends never block the caller; the returned future completes
+ * once the broker acknowledges the record.</p>
+ *
+ * <p>Every send is timed from hand-off to acknowledgement as {@code events.producer.send},
+ * tagged with {@code topic}, {@code event} and {@code outcome}, and the serialized
+ * value size is recorded as {@code events.producer.record.bytes}. Batch size, error
+ * rate and request latency of the underlying client are published by
+ * {@link EventProducerFactory}.</p>
+ */
+@Slf4j
+public class KeyedEventPublisher {
+
+    private static final String SEND_TIMER = "events.producer.send";
+    private static final String RECORD_SIZE = "events.producer.record.bytes";
+
+    private final KafkaTemplate<String, SpecificRecord> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public KeyedEventPublisher(
+            final KafkaTemplate<String, SpecificRecord> kafkaTemplate,
+            final MeterRegistry meterRegistry
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Hands {@code event} to the producer for batched delivery.
+     *
+     * @param topic destination topic
+     * @param key   partitioning key, e.g. the order reference; must not be null
+     * @param event the Avro event to send
+     * @return a future completed with the send result once the broker acknowledges the record
+     */
+    public CompletableFuture<SendResult<String, SpecificRecord>> publish(
+            final String topic,
+            final String key,
+            final SpecificRecord event
+    ) {
+        final String eventName = event.getSchema().getName();
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        return kafkaTemplate.send(topic, key, event).whenComplete((result, failure) -> {
+            sample.stop(Timer.builder(SEND_TIMER)
+                    .description("Time from hand-off to broker acknowledgement of an event")
+                    .tag("topic", topic)
+                    .tag("event", eventName)
+                    .tag("outcome", failure == null ? "success" : "failure")
+                    .register(meterRegistry));
+            if (failure != null) {
+                log.warn("Sending {} for {} to {} failed", eventName, key, topic, failure);
+                return;
+            }
+            DistributionSummary.builder(RECORD_SIZE)
+                    .description("Serialized size of sent event values")
+                    .baseUnit("bytes")
+                    .tag("topic", topic)
+                    .register(meterRegistry)
+                    .record(result.getRecordMetadata().serializedValueSize());
+        });
+    }
+}
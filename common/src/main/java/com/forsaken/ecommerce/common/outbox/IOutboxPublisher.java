@@ -0,0 +1,20 @@
+package com.forsaken.ecommerce.common.outbox;
+
+import org.apache.avro.specific.SpecificRecord;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Hands a decoded outbox event to the producer of its topic; the only part of the
+ * outbox a service provides itself.
+ */
+@FunctionalInterface
+public interface IOutboxPublisher {
+
+    /**
+     * @param event the event read back from the outbox
+     * @return the pending send, completed once Kafka acknowledges it, or {@code null}
+     * if the service has no producer for the type of {@code event}
+     */
+    CompletableFuture<?> publish(final SpecificRecord event);
+}
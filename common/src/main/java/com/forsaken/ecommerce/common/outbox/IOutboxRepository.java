@@ -0,0 +1,82 @@
+package com.forsaken.ecommerce.common.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for {@link OutboxEvent}s.
+ *
+ * <p>The relay reads pending events in {@code id} order and only while it holds a
+ * transaction-scoped advisory lock, so a single instance publishes at a time and
+ * events of one order leave in the order they were written.</p>
+ */
+public interface IOutboxRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Takes the relay lock for the current transaction without waiting.
+     *
+     * @param lockKey advisory lock key shared by every relay instance
+     * @return {@code true} if this transaction now owns the lock
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryRelayLock(@Param("lockKey") long lockKey);
+
+    /**
+     * @param limit maximum number of events to return
+     * @return the oldest unpublished events that are neither parked nor held, in {@code id} order
+     */
+    @Query(
+            value = """
+                    SELECT * FROM outbox_event
+                    WHERE published_at IS NULL AND failed_at IS NULL AND NOT held
+                    ORDER BY id
+                    LIMIT :limit
+                    """,
+            nativeQuery = true
+    )
+    List<OutboxEvent> findPendingBatch(@Param("limit") int limit);
+
+    long countByPublishedAtIsNullAndFailedAtIsNullAndHeldFalse();
+
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e SET e.held = false
+            WHERE e.aggregateId = :aggregateId AND e.eventType = :eventType AND e.held = true
+            """)
+    int releaseHeld(@Param("aggregateId") String aggregateId, @Param("eventType") String eventType);
+
+    @Modifying
+    @Query("""
+            DELETE FROM OutboxEvent e
+            WHERE e.aggregateId = :aggregateId AND e.eventType = :eventType AND e.held = true
+            """)
+    int deleteHeld(@Param("aggregateId") String aggregateId, @Param("eventType") String eventType);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    /**
+     * Records the last failure of an event and parks it: {@link #findPendingBatch} skips it from now on.
+     */
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.attempts = e.attempts + 1, e.lastError = :error, e.failedAt = :failedAt
+            WHERE e.id = :id
+            """)
+    int markParked(@Param("id") Long id, @Param("error") String error, @Param("failedAt") LocalDateTime failedAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
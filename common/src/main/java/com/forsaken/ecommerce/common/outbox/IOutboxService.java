@@ -0,0 +1,51 @@
+package com.forsaken.ecommerce.common.outbox;
+
+import org.apache.avro.specific.SpecificRecord;
+
+/**
+ * Records events for publication by the outbox relay.
+ */
+public interface IOutboxService {
+
+    /**
+     * Writes {@code event} to the outbox within the caller's transaction.
+     *
+     * <p>Nothing is sent to Kafka here; the event becomes visible to the relay only
+     * when the surrounding transaction commits, and is discarded with it on rollback.</p>
+     *
+     * @param aggregateId identifier of the entity the event belongs to, e.g. the order reference of an order or a payment
+     * @param event       the Avro event to publish
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active
+     */
+    void append(final String aggregateId, final SpecificRecord event);
+
+    /**
+     * Writes {@code event} to the outbox within the caller's transaction, but keeps
+     * it from the relay until {@link #release} is called for it.
+     *
+     * <p>For events whose content is known now but which may only be published once a
+     * later step succeeds, e.g. an order confirmation waiting for the payment.</p>
+     *
+     * @param aggregateId identifier of the entity the event belongs to
+     * @param event       the Avro event to publish once released
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active
+     */
+    void hold(final String aggregateId, final SpecificRecord event);
+
+    /**
+     * Hands the held events of {@code type} for {@code aggregateId} to the relay,
+     * when the caller's transaction commits.
+     *
+     * @return the number of events released; {@code 0} if none was held
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active
+     */
+    int release(final String aggregateId, final Class<? extends SpecificRecord> type);
+
+    /**
+     * Deletes the held events of {@code type} for {@code aggregateId}, so they are never published.
+     *
+     * @return the number of events discarded
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active
+     */
+    int discard(final String aggregateId, final Class<? extends SpecificRecord> type);
+}
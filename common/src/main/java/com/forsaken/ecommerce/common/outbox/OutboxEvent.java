@@ -0,0 +1,82 @@
+package com.forsaken.ecommerce.common.outbox;
+
+import com.forsaken.ecommerce.common.serialization.AvroBinaryCodec;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.apache.avro.specific.SpecificRecord;
+
+import java.time.LocalDateTime;
+
+/**
+ * An event waiting to be published to Kafka, written in the same transaction as
+ * the state change it describes.
+ *
+ * <p>The payload is the Avro binary encoding of the event; {@code eventType} holds
+ * the generated record class needed to read it back.</p>
+ */
+@AllArgsConstructor
+@Builder
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "outbox_event", indexes = @Index(name = "idx_outbox_event_pending", columnList = "published_at, id"))
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String aggregateId;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Column(updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    /** Set when the relay gave up on the event; parked events are no longer sent. */
+    private LocalDateTime failedAt;
+
+    /** Written ahead of its publication; the relay skips it until it is released. */
+    private boolean held;
+
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    public static OutboxEvent of(final String aggregateId, final SpecificRecord event) {
+        return of(aggregateId, event, false);
+    }
+
+    public static OutboxEvent of(final String aggregateId, final SpecificRecord event, final boolean held) {
+        return OutboxEvent.builder()
+                .aggregateId(aggregateId)
+                .eventType(event.getClass().getName())
+                .payload(AvroBinaryCodec.encode(event))
+                .createdAt(LocalDateTime.now())
+                .held(held)
+                .build();
+    }
+
+    public SpecificRecord toRecord() {
+        return AvroBinaryCodec.decode(payload, eventType);
+    }
+}
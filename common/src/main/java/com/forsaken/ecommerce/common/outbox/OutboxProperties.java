@@ -0,0 +1,45 @@
+package com.forsaken.ecommerce.common.outbox;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the relay that publishes outbox events to Kafka.
+ *
+ * @param pollIntervalMs    pause between two relay rounds
+ * @param batchSize         maximum number of events published per round
+ * @param sendTimeoutMs     how long a round waits for broker acknowledgements before the rest of the batch is retried
+ * @param maxBackoffMs      upper bound of the pause after consecutive failed rounds
+ * @param maxAttempts       failed sends after which an event is parked instead of holding back the events behind it
+ * @param retentionHours    how long published events are kept for inspection before they are purged
+ * @param cleanupIntervalMs pause between two purges of published events
+ */
+@Validated
+@ConfigurationProperties(prefix = "outbox")
+public record OutboxProperties(
+        @Positive
+        long pollIntervalMs,
+
+        @Min(1)
+        @Max(5000)
+        int batchSize,
+
+        @Positive
+        long sendTimeoutMs,
+
+        @Positive
+        long maxBackoffMs,
+
+        @Min(1)
+        int maxAttempts,
+
+        @Positive
+        long retentionHours,
+
+        @Positive
+        long cleanupIntervalMs
+) {
+}
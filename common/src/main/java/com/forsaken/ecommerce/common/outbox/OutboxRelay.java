@@ -0,0 +1,242 @@
+package com.forsaken.ecommerce.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes {@link OutboxEvent}s to Kafka off the request path.
+ *
+ * <p>Each round takes the relay advisory lock, sends the oldest pending batch in
+ * {@code id} order without waiting between records, then waits for the broker
+ * acknowledgements. Events up to the first failed send are marked published; that
+ * event and everything after it stay pending and are sent again in a later round,
+ * after an exponential back-off. Delivery is therefore at-least-once.</p>
+ *
+ * <p>An event that can never be sent (it cannot be decoded, has no producer, or is
+ * rejected by the broker as too large) or that failed {@code maxAttempts} times is
+ * parked: its {@code failedAt} is set, the relay skips it from then on and carries on
+ * with the events behind it. Clearing {@code failed_at} queues it again.</p>
+ *
+ * <p>Metrics: {@code outbox.pending}, {@code outbox.lag} (age of the oldest pending
+ * event), {@code outbox.relay.published}, {@code outbox.relay.failed},
+ * {@code outbox.relay.parked} and the
+ * {@code outbox.relay.batch} timer. Only the instance holding the lock reports
+ * non-zero gauges.</p>
+ *
+ * <p>Which producer sends an event is up to the service, through its
+ * {@link IOutboxPublisher}.</p>
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final IOutboxRepository outboxRepository;
+    private final IOutboxPublisher publisher;
+    private final long relayLockKey;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMs = new AtomicLong();
+    private final Counter published;
+    private final Counter failed;
+    private final Counter parked;
+    private final Timer batchTimer;
+
+    // Only touched by the scheduler thread.
+    private int consecutiveFailures;
+    private long backoffUntil;
+
+    /**
+     * @param publisher    sends each event with the producer of its topic
+     * @param relayLockKey advisory lock key shared by the relays of one database; any constant unique within it
+     */
+    public OutboxRelay(
+            final IOutboxRepository outboxRepository,
+            final IOutboxPublisher publisher,
+            final long relayLockKey,
+            final TransactionTemplate transactionTemplate,
+            final OutboxProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.publisher = publisher;
+        this.relayLockKey = relayLockKey;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("Outbox events not yet acknowledged by Kafka")
+                .register(meterRegistry);
+        TimeGauge.builder("outbox.lag", lagMs, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest outbox event not yet acknowledged by Kafka")
+                .register(meterRegistry);
+        this.published = Counter.builder("outbox.relay.published")
+                .description("Outbox events acknowledged by Kafka")
+                .register(meterRegistry);
+        this.failed = Counter.builder("outbox.relay.failed")
+                .description("Outbox event sends that failed")
+                .register(meterRegistry);
+        this.parked = Counter.builder("outbox.relay.parked")
+                .description("Outbox events given up on after a permanent failure or maxAttempts failed sends")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Time taken by one relay round")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.pollIntervalMs}")
+    public void relay() {
+        final long now = System.currentTimeMillis();
+        if (now < backoffUntil) {
+            return;
+        }
+        final Boolean batchFailed = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch()));
+        if (Boolean.TRUE.equals(batchFailed)) {
+            consecutiveFailures++;
+            backoffUntil = now + Math.min(
+                    properties.maxBackoffMs(),
+                    properties.pollIntervalMs() << Math.min(consecutiveFailures, 16)
+            );
+        } else {
+            consecutiveFailures = 0;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanupIntervalMs}")
+    public void purgePublished() {
+        final LocalDateTime before = LocalDateTime.now().minusHours(properties.retentionHours());
+        final Integer deleted = transactionTemplate.execute(status -> outboxRepository.deletePublishedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} published outbox events older than {}", deleted, before);
+        }
+    }
+
+    /**
+     * @return {@code true} if a send failed and the round should back off
+     */
+    private boolean relayBatch() {
+        if (!outboxRepository.tryRelayLock(relayLockKey)) {
+            pending.set(0);
+            lagMs.set(0);
+            return false;
+        }
+        final List<OutboxEvent> batch = outboxRepository.findPendingBatch(properties.batchSize());
+        if (batch.isEmpty()) {
+            pending.set(0);
+            lagMs.set(0);
+            return false;
+        }
+        lagMs.set(Duration.between(batch.get(0).getCreatedAt(), LocalDateTime.now()).toMillis());
+
+        final List<CompletableFuture<?>> sends = batch.stream().map(this::send).toList();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.sendTimeoutMs());
+        final List<Long> publishedIds = new ArrayList<>(batch.size());
+        int parkedCount = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            final OutboxEvent event = batch.get(i);
+            final Throwable failure;
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                publishedIds.add(event.getId());
+                continue;
+            } catch (ExecutionException e) {
+                failure = e.getCause();
+            } catch (TimeoutException e) {
+                failure = e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = e;
+            }
+            // A parked event no longer holds back the ones behind it; any other failure ends the round.
+            if (!markFailed(event, failure)) {
+                break;
+            }
+            parkedCount++;
+        }
+
+        if (!publishedIds.isEmpty()) {
+            outboxRepository.markPublished(publishedIds, LocalDateTime.now());
+            published.increment(publishedIds.size());
+        }
+        pending.set(outboxRepository.countByPublishedAtIsNullAndFailedAtIsNullAndHeldFalse());
+        return publishedIds.size() + parkedCount < batch.size();
+    }
+
+    private CompletableFuture<?> send(final OutboxEvent event) {
+        final CompletableFuture<?> send;
+        try {
+            send = publisher.publish(event.toRecord());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(new UnpublishableEventException(e.toString(), e));
+        }
+        return send != null
+                ? send
+                : CompletableFuture.failedFuture(new UnpublishableEventException(
+                "No producer for outbox event type " + event.getEventType(), null));
+    }
+
+    /**
+     * Records a failed send and parks the event if it can never be sent or has used up
+     * its attempts; otherwise it is sent again in a later round.
+     *
+     * @return {@code true} if the event was parked, so that the events behind it can go on
+     */
+    private boolean markFailed(final OutboxEvent event, final Throwable cause) {
+        final String error = String.valueOf(cause);
+        final String lastError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        final boolean park = isUnpublishable(cause) || event.getAttempts() + 1 >= properties.maxAttempts();
+        if (park) {
+            log.error("Outbox event {} ({}) for {} was parked after {} attempts",
+                    event.getId(), event.getEventType(), event.getAggregateId(), event.getAttempts() + 1, cause);
+            outboxRepository.markParked(event.getId(), lastError, LocalDateTime.now());
+            parked.increment();
+        } else {
+            log.warn("Outbox event {} ({}) for {} was not published, retrying later",
+                    event.getId(), event.getEventType(), event.getAggregateId(), cause);
+            outboxRepository.markFailed(event.getId(), lastError);
+        }
+        failed.increment();
+        return park;
+    }
+
+    /**
+     * Failures no retry can fix: the event cannot be decoded or has no producer, or the
+     * broker rejected the record itself, e.g. as too large.
+     */
+    private static boolean isUnpublishable(final Throwable cause) {
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof UnpublishableEventException
+                    || t instanceof RecordTooLargeException
+                    || t instanceof SerializationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class UnpublishableEventException extends RuntimeException {
+
+        private UnpublishableEventException(final String message, final Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.forsaken.ecommerce.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxServiceImpl implements IOutboxService {
+
+    private final IOutboxRepository outboxRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(final String aggregateId, final SpecificRecord event) {
+        final OutboxEvent outboxEvent = outboxRepository.save(OutboxEvent.of(aggregateId, event));
+        log.info("Queued {} for {} as outbox event {}", outboxEvent.getEventType(), aggregateId, outboxEvent.getId());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void hold(final String aggregateId, final SpecificRecord event) {
+        final OutboxEvent outboxEvent = outboxRepository.save(OutboxEvent.of(aggregateId, event, true));
+        log.info("Held {} for {} as outbox event {}", outboxEvent.getEventType(), aggregateId, outboxEvent.getId());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int release(final String aggregateId, final Class<? extends SpecificRecord> type) {
+        final int released = outboxRepository.releaseHeld(aggregateId, type.getName());
+        log.info("Released {} held {} for {}", released, type.getSimpleName(), aggregateId);
+        return released;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int discard(final String aggregateId, final Class<? extends SpecificRecord> type) {
+        final int discarded = outboxRepository.deleteHeld(aggregateId, type.getName());
+        log.info("Discarded {} held {} for {}", discarded, type.getSimpleName(), aggregateId);
+        return discarded;
+    }
+}
@@ -0,0 +1,56 @@
+package com.forsaken.ecommerce.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Encodes keyset positions (e.g. {@code created_date} and {@code id} of the last row
+ * returned) into opaque, URL-safe continuation tokens and back.
+ *
+ * <p>Clients must treat the token as opaque; its layout is owned by the service
+ * that issued it.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+    private static final Pattern SPLITTER = Pattern.compile(Pattern.quote(SEPARATOR));
+
+    private CursorCodec() {
+    }
+
+    /**
+     * @param parts the key values of the last row of the page, in seek order
+     * @return the continuation token
+     */
+    public static String encode(final Object... parts) {
+        final StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) raw.append(SEPARATOR);
+            raw.append(parts[i]);
+        }
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor        a token previously produced by {@link #encode(Object...)}
+     * @param expectedParts number of key values the token must carry
+     * @return the key values, in seek order
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static String[] decode(final String cursor, final int expectedParts) {
+        final String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+        final String[] parts = SPLITTER.split(raw, -1);
+        if (parts.length != expectedParts) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,259 @@
+package com.forsaken.ecommerce.common.partition;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the monthly range partitions of time-partitioned tables in step with the calendar.
+ *
+ * <p>A partition of {@code table} is named {@code <table>_pYYYYMM} and holds the rows whose
+ * partition key falls in {@code [first day of the month, first day of the next month)}. Each
+ * maintenance run, under a transaction-scoped advisory lock so that one instance works at a time:</p>
+ * <ul>
+ *     <li>creates the missing partitions from the current month up to {@code monthsAhead}, so new
+ *     rows never fall into the default partition;</li>
+ *     <li>detaches the partitions older than {@code retentionMonths} and, when an archive schema is
+ *     configured, moves them there. Detached tables keep their data and can be dumped or dropped
+ *     without touching the live table.</li>
+ * </ul>
+ *
+ * <p>Rows of unpartitioned tables that belong to a partitioned row, declared as
+ * {@link DependentTable}s, leave the live table with the partition of their parent: before a
+ * partition is detached they are moved, in the same transaction, into {@code <table>_pYYYYMM},
+ * which then follows the partition into the archive schema.</p>
+ *
+ * <p>Metrics: {@code db.partitions} counts partitions {@code created}, {@code detached}, dependent
+ * tables {@code archived} and failed runs ({@code failed}), tagged by table.</p>
+ */
+@Slf4j
+public class MonthlyPartitionManager {
+
+    /** Advisory lock key of the maintenance run; any constant unique within a service's database. */
+    static final long MAINTENANCE_LOCK_KEY = 7_000_101L;
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]{0,47}");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String PARTITION_INFIX = "_p";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PartitionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final List<String> tables;
+    private final Map<String, List<DependentTable>> dependents;
+
+    /**
+     * Rows of {@code table} whose {@code column} holds the {@code id} of a row of the partitioned
+     * {@code parent}. They are archived together with the partition of that row.
+     */
+    public record DependentTable(String parent, String table, String column) {
+
+        public DependentTable {
+            identifier(parent);
+            identifier(table);
+            identifier(column);
+        }
+    }
+
+    /**
+     * @param tables partitioned parent tables to maintain, in the default schema
+     */
+    public MonthlyPartitionManager(
+            final JdbcTemplate jdbcTemplate,
+            final TransactionTemplate transactionTemplate,
+            final PartitionProperties properties,
+            final MeterRegistry meterRegistry,
+            final List<String> tables
+    ) {
+        this(jdbcTemplate, transactionTemplate, properties, meterRegistry, tables, List.of());
+    }
+
+    /**
+     * @param tables     partitioned parent tables to maintain, in the default schema
+     * @param dependents tables whose rows are archived with the partitions of their parent
+     */
+    public MonthlyPartitionManager(
+            final JdbcTemplate jdbcTemplate,
+            final TransactionTemplate transactionTemplate,
+            final PartitionProperties properties,
+            final MeterRegistry meterRegistry,
+            final List<String> tables,
+            final List<DependentTable> dependents
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.tables = tables.stream().map(MonthlyPartitionManager::identifier).toList();
+        this.dependents = dependents.stream().collect(Collectors.groupingBy(DependentTable::parent));
+        if (properties.archiveSchema() != null && !properties.archiveSchema().isBlank()) {
+            identifier(properties.archiveSchema());
+        }
+    }
+
+    /**
+     * Runs once at startup and then every {@code partitioning.maintenanceIntervalMs}.
+     */
+    @Scheduled(fixedDelayString = "${partitioning.maintenanceIntervalMs}")
+    public void maintain() {
+        final YearMonth currentMonth = YearMonth.now();
+        for (final String table : tables) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                            "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, MAINTENANCE_LOCK_KEY))) {
+                        return;
+                    }
+                    createPartitions(table, currentMonth, currentMonth.plusMonths(properties.monthsAhead()));
+                    if (properties.retentionMonths() > 0) {
+                        detachPartitionsBefore(table, currentMonth.minusMonths(properties.retentionMonths()));
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.error("Partition maintenance of {} failed, retrying in {} ms",
+                        table, properties.maintenanceIntervalMs(), e);
+                count(table, "failed", 1);
+            }
+        }
+    }
+
+    /**
+     * Creates the monthly partitions of {@code table} from {@code from} to {@code to}, both
+     * included, that do not exist yet.
+     *
+     * <p>Fails if the default partition already holds rows of one of those months; they have to
+     * be moved out of it first.</p>
+     *
+     * @return the number of partitions created
+     */
+    public int createPartitions(final String table, final YearMonth from, final YearMonth to) {
+        identifier(table);
+        final List<String> existing = partitionsOf(table);
+        int created = 0;
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            final String partition = partitionName(table, month);
+            if (existing.contains(partition)) {
+                continue;
+            }
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + table
+                    + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            log.info("Created partition {} of {}", partition, table);
+            created++;
+        }
+        count(table, "created", created);
+        return created;
+    }
+
+    /**
+     * Detaches the monthly partitions of {@code table} covering months before {@code cutoff} and
+     * moves them to the archive schema, if one is configured. The rows of its dependent tables
+     * belonging to a detached partition are moved out of the live tables first.
+     *
+     * @return the number of partitions detached
+     */
+    public int detachPartitionsBefore(final String table, final YearMonth cutoff) {
+        identifier(table);
+        final String archiveSchema = properties.archiveSchema() == null || properties.archiveSchema().isBlank()
+                ? null
+                : properties.archiveSchema();
+        int detached = 0;
+        for (final String partition : partitionsOf(table)) {
+            final YearMonth month = monthOf(table, partition);
+            if (month == null || !month.isBefore(cutoff)) {
+                continue;
+            }
+            final List<String> archived = new ArrayList<>();
+            for (final DependentTable dependent : dependents.getOrDefault(table, List.of())) {
+                archived.add(archiveDependentRows(dependent, partition, month));
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+            archived.add(partition);
+            if (archiveSchema != null) {
+                jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+                for (final String archivedTable : archived) {
+                    jdbcTemplate.execute("ALTER TABLE " + archivedTable + " SET SCHEMA " + archiveSchema);
+                }
+            }
+            log.info("Detached partition {} of {}{}", partition, table,
+                    archiveSchema == null ? "" : " into schema " + archiveSchema);
+            detached++;
+        }
+        count(table, "detached", detached);
+        return detached;
+    }
+
+    /**
+     * Moves the rows of {@code dependent} that belong to a row of {@code partition} into the
+     * archive table of {@code month}, next to the live table.
+     *
+     * @return the name of the archive table
+     */
+    private String archiveDependentRows(final DependentTable dependent, final String partition, final YearMonth month) {
+        final String archive = partitionName(dependent.table(), month);
+        // LIKE copies columns, defaults and not-null constraints, but no foreign key into the live tables.
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + archive + " (LIKE " + dependent.table() + " INCLUDING DEFAULTS)");
+        final int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + dependent.table()
+                + " WHERE " + dependent.column() + " IN (SELECT id FROM " + partition + ") RETURNING *)"
+                + " INSERT INTO " + archive + " SELECT * FROM moved");
+        log.info("Archived {} rows of {} belonging to {} into {}", moved, dependent.table(), partition, archive);
+        count(dependent.table(), "archived", 1);
+        return archive;
+    }
+
+    static String partitionName(final String table, final YearMonth month) {
+        return table + PARTITION_INFIX + month.format(SUFFIX);
+    }
+
+    /**
+     * @return the month covered by {@code partition}, or {@code null} if it is not a monthly
+     * partition of {@code table}, e.g. the default partition
+     */
+    static YearMonth monthOf(final String table, final String partition) {
+        final String prefix = table + PARTITION_INFIX;
+        if (!partition.startsWith(prefix) || partition.length() != prefix.length() + 6) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(prefix.length()), SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private List<String> partitionsOf(final String table) {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?)
+                ORDER BY c.relname
+                """, String.class, table);
+    }
+
+    private void count(final String table, final String action, final int amount) {
+        if (amount > 0) {
+            meterRegistry.counter("db.partitions", "table", table, "action", action).increment(amount);
+        }
+    }
+
+    /**
+     * Table and schema names are concatenated into DDL, so only plain lower-case identifiers
+     * short enough to take the {@code _pYYYYMM} suffix are accepted.
+     */
+    private static String identifier(final String name) {
+        if (name == null || !IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalArgumentException("Not a plain SQL identifier: " + name);
+        }
+        return name;
+    }
+}
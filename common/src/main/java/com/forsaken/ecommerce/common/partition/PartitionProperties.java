@@ -0,0 +1,38 @@
+package com.forsaken.ecommerce.common.partition;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Maintenance settings of the monthly partitioned tables.
+ *
+ * <p>Values are served per environment by the config server under the
+ * {@code partitioning} prefix.
+ *
+ * @param monthsAhead           future months kept partitioned, so inserts never land in the default partition
+ * @param retentionMonths       months of history kept attached, current month excluded; {@code 0} keeps every partition
+ * @param archiveSchema         schema detached partitions are moved to; blank leaves them next to the parent table
+ * @param maintenanceIntervalMs delay between two maintenance runs
+ */
+@Validated
+@ConfigurationProperties(prefix = "partitioning")
+public record PartitionProperties(
+        @NotNull
+        @Min(1)
+        @Max(24)
+        Integer monthsAhead,
+
+        @NotNull
+        @Min(0)
+        Integer retentionMonths,
+
+        String archiveSchema,
+
+        @NotNull
+        @Min(60000)
+        Long maintenanceIntervalMs
+) {
+}
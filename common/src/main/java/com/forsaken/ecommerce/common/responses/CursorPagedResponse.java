@@ -0,0 +1,31 @@
+package com.forsaken.ecommerce.common.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Keyset (seek) variant of {@link PagedResponse}.
+ *
+ * <p>Instead of a page number the client passes back the opaque {@code nextCursor}
+ * of the previous response. No total count is computed, so every page costs the
+ * same regardless of how deep the client has scrolled.
+ */
+@Builder
+public record CursorPagedResponse<T>(
+
+        @JsonProperty("content")
+        List<T> content,
+
+        @JsonProperty("size")
+        int size,
+
+        @JsonProperty("nextCursor")
+        String nextCursor,
+
+        @JsonProperty("hasNext")
+        boolean hasNext
+) {
+
+}
@@ -0,0 +1,97 @@
+package com.forsaken.ecommerce.common.serialization;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Encodes generated Avro records into schema-less binary and back.
+ *
+ * <p>The bytes carry no schema or registry id, so the reader must know the record
+ * class; callers store the class name next to the payload (see the outbox tables).
+ *
+ * <p>Datum writers and readers are built once per record class and shared; both are
+ * safe for concurrent use. Encoding writes straight into the output stream instead
+ * of through a buffered encoder, so a call allocates little more than the result.
+ */
+public final class AvroBinaryCodec {
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private static final ClassValue<SpecificDatumWriter<SpecificRecord>> WRITERS = new ClassValue<>() {
+        @Override
+        protected SpecificDatumWriter<SpecificRecord> computeValue(final Class<?> type) {
+            final SpecificData data = SpecificData.getForClass(type);
+            return new SpecificDatumWriter<>(data.getSchema(type), data);
+        }
+    };
+
+    private static final ClassValue<SpecificDatumReader<SpecificRecord>> READERS = new ClassValue<>() {
+        @Override
+        protected SpecificDatumReader<SpecificRecord> computeValue(final Class<?> type) {
+            final SpecificData data = SpecificData.getForClass(type);
+            final Schema schema = data.getSchema(type);
+            return new SpecificDatumReader<>(schema, schema, data);
+        }
+    };
+
+    private AvroBinaryCodec() {
+    }
+
+    /**
+     * @param record the record to encode
+     * @return the Avro binary encoding of {@code record}
+     */
+    public static byte[] encode(final SpecificRecord record) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        final BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+        try {
+            WRITERS.get(record.getClass()).write(record, encoder);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode " + record.getSchema().getFullName(), e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param payload bytes produced by {@link #encode(SpecificRecord)}
+     * @param type    fully qualified name of the generated record class
+     * @return the decoded record
+     * @throws IllegalArgumentException if {@code type} is not a generated Avro record class
+     * @throws UncheckedIOException     if {@code payload} does not match the record schema
+     */
+    public static SpecificRecord decode(final byte[] payload, final String type) {
+        final Class<? extends SpecificRecord> recordClass;
+        try {
+            recordClass = Class.forName(type).asSubclass(SpecificRecord.class);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IllegalArgumentException("Not an Avro record type: " + type, e);
+        }
+        return decode(payload, recordClass);
+    }
+
+    /**
+     * @param payload bytes produced by {@link #encode(SpecificRecord)}
+     * @param type    the generated record class
+     * @return the decoded record
+     * @throws UncheckedIOException if {@code payload} does not match the record schema
+     */
+    public static <T extends SpecificRecord> T decode(final byte[] payload, final Class<T> type) {
+        final BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(payload, null);
+        try {
+            return type.cast(READERS.get(type).read(null, decoder));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode " + type.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.forsaken.ecommerce.common.serialization;
+
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Conversions;
+import org.apache.avro.LogicalTypes;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+
+/**
+ * Converts money amounts to and from the {@code decimal(18, 2)} bytes used by the
+ * Avro events.
+ *
+ * <p>The generated classes expose decimals as raw {@link ByteBuffer}s, so callers
+ * convert them by hand. The logical type and conversion are immutable and shared
+ * here instead of being rebuilt for every price.
+ */
+public final class AvroDecimals {
+
+    /** Precision of every amount field in the event schemas. */
+    public static final int PRECISION = 18;
+    /** Scale of every amount field in the event schemas. */
+    public static final int SCALE = 2;
+
+    private static final LogicalTypes.Decimal AMOUNT_TYPE = LogicalTypes.decimal(PRECISION, SCALE);
+    private static final Conversions.DecimalConversion DECIMAL_CONVERSION = new Conversions.DecimalConversion();
+
+    private AvroDecimals() {
+    }
+
+    /**
+     * Encodes {@code value} exactly like {@link Conversions.DecimalConversion#toBytes}, without
+     * going through a schema.
+     *
+     * @param value the amount, exactly representable with {@value #SCALE} fraction digits; may be null
+     * @return the two's-complement unscaled value at scale {@value #SCALE}, or {@code null} for a null amount
+     * @throws AvroTypeException if {@code value} needs rounding or does not fit in {@value #PRECISION} digits
+     */
+    public static ByteBuffer toBytes(final BigDecimal value) {
+        if (value == null) {
+            return null;
+        }
+        final BigDecimal scaled;
+        try {
+            // Trailing zeros beyond the scale (e.g. 10.500) are dropped; any other digit needs rounding.
+            scaled = value.scale() == SCALE ? value : value.setScale(SCALE, RoundingMode.UNNECESSARY);
+        } catch (ArithmeticException e) {
+            throw new AvroTypeException("Cannot encode decimal with scale " + value.scale()
+                    + " as scale " + SCALE + " without rounding");
+        }
+        if (scaled.precision() > PRECISION) {
+            throw new AvroTypeException("Cannot encode decimal with precision " + scaled.precision()
+                    + " as max precision " + PRECISION);
+        }
+        return ByteBuffer.wrap(scaled.unscaledValue().toByteArray());
+    }
+
+    /**
+     * @param bytes an amount written by {@link #toBytes(BigDecimal)} or any Avro {@code decimal(18, 2)} writer;
+     *              its position is left untouched
+     * @return the decoded amount, or {@code null} for null bytes
+     */
+    public static BigDecimal fromBytes(final ByteBuffer bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        return DECIMAL_CONVERSION.fromBytes(bytes.duplicate(), null, AMOUNT_TYPE);
+    }
+}
@@ -0,0 +1,114 @@
+package com.forsaken.ecommerce.common.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.ProtocolHandler;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.kafka.config.AbstractKafkaListenerContainerFactory;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Moves the blocking entry points of a servlet service onto virtual threads.
+ *
+ * <p>Tomcat request handling, the default {@code @Async} executor and every Kafka
+ * listener container factory get a virtual thread per task, so a request parked
+ * on DynamoDB, JDBC, Feign or RestTemplate no longer holds a platform thread.
+ * Pinning on {@code synchronized} blocks is reported by
+ * {@link VirtualThreadPinningMonitor}. Everything is switched by
+ * {@code threads.virtual.enabled}.
+ */
+@AutoConfiguration(
+        before = TaskExecutionAutoConfiguration.class,
+        after = CompositeMeterRegistryAutoConfiguration.class
+)
+@ConditionalOnProperty(prefix = "threads.virtual", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class VirtualThreadAutoConfiguration {
+
+    static final String ASYNC_THREAD_PREFIX = "async-";
+    static final String TOMCAT_THREAD_PREFIX = "tomcat-handler-";
+    static final String KAFKA_THREAD_PREFIX = "kafka-listener-";
+
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    @ConditionalOnMissingBean(Executor.class)
+    public SimpleAsyncTaskExecutor applicationTaskExecutor(final ObjectProvider<TaskDecorator> taskDecorator) {
+        final SimpleAsyncTaskExecutor executor = virtualThreadExecutor(ASYNC_THREAD_PREFIX);
+        taskDecorator.ifUnique(executor::setTaskDecorator);
+        return executor;
+    }
+
+    @Bean
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "threads.virtual", name = "pinning-monitor-enabled", havingValue = "true")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            final VirtualThreadProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        return new VirtualThreadPinningMonitor(properties, meterRegistry);
+    }
+
+    static SimpleAsyncTaskExecutor virtualThreadExecutor(final String threadNamePrefix) {
+        final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({Tomcat.class, VirtualThreadExecutor.class})
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class TomcatVirtualThreadConfiguration {
+
+        @Bean
+        public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+            return protocolHandler -> protocolHandler.setExecutor(new VirtualThreadExecutor(TOMCAT_THREAD_PREFIX));
+        }
+    }
+
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(AbstractKafkaListenerContainerFactory.class)
+    static class KafkaVirtualThreadConfiguration {
+
+        /**
+         * Services build their listener container factories by hand, so the
+         * executor is attached after construction instead of through Boot's
+         * factory configurer. A factory that already has an executor is left alone.
+         */
+        @Bean
+        public static BeanPostProcessor kafkaListenerVirtualThreadPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                    if (bean instanceof AbstractKafkaListenerContainerFactory<?, ?, ?> factory
+                            && factory.getContainerProperties().getListenerTaskExecutor() == null) {
+                        factory.getContainerProperties()
+                                .setListenerTaskExecutor(virtualThreadExecutor(KAFKA_THREAD_PREFIX));
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.forsaken.ecommerce.common.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Streams {@code jdk.VirtualThreadPinned} JFR events into Micrometer.
+ *
+ * <p>A virtual thread that blocks inside a {@code synchronized} block (or a native
+ * frame) keeps its carrier thread, which silently caps concurrency at the size of
+ * the carrier pool. Every such event is recorded on the
+ * {@code jvm.threads.virtual.pinned} timer; the first occurrence of each pinning
+ * site is logged with its stack so the offending monitor can be found.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.forsaken.";
+    private static final int MAX_TRACKED_SITES = 1024;
+
+    private final VirtualThreadProperties properties;
+    private final Timer pinnedTimer;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            final VirtualThreadProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        final RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(properties.pinningThresholdMs()))
+                .withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("Virtual thread pinning monitor started with threshold {} ms", properties.pinningThresholdMs());
+    }
+
+    @Override
+    public void stop() {
+        final RecordingStream stream = recordingStream;
+        recordingStream = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    void onPinned(final RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        final RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return;
+        }
+        final List<RecordedFrame> frames = stackTrace.getFrames();
+        final String site = describe(pinningSite(frames));
+        if (reportedSites.size() < MAX_TRACKED_SITES && reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}\n\t{}",
+                    event.getDuration().toMillis(),
+                    site,
+                    frames.stream()
+                            .limit(properties.pinningStackDepth())
+                            .map(this::describe)
+                            .collect(Collectors.joining("\n\t")));
+        } else {
+            log.debug("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    private RecordedFrame pinningSite(final List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .orElse(frames.get(0));
+    }
+
+    private String describe(final RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,39 @@
+package com.forsaken.ecommerce.common.threads;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Virtual thread settings shared by every servlet service.
+ *
+ * <p>Values are served per environment by the config server under the
+ * {@code threads.virtual} prefix, so the whole fleet can be switched back to
+ * platform threads without a release.
+ *
+ * @param enabled                 run Tomcat request handling, {@code @Async} and Kafka listener containers on virtual threads
+ * @param pinningMonitorEnabled   stream JFR pinning events into metrics
+ * @param pinningThresholdMs      minimum time a virtual thread must stay pinned to its carrier before it is reported
+ * @param pinningStackDepth       number of frames logged the first time a pinning site is seen
+ */
+@Validated
+@ConfigurationProperties(prefix = "threads.virtual")
+public record VirtualThreadProperties(
+        @NotNull
+        Boolean enabled,
+
+        @NotNull
+        Boolean pinningMonitorEnabled,
+
+        @NotNull
+        @Min(0)
+        Long pinningThresholdMs,
+
+        @NotNull
+        @Min(1)
+        @Max(64)
+        Integer pinningStackDepth
+) {
+}
@@ -0,0 +1,251 @@
+package com.forsaken.ecommerce.common.outbox;
+
+import com.forsaken.ecommerce.avro.PaymentConfirmation;
+import com.forsaken.ecommerce.avro.PaymentMethod;
+import com.forsaken.ecommerce.common.serialization.AvroBinaryCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.avro.specific.SpecificRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link OutboxRelay}, validating that pending outbox events are
+ * published in order and only marked as sent once Kafka acknowledges them.
+ *
+ * <p>The repository, publisher and transaction template are mocked; the template
+ * simply runs its callback, so each test exercises a single relay round.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private IOutboxRepository outboxRepository;
+
+    @Mock
+    private IOutboxPublisher publisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    /**
+     * Builds the relay with mocked collaborators and a transaction template that
+     * executes its callback inline.
+     */
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(
+                outboxRepository,
+                publisher,
+                7_000_001L,
+                transactionTemplate,
+                new OutboxProperties(500, 100, 1000, 30000, 3, 24, 3600000),
+                meterRegistry
+        );
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    /**
+     * Verifies that every event of an acknowledged batch is decoded, sent and then
+     * marked as published in a single update, in {@code id} order.
+     */
+    @Test
+    void testRelay_PublishesBatch() {
+        // Given
+        when(outboxRepository.tryRelayLock(anyLong())).thenReturn(true);
+        when(outboxRepository.findPendingBatch(anyInt())).thenReturn(List.of(
+                constructOutboxEvent(1L, "order-1"),
+                constructOutboxEvent(2L, "order-2")
+        ));
+        doReturn(CompletableFuture.completedFuture(null)).when(publisher).publish(any());
+
+        // When
+        relay.relay();
+
+        // Then
+        final ArgumentCaptor<SpecificRecord> sent = ArgumentCaptor.forClass(SpecificRecord.class);
+        verify(publisher, times(2)).publish(sent.capture());
+        assertEquals("order-1", ((PaymentConfirmation) sent.getAllValues().get(0)).getOrderReference());
+        assertEquals("order-2", ((PaymentConfirmation) sent.getAllValues().get(1)).getOrderReference());
+        verify(outboxRepository).markPublished(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        assertEquals(2.0, meterRegistry.get("outbox.relay.published").counter().count());
+    }
+
+    /**
+     * Verifies that a failed send stops the batch: earlier events are marked
+     * published, the failed event records its error, and later events stay pending
+     * even though their send succeeded.
+     */
+    @Test
+    void testRelay_StopsAtFirstFailure() {
+        // Given
+        when(outboxRepository.tryRelayLock(anyLong())).thenReturn(true);
+        when(outboxRepository.findPendingBatch(anyInt())).thenReturn(List.of(
+                constructOutboxEvent(1L, "order-1"),
+                constructOutboxEvent(2L, "order-2"),
+                constructOutboxEvent(3L, "order-3")
+        ));
+        doReturn(
+                CompletableFuture.completedFuture(null),
+                CompletableFuture.failedFuture(new KafkaException("broker down")),
+                CompletableFuture.completedFuture(null)
+        ).when(publisher).publish(any());
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(outboxRepository).markPublished(eq(List.of(1L)), any(LocalDateTime.class));
+        final ArgumentCaptor<String> error = ArgumentCaptor.forClass(String.class);
+        verify(outboxRepository).markFailed(eq(2L), error.capture());
+        assertTrue(error.getValue().contains("broker down"));
+        assertEquals(1.0, meterRegistry.get("outbox.relay.failed").counter().count());
+    }
+
+    /**
+     * Verifies that an event which cannot be decoded is parked at once and does not
+     * hold back the events behind it.
+     */
+    @Test
+    void testRelay_ParksUndecodableEvent() {
+        // Given
+        final OutboxEvent undecodable = OutboxEvent.builder()
+                .id(1L)
+                .aggregateId("order-1")
+                .eventType("com.forsaken.ecommerce.avro.Unknown")
+                .payload(new byte[]{1, 2, 3})
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(outboxRepository.tryRelayLock(anyLong())).thenReturn(true);
+        when(outboxRepository.findPendingBatch(anyInt())).thenReturn(List.of(
+                undecodable,
+                constructOutboxEvent(2L, "order-2")
+        ));
+        doReturn(CompletableFuture.completedFuture(null)).when(publisher).publish(any());
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(outboxRepository).markParked(eq(1L), anyString(), any(LocalDateTime.class));
+        verify(outboxRepository, never()).markFailed(anyLong(), anyString());
+        verify(outboxRepository).markPublished(eq(List.of(2L)), any(LocalDateTime.class));
+        assertEquals(1.0, meterRegistry.get("outbox.relay.parked").counter().count());
+    }
+
+    /**
+     * Verifies that an event whose send fails for the {@code maxAttempts}-th time is
+     * parked and the events behind it are published.
+     */
+    @Test
+    void testRelay_ParksEventAfterMaxAttempts() {
+        // Given
+        when(outboxRepository.tryRelayLock(anyLong())).thenReturn(true);
+        when(outboxRepository.findPendingBatch(anyInt())).thenReturn(List.of(
+                constructOutboxEvent(1L, "order-1", 2),
+                constructOutboxEvent(2L, "order-2")
+        ));
+        doReturn(
+                CompletableFuture.failedFuture(new KafkaException("broker down")),
+                CompletableFuture.completedFuture(null)
+        ).when(publisher).publish(any());
+
+        // When
+        relay.relay();
+
+        // Then
+        final ArgumentCaptor<String> error = ArgumentCaptor.forClass(String.class);
+        verify(outboxRepository).markParked(eq(1L), error.capture(), any(LocalDateTime.class));
+        assertTrue(error.getValue().contains("broker down"));
+        verify(outboxRepository).markPublished(eq(List.of(2L)), any(LocalDateTime.class));
+        assertEquals(1.0, meterRegistry.get("outbox.relay.parked").counter().count());
+    }
+
+    /**
+     * Verifies that an instance which cannot take the relay lock leaves the outbox
+     * untouched, so only one instance publishes at a time.
+     */
+    @Test
+    void testRelay_SkipsWhenLockHeldElsewhere() {
+        // Given
+        when(outboxRepository.tryRelayLock(anyLong())).thenReturn(false);
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(outboxRepository, never()).findPendingBatch(anyInt());
+        verify(publisher, never()).publish(any());
+    }
+
+    /**
+     * Helper method to construct a pending outbox event carrying an encoded
+     * {@link PaymentConfirmation}.
+     *
+     * @param id             outbox event id
+     * @param orderReference order reference of the confirmation
+     * @return a pending {@link OutboxEvent}
+     */
+    private OutboxEvent constructOutboxEvent(final Long id, final String orderReference) {
+        return constructOutboxEvent(id, orderReference, 0);
+    }
+
+    /**
+     * Helper method to construct a pending outbox event that already failed
+     * {@code attempts} times.
+     *
+     * @param id             outbox event id
+     * @param orderReference order reference of the confirmation
+     * @param attempts       sends that already failed
+     * @return a pending {@link OutboxEvent}
+     */
+    private OutboxEvent constructOutboxEvent(final Long id, final String orderReference, final int attempts) {
+        final PaymentConfirmation confirmation = PaymentConfirmation.newBuilder()
+                .setOrderReference(orderReference)
+                .setAmount(ByteBuffer.wrap("150.50".getBytes()))
+                .setCustomerFirstname("John")
+                .setCustomerLastname("Doe")
+                .setPaymentMethod(PaymentMethod.BITCOIN)
+                .setPaymentDate(Instant.now())
+                .setCustomerEmail("john@doe.com")
+                .build();
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateId(orderReference)
+                .eventType(PaymentConfirmation.class.getName())
+                .payload(AvroBinaryCodec.encode(confirmation))
+                .createdAt(LocalDateTime.now())
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.forsaken.ecommerce.common.serialization;
+
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Conversions;
+import org.apache.avro.LogicalTypes;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link AvroDecimals}, checking that amounts are encoded byte for
+ * byte like the schema-driven {@link Conversions.DecimalConversion} it replaces.
+ */
+class AvroDecimalsTest {
+
+    private static final LogicalTypes.Decimal AMOUNT_TYPE =
+            LogicalTypes.decimal(AvroDecimals.PRECISION, AvroDecimals.SCALE);
+    private final Conversions.DecimalConversion legacy = new Conversions.DecimalConversion();
+
+    /**
+     * Verifies that amounts with fewer, exactly as many and more fraction digits
+     * than the scale, the latter only trailing zeros, encode like the legacy conversion.
+     */
+    @Test
+    void testToBytes_MatchesDecimalConversion() {
+        for (final String amount : new String[]{"10", "10.5", "10.50", "10.500", "-3.10", "0.000"}) {
+            final BigDecimal value = new BigDecimal(amount);
+
+            final ByteBuffer encoded = AvroDecimals.toBytes(value);
+
+            assertEquals(legacy.toBytes(value, null, AMOUNT_TYPE), encoded, amount);
+            assertEquals(0, value.compareTo(AvroDecimals.fromBytes(encoded)), amount);
+        }
+    }
+
+    /**
+     * Verifies that an amount that would need rounding is refused, as the legacy
+     * conversion does.
+     */
+    @Test
+    void testToBytes_RejectsAmountNeedingRounding() {
+        final BigDecimal value = new BigDecimal("10.505");
+
+        assertThrows(AvroTypeException.class, () -> legacy.toBytes(value, null, AMOUNT_TYPE));
+        assertThrows(AvroTypeException.class, () -> AvroDecimals.toBytes(value));
+    }
+
+    /**
+     * Verifies that amounts with more digits than the precision are refused.
+     */
+    @Test
+    void testToBytes_RejectsAmountExceedingPrecision() {
+        assertThrows(AvroTypeException.class, () -> AvroDecimals.toBytes(new BigDecimal("1234567890123456789.00")));
+    }
+
+    /**
+     * Verifies that null amounts stay null both ways.
+     */
+    @Test
+    void testNullAmount() {
+        assertNull(AvroDecimals.toBytes(null));
+        assertNull(AvroDecimals.fromBytes(null));
+    }
+}
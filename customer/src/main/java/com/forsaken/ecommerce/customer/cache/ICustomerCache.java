@@ -0,0 +1,43 @@
+package com.forsaken.ecommerce.customer.cache;
+
+import com.forsaken.ecommerce.customer.dto.CustomerResponse;
+
+import java.util.Optional;
+
+/**
+ * Look-aside cache of {@link CustomerResponse}s, addressable by customer ID and by email.
+ *
+ * <p>Callers read from the cache first, load from DynamoDB on a miss and
+ * {@link #put(CustomerResponse) put} the result back. Every write to a customer
+ * must be followed by {@link #evict(String, String...)} so that no tier keeps
+ * serving the old version.</p>
+ */
+public interface ICustomerCache {
+
+    /**
+     * @param customerId the customer identifier
+     * @return the cached customer, or empty on a miss
+     */
+    Optional<CustomerResponse> getById(final String customerId);
+
+    /**
+     * @param customerEmail the customer email address
+     * @return the cached customer, or empty on a miss
+     */
+    Optional<CustomerResponse> getByEmail(final String customerEmail);
+
+    /**
+     * Caches the customer under both its ID and its email.
+     *
+     * @param customer the customer as last read from DynamoDB
+     */
+    void put(final CustomerResponse customer);
+
+    /**
+     * Removes the customer from every tier, on this and on all other instances.
+     *
+     * @param customerId     the customer identifier
+     * @param customerEmails every email the customer may currently be cached under
+     */
+    void evict(final String customerId, final String... customerEmails);
+}
@@ -0,0 +1,168 @@
+package com.forsaken.ecommerce.customer.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forsaken.ecommerce.customer.configs.cache.CustomerCacheProperties;
+import com.forsaken.ecommerce.customer.dto.CustomerResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * {@link ICustomerCache} backed by a bounded in-process Caffeine tier in front of Redis.
+ *
+ * <p>Reads are served from the local tier when possible, then from Redis (which
+ * repopulates the local tier), and only fall through to DynamoDB when both miss.
+ * Redis is treated as an optimisation: any Redis failure is logged, counted and
+ * reported as a miss, so the service keeps working from DynamoDB.</p>
+ *
+ * <p>Evictions delete the Redis keys and publish them on the invalidation channel;
+ * every instance, including this one, drops the matching local entries when the
+ * message arrives.</p>
+ *
+ * <p>Metrics: the local tier is exposed through {@link CaffeineCacheMetrics} as
+ * {@code cache.*{cache=customer.local}} (hits, misses, evictions, size) and the
+ * remote tier as {@code customer.cache.remote{result=hit|miss|error}}.</p>
+ */
+@Slf4j
+@Component
+public class TwoTierCustomerCache implements ICustomerCache, MessageListener {
+
+    private static final String ID_KEY = "id:";
+    private static final String EMAIL_KEY = "email:";
+    private static final String KEY_SEPARATOR = "\n";
+
+    private final Cache<String, CustomerResponse> local;
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final CustomerCacheProperties properties;
+    private final Duration remoteTtl;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remoteErrors;
+
+    public TwoTierCustomerCache(
+            final StringRedisTemplate redis,
+            final ObjectMapper objectMapper,
+            final CustomerCacheProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.remoteTtl = Duration.ofMillis(properties.remoteTtlMs());
+        this.local = Caffeine.newBuilder()
+                .maximumSize(properties.localMaxSize())
+                .expireAfterWrite(Duration.ofMillis(properties.localTtlMs()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "customer.local");
+        this.remoteHits = remoteCounter(meterRegistry, "hit");
+        this.remoteMisses = remoteCounter(meterRegistry, "miss");
+        this.remoteErrors = remoteCounter(meterRegistry, "error");
+    }
+
+    @Override
+    public Optional<CustomerResponse> getById(final String customerId) {
+        return get(ID_KEY + customerId);
+    }
+
+    @Override
+    public Optional<CustomerResponse> getByEmail(final String customerEmail) {
+        return get(EMAIL_KEY + customerEmail);
+    }
+
+    @Override
+    public void put(final CustomerResponse customer) {
+        final List<String> keys = keysOf(customer.id(), customer.email());
+        keys.forEach(key -> local.put(key, customer));
+        try {
+            final String json = objectMapper.writeValueAsString(customer);
+            keys.forEach(key -> redis.opsForValue().set(remoteKey(key), json, remoteTtl));
+        } catch (JsonProcessingException | DataAccessException e) {
+            remoteErrors.increment();
+            log.warn("Could not write customer {} to Redis: {}", customer.id(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(final String customerId, final String... customerEmails) {
+        final List<String> keys = keysOf(customerId, customerEmails);
+        local.invalidateAll(keys);
+        try {
+            redis.delete(keys.stream().map(this::remoteKey).toList());
+            redis.convertAndSend(properties.invalidationChannel(), String.join(KEY_SEPARATOR, keys));
+        } catch (DataAccessException e) {
+            remoteErrors.increment();
+            log.warn("Could not evict customer {} from Redis: {}", customerId, e.getMessage());
+        }
+    }
+
+    /**
+     * Drops the local entries named in an invalidation message published by
+     * {@link #evict(String, String...)} on any instance.
+     */
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        final String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        local.invalidateAll(Arrays.asList(body.split(KEY_SEPARATOR)));
+    }
+
+    private Optional<CustomerResponse> get(final String key) {
+        final CustomerResponse cached = local.getIfPresent(key);
+        if (cached != null) return Optional.of(cached);
+
+        try {
+            final String json = redis.opsForValue().get(remoteKey(key));
+            if (json == null) {
+                remoteMisses.increment();
+                return Optional.empty();
+            }
+            remoteHits.increment();
+            final CustomerResponse customer = objectMapper.readValue(json, CustomerResponse.class);
+            local.put(key, customer);
+            return Optional.of(customer);
+        } catch (JsonProcessingException | DataAccessException e) {
+            remoteErrors.increment();
+            log.warn("Could not read {} from Redis: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private List<String> keysOf(final String customerId, final String... customerEmails) {
+        final List<String> keys = new ArrayList<>();
+        keys.add(ID_KEY + customerId);
+        Arrays.stream(customerEmails)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(email -> keys.add(EMAIL_KEY + email));
+        return keys;
+    }
+
+    private String remoteKey(final String key) {
+        return properties.keyPrefix() + key;
+    }
+
+    private static Counter remoteCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("customer.cache.remote")
+                .description("Lookups against the Redis tier of the customer cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
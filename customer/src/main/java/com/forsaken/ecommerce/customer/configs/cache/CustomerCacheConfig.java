@@ -0,0 +1,31 @@
+package com.forsaken.ecommerce.customer.configs.cache;
+
+import com.forsaken.ecommerce.customer.cache.TwoTierCustomerCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@RequiredArgsConstructor
+public class CustomerCacheConfig {
+
+    private final CustomerCacheProperties cacheProperties;
+
+    /**
+     * Subscribes the local cache tier to the invalidation channel so that an
+     * update or delete handled by any instance evicts the entry everywhere.
+     */
+    @Bean
+    public RedisMessageListenerContainer customerCacheInvalidationListener(
+            final RedisConnectionFactory connectionFactory,
+            final TwoTierCustomerCache customerCache
+    ) {
+        final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(customerCache, new ChannelTopic(cacheProperties.invalidationChannel()));
+        return container;
+    }
+}
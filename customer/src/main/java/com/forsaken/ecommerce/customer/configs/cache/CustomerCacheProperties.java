@@ -0,0 +1,39 @@
+package com.forsaken.ecommerce.customer.configs.cache;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Sizing and expiry of the two-tier customer cache.
+ *
+ * <p>The local tier is kept short-lived: entries evicted on another instance are
+ * dropped here through the invalidation channel, and the local TTL bounds the
+ * staleness should such a message be missed.</p>
+ *
+ * @param localMaxSize        maximum number of entries held in the in-process tier
+ * @param localTtlMs          time-to-live of an in-process entry after it was written
+ * @param remoteTtlMs         time-to-live of a Redis entry after it was written
+ * @param keyPrefix           namespace prepended to every Redis key
+ * @param invalidationChannel Redis pub/sub channel used to drop local entries cluster-wide
+ */
+@Validated
+@ConfigurationProperties(prefix = "customer.cache")
+public record CustomerCacheProperties(
+        @Positive
+        long localMaxSize,
+
+        @Positive
+        long localTtlMs,
+
+        @Positive
+        long remoteTtlMs,
+
+        @NotBlank
+        String keyPrefix,
+
+        @NotBlank
+        String invalidationChannel
+) {
+}
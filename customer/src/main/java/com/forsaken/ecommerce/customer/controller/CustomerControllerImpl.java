@@ -3,7 +3,7 @@ package com.forsaken.ecommerce.customer.controller;
 
 import com.forsaken.ecommerce.common.exceptions.CustomerNotFoundExceptions;
 import com.forsaken.ecommerce.common.responses.ApiResponse;
-import com.forsaken.ecommerce.common.responses.PagedResponse;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
 import com.forsaken.ecommerce.customer.dto.CustomerRequest;
 import com.forsaken.ecommerce.customer.dto.CustomerResponse;
 import com.forsaken.ecommerce.customer.service.ICustomerService;
@@ -44,12 +44,12 @@ public class CustomerControllerImpl implements ICustomerController {
     }
 
     @Override
-    public ResponseEntity<ApiResponse<PagedResponse<CustomerResponse>>> findAll(final int page, final int size) {
+    public ResponseEntity<ApiResponse<CursorPagedResponse<CustomerResponse>>> findAll(final String cursor, final int size) {
         return ResponseEntity.status(HttpStatus.OK)
                 .body(
-                        ApiResponse.<PagedResponse<CustomerResponse>>builder()
+                        ApiResponse.<CursorPagedResponse<CustomerResponse>>builder()
                                 .status(ApiResponse.Status.SUCCESS)
-                                .data(customerService.findAllCustomers(page, size))
+                                .data(customerService.findAllCustomers(cursor, size))
                                 .message("All Customers Data Fetched")
                                 .build()
                 );
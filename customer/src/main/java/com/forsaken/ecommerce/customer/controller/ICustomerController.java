@@ -2,7 +2,7 @@ package com.forsaken.ecommerce.customer.controller;
 
 import com.forsaken.ecommerce.common.exceptions.CustomerNotFoundExceptions;
 import com.forsaken.ecommerce.common.responses.ApiResponse;
-import com.forsaken.ecommerce.common.responses.PagedResponse;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
 import com.forsaken.ecommerce.customer.dto.CustomerRequest;
 import com.forsaken.ecommerce.customer.dto.CustomerResponse;
 import jakarta.validation.Valid;
@@ -69,23 +69,23 @@ public interface ICustomerController {
     ) throws CustomerNotFoundExceptions;
 
     /**
-     * Retrieves a paginated list of customers.
+     * Retrieves a slice of customers.
      *
-     * <p>This endpoint supports pagination using `page` and `size` parameters.
-     * It returns customer data wrapped inside a {@link PagedResponse} structure
-     * along with a standard {@link ApiResponse} wrapper.</p>
+     * <p>This endpoint supports cursor pagination using `cursor` and `size` parameters.
+     * Each response carries a {@code nextCursor} which must be passed back unchanged to
+     * fetch the following slice; it is {@code null} once all customers have been returned.
+     * The customer data is wrapped inside a {@link CursorPagedResponse} structure along
+     * with a standard {@link ApiResponse} wrapper.</p>
      *
-     * <p>Page numbering starts from 1. If an invalid page or size value is provided,
-     * the service layer may apply fallback defaults.</p>
-     *
-     * @param page the page number to retrieve; defaults to 1
-     * @param size the number of records per page; defaults to 3
-     * @return a ResponseEntity containing a paginated list of {@link CustomerResponse}
-     *         inside a {@link PagedResponse}, wrapped in {@link ApiResponse}, with HTTP 200 status
+     * @param cursor the continuation token of the previous slice; omitted for the first slice
+     * @param size   the number of records per slice, at most 100; defaults to 3
+     * @return a ResponseEntity containing a slice of {@link CustomerResponse}
+     *         inside a {@link CursorPagedResponse}, wrapped in {@link ApiResponse}, with HTTP 200 status;
+     *         a malformed cursor is answered with 400 (Bad Request)
      */
     @GetMapping
-    ResponseEntity<ApiResponse<PagedResponse<CustomerResponse>>> findAll(
-            @RequestParam(name = "page", defaultValue = "1") final int page,
+    ResponseEntity<ApiResponse<CursorPagedResponse<CustomerResponse>>> findAll(
+            @RequestParam(name = "cursor", required = false) final String cursor,
             @RequestParam(name = "size", defaultValue = "3") final int size
     );
 
@@ -10,10 +10,19 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 /**
  * Repository class for performing CRUD and query operations on the {@link Customer}
@@ -27,7 +36,7 @@ import java.util.Optional;
  *     <li>Persisting Customer records</li>
  *     <li>Querying Customers by ID (partition key)</li>
  *     <li>Querying Customers by email using a Global Secondary Index (GSI)</li>
- *     <li>Scanning the entire table for retrieving all customers</li>
+ *     <li>Scanning the table page by page, or in parallel segments for bulk jobs</li>
  *     <li>Deleting customer records by ID</li>
  * </ul>
  *
@@ -47,6 +56,8 @@ import java.util.Optional;
 @Repository
 public class CustomerRepository {
 
+    public static final String PARTITION_KEY = "customerId";
+
     private final DynamoDbTable<Customer> customerTable;
     private final DynamoDbEnhancedClient client;
     private final DynamoDbProperties dynamoDbProperties;
@@ -96,30 +107,78 @@ public class CustomerRepository {
     }
 
     /**
-     * Retrieves all customer records by performing a full table scan.
+     * Retrieves a single page of customers with one DynamoDB <b>Scan</b> request.
+     *
+     * <p>The request carries {@code Limit} and, when resuming, the
+     * {@code ExclusiveStartKey} returned by the previous page, so the read
+     * capacity consumed scales with {@code limit} rather than with the table size.
+     * Since the table only has a partition key, the start key is fully described
+     * by a {@code customerId}.
+     *
+     * @param limit                    the maximum number of items to evaluate
+     * @param exclusiveStartCustomerId the {@code customerId} of the last item of the
+     *                                 previous page, or {@code null} to start from the beginning
+     * @return the page of customers; {@link Page#lastEvaluatedKey()} is {@code null}
+     *         once the end of the table has been reached
+     */
+    public Page<Customer> findPage(final int limit, final String exclusiveStartCustomerId) {
+        final ScanEnhancedRequest.Builder request = ScanEnhancedRequest.builder().limit(limit);
+        if (exclusiveStartCustomerId != null) {
+            request.exclusiveStartKey(Map.of(PARTITION_KEY, AttributeValue.fromS(exclusiveStartCustomerId)));
+        }
+        final Iterator<Page<Customer>> pages = customerTable.scan(request.build()).iterator();
+        return pages.hasNext() ? pages.next() : Page.create(List.of());
+    }
+
+    /**
+     * Walks the whole table with a DynamoDB parallel scan, for bulk jobs only.
      *
-     * <p>A scan iterates through all partitions and items inside the table, and
-     * should be used sparingly in production environments due to cost and performance
-     * considerations.
+     * <p>The table is split into {@code totalSegments} logical segments which are
+     * scanned concurrently, one virtual thread per segment. Every page is handed to
+     * {@code pageConsumer} as soon as it arrives, so the consumer must be thread-safe
+     * and nothing is accumulated here. The method returns once every segment is done
+     * and rethrows the first failure of any segment.
      *
-     * @return a list of all {@link Customer} records found
+     * @param totalSegments the number of segments to scan in parallel; must be positive
+     * @param pageSize      the maximum number of items evaluated per request
+     * @param pageConsumer  receives the items of each page, possibly from several threads
      */
-    public List<Customer> findAll() {
-        final List<Customer> customers = new ArrayList<>();
-        final SdkIterable<Page<Customer>> pages = customerTable.scan();
-        for (Page<Customer> page : pages) customers.addAll(page.items());
-        return customers;
+    public void parallelScan(
+            final int totalSegments,
+            final int pageSize,
+            final Consumer<List<Customer>> pageConsumer
+    ) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<?>> segments = IntStream.range(0, totalSegments)
+                    .<Future<?>>mapToObj(segment -> executor.submit(() -> customerTable.scan(
+                                    ScanEnhancedRequest.builder()
+                                            .segment(segment)
+                                            .totalSegments(totalSegments)
+                                            .limit(pageSize)
+                                            .build())
+                            .forEach(page -> pageConsumer.accept(page.items()))))
+                    .toList();
+            for (Future<?> segment : segments) segment.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Parallel scan of " + dynamoDbProperties.tableName() + " interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException("Parallel scan of " + dynamoDbProperties.tableName() + " failed", e.getCause());
+        }
     }
 
     /**
      * Deletes a customer from DynamoDB based on its primary key.
      *
-     * <p>Internally triggers a DynamoDB <b>DeleteItem</b> operation.
+     * <p>Internally triggers a DynamoDB <b>DeleteItem</b> operation, which hands
+     * back the deleted item at no extra read cost.
      *
      * @param customerId the identifier of the customer to delete
+     * @return an {@link Optional} containing the deleted Customer, or empty if none existed
      */
-    public void deleteById(final String customerId) {
-        customerTable.deleteItem(r -> r.key(k -> k.partitionValue(customerId)));
+    public Optional<Customer> deleteById(final String customerId) {
+        return Optional.ofNullable(customerTable.deleteItem(r -> r.key(k -> k.partitionValue(customerId))));
     }
 
     /**
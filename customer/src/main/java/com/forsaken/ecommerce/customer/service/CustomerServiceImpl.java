@@ -1,20 +1,26 @@
 package com.forsaken.ecommerce.customer.service;
 
 import com.forsaken.ecommerce.common.exceptions.CustomerNotFoundExceptions;
-import com.forsaken.ecommerce.common.responses.PagedResponse;
+import com.forsaken.ecommerce.common.pagination.CursorCodec;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
+import com.forsaken.ecommerce.customer.cache.ICustomerCache;
 import com.forsaken.ecommerce.customer.dto.CustomerRequest;
 import com.forsaken.ecommerce.customer.dto.CustomerResponse;
 import com.forsaken.ecommerce.customer.model.Customer;
 import com.forsaken.ecommerce.customer.repository.CustomerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 import org.apache.commons.lang.StringUtils;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 
 @Service
@@ -22,7 +28,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CustomerServiceImpl implements ICustomerService {
 
+    private static final int DEFAULT_PAGE_SIZE = 3;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CustomerRepository customerRepository;
+    private final ICustomerCache customerCache;
     private final Class<?> className = CustomerServiceImpl.class;
 
     @Override
@@ -49,41 +59,47 @@ public class CustomerServiceImpl implements ICustomerService {
                         String.format("Cannot update customer:: No customer found with the provided ID: %s", request.id()),
                         "updateCustomer(CustomerRequest request) in " + className
                 ));
+        final String previousEmail = customer.getCustomerEmail();
         mergeCustomer(customer, request);
         this.customerRepository.save(customer);
+        this.customerCache.evict(customer.getCustomerId(), previousEmail, customer.getCustomerEmail());
         log.info("Updated customer with id {}", customer.getCustomerId());
         return String.format("Updated customer with id %s", customer.getCustomerId());
     }
 
     @Override
-    public PagedResponse<CustomerResponse> findAllCustomers(final int page, final int size) {
-        log.info("Received request to get all customers");
-        final List<CustomerResponse> customerResponses=this.customerRepository.findAll()
+    public CursorPagedResponse<CustomerResponse> findAllCustomers(final String cursor, final int size) {
+        log.info("Received request to get all customers: cursor={}, size={}", cursor, size);
+        final int finalSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        String exclusiveStartCustomerId = null;
+        if (cursor != null) {
+            try {
+                exclusiveStartCustomerId = CursorCodec.decode(cursor, 1)[0];
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + cursor, e);
+            }
+        }
+
+        final Page<Customer> page = this.customerRepository.findPage(finalSize, exclusiveStartCustomerId);
+        final List<CustomerResponse> content = page.items()
                 .stream()
                 .map(Customer::fromCustomer)
-                .collect(Collectors.toList());
-
-        final int finalPage = Math.max(page - 1, 0);
-        final int start = finalPage * size;
-        final int end = Math.min(start + size, customerResponses.size());
-
-        final List<CustomerResponse> pagedContent =
-                (start >= customerResponses.size()) ? List.of() : customerResponses.subList(start, end);
-        final int totalPages = (int) Math.ceil((double) customerResponses.size() / size);
-        return PagedResponse.<CustomerResponse>builder()
-                .content(pagedContent)
-                .page(finalPage + 1)
-                .size(size)
-                .totalElements(customerResponses.size())
-                .totalPages(totalPages)
+                .toList();
+
+        final Map<String, AttributeValue> lastEvaluatedKey = page.lastEvaluatedKey();
+        final boolean hasNext = lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty();
+        return CursorPagedResponse.<CustomerResponse>builder()
+                .content(content)
+                .size(finalSize)
+                .nextCursor(hasNext ? CursorCodec.encode(lastEvaluatedKey.get(CustomerRepository.PARTITION_KEY).s()) : null)
+                .hasNext(hasNext)
                 .build();
     }
 
     @Override
     public CustomerResponse findById(final String customerId) throws CustomerNotFoundExceptions {
         log.info("Received request to get customer by ID {}", customerId);
-        return this.customerRepository.findById(customerId)
-                .map(Customer::fromCustomer)
+        return loadById(customerId)
                 .orElseThrow(() -> new CustomerNotFoundExceptions(
                                 String.format("No customer found with the provided ID: %s", customerId),
                                 "findById(final String customerId) in " + className
@@ -94,8 +110,11 @@ public class CustomerServiceImpl implements ICustomerService {
     @Override
     public CustomerResponse findByEmail(final String customerEmail) throws CustomerNotFoundExceptions {
         log.info("Received request to get customer by Email {}", customerEmail);
+        final Optional<CustomerResponse> cached = this.customerCache.getByEmail(customerEmail);
+        if (cached.isPresent()) return cached.get();
         return this.customerRepository.findByEmail(customerEmail)
                 .map(Customer::fromCustomer)
+                .map(this::cache)
                 .orElseThrow(() -> new CustomerNotFoundExceptions(
                                 String.format("No customer found with the provided Email: %s", customerEmail),
                                 "findById(final String customerId) in " + className
@@ -106,17 +125,34 @@ public class CustomerServiceImpl implements ICustomerService {
     @Override
     public boolean existsById(final String customerId) {
         log.info("Received request to check if customer with id {}", customerId);
-        return this.customerRepository.findById(customerId)
+        return loadById(customerId)
                 .isPresent();
     }
 
     @Override
     public String deleteCustomer(final String customerId) {
         log.info("Received request to delete customer with id {}", customerId);
-        this.customerRepository.deleteById(customerId);
+        this.customerRepository.deleteById(customerId)
+                .ifPresentOrElse(
+                        customer -> this.customerCache.evict(customerId, customer.getCustomerEmail()),
+                        () -> this.customerCache.evict(customerId)
+                );
         return String.format("Deleted customer with id %s", customerId);
     }
 
+    private Optional<CustomerResponse> loadById(final String customerId) {
+        final Optional<CustomerResponse> cached = this.customerCache.getById(customerId);
+        if (cached.isPresent()) return cached;
+        return this.customerRepository.findById(customerId)
+                .map(Customer::fromCustomer)
+                .map(this::cache);
+    }
+
+    private CustomerResponse cache(final CustomerResponse customer) {
+        this.customerCache.put(customer);
+        return customer;
+    }
+
     private void mergeCustomer(final Customer customer, final CustomerRequest request) {
         if (StringUtils.isNotBlank(request.firstname())) {
             customer.setFirstName(request.firstname());
@@ -1,7 +1,7 @@
 package com.forsaken.ecommerce.customer.service;
 
 import com.forsaken.ecommerce.common.exceptions.CustomerNotFoundExceptions;
-import com.forsaken.ecommerce.common.responses.PagedResponse;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
 import com.forsaken.ecommerce.customer.dto.CustomerRequest;
 import com.forsaken.ecommerce.customer.dto.CustomerResponse;
 
@@ -54,21 +54,22 @@ public interface ICustomerService {
     String updateCustomer(final CustomerRequest request) throws CustomerNotFoundExceptions;
 
     /**
-     * Retrieves a paginated list of customers.
+     * Retrieves a slice of customers using a continuation token.
      *
-     * <p>This method returns customer data in a {@link PagedResponse} structure,
-     * allowing consumers to navigate through pages of results. Pagination is
-     * controlled through the {@code page} and {@code size} parameters.</p>
+     * <p>Each call issues a single DynamoDB scan request limited to {@code size}
+     * items, resuming right after the position encoded in {@code cursor}. No total
+     * count is computed, so the cost of a call depends on the slice size only.</p>
      *
-     * <p>Page numbering is expected to start from 1, unless the service layer applies
-     * its own defaulting or normalization logic.</p>
-     *
-     * @param page the page number to retrieve; must be greater than zero
-     * @param size the number of customer records to include per page; must be greater than zero
-     * @return a {@link PagedResponse} containing a list of {@link CustomerResponse} objects
-     *         along with pagination metadata such as total pages and total elements
+     * @param cursor the continuation token returned with the previous slice,
+     *               or {@code null} to start from the beginning
+     * @param size   the number of customer records to include per slice; values below 1
+     *               fall back to 3 and values above 100 are capped
+     * @return a {@link CursorPagedResponse} containing a list of {@link CustomerResponse} objects
+     *         and the token for the next slice, if any
+     * @throws org.springframework.web.server.ResponseStatusException with status 400 if the
+     *                                                              cursor is malformed
      */
-    PagedResponse<CustomerResponse> findAllCustomers(final int page, final int size);
+    CursorPagedResponse<CustomerResponse> findAllCustomers(final String cursor, final int size);
 
     /**
      * Retrieves the details of a customer using their unique identifier.
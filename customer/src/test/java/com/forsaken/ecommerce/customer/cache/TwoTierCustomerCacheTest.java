@@ -0,0 +1,195 @@
+package com.forsaken.ecommerce.customer.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forsaken.ecommerce.customer.configs.cache.CustomerCacheProperties;
+import com.forsaken.ecommerce.customer.dto.CustomerResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link TwoTierCustomerCache}, covering the read path through the
+ * local and Redis tiers, cluster-wide invalidation, and degradation when Redis
+ * is unavailable.
+ *
+ * <p>Redis is mocked through {@link StringRedisTemplate}; metrics are recorded in
+ * a {@link SimpleMeterRegistry} so they can be asserted on.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+class TwoTierCustomerCacheTest {
+
+    private static final String CUSTOMER_ID = "cust-123";
+    private static final String EMAIL = "abc@gmail.com";
+
+    @Mock
+    private StringRedisTemplate redis;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TwoTierCustomerCache cache;
+
+    /**
+     * Builds the cache with small limits and wires the mocked Redis value operations.
+     */
+    @BeforeEach
+    void setUp() {
+        lenient().when(redis.opsForValue()).thenReturn(valueOperations);
+        cache = new TwoTierCustomerCache(redis, objectMapper, constructProperties(), meterRegistry);
+    }
+
+    /**
+     * Verifies that a put writes both keys to Redis with the remote TTL and that
+     * subsequent reads are served locally without touching Redis.
+     */
+    @Test
+    void put_ShouldServeSubsequentReadsLocally() {
+        // Given
+        final CustomerResponse customer = constructCustomerResponse();
+
+        // When
+        cache.put(customer);
+        final Optional<CustomerResponse> byId = cache.getById(CUSTOMER_ID);
+        final Optional<CustomerResponse> byEmail = cache.getByEmail(EMAIL);
+
+        // Then
+        assertEquals(Optional.of(customer), byId);
+        assertEquals(Optional.of(customer), byEmail);
+        verify(valueOperations, times(2)).set(
+                startsWith("customer:"),
+                anyString(),
+                eq(Duration.ofMinutes(10)));
+        verify(valueOperations, times(0)).get(anyString());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "customer.local").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    /**
+     * Verifies that a local miss is served from Redis, counted as a remote hit,
+     * and repopulates the local tier.
+     *
+     * @throws Exception if the fixture cannot be serialised (not expected here)
+     */
+    @Test
+    void getById_ShouldFallBackToRedis_WhenLocalMiss() throws Exception {
+        // Given
+        final CustomerResponse customer = constructCustomerResponse();
+        when(valueOperations.get("customer:id:" + CUSTOMER_ID))
+                .thenReturn(objectMapper.writeValueAsString(customer));
+
+        // When
+        final Optional<CustomerResponse> first = cache.getById(CUSTOMER_ID);
+        final Optional<CustomerResponse> second = cache.getById(CUSTOMER_ID);
+
+        // Then
+        assertEquals(Optional.of(customer), first);
+        assertEquals(Optional.of(customer), second);
+        verify(valueOperations, times(1)).get("customer:id:" + CUSTOMER_ID);
+        assertEquals(1.0, meterRegistry.get("customer.cache.remote").tag("result", "hit").counter().count());
+    }
+
+    /**
+     * Ensures a Redis outage is reported as a miss (and counted) rather than
+     * failing the lookup, so callers fall through to DynamoDB.
+     */
+    @Test
+    void getById_ShouldReportMiss_WhenRedisUnavailable() {
+        // Given
+        when(valueOperations.get("customer:id:" + CUSTOMER_ID))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        final Optional<CustomerResponse> result = cache.getById(CUSTOMER_ID);
+
+        // Then
+        assertTrue(result.isEmpty());
+        assertEquals(1.0, meterRegistry.get("customer.cache.remote").tag("result", "error").counter().count());
+    }
+
+    /**
+     * Verifies that eviction drops the local entries, deletes every Redis key and
+     * broadcasts the keys on the invalidation channel.
+     */
+    @Test
+    void evict_ShouldDeleteRemoteKeysAndBroadcast() {
+        // Given
+        cache.put(constructCustomerResponse());
+
+        // When
+        cache.evict(CUSTOMER_ID, EMAIL, "old@gmail.com");
+
+        // Then
+        verify(redis, times(1)).delete(List.of(
+                "customer:id:" + CUSTOMER_ID, "customer:email:" + EMAIL, "customer:email:old@gmail.com"));
+        verify(redis, times(1)).convertAndSend("customer-cache-invalidation",
+                "id:" + CUSTOMER_ID + "\nemail:" + EMAIL + "\nemail:old@gmail.com");
+        when(valueOperations.get("customer:id:" + CUSTOMER_ID)).thenReturn(null);
+        assertTrue(cache.getById(CUSTOMER_ID).isEmpty());
+    }
+
+    /**
+     * Verifies that an invalidation published by another instance drops the
+     * matching local entry.
+     */
+    @Test
+    void onMessage_ShouldInvalidateLocalEntries() {
+        // Given
+        cache.put(constructCustomerResponse());
+        final byte[] body = ("id:" + CUSTOMER_ID).getBytes(StandardCharsets.UTF_8);
+
+        // When
+        cache.onMessage(new DefaultMessage("customer-cache-invalidation".getBytes(StandardCharsets.UTF_8), body), null);
+
+        // Then
+        when(valueOperations.get("customer:id:" + CUSTOMER_ID)).thenReturn(null);
+        assertTrue(cache.getById(CUSTOMER_ID).isEmpty());
+        assertEquals(Optional.of(constructCustomerResponse()), cache.getByEmail(EMAIL));
+    }
+
+    /**
+     * Builds cache properties with a 30s local TTL and a 10 minute remote TTL.
+     *
+     * @return the {@link CustomerCacheProperties} used by every test
+     */
+    private CustomerCacheProperties constructProperties() {
+        return new CustomerCacheProperties(100, 30_000, 600_000, "customer:", "customer-cache-invalidation");
+    }
+
+    /**
+     * Builds a sample cached customer.
+     *
+     * @return a {@link CustomerResponse} without address
+     */
+    private CustomerResponse constructCustomerResponse() {
+        return CustomerResponse.builder()
+                .id(CUSTOMER_ID)
+                .firstname("John")
+                .lastname("Doe")
+                .email(EMAIL)
+                .build();
+    }
+}
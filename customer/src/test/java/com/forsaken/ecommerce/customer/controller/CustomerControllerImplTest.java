@@ -3,7 +3,7 @@ package com.forsaken.ecommerce.customer.controller;
 
 import com.forsaken.ecommerce.common.exceptions.CustomerNotFoundExceptions;
 import com.forsaken.ecommerce.common.responses.ApiResponse;
-import com.forsaken.ecommerce.common.responses.PagedResponse;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
 import com.forsaken.ecommerce.customer.dto.CustomerRequest;
 import com.forsaken.ecommerce.customer.dto.CustomerResponse;
 import com.forsaken.ecommerce.customer.model.Address;
@@ -119,9 +119,9 @@ class CustomerControllerImplTest {
     }
 
     /**
-     * Tests that retrieving all customers with pagination:
+     * Tests that retrieving all customers with cursor pagination:
      * <ul>
-     *     <li>Invokes the service with correct paging parameters</li>
+     *     <li>Invokes the service with the cursor and size parameters</li>
      *     <li>Returns HTTP 200 (OK)</li>
      *     <li>Wraps the result inside {@link ApiResponse} with SUCCESS status</li>
      * </ul>
@@ -129,35 +129,34 @@ class CustomerControllerImplTest {
     @Test
     void findAll_WithPagination_ReturnsPagedResponse() {
         // Given
-        int page = 1;
-        int size = 3;
+        final String cursor = "Y3VzdF8xMjM";
+        final int size = 3;
 
-        CustomerResponse customer1 = constructCustomerResponse();
-        CustomerResponse customer2 = constructCustomerResponse();
+        final CustomerResponse customer1 = constructCustomerResponse();
+        final CustomerResponse customer2 = constructCustomerResponse();
 
-        PagedResponse<CustomerResponse> pagedResponse = PagedResponse.<CustomerResponse>builder()
+        final CursorPagedResponse<CustomerResponse> pagedResponse = CursorPagedResponse.<CustomerResponse>builder()
                 .content(List.of(customer1, customer2))
-                .page(page)
                 .size(size)
-                .totalElements(2)
-                .totalPages(1)
+                .nextCursor(null)
+                .hasNext(false)
                 .build();
 
-        when(customerService.findAllCustomers(page, size))
+        when(customerService.findAllCustomers(cursor, size))
                 .thenReturn(pagedResponse);
 
         // When
-        ResponseEntity<ApiResponse<PagedResponse<CustomerResponse>>> resp =
-                controller.findAll(page, size);
+        final ResponseEntity<ApiResponse<CursorPagedResponse<CustomerResponse>>> resp =
+                controller.findAll(cursor, size);
 
         // Then
         assertEquals(HttpStatus.OK, resp.getStatusCode());
-        ApiResponse<PagedResponse<CustomerResponse>> body = resp.getBody();
+        final ApiResponse<CursorPagedResponse<CustomerResponse>> body = resp.getBody();
         assertNotNull(body);
         assertEquals(ApiResponse.Status.SUCCESS, body.status());
         assertEquals("All Customers Data Fetched", body.message());
         assertEquals(pagedResponse, body.data());
-        verify(customerService, times(1)).findAllCustomers(page, size);
+        verify(customerService, times(1)).findAllCustomers(cursor, size);
     }
 
     /**
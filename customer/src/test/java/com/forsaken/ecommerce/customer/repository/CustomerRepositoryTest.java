@@ -13,18 +13,27 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -160,43 +169,85 @@ public class CustomerRepositoryTest {
     }
 
     /**
-     * Tests that the repository correctly performs a full table scan using
-     * {@link DynamoDbTable#scan()} and aggregates results from {@link PageIterable}.
+     * Tests that the first page is read with a single limited scan request.
      *
      * <p>Validates that:
      * <ul>
-     *     <li>Pages and iterators are mocked correctly</li>
-     *     <li>Each page yields the expected Customer objects</li>
-     *     <li>The final list contains all items in order</li>
+     *     <li>The scan request carries the requested {@code Limit}</li>
+     *     <li>No {@code ExclusiveStartKey} is sent for the first page</li>
+     *     <li>Only the first page of the {@link PageIterable} is consumed</li>
      * </ul>
      */
     @Test
-    void testFindAll() {
+    void testFindPage_FirstPage() {
         // Given
         final Customer customerOne = constructCustomer("cust-123");
         final Customer customerTwo = constructCustomer("cust-456");
+        final Page<Customer> page = Page.create(List.of(customerOne, customerTwo),
+                Map.of("customerId", AttributeValue.fromS("cust-456")));
+        final Iterator<Page<Customer>> it = stubScan(page);
+        final ArgumentCaptor<ScanEnhancedRequest> captor = ArgumentCaptor.forClass(ScanEnhancedRequest.class);
 
         // When
-        // Mock Page
-        final Page<Customer> page = mock(Page.class);
-        when(page.items()).thenReturn(List.of(customerOne, customerTwo));
+        final Page<Customer> result = repository.findPage(2, null);
+
+        // Then
+        verify(customerTable).scan(captor.capture());
+        assertEquals(2, captor.getValue().limit());
+        assertNull(captor.getValue().exclusiveStartKey());
+        assertSame(page, result);
+        verify(it, times(1)).next();
+    }
+
+    /**
+     * Tests that a following page resumes from the {@code customerId} of the
+     * previous page via {@code ExclusiveStartKey}.
+     */
+    @Test
+    void testFindPage_ResumesFromCursor() {
+        // Given
+        final Page<Customer> page = Page.create(List.of(constructCustomer("cust-789")));
+        stubScan(page);
+        final ArgumentCaptor<ScanEnhancedRequest> captor = ArgumentCaptor.forClass(ScanEnhancedRequest.class);
 
-        // Mock PageIterable (actual return type from scan())
+        // When
+        final Page<Customer> result = repository.findPage(2, "cust-456");
+
+        // Then
+        verify(customerTable).scan(captor.capture());
+        assertEquals(Map.of("customerId", AttributeValue.fromS("cust-456")), captor.getValue().exclusiveStartKey());
+        assertEquals(1, result.items().size());
+        assertNull(result.lastEvaluatedKey());
+    }
+
+    /**
+     * Tests that a parallel scan issues one segmented scan per segment and
+     * forwards every page to the consumer.
+     */
+    @Test
+    void testParallelScan() {
+        // Given
+        final int totalSegments = 3;
         final PageIterable<Customer> iterable = mock(PageIterable.class);
-        // Mock iterator<Page<Customer>>
-        final Iterator<Page<Customer>> it = mock(Iterator.class);
-        when(it.hasNext()).thenReturn(true, false);
-        when(it.next()).thenReturn(page);
-        // When iterable.iterator() -> our mocked iterator
-        when(iterable.iterator()).thenReturn(it);
-        // scan() must return PageIterable<Customer>
-        when(customerTable.scan()).thenReturn(iterable);
-        final List<Customer> all = repository.findAll();
+        doAnswer(invocation -> {
+            final Consumer<Page<Customer>> action = invocation.getArgument(0);
+            action.accept(Page.create(List.of(constructCustomer("cust-123"))));
+            return null;
+        }).when(iterable).forEach(any());
+        when(customerTable.scan(any(ScanEnhancedRequest.class))).thenReturn(iterable);
+        final AtomicInteger seen = new AtomicInteger();
+        final ArgumentCaptor<ScanEnhancedRequest> captor = ArgumentCaptor.forClass(ScanEnhancedRequest.class);
+
+        // When
+        repository.parallelScan(totalSegments, 100, items -> seen.addAndGet(items.size()));
 
         // Then
-        assertEquals(2, all.size());
-        assertEquals("cust-123", all.get(0).getCustomerId());
-        assertEquals("cust-456", all.get(1).getCustomerId());
+        verify(customerTable, times(totalSegments)).scan(captor.capture());
+        assertEquals(totalSegments, seen.get());
+        assertEquals(Set.of(0, 1, 2), captor.getAllValues().stream()
+                .map(ScanEnhancedRequest::segment)
+                .collect(Collectors.toSet()));
+        captor.getAllValues().forEach(request -> assertEquals(totalSegments, request.totalSegments()));
     }
 
     /**
@@ -294,5 +345,20 @@ public class CustomerRepositoryTest {
     private Customer constructCustomer(final String customerId) {
         return Customer.builder().customerId(customerId).firstName("John").customerEmail(CUSTOMER_EMAIL).build();
     }
-}
 
+    /**
+     * Stubs {@code scan(ScanEnhancedRequest)} to return an iterable yielding the given page.
+     *
+     * @param page the page returned by the scan
+     * @return the mocked iterator, to verify how many pages were consumed
+     */
+    private Iterator<Page<Customer>> stubScan(final Page<Customer> page) {
+        final PageIterable<Customer> iterable = mock(PageIterable.class);
+        final Iterator<Page<Customer>> it = mock(Iterator.class);
+        when(it.hasNext()).thenReturn(true);
+        when(it.next()).thenReturn(page);
+        when(iterable.iterator()).thenReturn(it);
+        when(customerTable.scan(any(ScanEnhancedRequest.class))).thenReturn(iterable);
+        return it;
+    }
+}
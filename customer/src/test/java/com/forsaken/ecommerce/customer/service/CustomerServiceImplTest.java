@@ -2,7 +2,9 @@ package com.forsaken.ecommerce.customer.service;
 
 
 import com.forsaken.ecommerce.common.exceptions.CustomerNotFoundExceptions;
-import com.forsaken.ecommerce.common.responses.PagedResponse;
+import com.forsaken.ecommerce.common.pagination.CursorCodec;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
+import com.forsaken.ecommerce.customer.cache.ICustomerCache;
 import com.forsaken.ecommerce.customer.dto.CustomerRequest;
 import com.forsaken.ecommerce.customer.dto.CustomerResponse;
 import com.forsaken.ecommerce.customer.model.Address;
@@ -17,13 +19,19 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,7 +48,7 @@ import static org.mockito.Mockito.when;
  * <ul>
  *     <li>Customer creation with email uniqueness enforcement</li>
  *     <li>Updating existing customer records</li>
- *     <li>Pagination and content slicing in findAllCustomers()</li>
+ *     <li>Cursor pagination in findAllCustomers()</li>
  *     <li>Customer lookup by ID and email</li>
  *     <li>Existence checks</li>
  *     <li>Delegation to {@link CustomerRepository}</li>
@@ -60,6 +68,8 @@ class CustomerServiceImplTest {
 
     @Mock
     private CustomerRepository customerRepository;
+    @Mock
+    private ICustomerCache customerCache;
     @InjectMocks
     private CustomerServiceImpl customerService;
 
@@ -172,6 +182,7 @@ class CustomerServiceImplTest {
         assertEquals("updated@example.com", captured.getCustomerEmail());
         assertEquals(customerAddress, captured.getAddress());
         assertNotNull(captured);
+        verify(customerCache, times(1)).evict(CUSTOMER_ID, EMAIL_EXISTING, "updated@example.com");
     }
 
     /**
@@ -202,109 +213,114 @@ class CustomerServiceImplTest {
 
 
     /**
-     * Validates pagination behavior in findAllCustomers():
+     * Validates cursor pagination in findAllCustomers() for the first slice:
      *
      * <ul>
-     *     <li>Repository returns a fixed list of customers</li>
-     *     <li>Service slices the list based on page and size</li>
-     *     <li>Correct content, page, size, totalElements, and totalPages are returned</li>
+     *     <li>The repository is asked for a single page of {@code size} items with no start key</li>
+     *     <li>The page items are mapped to {@link CustomerResponse}s</li>
+     *     <li>The last evaluated key is returned as the next cursor</li>
      * </ul>
      */
     @Test
-    void findAllCustomers_WithPagination_ReturnsPagedResponse() {
+    void findAllCustomers_FirstSlice_ReturnsNextCursor() {
         // Given
-        int page = 1;
-        int size = 2;
-
+        final int size = 2;
         final Customer existingCustomerOne =
                 constructCustomer("cust_123", "test-user-firstname-123",
                         "test-user-lastname-123", "abc@gmail.com");
         final Customer existingCustomerTwo = constructCustomer("cust_456", "test-user-firstname-456",
                 "test-user-lastname-456", "xyz@gmail.com");
-        final Customer existingCustomerThree = constructCustomer("cust_789", "test-user-firstname-789",
-                "test-user-lastname-789", "klm@gmail.com");
-
-        when(customerRepository.findAll()).thenReturn(List.of(existingCustomerOne, existingCustomerTwo, existingCustomerThree));
-
-        CustomerResponse customerResponseOne = existingCustomerOne.fromCustomer();
-        CustomerResponse customerResponseTwo = existingCustomerTwo.fromCustomer();
+        when(customerRepository.findPage(size, null)).thenReturn(Page.create(
+                List.of(existingCustomerOne, existingCustomerTwo),
+                Map.of(CustomerRepository.PARTITION_KEY, AttributeValue.fromS("cust_456"))));
 
         // When
-        PagedResponse<CustomerResponse> result = customerService.findAllCustomers(page, size);
+        final CursorPagedResponse<CustomerResponse> result = customerService.findAllCustomers(null, size);
 
         // Then
         assertNotNull(result);
-        assertEquals(page, result.page());
         assertEquals(size, result.size());
-        assertEquals(3, result.totalElements());
-        assertEquals(2, result.totalPages());  // 3 elements / size 2 = 2 pages
-        assertEquals(List.of(customerResponseOne, customerResponseTwo), result.content());
-        verify(customerRepository, times(1)).findAll();
+        assertEquals(List.of(existingCustomerOne.fromCustomer(), existingCustomerTwo.fromCustomer()), result.content());
+        assertTrue(result.hasNext());
+        assertEquals(CursorCodec.encode("cust_456"), result.nextCursor());
+        verify(customerRepository, times(1)).findPage(size, null);
+        verifyNoMoreInteractions(customerRepository);
     }
 
     /**
-     * Tests pagination when the requested page exceeds total available pages.
-     *
-     * <p>Expected behavior:
-     * <ul>
-     *     <li>totalElements and totalPages remain correct</li>
-     *     <li>Returned content list is empty</li>
-     * </ul>
+     * Tests that a cursor resumes the scan after the encoded customer and that
+     * the last slice carries no next cursor.
      */
     @Test
-    void findAllCustomers_PageOutOfRange_ReturnsEmptyContent() {
+    void findAllCustomers_LastSlice_HasNoNextCursor() {
         // Given
-        final int page = 10;
         final int size = 2;
+        final Customer existingCustomer = constructCustomer("cust_789", "test-user-firstname-789",
+                "test-user-lastname-789", "klm@gmail.com");
+        when(customerRepository.findPage(size, "cust_456")).thenReturn(Page.create(List.of(existingCustomer)));
 
-        final Customer existingCustomerOne =
-                constructCustomer("cust_123", "test-user-firstname-123",
-                        "test-user-lastname-123", "abc@gmail.com");
-        final Customer existingCustomerTwo = constructCustomer("cust_456", "test-user-firstname-456",
-                "test-user-lastname-456", "xyz@gmail.com");
-        when(customerRepository.findAll()).thenReturn(List.of(existingCustomerOne, existingCustomerTwo));
+        // When
+        final CursorPagedResponse<CustomerResponse> result =
+                customerService.findAllCustomers(CursorCodec.encode("cust_456"), size);
+
+        // Then
+        assertEquals(List.of(existingCustomer.fromCustomer()), result.content());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
+
+    /**
+     * Ensures the service normalizes invalid slice sizes to the default
+     * instead of sending an invalid {@code Limit} to DynamoDB.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, -5})
+    void findAllCustomers_InvalidSize_UsesDefaultSize(int size) {
+        // Given
+        when(customerRepository.findPage(3, null)).thenReturn(Page.create(List.of()));
 
         // When
-        PagedResponse<CustomerResponse> result = customerService.findAllCustomers(page, size);
+        final CursorPagedResponse<CustomerResponse> result = customerService.findAllCustomers(null, size);
 
         // Then
-        assertEquals(page, result.page());
-        assertEquals(2, result.totalElements());
-        assertEquals(1, result.totalPages());
+        assertEquals(3, result.size(), "Size should normalize to the default for invalid values");
         assertTrue(result.content().isEmpty());
+        assertFalse(result.hasNext());
     }
 
     /**
-     * Ensures the service normalizes invalid or negative page numbers to page=1.
-     *
-     * <p>Validates that:
-     * <ul>
-     *     <li>Content is correctly computed using page 1</li>
-     *     <li>Pagination metadata is accurate</li>
-     * </ul>
+     * Ensures oversized slices are capped so a single call cannot scan an
+     * unbounded number of items.
      */
-    @ParameterizedTest
-    @ValueSource(ints = {0, -1, -2, -3, -4, -5})
-    void findAllCustomers_InvalidOrNegativePage_AlwaysUsesPage1(int page) {
+    @Test
+    void findAllCustomers_OversizedSize_IsCapped() {
         // Given
-        final int size = 2;
-        final Customer existingCustomerOne =
-                constructCustomer("cust_123", "test-user-firstname-123",
-                        "test-user-lastname-123", "abc@gmail.com");
-        final Customer existingCustomerTwo = constructCustomer("cust_456", "test-user-firstname-456",
-                "test-user-lastname-456", "xyz@gmail.com");
-        when(customerRepository.findAll()).thenReturn(List.of(existingCustomerOne, existingCustomerTwo));
-        final CustomerResponse customerResponseOne = existingCustomerOne.fromCustomer();
-        final CustomerResponse customerResponseTwo = existingCustomerTwo.fromCustomer();
+        when(customerRepository.findPage(100, null)).thenReturn(Page.create(List.of()));
 
         // When
-        PagedResponse<CustomerResponse> result = customerService.findAllCustomers(page, size);
+        final CursorPagedResponse<CustomerResponse> result =
+                customerService.findAllCustomers(null, Integer.MAX_VALUE);
 
         // Then
-        assertEquals(1, result.page(), "Page should always normalize to 1 for invalid values");
-        assertEquals(List.of(customerResponseOne, customerResponseTwo), result.content());
-        assertEquals(2, result.totalElements());
-        assertEquals(1, result.totalPages());
+        assertEquals(100, result.size());
+        verify(customerRepository, times(1)).findPage(100, null);
+    }
+
+    /**
+     * Ensures a tampered cursor is rejected as a bad request before DynamoDB is
+     * queried, whether its part count or its encoding is broken.
+     */
+    @Test
+    void findAllCustomers_InvalidCursor_Throws() {
+        for (final String cursor : List.of(CursorCodec.encode("cust_1", "extra"), "%%%")) {
+            // When
+            final ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                    () -> customerService.findAllCustomers(cursor, 2));
+
+            // Then
+            assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+        }
+        verifyNoMoreInteractions(customerRepository);
     }
 
     /**
@@ -328,6 +344,43 @@ class CustomerServiceImplTest {
 
         // Then
         assertEquals(expected, actual);
+        verify(customerCache, times(1)).put(expected);
+    }
+
+    /**
+     * Tests that a cached customer is served without reading DynamoDB.
+     */
+    @Test
+    void findById_ShouldServeFromCache_WhenCached() throws CustomerNotFoundExceptions {
+        // Given
+        final CustomerResponse cached =
+                constructCustomer(CUSTOMER_ID, FIRST_NAME, LAST_NAME, EMAIL_EXISTING).fromCustomer();
+        when(customerCache.getById(CUSTOMER_ID)).thenReturn(Optional.of(cached));
+
+        // When
+        final CustomerResponse actual = customerService.findById(CUSTOMER_ID);
+
+        // Then
+        assertEquals(cached, actual);
+        verifyNoMoreInteractions(customerRepository);
+    }
+
+    /**
+     * Tests that an email lookup hitting the cache skips the email-index query.
+     */
+    @Test
+    void findByEmail_ShouldServeFromCache_WhenCached() throws CustomerNotFoundExceptions {
+        // Given
+        final CustomerResponse cached =
+                constructCustomer(CUSTOMER_ID, FIRST_NAME, LAST_NAME, EMAIL_EXISTING).fromCustomer();
+        when(customerCache.getByEmail(EMAIL_EXISTING)).thenReturn(Optional.of(cached));
+
+        // When
+        final CustomerResponse actual = customerService.findByEmail(EMAIL_EXISTING);
+
+        // Then
+        assertEquals(cached, actual);
+        verifyNoMoreInteractions(customerRepository);
     }
 
     /**
@@ -436,9 +489,27 @@ class CustomerServiceImplTest {
 
         // Then
         verify(customerRepository, times(1)).deleteById(CUSTOMER_ID);
+        verify(customerCache, times(1)).evict(CUSTOMER_ID);
         assertTrue(msg.contains(CUSTOMER_ID));
     }
 
+    /**
+     * Tests that deleting a customer evicts it from the cache under both its ID
+     * and the email of the deleted record.
+     */
+    @Test
+    void deleteCustomer_ShouldEvictIdAndEmail_WhenDeleted() {
+        // Given
+        final Customer deleted = constructCustomer(CUSTOMER_ID, FIRST_NAME, LAST_NAME, EMAIL_EXISTING);
+        when(customerRepository.deleteById(CUSTOMER_ID)).thenReturn(Optional.of(deleted));
+
+        // When
+        customerService.deleteCustomer(CUSTOMER_ID);
+
+        // Then
+        verify(customerCache, times(1)).evict(CUSTOMER_ID, EMAIL_EXISTING);
+    }
+
     /**
      * Helper method for constructing a {@link Customer} object with
      * the provided attributes and a default address.
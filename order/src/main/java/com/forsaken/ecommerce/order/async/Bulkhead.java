@@ -0,0 +1,98 @@
+package com.forsaken.ecommerce.order.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of concurrent calls to a single downstream service.
+ *
+ * <p>A call waits at most {@code acquireTimeoutMs} for a free slot and is then
+ * rejected with a {@link RejectedExecutionException}, so a slow downstream sheds
+ * load instead of parking an ever-growing number of virtual threads.</p>
+ *
+ * <p>Metrics: {@code order.downstream.bulkhead.available} and
+ * {@code order.downstream.bulkhead.rejected}, both tagged with {@code downstream}.</p>
+ */
+public class Bulkhead {
+
+    private final String downstream;
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final Counter rejected;
+
+    public Bulkhead(
+            final String downstream,
+            final int maxConcurrent,
+            final long acquireTimeoutMs,
+            final MeterRegistry meterRegistry
+    ) {
+        this.downstream = downstream;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        Gauge.builder("order.downstream.bulkhead.available", permits, Semaphore::availablePermits)
+                .description("Free call slots towards the downstream service")
+                .tag("downstream", downstream)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("order.downstream.bulkhead.rejected")
+                .description("Calls rejected because the downstream had no free slot")
+                .tag("downstream", downstream)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code call} once a slot is free.
+     *
+     * @param call the blocking downstream call
+     * @return the result of {@code call}
+     * @throws RejectedExecutionException if no slot frees up in time or the thread is interrupted
+     */
+    public <T> T call(final Supplier<T> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Starts {@code call} once a slot is free and holds the slot until the returned
+     * future completes.
+     *
+     * @param call starts the non-blocking downstream call
+     * @return the future of {@code call}, or a failed future with a
+     *         {@link RejectedExecutionException} if no slot frees up in time
+     */
+    public <T> CompletableFuture<T> callAsync(final Supplier<CompletableFuture<T>> call) {
+        try {
+            acquire();
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        try {
+            return call.get().whenComplete((result, failure) -> permits.release());
+        } catch (RuntimeException e) {
+            permits.release();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new RejectedExecutionException("Too many concurrent calls to " + downstream);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for " + downstream, e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.forsaken.ecommerce.order.async;
+
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * Carries the submitting thread's context over to the task's thread.
+ *
+ * <p>Two kinds of context are propagated:</p>
+ * <ul>
+ *     <li>every {@code ThreadLocal} registered with Micrometer context propagation,
+ *         which includes the current observation and hence the trace/span when
+ *         tracing is enabled;</li>
+ *     <li>the SLF4J {@link MDC}, so log lines written by the task keep the
+ *         request's correlation fields.</li>
+ * </ul>
+ *
+ * <p>The executing thread's previous context is restored once the task is done.</p>
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    private final ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+
+    @Override
+    public Runnable decorate(final Runnable runnable) {
+        final ContextSnapshot snapshot = snapshotFactory.captureAll();
+        final Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return () -> {
+            final Map<String, String> previous = MDC.getCopyOfContextMap();
+            try (ContextSnapshot.Scope ignored = snapshot.setThreadLocals()) {
+                setMdc(mdc);
+                runnable.run();
+            } finally {
+                setMdc(previous);
+            }
+        };
+    }
+
+    private static void setMdc(final Map<String, String> context) {
+        if (context == null) MDC.clear();
+        else MDC.setContextMap(context);
+    }
+}
@@ -0,0 +1,30 @@
+package com.forsaken.ecommerce.order.async;
+
+import com.forsaken.ecommerce.order.configs.async.AsyncProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * The {@link Bulkhead}s guarding each service the order service calls during checkout.
+ */
+@Component
+public class DownstreamBulkheads {
+
+    private final Bulkhead customer;
+    private final Bulkhead product;
+
+    public DownstreamBulkheads(final AsyncProperties asyncProperties, final MeterRegistry meterRegistry) {
+        this.customer = new Bulkhead("customer-service", asyncProperties.customerMaxConcurrent(),
+                asyncProperties.acquireTimeoutMs(), meterRegistry);
+        this.product = new Bulkhead("product-service", asyncProperties.productMaxConcurrent(),
+                asyncProperties.acquireTimeoutMs(), meterRegistry);
+    }
+
+    public Bulkhead customer() {
+        return customer;
+    }
+
+    public Bulkhead product() {
+        return product;
+    }
+}
@@ -0,0 +1,30 @@
+package com.forsaken.ecommerce.order.configs.async;
+
+import com.forsaken.ecommerce.order.async.ContextPropagatingTaskDecorator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+@Configuration
+@EnableAsync
+@RequiredArgsConstructor
+public class AsyncConfigurations {
+
+    private final AsyncProperties asyncProperties;
+
+    /**
+     * Executor behind every {@code @Async("appTaskExecutor")} method: one virtual
+     * thread per task, with the caller's MDC and observation context propagated.
+     * Concurrency towards each downstream is bounded by the bulkheads, not here.
+     */
+    @Bean(name = "appTaskExecutor")
+    public SimpleAsyncTaskExecutor appTaskExecutor() {
+        final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("order-async-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setTaskTerminationTimeout(asyncProperties.shutdownTimeoutMs());
+        return executor;
+    }
+}
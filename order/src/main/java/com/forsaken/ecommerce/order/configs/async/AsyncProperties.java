@@ -0,0 +1,35 @@
+package com.forsaken.ecommerce.order.configs.async;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Limits applied to the asynchronous calls the order service makes to its downstreams.
+ *
+ * <p>Tasks run on virtual threads, so the executor itself is unbounded; these
+ * per-downstream limits are what keeps a slow dependency from accumulating an
+ * unbounded number of blocked calls.</p>
+ *
+ * @param customerMaxConcurrent maximum number of concurrent calls to customer-service
+ * @param productMaxConcurrent  maximum number of concurrent calls to product-service
+ * @param acquireTimeoutMs      how long a call may wait for a free slot before it is rejected
+ * @param shutdownTimeoutMs     how long in-flight tasks are awaited on shutdown
+ */
+@Validated
+@ConfigurationProperties(prefix = "async")
+public record AsyncProperties(
+        @Positive
+        int customerMaxConcurrent,
+
+        @Positive
+        int productMaxConcurrent,
+
+        @PositiveOrZero
+        long acquireTimeoutMs,
+
+        @PositiveOrZero
+        long shutdownTimeoutMs
+) {
+}
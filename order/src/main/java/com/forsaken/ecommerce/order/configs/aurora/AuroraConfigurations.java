@@ -1,28 +1,68 @@
 package com.forsaken.ecommerce.order.configs.aurora;
 
+import com.forsaken.ecommerce.common.datasource.DataSourcePoolProperties;
+import com.forsaken.ecommerce.common.datasource.PooledDataSourceFactory;
+import com.forsaken.ecommerce.common.datasource.ReadReplicaProperties;
+import com.forsaken.ecommerce.common.datasource.ReadReplicaRouter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 import javax.sql.DataSource;
+import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties({DataSourcePoolProperties.class, ReadReplicaProperties.class})
 public class AuroraConfigurations {
 
     private final AwsDbCredentials dbCredentials;
+    private final DataSourcePoolProperties poolProperties;
+    private final ReadReplicaProperties replicaProperties;
+    private final MeterRegistry meterRegistry;
 
     @Bean
-    public DataSource dataSource() {
-        final String jdbcUrl = String.format("jdbc:postgresql://%s:%s/%s",
+    public ReadReplicaRouter readReplicaRouter() {
+        final List<String> jdbcUrls = replicaProperties.hosts().stream()
+                .map(host -> PooledDataSourceFactory.jdbcUrl(host, dbCredentials.port(), dbCredentials.dbName()))
+                .toList();
+
+        return ReadReplicaRouter.create(
+                "order-reader-pool",
+                jdbcUrls,
+                dbCredentials.userName(),
+                dbCredentials.password(),
+                poolProperties,
+                replicaProperties.maxLagMs(),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    public DataSource dataSource(final ReadReplicaRouter readReplicaRouter) {
+        final String jdbcUrl = PooledDataSourceFactory.jdbcUrl(
                 dbCredentials.host(), dbCredentials.port(), dbCredentials.dbName());
 
-        final DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setDriverClassName("org.postgresql.Driver");
-        dataSource.setUrl(jdbcUrl);
-        dataSource.setUsername(dbCredentials.userName());
-        dataSource.setPassword(dbCredentials.password());
-        return dataSource;
+        final DataSource dataSource = PooledDataSourceFactory.create(
+                "order-pool",
+                jdbcUrl,
+                dbCredentials.userName(),
+                dbCredentials.password(),
+                poolProperties,
+                meterRegistry
+        );
+
+        final Flyway flyway = Flyway.configure()
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .dataSource(dataSource)
+                .load();
+
+        flyway.repair();
+        flyway.migrate();
+        return PooledDataSourceFactory.readWriteSplit("order-pool", dataSource, readReplicaRouter);
     }
 }
@@ -0,0 +1,29 @@
+package com.forsaken.ecommerce.order.configs.cache;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Switch and sizing of the in-process cache of customers fetched from customer-service.
+ *
+ * <p>The TTL is deliberately short: the cache only has to absorb bursts of orders
+ * from the same customer, while updates made in customer-service become visible
+ * here after at most {@code ttlMs}.</p>
+ *
+ * @param enabled     whether lookups go through the cache at all
+ * @param maximumSize maximum number of customers kept
+ * @param ttlMs       time-to-live of a cached customer after it was fetched
+ */
+@Validated
+@ConfigurationProperties(prefix = "customer.near-cache")
+public record CustomerNearCacheProperties(
+        boolean enabled,
+
+        @Positive
+        long maximumSize,
+
+        @Positive
+        long ttlMs
+) {
+}
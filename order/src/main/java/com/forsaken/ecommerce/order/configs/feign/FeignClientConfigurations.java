@@ -0,0 +1,83 @@
+package com.forsaken.ecommerce.order.configs.feign;
+
+import feign.Capability;
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import feign.micrometer.MicrometerCapability;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Transport and instrumentation shared by {@code ICustomerClient} and {@code IPaymentClient}.
+ *
+ * <p>Feign's default {@code HttpURLConnection} client is replaced by Apache
+ * HttpClient 5 over a bounded keep-alive pool. Content compression is left on, so
+ * gzip and deflate responses are requested and decoded transparently.</p>
+ *
+ * <p>Metrics: {@code feign.Client} timers tagged with the client interface and
+ * method (failures carry {@code exception_name}), {@code feign.Client.http_response_code}
+ * counters, and the {@code httpcomponents.httpclient.pool.*} gauges of the pool.</p>
+ */
+@Configuration
+@EnableFeignClients(basePackages = "com.forsaken.ecommerce.order")
+@RequiredArgsConstructor
+public class FeignClientConfigurations {
+
+    private static final String POOL_NAME = "order-feign";
+
+    private final FeignPoolProperties poolProperties;
+
+    @Bean
+    public PoolingHttpClientConnectionManager feignConnectionManager(final MeterRegistry meterRegistry) {
+        final PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(poolProperties.maxConnections())
+                .setMaxConnPerRoute(poolProperties.maxConnectionsPerRoute())
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setTimeToLive(TimeValue.ofMilliseconds(poolProperties.connectionTtlMs()))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(poolProperties.validateAfterInactivityMs()))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME)
+                .bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient feignHttpClient(final PoolingHttpClientConnectionManager feignConnectionManager) {
+        final TimeValue maxKeepAlive = TimeValue.ofMilliseconds(poolProperties.keepAliveMs());
+        return HttpClients.custom()
+                .setConnectionManager(feignConnectionManager)
+                .setKeepAliveStrategy((response, context) -> {
+                    final TimeValue advertised = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    return advertised.compareTo(maxKeepAlive) < 0 ? advertised : maxKeepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(poolProperties.idleEvictMs()))
+                .disableCookieManagement()
+                .build();
+    }
+
+    @Bean
+    public Client feignClient(final CloseableHttpClient feignHttpClient) {
+        return new ApacheHttp5Client(feignHttpClient);
+    }
+
+    @Bean
+    public Capability micrometerCapability(final MeterRegistry meterRegistry) {
+        return new MicrometerCapability(meterRegistry);
+    }
+}
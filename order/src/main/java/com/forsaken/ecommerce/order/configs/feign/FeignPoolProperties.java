@@ -0,0 +1,42 @@
+package com.forsaken.ecommerce.order.configs.feign;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Connection pool behind every Feign client of the order service.
+ *
+ * <p>Per-client connect and read timeouts stay under
+ * {@code spring.cloud.openfeign.client.config.<client-name>}; this record only
+ * sizes the shared pool.</p>
+ *
+ * @param maxConnections            upper bound of open connections across all Feign clients
+ * @param maxConnectionsPerRoute    upper bound of open connections to a single downstream host
+ * @param keepAliveMs               longest time an idle connection is reused, even if the server advertises more
+ * @param connectionTtlMs           hard lifetime of a pooled connection, so DNS and load balancer changes are picked up
+ * @param idleEvictMs               how often connections idle for longer than this are closed by the evictor
+ * @param validateAfterInactivityMs idle time after which a leased connection is checked for staleness first
+ */
+@Validated
+@ConfigurationProperties(prefix = "feign.pool")
+public record FeignPoolProperties(
+        @Positive
+        int maxConnections,
+
+        @Positive
+        int maxConnectionsPerRoute,
+
+        @Positive
+        long keepAliveMs,
+
+        @Positive
+        long connectionTtlMs,
+
+        @Positive
+        long idleEvictMs,
+
+        @Positive
+        long validateAfterInactivityMs
+) {
+}
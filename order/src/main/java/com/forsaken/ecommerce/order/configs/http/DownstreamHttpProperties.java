@@ -0,0 +1,77 @@
+package com.forsaken.ecommerce.order.configs.http;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.Map;
+
+/**
+ * Settings of the pooled asynchronous HTTP client used for calls to other services.
+ *
+ * <p>The pool is shared by every downstream; deadlines are set per route so a slow
+ * service can be given a longer budget without loosening the others.</p>
+ *
+ * @param maxConnectionsTotal    upper bound of open connections across all routes
+ * @param maxConnectionsPerRoute upper bound of open connections to a single host
+ * @param connectionTtlMs        hard lifetime of a pooled connection, so DNS and load balancer changes are picked up
+ * @param idleEvictMs            how long a keep-alive connection may sit idle in the pool before it is closed
+ * @param versionPolicy          {@code NEGOTIATE} upgrades to HTTP/2 through TLS ALPN, {@code FORCE_HTTP_2} also speaks h2c
+ * @param routes                 per downstream deadlines keyed by route name, e.g. {@code product}
+ */
+@Validated
+@ConfigurationProperties(prefix = "http.client")
+public record DownstreamHttpProperties(
+        @Positive
+        int maxConnectionsTotal,
+
+        @Positive
+        int maxConnectionsPerRoute,
+
+        @Positive
+        long connectionTtlMs,
+
+        @Positive
+        long idleEvictMs,
+
+        @NotNull
+        HttpVersionPolicy versionPolicy,
+
+        @NotEmpty
+        Map<String, @Valid Route> routes
+) {
+
+    /**
+     * Looks up the deadlines of a route.
+     *
+     * @param name route name as configured under {@code http.client.routes}
+     * @return the route settings
+     * @throws IllegalStateException if the route is not configured
+     */
+    public Route route(final String name) {
+        final Route route = routes.get(name);
+        if (route == null) {
+            throw new IllegalStateException("No HTTP client route configured with name: " + name);
+        }
+        return route;
+    }
+
+    /**
+     * Deadlines applied to every call on one route.
+     *
+     * @param connectTimeoutMs  time allowed to open a TCP (and TLS) connection, also the wait for a pooled connection
+     * @param responseTimeoutMs time allowed between sending the request and receiving the response
+     */
+    public record Route(
+            @Positive
+            long connectTimeoutMs,
+
+            @Positive
+            long responseTimeoutMs
+    ) {
+    }
+}
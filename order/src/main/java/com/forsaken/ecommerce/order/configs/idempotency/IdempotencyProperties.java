@@ -0,0 +1,34 @@
+package com.forsaken.ecommerce.order.configs.idempotency;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the create-order deduplication store.
+ *
+ * @param completedTtlMs    how long the outcome of a completed request is replayed to duplicates
+ * @param inFlightTtlMs     lease of a running request; after it a crashed owner's key can be taken over
+ * @param waitTimeoutMs     how long a duplicate waits for the running request before it is answered 409
+ * @param pollIntervalMs    pause between two checks of a key owned by another instance
+ * @param cleanupIntervalMs pause between two purges of expired keys
+ */
+@Validated
+@ConfigurationProperties(prefix = "idempotency")
+public record IdempotencyProperties(
+        @Positive
+        long completedTtlMs,
+
+        @Positive
+        long inFlightTtlMs,
+
+        @Positive
+        long waitTimeoutMs,
+
+        @Positive
+        long pollIntervalMs,
+
+        @Positive
+        long cleanupIntervalMs
+) {
+}
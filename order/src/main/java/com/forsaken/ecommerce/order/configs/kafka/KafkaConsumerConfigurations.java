@@ -0,0 +1,101 @@
+package com.forsaken.ecommerce.order.configs.kafka;
+
+import com.forsaken.ecommerce.order.configs.saga.SagaProperties;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.AbstractMap;
+import java.util.Map;
+
+import static io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG;
+
+/**
+ * Consumer side of the checkout saga: the listeners of {@code PaymentConfirmation}
+ * and {@code PaymentFailed} events.
+ *
+ * <p>Offsets are committed per record once its handler returns. A failing record
+ * is redelivered after {@code saga.retryBackOffMs}, up to {@code saga.maxRetries}
+ * times, and then logged and skipped; records that cannot be deserialized are
+ * skipped straight away.</p>
+ */
+@Configuration
+@EnableKafka
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaConsumerConfigurations {
+
+    private final KafkaProperties kafkaProperties;
+    private final SagaProperties sagaProperties;
+
+    @Bean
+    public ConsumerFactory<String, Object> sagaConsumerFactory() {
+        final Map<String, Object> props = Map.ofEntries(
+                new AbstractMap.SimpleEntry<>
+                        (
+                                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG,
+                                kafkaProperties.bootstrapServers()
+                        ),
+                new AbstractMap.SimpleEntry<>
+                        (
+                                ConsumerConfig.GROUP_ID_CONFIG,
+                                sagaProperties.groupId()
+                        ),
+                new AbstractMap.SimpleEntry<>(
+                        SCHEMA_REGISTRY_URL_CONFIG,
+                        kafkaProperties.schemaRegistryUrl()
+                ),
+                new AbstractMap.SimpleEntry<>(
+                        "specific.avro.reader",
+                        true
+                ),
+                new AbstractMap.SimpleEntry<>
+                        (
+                                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG,
+                                "earliest"
+                        ),
+                new AbstractMap.SimpleEntry<>
+                        (
+                                ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG,
+                                false
+                        )
+        );
+        return new DefaultKafkaConsumerFactory<>(
+                props,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new KafkaAvroDeserializer() {{
+                    configure(props, false);
+                }})
+        );
+    }
+
+    @Bean(name = "sagaKafkaListenerContainerFactory")
+    public ConcurrentKafkaListenerContainerFactory<String, Object> sagaKafkaListenerContainerFactory() {
+        final ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(sagaConsumerFactory());
+        factory.setConcurrency(sagaProperties.concurrency());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD);
+        factory.setBatchListener(false);
+
+        final DefaultErrorHandler errorHandler = new DefaultErrorHandler(
+                (record, ex) -> log.error("Giving up on saga event topic={} key={} offset={}",
+                        record.topic(), record.key(), record.offset(), ex),
+                new FixedBackOff(sagaProperties.retryBackOffMs(), sagaProperties.maxRetries())
+        );
+        factory.setCommonErrorHandler(errorHandler);
+        return factory;
+    }
+}
@@ -1,11 +1,15 @@
 package com.forsaken.ecommerce.order.configs.kafka;
 
-import com.forsaken.ecommerce.avro.OrderConfirmation;
+import com.forsaken.ecommerce.common.kafka.EventProducerFactory;
+import com.forsaken.ecommerce.common.kafka.EventProducerProperties;
+import com.forsaken.ecommerce.common.kafka.KeyedEventPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.apache.avro.specific.SpecificRecord;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 
@@ -16,12 +20,15 @@ import static io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig.SCHE
 
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties(EventProducerProperties.class)
 public class KafkaProducerConfigurations {
 
     private final KafkaProperties kafkaProperties;
+    private final EventProducerProperties eventProducerProperties;
+    private final MeterRegistry meterRegistry;
 
     @Bean
-    public ProducerFactory<String, OrderConfirmation> producerFactory() {
+    public ProducerFactory<String, SpecificRecord> producerFactory() {
         final Map<String, Object> producerConfigPropsMap = Map.ofEntries(
                 new AbstractMap.SimpleEntry<>
                         (
@@ -45,24 +52,27 @@ public class KafkaProducerConfigurations {
                         (
                                 ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG,
                                 kafkaProperties.valueSerializer().getName()
-                        ),
-                new AbstractMap.SimpleEntry<>
-                        (
-                                ProducerConfig.ACKS_CONFIG,
-                                kafkaProperties.ack()
-                        ),
-                new AbstractMap.SimpleEntry<>
-                        (
-                                ProducerConfig.RETRIES_CONFIG,
-                                kafkaProperties.retries()
                         )
         );
 
-        return new DefaultKafkaProducerFactory<>(producerConfigPropsMap);
+        return EventProducerFactory.create(
+                "order-service",
+                producerConfigPropsMap,
+                kafkaProperties.ack(),
+                kafkaProperties.retries(),
+                kafkaProperties.compressionType(),
+                eventProducerProperties,
+                meterRegistry
+        );
     }
 
     @Bean
-    public KafkaTemplate<String, OrderConfirmation> kafkaTemplate() {
+    public KafkaTemplate<String, SpecificRecord> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
+
+    @Bean
+    public KeyedEventPublisher keyedEventPublisher() {
+        return new KeyedEventPublisher(kafkaTemplate(), meterRegistry);
+    }
 }
@@ -1,5 +1,6 @@
 package com.forsaken.ecommerce.order.configs.kafka;
 
+import com.forsaken.ecommerce.order.configs.saga.SagaProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.AdminClientConfig;
@@ -19,6 +20,7 @@ import java.util.Map;
 public class KafkaTopicConfigurations {
 
     private final KafkaProperties kafkaProperties;
+    private final SagaProperties sagaProperties;
 
     @Bean
     public KafkaAdmin kafkaAdmin() {
@@ -48,6 +50,16 @@ public class KafkaTopicConfigurations {
                 .build();
     }
 
+    @Bean
+    public NewTopic orderCreatedTopic() {
+        return TopicBuilder
+                .name(sagaProperties.orderCreatedTopic())
+                .partitions(kafkaProperties.partitions())
+                .replicas(kafkaProperties.replicationFactor())
+                .configs(constructTopicConfigsMap())
+                .build();
+    }
+
     private Map<String, String> constructTopicConfigsMap() {
         return Map.ofEntries(
                 new AbstractMap.SimpleEntry<>
@@ -0,0 +1,65 @@
+package com.forsaken.ecommerce.order.configs.outbox;
+
+import com.forsaken.ecommerce.avro.OrderConfirmation;
+import com.forsaken.ecommerce.avro.OrderCreated;
+import com.forsaken.ecommerce.common.outbox.IOutboxRepository;
+import com.forsaken.ecommerce.common.outbox.IOutboxService;
+import com.forsaken.ecommerce.common.outbox.OutboxEvent;
+import com.forsaken.ecommerce.common.outbox.OutboxProperties;
+import com.forsaken.ecommerce.common.outbox.OutboxRelay;
+import com.forsaken.ecommerce.common.outbox.OutboxServiceImpl;
+import com.forsaken.ecommerce.order.kafka.IOrderProducer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Wires the shared outbox to the order producer and enables the scheduled relay and purge.
+ *
+ * <p>{@link OutboxEvent} and its repository live in {@code common}, so their package is
+ * added to the ones scanned for entities and repositories.</p>
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProperties.class)
+@AutoConfigurationPackage(basePackageClasses = OutboxEvent.class)
+public class OutboxConfigurations {
+
+    /** Advisory lock key of the order database's relay; any constant unique within that database. */
+    private static final long RELAY_LOCK_KEY = 7_001_001L;
+
+    @Bean
+    public IOutboxService outboxService(final IOutboxRepository outboxRepository) {
+        return new OutboxServiceImpl(outboxRepository);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(
+            final IOutboxRepository outboxRepository,
+            final IOrderProducer orderProducer,
+            final TransactionTemplate transactionTemplate,
+            final OutboxProperties outboxProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        return new OutboxRelay(
+                outboxRepository,
+                event -> {
+                    if (event instanceof OrderConfirmation orderConfirmation) {
+                        return orderProducer.sendOrderConfirmation(orderConfirmation);
+                    }
+                    if (event instanceof OrderCreated orderCreated) {
+                        return orderProducer.sendOrderCreated(orderCreated);
+                    }
+                    return null;
+                },
+                RELAY_LOCK_KEY,
+                transactionTemplate,
+                outboxProperties,
+                meterRegistry
+        );
+    }
+}
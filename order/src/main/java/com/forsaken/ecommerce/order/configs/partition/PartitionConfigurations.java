@@ -0,0 +1,38 @@
+package com.forsaken.ecommerce.order.configs.partition;
+
+import com.forsaken.ecommerce.common.partition.MonthlyPartitionManager;
+import com.forsaken.ecommerce.common.partition.PartitionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Schedules the maintenance of the monthly partitions of {@code customer_order}. The lines
+ * of an order are archived together with its partition.
+ */
+@Configuration
+@EnableConfigurationProperties(PartitionProperties.class)
+public class PartitionConfigurations {
+
+    @Bean
+    public MonthlyPartitionManager monthlyPartitionManager(
+            final JdbcTemplate jdbcTemplate,
+            final TransactionTemplate transactionTemplate,
+            final PartitionProperties partitionProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        return new MonthlyPartitionManager(
+                jdbcTemplate,
+                transactionTemplate,
+                partitionProperties,
+                meterRegistry,
+                List.of("customer_order"),
+                List.of(new MonthlyPartitionManager.DependentTable("customer_order", "customer_line", "order_id"))
+        );
+    }
+}
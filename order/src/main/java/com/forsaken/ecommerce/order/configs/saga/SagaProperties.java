@@ -0,0 +1,58 @@
+package com.forsaken.ecommerce.order.configs.saga;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the event-driven checkout.
+ *
+ * <p>With {@code enabled} set, checkout returns once the order and its
+ * {@code OrderCreated} event are committed and payment-service takes it from there;
+ * otherwise payment is still requested synchronously over Feign. The payment event
+ * listeners run in both modes so orders placed before a switch still settle.</p>
+ *
+ * @param enabled               whether checkout hands payment over to the saga
+ * @param orderCreatedTopic     topic the {@code OrderCreated} events are published to
+ * @param paymentConfirmedTopic topic payment-service publishes {@code PaymentConfirmation}s to
+ * @param paymentFailedTopic    topic payment-service publishes {@code PaymentFailed} events to
+ * @param groupId               consumer group of the payment event listeners
+ * @param concurrency           listener threads per topic
+ * @param retryBackOffMs        pause between redeliveries of a record whose handling failed
+ * @param maxRetries            redeliveries before a record is logged and skipped
+ */
+@Validated
+@ConfigurationProperties(prefix = "saga")
+public record SagaProperties(
+
+        @NotNull
+        Boolean enabled,
+
+        @NotBlank
+        String orderCreatedTopic,
+
+        @NotBlank
+        String paymentConfirmedTopic,
+
+        @NotBlank
+        String paymentFailedTopic,
+
+        @NotBlank
+        String groupId,
+
+        @Min(1)
+        @Max(64)
+        int concurrency,
+
+        @Min(100)
+        @Max(60000)
+        long retryBackOffMs,
+
+        @Min(0)
+        @Max(100)
+        long maxRetries
+) {
+}
@@ -1,24 +1,97 @@
 package com.forsaken.ecommerce.order.customer;
 
 
-import lombok.RequiredArgsConstructor;
+import com.forsaken.ecommerce.order.async.DownstreamBulkheads;
+import com.forsaken.ecommerce.order.configs.cache.CustomerNearCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 
+/**
+ * {@link ICustomerService} fronting {@link ICustomerClient} with a short-lived near cache.
+ *
+ * <p>Entries are the futures of the remote lookups themselves, so concurrent orders
+ * for the same customer join the lookup already in flight instead of issuing
+ * their own; the caller that inserted the future performs the call on its own
+ * thread. Failed lookups are dropped by the cache and "not found" answers are
+ * removed once known, so neither is ever served from the cache.</p>
+ *
+ * <p>Metrics: {@code cache.*{cache=order.customer}} via {@link CaffeineCacheMetrics}
+ * (hits, misses, evictions, size) and {@code order.customer.near-cache.coalesced}
+ * for lookups that joined an in-flight call.</p>
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class CustomerServiceImpl implements ICustomerService {
 
     private final ICustomerClient customerClient;
+    private final DownstreamBulkheads bulkheads;
+    private final AsyncCache<String, Optional<CustomerResponse>> nearCache;
+    private final Counter coalesced;
+
+    public CustomerServiceImpl(
+            final ICustomerClient customerClient,
+            final DownstreamBulkheads bulkheads,
+            final CustomerNearCacheProperties nearCacheProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        this.customerClient = customerClient;
+        this.bulkheads = bulkheads;
+        if (nearCacheProperties.enabled()) {
+            this.nearCache = Caffeine.newBuilder()
+                    .maximumSize(nearCacheProperties.maximumSize())
+                    .expireAfterWrite(Duration.ofMillis(nearCacheProperties.ttlMs()))
+                    .recordStats()
+                    .buildAsync();
+            CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "order.customer");
+        } else {
+            this.nearCache = null;
+        }
+        this.coalesced = Counter.builder("order.customer.near-cache.coalesced")
+                .description("Customer lookups that joined a call already in flight")
+                .register(meterRegistry);
+    }
 
     @Override
     public CompletableFuture<Optional<CustomerResponse>> getCustomer(final String customerId) {
         log.info("Get Customer by ID: {}", customerId);
-        return CompletableFuture.completedFuture(customerClient.findCustomerById(customerId));
+        if (nearCache == null) {
+            try {
+                return CompletableFuture.completedFuture(fetchCustomer(customerId));
+            } catch (RuntimeException e) {
+                // Fail the same way as a cached lookup, so callers handle a single error path.
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        final CompletableFuture<Optional<CustomerResponse>> created = new CompletableFuture<>();
+        final CompletableFuture<Optional<CustomerResponse>> cached = nearCache.get(customerId, (id, executor) -> created);
+        if (cached != created) {
+            if (!cached.isDone()) coalesced.increment();
+            return cached;
+        }
+
+        try {
+            final Optional<CustomerResponse> customer = fetchCustomer(customerId);
+            created.complete(customer);
+            if (customer.isEmpty()) nearCache.asMap().remove(customerId, created);
+        } catch (RuntimeException e) {
+            // Exceptionally completed futures are evicted by the cache itself.
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private Optional<CustomerResponse> fetchCustomer(final String customerId) {
+        return bulkheads.customer().call(() -> customerClient.findCustomerById(customerId));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,198 @@
+package com.forsaken.ecommerce.order.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forsaken.ecommerce.common.exceptions.BusinessException;
+import com.forsaken.ecommerce.order.configs.http.DownstreamHttpProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.MicrometerHttpClientInterceptor;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Non-blocking JSON client for calls from the order service to other services.
+ *
+ * <p>Requests go through one pooled, keep-alive connection manager that can speak
+ * HTTP/2. The returned {@link CompletableFuture} is completed on the client's I/O
+ * reactor, so no caller thread is parked for the length of the remote call.</p>
+ *
+ * <p>Each call names a route from {@link DownstreamHttpProperties#routes()}. The
+ * route's connect deadline is bound to the target host the first time it is called,
+ * its response deadline is set on every request.</p>
+ *
+ * <p>Metrics: {@code httpcomponents.httpclient.request} per target host and URI path, and
+ * the {@code httpcomponents.httpclient.pool.*} gauges of the shared pool.</p>
+ */
+@Component
+@Slf4j
+public class DownstreamHttpClient {
+
+    private static final String POOL_NAME = "order-downstream";
+
+    private final DownstreamHttpProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<HttpHost, ConnectionConfig> connectionConfigs = new ConcurrentHashMap<>();
+    private final ConnectionConfig defaultConnectionConfig;
+    private final CloseableHttpAsyncClient httpClient;
+
+    public DownstreamHttpClient(
+            final DownstreamHttpProperties properties,
+            final ObjectMapper objectMapper,
+            final MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.defaultConnectionConfig = ConnectionConfig.custom()
+                .setTimeToLive(TimeValue.ofMilliseconds(properties.connectionTtlMs()))
+                .build();
+
+        final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxConnectionsTotal())
+                .setMaxConnPerRoute(properties.maxConnectionsPerRoute())
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultTlsConfig(TlsConfig.custom()
+                        .setVersionPolicy(properties.versionPolicy())
+                        .build())
+                .setConnectionConfigResolver(route ->
+                        connectionConfigs.getOrDefault(route.getTargetHost(), defaultConnectionConfig))
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME)
+                .bindTo(meterRegistry);
+
+        final MicrometerHttpClientInterceptor metrics = new MicrometerHttpClientInterceptor(
+                meterRegistry,
+                request -> stripQuery(request.getRequestUri()),
+                Tags.empty(),
+                true
+        );
+        this.httpClient = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.idleEvictMs()))
+                .addRequestInterceptorFirst(metrics.getRequestInterceptor())
+                .addResponseInterceptorLast(metrics.getResponseInterceptor())
+                .build();
+        this.httpClient.start();
+    }
+
+    /**
+     * Posts {@code body} as JSON and decodes the JSON response.
+     *
+     * <p>The future completes exceptionally with a {@link BusinessException} when
+     * the downstream answers with an error status, and with the transport exception
+     * when the connect or response deadline of the route expires.</p>
+     *
+     * @param route        name of the route whose deadlines apply
+     * @param url          absolute request URL
+     * @param body         request payload, serialized with the application {@link ObjectMapper}
+     * @param responseType type the response body is decoded into
+     * @return a future of the decoded response body
+     */
+    public <T> CompletableFuture<T> postJson(
+            final String route,
+            final String url,
+            final Object body,
+            final TypeReference<T> responseType
+    ) {
+        final DownstreamHttpProperties.Route routeProperties = properties.route(route);
+        final SimpleHttpRequest request;
+        try {
+            bindConnectionConfig(URI.create(url), routeProperties);
+            request = SimpleRequestBuilder.post(url)
+                    .setBody(objectMapper.writeValueAsBytes(body), ContentType.APPLICATION_JSON)
+                    .setRequestConfig(RequestConfig.custom()
+                            .setConnectionRequestTimeout(Timeout.ofMilliseconds(routeProperties.connectTimeoutMs()))
+                            .setResponseTimeout(Timeout.ofMilliseconds(routeProperties.responseTimeoutMs()))
+                            .build())
+                    .build();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        httpClient.execute(request, new FutureCallback<>() {
+            @Override
+            public void completed(final SimpleHttpResponse response) {
+                if (response.getCode() >= 400) {
+                    log.error("{} call to {} failed with status {}: {}", route, url, response.getCode(), response.getBodyText());
+                    result.completeExceptionally(new BusinessException(
+                            "Downstream call failed with status " + response.getCode(),
+                            "postJson(" + route + ", " + stripQuery(url) + ")"
+                    ));
+                    return;
+                }
+                try {
+                    result.complete(objectMapper.readValue(response.getBodyBytes(), responseType));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(final Exception e) {
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void cancelled() {
+                result.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    @PreDestroy
+    void close() {
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+
+    /**
+     * Connect deadlines live on the pooled connection, so they are keyed by the
+     * normalized target host the connection manager resolves routes to.
+     */
+    private void bindConnectionConfig(final URI uri, final DownstreamHttpProperties.Route route) {
+        final HttpHost host = HttpHost.create(uri);
+        final HttpHost target = new HttpHost(
+                host.getSchemeName(),
+                host.getHostName(),
+                host.getPort() >= 0 ? host.getPort() : URIScheme.HTTPS.same(host.getSchemeName()) ? 443 : 80
+        );
+        connectionConfigs.computeIfAbsent(target, ignored -> ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(route.connectTimeoutMs()))
+                .setSocketTimeout(Timeout.ofMilliseconds(route.responseTimeoutMs()))
+                .setTimeToLive(TimeValue.ofMilliseconds(properties.connectionTtlMs()))
+                .build());
+    }
+
+    private static String stripQuery(final String uri) {
+        final int query = uri.indexOf('?');
+        return query < 0 ? uri : uri.substring(0, query);
+    }
+}
@@ -0,0 +1,74 @@
+package com.forsaken.ecommerce.order.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository for {@link IdempotencyKey}s.
+ *
+ * <p>Ownership of a key is decided by the database: {@link #claim} inserts the key,
+ * or takes over one whose lease or retention has run out, in a single statement,
+ * so two instances receiving the same key at once can never both run the request.</p>
+ */
+public interface IIdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    /**
+     * Claims {@code requestKey} for the caller.
+     *
+     * @return {@code 1} if the caller now owns the key, {@code 0} if a live row exists
+     */
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO idempotency_key (request_key, request_hash, status, order_id, created_at, expires_at)
+                    VALUES (:requestKey, :requestHash, 'IN_PROGRESS', NULL, :now, :leaseUntil)
+                    ON CONFLICT (request_key) DO UPDATE
+                    SET request_hash = EXCLUDED.request_hash,
+                        status = EXCLUDED.status,
+                        order_id = NULL,
+                        created_at = EXCLUDED.created_at,
+                        expires_at = EXCLUDED.expires_at
+                    WHERE idempotency_key.expires_at < EXCLUDED.created_at
+                    """,
+            nativeQuery = true
+    )
+    int claim(
+            @Param("requestKey") final String requestKey,
+            @Param("requestHash") final String requestHash,
+            @Param("now") final LocalDateTime now,
+            @Param("leaseUntil") final LocalDateTime leaseUntil
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyKey k
+            SET k.status = com.forsaken.ecommerce.order.idempotency.IdempotencyKey.Status.COMPLETED,
+                k.orderId = :orderId,
+                k.expiresAt = :expiresAt
+            WHERE k.requestKey = :requestKey
+            """)
+    int complete(
+            @Param("requestKey") final String requestKey,
+            @Param("orderId") final Integer orderId,
+            @Param("expiresAt") final LocalDateTime expiresAt
+    );
+
+    /**
+     * Gives up a key whose request failed, so that a retry runs it again.
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM IdempotencyKey k
+            WHERE k.requestKey = :requestKey
+              AND k.status = com.forsaken.ecommerce.order.idempotency.IdempotencyKey.Status.IN_PROGRESS
+            """)
+    int release(@Param("requestKey") final String requestKey);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt < :before")
+    int deleteExpiredBefore(@Param("before") final LocalDateTime before);
+}
@@ -0,0 +1,42 @@
+package com.forsaken.ecommerce.order.idempotency;
+
+import com.forsaken.ecommerce.common.exceptions.BusinessException;
+import com.forsaken.ecommerce.common.exceptions.CustomerNotFoundExceptions;
+import com.forsaken.ecommerce.order.order.dto.OrderRequest;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Runs order creation at most once per idempotency key.
+ *
+ * <p>The first request with a key creates the order; duplicates arriving while it
+ * runs wait for it, and duplicates arriving afterwards get its order id straight
+ * from the store, without any downstream call. If the first request fails, the
+ * duplicates waiting on it in the same instance get the same failure. Its key is
+ * released so that the next duplicate runs the creation again, unless the order
+ * had already been stored when the failure occurred: the key then keeps that order
+ * and later duplicates get its id, or 402 if the order was cancelled because its
+ * payment failed.</p>
+ */
+public interface IIdempotencyService {
+
+    /**
+     * Order creation as run by the first request of a key.
+     */
+    @FunctionalInterface
+    interface OrderCreation {
+        Integer create() throws ExecutionException, InterruptedException, CustomerNotFoundExceptions, BusinessException;
+    }
+
+    /**
+     * @param key      the client's idempotency key; {@code null} runs {@code creation} without deduplication
+     * @param request  the request body, fingerprinted to detect a key reused for another request
+     * @param creation creates the order and returns its id
+     * @return the id of the order created for {@code key}, by this call or an earlier one
+     * @throws org.springframework.web.server.ResponseStatusException 400 if the key is too long,
+     *         422 if it was used for a different request, 409 if the first request is still running
+     *         after the wait timeout, 402 if the order of the key was cancelled because its payment failed
+     */
+    Integer createOnce(final String key, final OrderRequest request, final OrderCreation creation)
+            throws ExecutionException, InterruptedException, CustomerNotFoundExceptions, BusinessException;
+}
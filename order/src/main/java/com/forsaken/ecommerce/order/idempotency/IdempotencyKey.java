@@ -0,0 +1,60 @@
+package com.forsaken.ecommerce.order.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A create-order request already seen under a given idempotency key.
+ *
+ * <p>While the first request runs the row is {@link Status#IN_PROGRESS} and
+ * {@code expiresAt} is a lease: a row whose owner crashed can be taken over once
+ * the lease runs out. Once the order exists the row is {@link Status#COMPLETED},
+ * holds the order id returned to duplicates, and {@code expiresAt} is the end of
+ * its retention.</p>
+ */
+@AllArgsConstructor
+@Builder
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "idempotency_key", indexes = @Index(name = "idx_idempotency_key_expires_at", columnList = "expires_at"))
+public class IdempotencyKey {
+
+    public static final int MAX_KEY_LENGTH = 128;
+
+    public enum Status {
+        IN_PROGRESS,
+        COMPLETED
+    }
+
+    @Id
+    @Column(length = MAX_KEY_LENGTH)
+    private String requestKey;
+
+    /** SHA-256 of the request body, to spot a key reused for a different request. */
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    private Integer orderId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,224 @@
+package com.forsaken.ecommerce.order.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forsaken.ecommerce.common.exceptions.BusinessException;
+import com.forsaken.ecommerce.common.exceptions.CustomerNotFoundExceptions;
+import com.forsaken.ecommerce.order.configs.idempotency.IdempotencyProperties;
+import com.forsaken.ecommerce.order.order.dto.OrderRequest;
+import com.forsaken.ecommerce.order.order.model.Order;
+import com.forsaken.ecommerce.order.order.model.OrderStatus;
+import com.forsaken.ecommerce.order.order.repository.IOrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Deduplicates create-order requests in two layers: duplicates reaching the same
+ * instance wait on the first request's future, and the {@code idempotency_key}
+ * table arbitrates between instances and remembers completed requests.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyServiceImpl implements IIdempotencyService {
+
+    private final IIdempotencyKeyRepository repository;
+    private final IOrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private record InFlight(String requestHash, CompletableFuture<Integer> result) {
+    }
+
+    @Override
+    public Integer createOnce(final String key, final OrderRequest request, final OrderCreation creation)
+            throws ExecutionException, InterruptedException, CustomerNotFoundExceptions, BusinessException {
+        if (key == null || key.isBlank()) {
+            return creation.create();
+        }
+        if (key.length() > IdempotencyKey.MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Idempotency key must not exceed " + IdempotencyKey.MAX_KEY_LENGTH + " characters");
+        }
+        final String requestHash = fingerprint(request);
+        final InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        final InFlight running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return awaitLocal(key, requestHash, running);
+        }
+        try {
+            final Integer orderId = claimOrAwait(key, request, requestHash, creation);
+            mine.result().complete(orderId);
+            return orderId;
+        } catch (final Exception e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.cleanupIntervalMs}")
+    public void purgeExpired() {
+        final LocalDateTime now = LocalDateTime.now();
+        final Integer deleted = transactionTemplate.execute(status -> repository.deleteExpiredBefore(now));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private Integer awaitLocal(final String key, final String requestHash, final InFlight running)
+            throws ExecutionException, InterruptedException, CustomerNotFoundExceptions, BusinessException {
+        rejectIfReused(key, requestHash, running.requestHash());
+        count("waited");
+        try {
+            return running.result().get(properties.waitTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw stillRunning(key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException cause) throw cause;
+            if (e.getCause() instanceof CustomerNotFoundExceptions cause) throw cause;
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Runs the request if this instance wins the key, otherwise waits for the
+     * instance that owns it. A key released by a failed owner is claimed again.
+     */
+    private Integer claimOrAwait(
+            final String key,
+            final OrderRequest request,
+            final String requestHash,
+            final OrderCreation creation
+    ) throws ExecutionException, InterruptedException, CustomerNotFoundExceptions, BusinessException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.waitTimeoutMs());
+        while (true) {
+            if (claim(key, requestHash)) {
+                return run(key, request, creation);
+            }
+            final Optional<IdempotencyKey> existing = repository.findById(key);
+            if (existing.isPresent()) {
+                rejectIfReused(key, requestHash, existing.get().getRequestHash());
+                if (existing.get().getStatus() == IdempotencyKey.Status.COMPLETED) {
+                    return replay(key, existing.get().getOrderId());
+                }
+            }
+            if (System.nanoTime() - deadline > 0) {
+                throw stillRunning(key);
+            }
+            Thread.sleep(properties.pollIntervalMs());
+        }
+    }
+
+    /**
+     * Runs the request as owner of the key. A failure releases the key only if the
+     * order was never stored; once it has been (e.g. the payment failed afterwards),
+     * the key is completed with it so that a retry does not create a second order.
+     */
+    private Integer run(final String key, final OrderRequest request, final OrderCreation creation)
+            throws ExecutionException, InterruptedException, CustomerNotFoundExceptions, BusinessException {
+        final Integer orderId;
+        try {
+            orderId = creation.create();
+        } catch (final Exception e) {
+            final Optional<Integer> stored = Optional.ofNullable(request.reference())
+                    .flatMap(orderRepository::findByReference)
+                    .map(Order::getId);
+            if (stored.isPresent()) {
+                complete(key, stored.get());
+                count("failed-after-commit");
+            } else {
+                transactionTemplate.execute(status -> repository.release(key));
+                count("released");
+            }
+            throw e;
+        }
+        complete(key, orderId);
+        count("created");
+        return orderId;
+    }
+
+    /**
+     * Answers a duplicate of a completed request with its order, unless that order
+     * was cancelled because its payment failed: the duplicate then gets the failure
+     * rather than a created order.
+     */
+    private Integer replay(final String key, final Integer orderId) {
+        final boolean unpaid = orderRepository.findById(orderId)
+                .map(Order::getStatus)
+                .filter(status -> status == OrderStatus.PAYMENT_FAILED || status == OrderStatus.CANCELLED)
+                .isPresent();
+        if (unpaid) {
+            count("replayed-failure");
+            throw new ResponseStatusException(HttpStatus.PAYMENT_REQUIRED,
+                    "Order " + orderId + " of idempotency key " + key + " was cancelled because its payment failed");
+        }
+        count("replayed");
+        return orderId;
+    }
+
+    private void complete(final String key, final Integer orderId) {
+        final LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofMillis(properties.completedTtlMs()));
+        transactionTemplate.execute(status -> repository.complete(key, orderId, expiresAt));
+    }
+
+    private boolean claim(final String key, final String requestHash) {
+        final LocalDateTime now = LocalDateTime.now();
+        final LocalDateTime leaseUntil = now.plus(Duration.ofMillis(properties.inFlightTtlMs()));
+        final Integer claimed = transactionTemplate.execute(status ->
+                repository.claim(key, requestHash, now, leaseUntil));
+        return claimed != null && claimed > 0;
+    }
+
+    private void rejectIfReused(final String key, final String requestHash, final String seenHash) {
+        if (!requestHash.equals(seenHash)) {
+            count("rejected");
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency key " + key + " was already used for a different request");
+        }
+    }
+
+    private ResponseStatusException stillRunning(final String key) {
+        count("timed-out");
+        return new ResponseStatusException(HttpStatus.CONFLICT,
+                "A request with idempotency key " + key + " is still being processed, retry later");
+    }
+
+    private String fingerprint(final OrderRequest request) {
+        try {
+            final byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot fingerprint the order request", e);
+        }
+    }
+
+    private void count(final String outcome) {
+        meterRegistry.counter("order.idempotency.requests", "outcome", outcome).increment();
+    }
+}
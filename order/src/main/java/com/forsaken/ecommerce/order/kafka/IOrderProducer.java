@@ -1,6 +1,11 @@
 package com.forsaken.ecommerce.order.kafka;
 
 import com.forsaken.ecommerce.avro.OrderConfirmation;
+import com.forsaken.ecommerce.avro.OrderCreated;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Producer interface responsible for publishing order confirmation events.
@@ -40,10 +45,26 @@ public interface IOrderProducer {
      *     <li>Messaging-related failures (serialization errors, broker downtime, etc.)
      *         should be handled or propagated by the implementation.</li>
      *     <li>Implementations should define retry logic or DLQ behavior as appropriate.</li>
+     *     <li>The send is asynchronous; the outbox relay waits on the returned future
+     *         before it marks the event as sent.</li>
      * </ul>
      *
+     * <p>The record is keyed by the order reference.</p>
+     *
      * @param orderConfirmation the confirmation event containing order ID, customer info,
      *                          product details, and metadata; must not be null
+     * @return a future completed with the send result once the broker acknowledges the record
+     */
+    CompletableFuture<SendResult<String, SpecificRecord>> sendOrderConfirmation(final OrderConfirmation orderConfirmation);
+
+    /**
+     * Publishes an {@link OrderCreated} event, asking payment-service to charge the order.
+     *
+     * <p>The record is keyed by the order reference, so every event of one order
+     * lands on the same partition and is handled in order.</p>
+     *
+     * @param orderCreated the event of the order awaiting payment; must not be null
+     * @return a future completed with the send result once the broker acknowledges the record
      */
-    void sendOrderConfirmation(final OrderConfirmation orderConfirmation);
+    CompletableFuture<SendResult<String, SpecificRecord>> sendOrderCreated(final OrderCreated orderCreated);
 }
@@ -1,15 +1,17 @@
 package com.forsaken.ecommerce.order.kafka;
 
 import com.forsaken.ecommerce.avro.OrderConfirmation;
+import com.forsaken.ecommerce.avro.OrderCreated;
+import com.forsaken.ecommerce.common.kafka.KeyedEventPublisher;
 import com.forsaken.ecommerce.order.configs.kafka.KafkaProperties;
+import com.forsaken.ecommerce.order.configs.saga.SagaProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.messaging.support.MessageBuilder;
-import org.springframework.messaging.Message;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.kafka.support.KafkaHeaders.TOPIC;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 @RequiredArgsConstructor
@@ -17,16 +19,26 @@ import static org.springframework.kafka.support.KafkaHeaders.TOPIC;
 public class OrderProducerImpl implements IOrderProducer {
 
     private final KafkaProperties kafkaProperties;
-    private final KafkaTemplate<String, OrderConfirmation> kafkaTemplate;
+    private final SagaProperties sagaProperties;
+    private final KeyedEventPublisher eventPublisher;
 
     @Override
-    public void sendOrderConfirmation(final OrderConfirmation orderConfirmation) {
-        log.info("Sending order confirmation");
-        final Message<OrderConfirmation> message = MessageBuilder
-                .withPayload(orderConfirmation)
-                .setHeader(TOPIC, kafkaProperties.topicName())
-                .build();
+    public CompletableFuture<SendResult<String, SpecificRecord>> sendOrderConfirmation(final OrderConfirmation orderConfirmation) {
+        log.info("Sending order confirmation for {}", orderConfirmation.getOrderReference());
+        return eventPublisher.publish(
+                kafkaProperties.topicName(),
+                orderConfirmation.getOrderReference(),
+                orderConfirmation
+        );
+    }
 
-        kafkaTemplate.send(message);
+    @Override
+    public CompletableFuture<SendResult<String, SpecificRecord>> sendOrderCreated(final OrderCreated orderCreated) {
+        log.info("Sending order created for {}", orderCreated.getOrderReference());
+        return eventPublisher.publish(
+                sagaProperties.orderCreatedTopic(),
+                orderCreated.getOrderReference(),
+                orderCreated
+        );
     }
 }
@@ -3,17 +3,23 @@ package com.forsaken.ecommerce.order.order.controller;
 import com.forsaken.ecommerce.common.exceptions.BusinessException;
 import com.forsaken.ecommerce.common.exceptions.CustomerNotFoundExceptions;
 import com.forsaken.ecommerce.common.responses.ApiResponse;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
+import com.forsaken.ecommerce.common.responses.PagedResponse;
 import com.forsaken.ecommerce.order.order.dto.OrderRequest;
 import com.forsaken.ecommerce.order.order.dto.OrderResponse;
+import com.forsaken.ecommerce.order.order.model.PaymentMethod;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,7 +28,7 @@ import java.util.concurrent.ExecutionException;
 /**
  * REST controller interface for managing Orders within the system.
  * <p>
- * Exposes endpoints for creating new orders, retrieving all existing orders,
+ * Exposes endpoints for creating new orders, listing orders page by page,
  * fetching orders for a specific customer, and retrieving an individual order
  * by its unique identifier.
  * </p>
@@ -56,6 +62,13 @@ public interface IOrderController {
      *         during asynchronous processing.</li>
      * </ul>
      *
+     * <p><b>Retries:</b> a request repeated with the same {@code Idempotency-Key}
+     * header (or, without one, the same order {@code reference}) returns the order
+     * id of the first request instead of creating the order again. A duplicate sent
+     * while the first is still running waits for it, and is answered {@code 409}
+     * if it takes too long. Reusing a key for a different body is answered {@code 422}.</p>
+     *
+     * @param idempotencyKey optional client-chosen key identifying retries of one request
      * @param request the order creation payload containing customer ID, product line items,
      *                and payment/metadata fields; must be valid and non-null.
      *
@@ -69,17 +82,65 @@ public interface IOrderController {
      */
     @PostMapping
     ResponseEntity<ApiResponse<Integer>> createOrder(
+            @RequestHeader(name = "Idempotency-Key", required = false) final String idempotencyKey,
             @RequestBody @Valid final OrderRequest request
     ) throws ExecutionException, InterruptedException, CustomerNotFoundExceptions, BusinessException;
 
     /**
-     * Retrieves all orders stored in the system.
+     * Retrieves a page of orders, newest first, optionally filtered by creation
+     * date range and payment method.
+     *
+     * <p>The page index is 1-based and the page size is capped at 100, so a request
+     * never reads more than one page of orders.</p>
      *
-     * @return {@link ResponseEntity} containing a list of {@link OrderResponse}
+     * @param fromDate      optional filter for the starting date/time (inclusive)
+     * @param toDate        optional filter for the ending date/time (inclusive)
+     * @param paymentMethod optional filter restricting the page to one payment method
+     * @param page          1-based page number to retrieve; defaults to 1
+     * @param size          number of orders per page; defaults to 20
+     * @return {@link ResponseEntity} containing a {@link PagedResponse} of {@link OrderResponse}
      * wrapped in {@link ApiResponse}
      */
     @GetMapping
-    ResponseEntity<ApiResponse<List<OrderResponse>>> findAll();
+    ResponseEntity<ApiResponse<PagedResponse<OrderResponse>>> findAll(
+            @RequestParam(value = "fromDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime fromDate,
+
+            @RequestParam(value = "toDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime toDate,
+
+            @RequestParam(value = "paymentMethod", required = false) final PaymentMethod paymentMethod,
+            @RequestParam(name = "page", defaultValue = "1") final int page,
+            @RequestParam(name = "size", defaultValue = "20") final int size
+    );
+
+    /**
+     * Retrieves the slice of orders following {@code cursor}, newest first, with the
+     * same filters as {@link #findAll(LocalDateTime, LocalDateTime, PaymentMethod, int, int)}.
+     *
+     * <p>Pass the {@code nextCursor} of a response back to read the next slice. No
+     * total count is computed, so deep scrolling costs the same as the first slice.</p>
+     *
+     * @param fromDate      optional filter for the starting date/time (inclusive)
+     * @param toDate        optional filter for the ending date/time (inclusive)
+     * @param paymentMethod optional filter restricting the slice to one payment method
+     * @param cursor        continuation token of the previous slice; omit for the first slice
+     * @param size          number of orders per slice; defaults to 20
+     * @return {@link ResponseEntity} containing a {@link CursorPagedResponse} of {@link OrderResponse}
+     * wrapped in {@link ApiResponse}
+     */
+    @GetMapping("/scroll")
+    ResponseEntity<ApiResponse<CursorPagedResponse<OrderResponse>>> findAllByCursor(
+            @RequestParam(value = "fromDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime fromDate,
+
+            @RequestParam(value = "toDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime toDate,
+
+            @RequestParam(value = "paymentMethod", required = false) final PaymentMethod paymentMethod,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "size", defaultValue = "20") final int size
+    );
 
     /**
      * Retrieves all orders associated with a specific customer, optionally
@@ -112,4 +173,28 @@ public interface IOrderController {
     ResponseEntity<ApiResponse<OrderResponse>> findById(
             @PathVariable("order-id") final Integer orderId
     );
+
+    /**
+     * Streams all matching orders as newline-delimited JSON.
+     * <p>
+     * Rows are written to the response while they are read from the database, so
+     * large exports run in constant memory. The response is not wrapped in
+     * {@link ApiResponse}; each line is a standalone {@link OrderResponse}, oldest first.
+     * </p>
+     *
+     * @param customerId optional filter restricting the export to one customer
+     * @param fromDate   optional filter for the starting date/time (inclusive)
+     * @param toDate     optional filter for the ending date/time (inclusive)
+     * @return {@link ResponseEntity} streaming {@code application/x-ndjson}
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(value = "customerId", required = false) final String customerId,
+
+            @RequestParam(value = "fromDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime fromDate,
+
+            @RequestParam(value = "toDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime toDate
+    );
 }
@@ -3,13 +3,20 @@ package com.forsaken.ecommerce.order.order.controller;
 import com.forsaken.ecommerce.common.exceptions.BusinessException;
 import com.forsaken.ecommerce.common.exceptions.CustomerNotFoundExceptions;
 import com.forsaken.ecommerce.common.responses.ApiResponse;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
+import com.forsaken.ecommerce.common.responses.PagedResponse;
+import com.forsaken.ecommerce.order.idempotency.IIdempotencyService;
 import com.forsaken.ecommerce.order.order.dto.OrderRequest;
 import com.forsaken.ecommerce.order.order.dto.OrderResponse;
+import com.forsaken.ecommerce.order.order.model.PaymentMethod;
+import com.forsaken.ecommerce.order.order.service.IOrderExportService;
 import com.forsaken.ecommerce.order.order.service.IOrderService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,26 +27,59 @@ import java.util.concurrent.ExecutionException;
 public class OrderControllerImpl implements IOrderController {
 
     private final IOrderService orderService;
+    private final IOrderExportService orderExportService;
+    private final IIdempotencyService idempotencyService;
 
     @Override
-    public ResponseEntity<ApiResponse<Integer>> createOrder(final OrderRequest request) throws ExecutionException, InterruptedException, CustomerNotFoundExceptions, BusinessException {
+    public ResponseEntity<ApiResponse<Integer>> createOrder(
+            final String idempotencyKey,
+            final OrderRequest request
+    ) throws ExecutionException, InterruptedException, CustomerNotFoundExceptions, BusinessException {
+        // The reference is unique per order, so it already identifies retries of clients that send no key.
+        final String key = idempotencyKey != null
+                ? idempotencyKey
+                : request.reference() == null ? null : "reference:" + request.reference();
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(
                         ApiResponse.<Integer>builder()
                                 .status(ApiResponse.Status.SUCCESS)
-                                .data(orderService.createOrder(request))
+                                .data(idempotencyService.createOnce(key, request, () -> orderService.createOrder(request)))
                                 .message("Order Created Successfully.")
                                 .build()
                 );
     }
 
     @Override
-    public ResponseEntity<ApiResponse<List<OrderResponse>>> findAll() {
+    public ResponseEntity<ApiResponse<PagedResponse<OrderResponse>>> findAll(
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate,
+            final PaymentMethod paymentMethod,
+            final int page,
+            final int size
+    ) {
         return ResponseEntity.status(HttpStatus.OK)
                 .body(
-                        ApiResponse.<List<OrderResponse>>builder()
+                        ApiResponse.<PagedResponse<OrderResponse>>builder()
+                                .status(ApiResponse.Status.SUCCESS)
+                                .data(orderService.findAllOrders(fromDate, toDate, paymentMethod, page, size))
+                                .message("Find All Orders.")
+                                .build()
+                );
+    }
+
+    @Override
+    public ResponseEntity<ApiResponse<CursorPagedResponse<OrderResponse>>> findAllByCursor(
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate,
+            final PaymentMethod paymentMethod,
+            final String cursor,
+            final int size
+    ) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(
+                        ApiResponse.<CursorPagedResponse<OrderResponse>>builder()
                                 .status(ApiResponse.Status.SUCCESS)
-                                .data(orderService.findAllOrders())
+                                .data(orderService.findAllOrders(fromDate, toDate, paymentMethod, cursor, size))
                                 .message("Find All Orders.")
                                 .build()
                 );
@@ -72,4 +112,15 @@ public class OrderControllerImpl implements IOrderController {
                                 .build()
                 );
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            final String customerId,
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate
+    ) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> orderExportService.exportOrders(customerId, fromDate, toDate, out));
+    }
 }
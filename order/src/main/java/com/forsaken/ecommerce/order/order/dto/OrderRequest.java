@@ -2,6 +2,7 @@ package com.forsaken.ecommerce.order.order.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.forsaken.ecommerce.order.order.model.Order;
+import com.forsaken.ecommerce.order.order.model.OrderStatus;
 import com.forsaken.ecommerce.order.order.model.PaymentMethod;
 import com.forsaken.ecommerce.order.product.PurchaseRequest;
 import jakarta.validation.constraints.NotBlank;
@@ -38,6 +39,7 @@ public record OrderRequest(
                 .reference(this.reference())
                 .paymentMethod(this.paymentMethod())
                 .customerId(this.customerId())
+                .status(OrderStatus.PENDING_PAYMENT)
                 .build();
     }
 }
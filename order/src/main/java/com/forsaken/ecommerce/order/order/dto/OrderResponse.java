@@ -1,10 +1,12 @@
 package com.forsaken.ecommerce.order.order.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.forsaken.ecommerce.order.order.model.OrderStatus;
 import com.forsaken.ecommerce.order.order.model.PaymentMethod;
 import lombok.Builder;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
 @Builder
@@ -13,7 +15,9 @@ public record OrderResponse(
         String reference,
         BigDecimal amount,
         PaymentMethod paymentMethod,
-        String customerId
+        String customerId,
+        OrderStatus status,
+        LocalDateTime createdDate
 ) {
 
 }
@@ -8,8 +8,11 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,14 +32,20 @@ import java.util.List;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor
-@Table(name = "customer_order")
+@Table(name = "customer_order", indexes = {
+        @Index(name = "idx_customer_order_created_date_id", columnList = "created_date, id"),
+        @Index(name = "idx_customer_order_customer_created", columnList = "customer_id, created_date"),
+        @Index(name = "idx_customer_order_reference", columnList = "reference")
+})
 public class Order {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_order_seq")
+    @SequenceGenerator(name = "customer_order_seq", sequenceName = "customer_order_seq", allocationSize = 50)
     private Integer id;
 
-    @Column(unique = true, nullable = false)
+    // Unique through order_reference, as the table is partitioned by created_date (see V4 migration).
+    @Column(nullable = false)
     private String reference;
 
     private BigDecimal totalAmount;
@@ -46,6 +55,10 @@ public class Order {
 
     private String customerId;
 
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private OrderStatus status;
+
     @OneToMany(mappedBy = "order")
     private List<OrderLine> orderLines;
 
@@ -64,6 +77,8 @@ public class Order {
                 .amount(this.getTotalAmount())
                 .paymentMethod(this.getPaymentMethod())
                 .customerId(this.getCustomerId())
+                .status(this.getStatus())
+                .createdDate(this.getCreatedDate())
                 .build();
     }
 }
@@ -0,0 +1,21 @@
+package com.forsaken.ecommerce.order.order.model;
+
+/**
+ * Lifecycle of an {@link Order}.
+ *
+ * <p>Every order is created {@link #PENDING_PAYMENT}. Synchronous checkout confirms
+ * it as soon as payment-service answers; in saga mode payment events drive the
+ * transitions instead:</p>
+ *
+ * <pre>
+ * PENDING_PAYMENT --PaymentConfirmation--> CONFIRMED
+ * PENDING_PAYMENT --PaymentFailed--------> PAYMENT_FAILED --stock released--> CANCELLED
+ * </pre>
+ */
+public enum OrderStatus {
+    PENDING_PAYMENT,
+    CONFIRMED,
+    /** Payment was refused; the reserved stock has not been given back yet. */
+    PAYMENT_FAILED,
+    CANCELLED
+}
@@ -1,10 +1,19 @@
 package com.forsaken.ecommerce.order.order.repository;
 
+import com.forsaken.ecommerce.order.order.dto.OrderResponse;
 import com.forsaken.ecommerce.order.order.model.Order;
+import com.forsaken.ecommerce.order.order.model.OrderStatus;
+import com.forsaken.ecommerce.order.order.model.PaymentMethod;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for performing CRUD and query operations on {@link Order} entities.
@@ -43,4 +52,93 @@ public interface IOrderRepository extends JpaRepository<Order, Integer> {
             final LocalDateTime fromDate,
             final LocalDateTime toDate
     );
+
+    Optional<Order> findByReference(final String reference);
+
+    /**
+     * Page of orders, newest first, within the given creation range and optionally
+     * restricted to one payment method.
+     *
+     * <p>Rows are projected straight into {@link OrderResponse}, so Hibernate neither
+     * hydrates nor dirty-checks {@link Order} entities, and their order lines are never
+     * touched.</p>
+     *
+     * @param fromDate      lower bound (inclusive) of the order creation timestamp
+     * @param toDate        upper bound (inclusive) of the order creation timestamp
+     * @param paymentMethod optional payment method filter; {@code null} matches every method
+     * @param pageable      page index and size
+     * @return the requested page together with the total count
+     */
+    @Query(value = """
+            SELECT new com.forsaken.ecommerce.order.order.dto.OrderResponse(
+                o.id, o.reference, o.totalAmount, o.paymentMethod, o.customerId, o.status, o.createdDate)
+            FROM Order o
+            WHERE o.createdDate BETWEEN :fromDate AND :toDate
+              AND (:paymentMethod IS NULL OR o.paymentMethod = :paymentMethod)
+            ORDER BY o.createdDate DESC, o.id DESC
+            """,
+            countQuery = """
+            SELECT COUNT(o)
+            FROM Order o
+            WHERE o.createdDate BETWEEN :fromDate AND :toDate
+              AND (:paymentMethod IS NULL OR o.paymentMethod = :paymentMethod)
+            """)
+    Page<OrderResponse> findOrderPage(
+            @Param("fromDate") final LocalDateTime fromDate,
+            @Param("toDate") final LocalDateTime toDate,
+            @Param("paymentMethod") final PaymentMethod paymentMethod,
+            final Pageable pageable
+    );
+
+    /**
+     * Keyset (seek) slice of orders, newest first, strictly after the given
+     * {@code (createdDate, id)} position. Backed by the {@code (created_date, id)}
+     * index and run without a count query, so every slice costs the same however
+     * deep the client has scrolled.
+     *
+     * @param fromDate      lower bound (inclusive) of the order creation timestamp
+     * @param toDate        upper bound (inclusive) of the order creation timestamp
+     * @param paymentMethod optional payment method filter; {@code null} matches every method
+     * @param afterDate     creation timestamp of the last order already returned
+     * @param afterId       id of the last order already returned
+     * @param limit         first page of the wanted size; only its size is used
+     * @return up to {@code limit.getPageSize()} orders following the given position
+     */
+    @Query("""
+            SELECT new com.forsaken.ecommerce.order.order.dto.OrderResponse(
+                o.id, o.reference, o.totalAmount, o.paymentMethod, o.customerId, o.status, o.createdDate)
+            FROM Order o
+            WHERE o.createdDate BETWEEN :fromDate AND :toDate
+              AND (:paymentMethod IS NULL OR o.paymentMethod = :paymentMethod)
+              AND (o.createdDate < :afterDate OR (o.createdDate = :afterDate AND o.id < :afterId))
+            ORDER BY o.createdDate DESC, o.id DESC
+            """)
+    List<OrderResponse> findOrderSliceBefore(
+            @Param("fromDate") final LocalDateTime fromDate,
+            @Param("toDate") final LocalDateTime toDate,
+            @Param("paymentMethod") final PaymentMethod paymentMethod,
+            @Param("afterDate") final LocalDateTime afterDate,
+            @Param("afterId") final Integer afterId,
+            final Pageable limit
+    );
+
+    /**
+     * Moves an order from one status to another, but only if it is still in
+     * {@code from}.
+     *
+     * <p>The check and the update are a single statement, so redelivered or
+     * out-of-order payment events can never move an order backwards.</p>
+     *
+     * @param reference the order reference
+     * @param from      the status the order must currently have
+     * @param to        the new status
+     * @return {@code 1} if the order was moved, {@code 0} if it was missing or already elsewhere
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :to WHERE o.reference = :reference AND o.status = :from")
+    int transitionStatus(
+            @Param("reference") final String reference,
+            @Param("from") final OrderStatus from,
+            @Param("to") final OrderStatus to
+    );
 }
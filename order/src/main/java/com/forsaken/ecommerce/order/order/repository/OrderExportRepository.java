@@ -0,0 +1,92 @@
+package com.forsaken.ecommerce.order.order.repository;
+
+import com.forsaken.ecommerce.order.order.dto.OrderResponse;
+import com.forsaken.ecommerce.order.order.model.OrderStatus;
+import com.forsaken.ecommerce.order.order.model.PaymentMethod;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Repository streaming orders straight off a server-side cursor for bulk exports.
+ *
+ * <p>PgJDBC only honours the fetch size for forward-only, read-only statements run
+ * with auto-commit disabled; otherwise it buffers the whole result set in memory.
+ * The query is therefore executed inside a read-only transaction and every row is
+ * handed to the caller as soon as it is read. Rows are projected straight into
+ * {@link OrderResponse}, so no entity (nor its order lines) is ever loaded.
+ */
+@Repository
+public class OrderExportRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private static final String STREAM_ORDERS_SQL = """
+            SELECT o.id, o.reference, o.total_amount, o.payment_method, o.customer_id, o.status, o.created_date
+            FROM customer_order o
+            WHERE o.created_date BETWEEN ? AND ?
+            """;
+
+    private static final String CUSTOMER_FILTER_SQL = "  AND o.customer_id = ?\n";
+
+    private static final String ORDER_BY_SQL = "ORDER BY o.created_date, o.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public OrderExportRepository(
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Reads every order created within the given range, oldest first.
+     *
+     * @param customerId optional customer filter; {@code null} exports all customers
+     * @param fromDate   lower bound (inclusive) of the order creation timestamp
+     * @param toDate     upper bound (inclusive) of the order creation timestamp
+     * @param sink       receives each order as it is read; exceptions it throws abort the export
+     */
+    public void streamByCreatedDateBetween(
+            final String customerId,
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate,
+            final Consumer<OrderResponse> sink
+    ) {
+        final String sql = STREAM_ORDERS_SQL + (customerId == null ? "" : CUSTOMER_FILTER_SQL) + ORDER_BY_SQL;
+        readOnlyTransaction.executeWithoutResult(status ->
+                jdbcTemplate.query(connection -> {
+                    final PreparedStatement statement = connection.prepareStatement(
+                            sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(FETCH_SIZE);
+                    statement.setObject(1, fromDate);
+                    statement.setObject(2, toDate);
+                    if (customerId != null) {
+                        statement.setString(3, customerId);
+                    }
+                    return statement;
+                }, rs -> {
+                    final String method = rs.getString("payment_method");
+                    final String status = rs.getString("status");
+                    sink.accept(OrderResponse.builder()
+                            .id(rs.getInt("id"))
+                            .reference(rs.getString("reference"))
+                            .amount(rs.getBigDecimal("total_amount"))
+                            .paymentMethod(method == null ? null : PaymentMethod.valueOf(method))
+                            .customerId(rs.getString("customer_id"))
+                            .status(status == null ? null : OrderStatus.valueOf(status))
+                            .createdDate(rs.getObject("created_date", LocalDateTime.class))
+                            .build());
+                }));
+    }
+}
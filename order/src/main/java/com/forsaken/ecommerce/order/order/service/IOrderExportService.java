@@ -0,0 +1,33 @@
+package com.forsaken.ecommerce.order.order.service;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Service contract for bulk order exports.
+ * <p>
+ * Exports are written as newline-delimited JSON (NDJSON): one order object per
+ * line, flushed while the rows are still being read from the database, so
+ * arbitrarily large ranges can be exported without materialising them.
+ */
+public interface IOrderExportService {
+
+    /**
+     * Writes every matching order to {@code out}, oldest first.
+     *
+     * @param customerId (optional) restricts the export to a single customer;
+     *                   may be {@code null}.
+     * @param fromDate   (optional) start of the creation date range filter;
+     *                   may be {@code null}.
+     * @param toDate     (optional) end of the creation date range filter;
+     *                   defaults to now.
+     * @param out        the stream to write the NDJSON lines to; not closed by this method.
+     * @throws java.io.UncheckedIOException if writing to {@code out} fails, e.g. the client disconnected.
+     */
+    void exportOrders(
+            final String customerId,
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate,
+            final OutputStream out
+    );
+}
@@ -2,8 +2,11 @@ package com.forsaken.ecommerce.order.order.service;
 
 import com.forsaken.ecommerce.common.exceptions.BusinessException;
 import com.forsaken.ecommerce.common.exceptions.CustomerNotFoundExceptions;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
+import com.forsaken.ecommerce.common.responses.PagedResponse;
 import com.forsaken.ecommerce.order.order.dto.OrderRequest;
 import com.forsaken.ecommerce.order.order.dto.OrderResponse;
+import com.forsaken.ecommerce.order.order.model.PaymentMethod;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -34,6 +37,10 @@ public interface IOrderService {
      *     <li>Performs business-rule checks (inventory, pricing, quantity, etc.).</li>
      *     <li>Persists the order and returns its unique identifier.</li>
      *     <li>May publish domain events asynchronously.</li>
+     *     <li>With {@code saga.enabled}, returns before payment: the order stays
+     *         {@code PENDING_PAYMENT} until payment-service reports back.</li>
+     *     <li>Without it, a failed payment cancels the stored order and releases its
+     *         stock before the payment failure is rethrown.</li>
      * </ul>
      *
      * <p><b>Error Handling:</b></p>
@@ -64,12 +71,48 @@ public interface IOrderService {
             CustomerNotFoundExceptions, BusinessException;
 
     /**
-     * Retrieves all orders available in the system.
+     * Retrieves one page of orders, newest first.
      *
-     * @return a list of {@link OrderResponse} containing summary or detailed
-     * information for each order.
+     * <p>The page index is 1-based. The page size is capped, so the cost of a call
+     * is bounded by the page size rather than by the number of orders.</p>
+     *
+     * @param fromDate      optional lower bound (inclusive) of the creation date; {@code null} for no bound
+     * @param toDate        optional upper bound (inclusive) of the creation date; {@code null} for now
+     * @param paymentMethod optional payment method filter; {@code null} for every method
+     * @param page          1-based page number
+     * @param size          number of orders per page
+     * @return a {@link PagedResponse} of {@link OrderResponse} with the total count
+     */
+    PagedResponse<OrderResponse> findAllOrders(
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate,
+            final PaymentMethod paymentMethod,
+            final int page,
+            final int size
+    );
+
+    /**
+     * Retrieves the slice of orders following {@code cursor}, newest first.
+     *
+     * <p>Unlike {@link #findAllOrders(LocalDateTime, LocalDateTime, PaymentMethod, int, int)}
+     * no count is computed and no rows are skipped, so every slice costs the same.</p>
+     *
+     * @param fromDate      optional lower bound (inclusive) of the creation date; {@code null} for no bound
+     * @param toDate        optional upper bound (inclusive) of the creation date; {@code null} for now
+     * @param paymentMethod optional payment method filter; {@code null} for every method
+     * @param cursor        {@code nextCursor} of the previous slice; {@code null} for the first slice
+     * @param size          number of orders per slice
+     * @return a {@link CursorPagedResponse} with the orders and the next continuation token
+     * @throws org.springframework.web.server.ResponseStatusException with status 400 if
+     *                                                              {@code cursor} is malformed
      */
-    List<OrderResponse> findAllOrders();
+    CursorPagedResponse<OrderResponse> findAllOrders(
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate,
+            final PaymentMethod paymentMethod,
+            final String cursor,
+            final int size
+    );
 
     /**
      * Finds a single order using its unique identifier.
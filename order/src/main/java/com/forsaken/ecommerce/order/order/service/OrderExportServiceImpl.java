@@ -0,0 +1,56 @@
+package com.forsaken.ecommerce.order.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.forsaken.ecommerce.order.order.dto.OrderResponse;
+import com.forsaken.ecommerce.order.order.repository.OrderExportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class OrderExportServiceImpl implements IOrderExportService {
+
+    private static final LocalDateTime EARLIEST_ORDER_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final OrderExportRepository exportRepository;
+    private final ObjectWriter writer;
+
+    public OrderExportServiceImpl(
+            final OrderExportRepository exportRepository,
+            final ObjectMapper objectMapper
+    ) {
+        this.exportRepository = exportRepository;
+        this.writer = objectMapper.writerFor(OrderResponse.class);
+    }
+
+    @Override
+    public void exportOrders(
+            final String customerId,
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate,
+            final OutputStream out
+    ) {
+        final LocalDateTime lowerBound = fromDate == null ? EARLIEST_ORDER_DATE : fromDate;
+        final LocalDateTime upperBound = toDate == null ? LocalDateTime.now() : toDate;
+        log.info("Exporting Orders: customerId={}, from={}, to={}", customerId, lowerBound, upperBound);
+
+        final AtomicLong exported = new AtomicLong();
+        exportRepository.streamByCreatedDateBetween(customerId, lowerBound, upperBound, order -> {
+            try {
+                out.write(writer.writeValueAsBytes(order));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            exported.incrementAndGet();
+        });
+        log.info("Exported {} Orders: customerId={}, from={}, to={}", exported.get(), customerId, lowerBound, upperBound);
+    }
+}
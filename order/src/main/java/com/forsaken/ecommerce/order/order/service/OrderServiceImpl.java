@@ -1,76 +1,122 @@
 package com.forsaken.ecommerce.order.order.service;
 
 import com.forsaken.ecommerce.avro.OrderConfirmation;
-import com.forsaken.ecommerce.avro.PaymentMethod;
+import com.forsaken.ecommerce.avro.OrderCreated;
 import com.forsaken.ecommerce.common.exceptions.BusinessException;
 import com.forsaken.ecommerce.common.exceptions.CustomerNotFoundExceptions;
+import com.forsaken.ecommerce.common.outbox.IOutboxService;
+import com.forsaken.ecommerce.common.pagination.CursorCodec;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
+import com.forsaken.ecommerce.common.responses.PagedResponse;
+import com.forsaken.ecommerce.common.serialization.AvroDecimals;
+import com.forsaken.ecommerce.order.configs.saga.SagaProperties;
 import com.forsaken.ecommerce.order.customer.CustomerResponse;
 import com.forsaken.ecommerce.order.customer.ICustomerService;
-import com.forsaken.ecommerce.order.kafka.IOrderProducer;
 import com.forsaken.ecommerce.order.order.dto.OrderRequest;
 import com.forsaken.ecommerce.order.order.dto.OrderResponse;
 import com.forsaken.ecommerce.order.order.model.Order;
+import com.forsaken.ecommerce.order.order.model.OrderStatus;
+import com.forsaken.ecommerce.order.order.model.PaymentMethod;
 import com.forsaken.ecommerce.order.order.repository.IOrderRepository;
 import com.forsaken.ecommerce.order.orderline.dto.OrderLineRequest;
 import com.forsaken.ecommerce.order.orderline.service.IOrderLineService;
 import com.forsaken.ecommerce.order.payment.IPaymentService;
 import com.forsaken.ecommerce.order.payment.PaymentRequest;
 import com.forsaken.ecommerce.order.product.IProductService;
-import com.forsaken.ecommerce.order.product.PurchaseRequest;
 import com.forsaken.ecommerce.order.product.PurchaseResponse;
+import com.forsaken.ecommerce.order.saga.IOrderSagaService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.avro.Conversions;
-import org.apache.avro.LogicalTypes;
-import org.apache.avro.Schema;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
-import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OrderServiceImpl implements IOrderService {
 
+    private static final LocalDateTime EARLIEST_ORDER_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final IOrderRepository orderRepository;
     private final IOrderLineService orderLineService;
     private final ICustomerService customerService;
     private final IProductService productService;
     private final IPaymentService paymentService;
-    private final IOrderProducer orderProducer;
+    private final IOutboxService outboxService;
+    private final IOrderSagaService orderSagaService;
+    private final TransactionTemplate transactionTemplate;
+    private final SagaProperties sagaProperties;
+    private final MeterRegistry meterRegistry;
     private final Class<?> className = OrderServiceImpl.class;
 
     @Override
     public Integer createOrder(final OrderRequest request) throws ExecutionException, InterruptedException, CustomerNotFoundExceptions, BusinessException {
         log.info("Creating Order Request: {}", request);
-        final var fetchedCustomer = customerService.getCustomer(request.customerId());
-        final var fetchedPurchasedProducts = productService.purchaseProducts(request.products());
-        CompletableFuture.allOf(fetchedCustomer, fetchedPurchasedProducts).join();
+        final Timer.Sample checkout = Timer.start(meterRegistry);
+
+        // The customer lookup runs on appTaskExecutor and the purchase on the HTTP client, so the wait below is max(customer, product), not the sum.
+        final Timer.Sample customerStage = Timer.start(meterRegistry);
+        final var fetchedCustomer = stopOnCompletion(customerStage, "customer",
+                customerService.getCustomer(request.customerId()));
+        final Timer.Sample productStage = Timer.start(meterRegistry);
+        final var fetchedPurchasedProducts = stopOnCompletion(productStage, "product",
+                productService.purchaseProducts(request.products()));
 
-        final var customer = fetchedCustomer.get()
+        final Timer.Sample fanOut = Timer.start(meterRegistry);
+        final var customerLookup = await(fetchedCustomer);
+        final var purchasedProducts = await(fetchedPurchasedProducts);
+        fanOut.stop(stageTimer("fan-out"));
+
+        final var customer = customerLookup
                 .orElseThrow(() -> new CustomerNotFoundExceptions(
                                 "Cannot create order:: No customer exists with the provided ID",
                                 "createOrder(final OrderRequest request) in " + className
                         )
                 );
-        final var purchasedProducts = fetchedPurchasedProducts.get();
-        final Order order = this.orderRepository.save(request.toOrder());
-        for (final PurchaseRequest purchaseRequest : request.products()) {
-            orderLineService.saveOrderLine(
-                    OrderLineRequest.builder()
-                            .id(null)
-                            .orderId(order.getId())
-                            .productId(purchaseRequest.productId())
-                            .quantity(purchaseRequest.quantity())
-                            .build()
-            );
+        final OrderConfirmation orderConfirmation = OrderConfirmation.newBuilder()
+                .setOrderReference(request.reference())
+                .setTotalAmount(AvroDecimals.toBytes(request.amount()))
+                .setPaymentMethod(com.forsaken.ecommerce.avro.PaymentMethod.valueOf(request.paymentMethod().name()))
+                .setCustomer(toAvroCustomer(customer))
+                .setProducts(purchasedProducts.stream().map(this::toAvroPurchase).toList())
+                .setTraceId("traceId") // TODO tracing will be done later
+                .build();
+        log.info("Created Order Confirmation: {}", orderConfirmation);
+        final boolean saga = sagaProperties.enabled();
+        // Events commit with the order; OutboxRelay publishes them, so Kafka never sits on this path.
+        final Order order = stageTimer("persist")
+                .record(() -> transactionTemplate.execute(status -> {
+                    final Order saved = saveOrderWithLines(request);
+                    // Published by OrderSagaServiceImpl.confirmOrder once the payment went through.
+                    outboxService.hold(request.reference(), orderConfirmation);
+                    if (saga) {
+                        outboxService.append(request.reference(), toOrderCreated(saved, request, customer));
+                    }
+                    return saved;
+                }));
+
+        if (saga) {
+            // payment-service picks the order up from OrderCreated; PaymentEventsListener settles its status.
+            log.info("Order {} awaits payment", order.getReference());
+            checkout.stop(stageTimer("total"));
+            return order.getId();
         }
 
         final PaymentRequest paymentRequest = PaymentRequest.builder()
@@ -79,30 +125,93 @@ public class OrderServiceImpl implements IOrderService {
                 .orderId(order.getId())
                 .orderReference(order.getReference())
                 .build();
-        paymentService.pay(paymentRequest);
+        final Timer.Sample paymentStage = Timer.start(meterRegistry);
+        try {
+            await(paymentService.pay(paymentRequest));
+        } catch (ExecutionException | InterruptedException | BusinessException | RuntimeException e) {
+            if (!settleFailedPayment(order, e)) throw e;
+        } finally {
+            paymentStage.stop(stageTimer("payment"));
+        }
         log.info("Sent Payment");
+        // payment-service also reports the payment on payment-topic, and PaymentEventsListener may
+        // confirm the order first; whichever move to CONFIRMED wins releases the held confirmation.
+        orderSagaService.confirmOrder(order.getReference());
+        checkout.stop(stageTimer("total"));
+        return order.getId();
+    }
 
-        final OrderConfirmation orderConfirmation = OrderConfirmation.newBuilder()
-                .setOrderReference(request.reference())
-                .setTotalAmount(convertBigDecimalToBytes(request.amount()))
-                .setPaymentMethod(PaymentMethod.valueOf(request.paymentMethod().name()))
-                .setCustomer(toAvroCustomer(customer))
-                .setProducts(purchasedProducts.stream().map(this::toAvroPurchase).toList())
-                .setTraceId("traceId") // TODO tracing will be done later
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<OrderResponse> findAllOrders(
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate,
+            final PaymentMethod paymentMethod,
+            final int page,
+            final int size
+    ) {
+        log.info("Finding All Orders: from={}, to={}, paymentMethod={}, page={}, size={}",
+                fromDate, toDate, paymentMethod, page, size);
+
+        final Pageable pageable = PageRequest.of(Math.max(page - 1, 0), safePageSize(size));
+        final Page<OrderResponse> orderPage = orderRepository.findOrderPage(
+                fromDate == null ? EARLIEST_ORDER_DATE : fromDate,
+                toDate == null ? LocalDateTime.now() : toDate,
+                paymentMethod,
+                pageable
+        );
+
+        return PagedResponse.<OrderResponse>builder()
+                .content(orderPage.getContent())
+                .page(orderPage.getNumber() + 1)
+                .size(orderPage.getSize())
+                .totalElements(orderPage.getTotalElements())
+                .totalPages(orderPage.getTotalPages())
                 .build();
-        log.info("Created Order Confirmation: {}", orderConfirmation);
-        orderProducer.sendOrderConfirmation(orderConfirmation);
-        log.info("Sent Order Confirmation");
-        return order.getId();
     }
 
     @Override
-    public List<OrderResponse> findAllOrders() {
-        log.info("Finding All Orders");
-        return this.orderRepository.findAll()
-                .stream()
-                .map(Order::fromOrder)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<OrderResponse> findAllOrders(
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate,
+            final PaymentMethod paymentMethod,
+            final String cursor,
+            final int size
+    ) {
+        log.info("Finding All Orders: from={}, to={}, paymentMethod={}, cursor={}, size={}",
+                fromDate, toDate, paymentMethod, cursor, size);
+
+        final int safeSize = safePageSize(size);
+        final LocalDateTime upperBound = toDate == null ? LocalDateTime.now() : toDate;
+        final LocalDateTime lowerBound = fromDate == null ? EARLIEST_ORDER_DATE : fromDate;
+
+        // The first slice starts right after (toDate, +inf), i.e. includes toDate itself.
+        LocalDateTime afterDate = upperBound;
+        Integer afterId = Integer.MAX_VALUE;
+        if (cursor != null) {
+            try {
+                final String[] position = CursorCodec.decode(cursor, 2);
+                afterDate = LocalDateTime.parse(position[0]);
+                afterId = Integer.valueOf(position[1]);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + cursor, e);
+            }
+        }
+
+        // Fetch one extra row to learn whether another slice follows.
+        final List<OrderResponse> orders = orderRepository.findOrderSliceBefore(
+                lowerBound, upperBound, paymentMethod, afterDate, afterId, PageRequest.of(0, safeSize + 1));
+        final boolean hasNext = orders.size() > safeSize;
+        final List<OrderResponse> slice = hasNext ? orders.subList(0, safeSize) : orders;
+        final OrderResponse last = hasNext ? slice.get(slice.size() - 1) : null;
+
+        return CursorPagedResponse.<OrderResponse>builder()
+                .content(slice)
+                .size(safeSize)
+                .nextCursor(last == null ? null : CursorCodec.encode(last.createdDate(), last.id()))
+                .hasNext(hasNext)
+                .build();
     }
 
     @Override
@@ -116,6 +225,7 @@ public class OrderServiceImpl implements IOrderService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderResponse> findAllOrdersByCustomerId(
             final String customerId,
             final LocalDateTime fromDate,
@@ -126,17 +236,95 @@ public class OrderServiceImpl implements IOrderService {
                 .stream().map(Order::fromOrder).toList();
     }
 
-    private ByteBuffer convertBigDecimalToBytes(final BigDecimal value) {
-        if (value == null) {
-            return null;
+    private static int safePageSize(final int size) {
+        return size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Settles an order whose synchronous payment failed the way a {@code PaymentFailed}
+     * event would: the order moves to {@code PAYMENT_FAILED}, its held confirmation is
+     * discarded and its stock is released. A failed release is logged and leaves the
+     * order {@code PAYMENT_FAILED}; the payment failure is still the one reported.
+     *
+     * @return {@code true} if the order turned out to be paid after all, i.e. the
+     * payment-service confirmed it on payment-topic before it could be compensated
+     */
+    private boolean settleFailedPayment(final Order order, final Exception failure) {
+        log.warn("Payment of order {} failed, compensating", order.getReference(), failure);
+        try {
+            orderSagaService.compensateOrder(order.getReference(), "Payment failed: " + failure.getMessage());
+        } catch (ExecutionException | InterruptedException | BusinessException | RuntimeException e) {
+            log.error("Could not release the stock of order {}", order.getReference(), e);
+            failure.addSuppressed(e);
+        }
+        return orderRepository.findByReference(order.getReference())
+                .map(Order::getStatus)
+                .filter(OrderStatus.CONFIRMED::equals)
+                .isPresent();
+    }
+
+    private Order saveOrderWithLines(final OrderRequest request) {
+        final Order order = this.orderRepository.save(request.toOrder());
+        orderLineService.saveOrderLines(
+                request.products()
+                        .stream()
+                        .map(purchaseRequest -> OrderLineRequest.builder()
+                                .id(null)
+                                .orderId(order.getId())
+                                .productId(purchaseRequest.productId())
+                                .quantity(purchaseRequest.quantity())
+                                .build())
+                        .toList()
+        );
+        return order;
+    }
+
+    /**
+     * Waits for a downstream call and rethrows its failure as thrown by the callee,
+     * so that business errors surface unchanged rather than wrapped.
+     */
+    private static <T> T await(final CompletableFuture<T> future)
+            throws ExecutionException, InterruptedException, BusinessException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException cause) throw cause;
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
         }
-        final Schema DECIMAL_SCHEMA =
-                LogicalTypes.decimal(18, 2)
-                        .addToSchema(Schema.create(Schema.Type.BYTES));
+    }
 
-        final Conversions.DecimalConversion DECIMAL_CONVERSION =
-                new Conversions.DecimalConversion();
-        return DECIMAL_CONVERSION.toBytes(value, DECIMAL_SCHEMA, DECIMAL_SCHEMA.getLogicalType());
+    private <T> CompletableFuture<T> stopOnCompletion(
+            final Timer.Sample sample,
+            final String stage,
+            final CompletableFuture<T> future
+    ) {
+        return future.whenComplete((result, error) -> sample.stop(stageTimer(stage)));
+    }
+
+    private Timer stageTimer(final String stage) {
+        return Timer.builder("order.checkout.stage")
+                .description("Time spent in each stage of order creation")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    private OrderCreated toOrderCreated(
+            final Order order,
+            final OrderRequest request,
+            final CustomerResponse customer
+    ) {
+        return OrderCreated.newBuilder()
+                .setOrderReference(order.getReference())
+                .setOrderId(order.getId())
+                .setTotalAmount(AvroDecimals.toBytes(request.amount()))
+                .setPaymentMethod(request.paymentMethod().name())
+                .setCustomerId(customer.id())
+                .setCustomerFirstname(customer.firstname())
+                .setCustomerLastname(customer.lastname())
+                .setCustomerEmail(customer.email())
+                .setTraceId("traceId") // TODO tracing will be done later
+                .build();
     }
 
     private com.forsaken.ecommerce.avro.CustomerResponse toAvroCustomer(final CustomerResponse customer) {
@@ -153,7 +341,7 @@ public class OrderServiceImpl implements IOrderService {
                 .setProductId(product.productId())
                 .setName(product.name())
                 .setDescription(product.description())
-                .setPrice(convertBigDecimalToBytes(product.price()))
+                .setPrice(AvroDecimals.toBytes(product.price()))
                 .setQuantity(product.quantity())
                 .build();
     }
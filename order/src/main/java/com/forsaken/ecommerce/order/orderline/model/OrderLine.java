@@ -2,11 +2,16 @@ package com.forsaken.ecommerce.order.orderline.model;
 
 import com.forsaken.ecommerce.order.order.model.Order;
 import com.forsaken.ecommerce.order.orderline.dto.OrderLineResponse;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,15 +23,17 @@ import lombok.NoArgsConstructor;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "customer_line")
+@Table(name = "customer_line", indexes = @Index(name = "idx_customer_line_order_id", columnList = "order_id"))
 public class OrderLine {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_line_seq")
+    @SequenceGenerator(name = "customer_line_seq", sequenceName = "customer_line_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne
-    @JoinColumn(name = "order_id")
+    // References order_reference(order_id) instead: customer_order is partitioned (see V4 migration).
+    @JoinColumn(name = "order_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Order order;
 
     private Integer productId;
@@ -25,6 +25,18 @@ public interface IOrderLineService {
      */
     void saveOrderLine(final OrderLineRequest request);
 
+    /**
+     * Persists all order lines of an order in one go.
+     *
+     * <p>Lines are written with JDBC batch inserts and ids come from a pooled
+     * sequence, so the number of database round trips stays constant for
+     * typical basket sizes. Callers should invoke this within the transaction
+     * that saves the order itself.</p>
+     *
+     * @param requests the order lines to persist; must not be {@code null}
+     */
+    void saveOrderLines(final List<OrderLineRequest> requests);
+
     /**
      * Retrieves all order lines for a given order.
      *
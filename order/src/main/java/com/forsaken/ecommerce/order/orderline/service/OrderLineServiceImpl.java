@@ -24,6 +24,16 @@ public class OrderLineServiceImpl implements IOrderLineService {
         orderLineRepository.save(request.toOrderLine());
     }
 
+    @Override
+    public void saveOrderLines(final List<OrderLineRequest> requests) {
+        log.info("Save {} Order Lines", requests.size());
+        orderLineRepository.saveAll(
+                requests.stream()
+                        .map(OrderLineRequest::toOrderLine)
+                        .toList()
+        );
+    }
+
     @Override
     public List<OrderLineResponse> findAllByOrderId(final Integer orderId) {
         log.info("Find all Order Lines By Order Id: {}", orderId);
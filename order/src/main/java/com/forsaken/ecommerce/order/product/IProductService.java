@@ -1,7 +1,6 @@
 package com.forsaken.ecommerce.order.product;
 
 import com.forsaken.ecommerce.common.exceptions.BusinessException;
-import org.springframework.scheduling.annotation.Async;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -17,8 +16,8 @@ import java.util.concurrent.CompletableFuture;
  *
  * <p><b>Asynchronous Execution:</b></p>
  * <ul>
- *     <li>The {@link #purchaseProducts(List)} method runs asynchronously using
- *         the {@code appTaskExecutor}.</li>
+ *     <li>The {@link #purchaseProducts(List)} method sends the request through the
+ *         non-blocking {@code DownstreamHttpClient}; no thread waits for the response.</li>
  *     <li>The method returns immediately with a {@link CompletableFuture},
  *         allowing non-blocking request handling.</li>
  * </ul>
@@ -58,7 +57,7 @@ public interface IProductService {
      *
      * <p><b>Behavior:</b></p>
      * <ul>
-     *     <li>Runs asynchronously using the defined executor {@code appTaskExecutor}.</li>
+     *     <li>Completes on the HTTP client's I/O thread once product-service answers.</li>
      *     <li>
      *         Completes successfully with a list of {@link PurchaseResponse}
      *         objects when processing is successful.
@@ -80,6 +79,20 @@ public interface IProductService {
      * @return a {@link CompletableFuture} that resolves to a list of purchase responses
      * @throws BusinessException if any business validation or rule check fails
      */
-    @Async("appTaskExecutor")
     CompletableFuture<List<PurchaseResponse>> purchaseProducts(final List<PurchaseRequest> requestBody) throws BusinessException;
+
+    /**
+     * Gives the stock of previously purchased lines back to product-service.
+     *
+     * <p>Used to compensate an order whose payment failed. Product-service records the
+     * order reference with the release, so releasing the same order again restores
+     * nothing and the call can safely be retried.</p>
+     *
+     * @param orderReference the order whose lines are released
+     * @param requestBody    the purchased lines to release; must not be null or empty
+     * @return a {@link CompletableFuture} that resolves to the number of products restored
+     *         ({@code 0} if the order had already been released), or completes
+     *         exceptionally with a {@link BusinessException}
+     */
+    CompletableFuture<Integer> releaseProducts(final String orderReference, final List<PurchaseRequest> requestBody);
 }
@@ -1,56 +1,79 @@
 package com.forsaken.ecommerce.order.product;
 
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.forsaken.ecommerce.common.exceptions.BusinessException;
-import jakarta.servlet.http.HttpServletRequest;
+import com.forsaken.ecommerce.common.responses.ApiResponse;
+import com.forsaken.ecommerce.common.responses.PagedResponse;
+import com.forsaken.ecommerce.order.async.DownstreamBulkheads;
+import com.forsaken.ecommerce.order.http.DownstreamHttpClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-
-import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
-import static org.springframework.http.HttpMethod.POST;
-import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProductServiceImpl implements IProductService{
 
+    private static final String ROUTE = "product";
+    private static final TypeReference<ApiResponse<PagedResponse<PurchaseResponse>>> PURCHASE_RESPONSE_TYPE =
+            new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<Integer>> RELEASE_RESPONSE_TYPE =
+            new TypeReference<>() {};
+
     @Value("${application.config.product-url}")
     private String productUrl;
-    private final RestTemplate restTemplate;
+    private final DownstreamHttpClient httpClient;
+    private final DownstreamBulkheads bulkheads;
 
     @Override
     public CompletableFuture<List<PurchaseResponse>> purchaseProducts(final List<PurchaseRequest> requestBody) throws BusinessException {
         log.info("Product request received: {}", requestBody);
-        final HttpHeaders headers = new HttpHeaders();
-        headers.set(CONTENT_TYPE, APPLICATION_JSON_VALUE);
-
-        final HttpEntity<List<PurchaseRequest>> requestEntity = new HttpEntity<>(requestBody, headers);
-        final ParameterizedTypeReference<List<PurchaseResponse>> responseType = new ParameterizedTypeReference<>() {};
-        final ResponseEntity<List<PurchaseResponse>> responseEntity = restTemplate.exchange(
-                productUrl + "/purchase",
-                POST,
-                requestEntity,
-                responseType
-        );
-
-        if (responseEntity.getStatusCode().isError()) {
-            log.error("Product request failed: {}", responseEntity.getBody());
-            throw new BusinessException(
-                    "An error occurred while processing the products purchase: " + responseEntity.getStatusCode(),
+        // product-service pages its purchase summary, so ask for a single page holding every line.
+        final String url = productUrl + "/purchase?page=1&size=" + Math.max(1, requestBody.size());
+        return bulkheads.product()
+                .callAsync(() -> httpClient.postJson(ROUTE, url, requestBody, PURCHASE_RESPONSE_TYPE))
+                .thenApply(this::toPurchases);
+    }
+
+    @Override
+    public CompletableFuture<Integer> releaseProducts(final String orderReference, final List<PurchaseRequest> requestBody) {
+        log.info("Product release requested for order {}: {}", orderReference, requestBody);
+        final String url = productUrl + "/release?reference=" + URLEncoder.encode(orderReference, StandardCharsets.UTF_8);
+        return bulkheads.product()
+                .callAsync(() -> httpClient.postJson(ROUTE, url, requestBody, RELEASE_RESPONSE_TYPE))
+                .thenApply(this::toReleased);
+    }
+
+    private List<PurchaseResponse> toPurchases(final ApiResponse<PagedResponse<PurchaseResponse>> response) {
+        if (response == null || response.status() != ApiResponse.Status.SUCCESS || response.data() == null) {
+            log.error("Product request failed: {}", response);
+            throw new CompletionException(new BusinessException(
+                    "An error occurred while processing the products purchase: "
+                            + (response == null ? "empty response" : response.message()),
                     "purchaseProducts(final List<PurchaseRequest> requestBody)"
-            );
+            ));
+        }
+        return response.data().content();
+    }
+
+    private Integer toReleased(final ApiResponse<Integer> response) {
+        if (response == null || response.status() != ApiResponse.Status.SUCCESS || response.data() == null) {
+            log.error("Product release failed: {}", response);
+            throw new CompletionException(new BusinessException(
+                    "An error occurred while releasing the products: "
+                            + (response == null ? "empty response" : response.message()),
+                    "releaseProducts(final String orderReference, final List<PurchaseRequest> requestBody)"
+            ));
         }
-        return CompletableFuture.supplyAsync(responseEntity::getBody);
+        return response.data();
     }
 }
@@ -0,0 +1,41 @@
+package com.forsaken.ecommerce.order.saga;
+
+import com.forsaken.ecommerce.common.exceptions.BusinessException;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Applies the outcome of an order's payment, as reported by payment-service, to
+ * the order.
+ *
+ * <p>Both operations are idempotent: payment events are delivered at least once,
+ * and a redelivered event finds the order already moved on and does nothing.</p>
+ *
+ * @see com.forsaken.ecommerce.order.order.model.OrderStatus
+ */
+public interface IOrderSagaService {
+
+    /**
+     * Marks a pending order as confirmed and releases the order confirmation held
+     * back at checkout, in the same transaction.
+     *
+     * @param orderReference reference of the paid order
+     */
+    void confirmOrder(final String orderReference);
+
+    /**
+     * Marks a pending order as failed, discards its held order confirmation and gives
+     * its reserved stock back to product-service, after which the order is cancelled.
+     *
+     * <p>If the release fails the order stays {@code PAYMENT_FAILED} and the
+     * exception propagates, so the event is redelivered and the release retried.</p>
+     *
+     * @param orderReference reference of the order whose payment failed
+     * @param reason         why payment-service refused the payment
+     * @throws BusinessException    if product-service rejects the release
+     * @throws ExecutionException   if the release call fails
+     * @throws InterruptedException if interrupted while waiting for product-service
+     */
+    void compensateOrder(final String orderReference, final String reason)
+            throws BusinessException, ExecutionException, InterruptedException;
+}
@@ -0,0 +1,121 @@
+package com.forsaken.ecommerce.order.saga;
+
+import com.forsaken.ecommerce.avro.OrderConfirmation;
+import com.forsaken.ecommerce.common.exceptions.BusinessException;
+import com.forsaken.ecommerce.common.outbox.IOutboxService;
+import com.forsaken.ecommerce.order.order.model.Order;
+import com.forsaken.ecommerce.order.order.model.OrderStatus;
+import com.forsaken.ecommerce.order.order.repository.IOrderRepository;
+import com.forsaken.ecommerce.order.orderline.repository.OrderLineRepository;
+import com.forsaken.ecommerce.order.product.IProductService;
+import com.forsaken.ecommerce.order.product.PurchaseRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static com.forsaken.ecommerce.order.order.model.OrderStatus.CANCELLED;
+import static com.forsaken.ecommerce.order.order.model.OrderStatus.CONFIRMED;
+import static com.forsaken.ecommerce.order.order.model.OrderStatus.PAYMENT_FAILED;
+import static com.forsaken.ecommerce.order.order.model.OrderStatus.PENDING_PAYMENT;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSagaServiceImpl implements IOrderSagaService {
+
+    private final IOrderRepository orderRepository;
+    private final OrderLineRepository orderLineRepository;
+    private final IProductService productService;
+    private final IOutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void confirmOrder(final String orderReference) {
+        // The confirmation held back at checkout is published with the move to CONFIRMED, never before.
+        if (transition(orderReference, PENDING_PAYMENT, CONFIRMED,
+                () -> outboxService.release(orderReference, OrderConfirmation.class))) {
+            log.info("Order {} confirmed", orderReference);
+        } else {
+            log.info("Order {} is not pending payment, confirmation ignored", orderReference);
+        }
+    }
+
+    @Override
+    public void compensateOrder(final String orderReference, final String reason)
+            throws BusinessException, ExecutionException, InterruptedException {
+        final Optional<Order> found = orderRepository.findByReference(orderReference);
+        if (found.isEmpty()) {
+            log.warn("Payment failed for unknown order {}: {}", orderReference, reason);
+            return;
+        }
+        final Order order = found.get();
+        OrderStatus status = order.getStatus();
+        if (status == PENDING_PAYMENT && transition(orderReference, PENDING_PAYMENT, PAYMENT_FAILED,
+                () -> outboxService.discard(orderReference, OrderConfirmation.class))) {
+            log.info("Payment of order {} failed: {}", orderReference, reason);
+            status = PAYMENT_FAILED;
+        }
+        // A redelivery after a failed release finds the order still PAYMENT_FAILED and retries the release;
+        // product-service keys releases by order reference, so a release that did go through is not repeated.
+        if (status != PAYMENT_FAILED) {
+            log.info("Order {} is {}, nothing to compensate", orderReference, status);
+            return;
+        }
+
+        final List<PurchaseRequest> lines = orderLineRepository.findAllByOrderId(order.getId())
+                .stream()
+                .map(line -> new PurchaseRequest(line.getProductId(), line.getQuantity()))
+                .toList();
+        if (!lines.isEmpty()) {
+            await(productService.releaseProducts(orderReference, lines));
+        }
+        transition(orderReference, PAYMENT_FAILED, CANCELLED);
+        log.info("Order {} cancelled, stock of {} lines released", orderReference, lines.size());
+    }
+
+    private boolean transition(final String orderReference, final OrderStatus from, final OrderStatus to) {
+        return transition(orderReference, from, to, () -> { });
+    }
+
+    /**
+     * Moves the order and, only if it moved, runs {@code onMoved} in the same transaction.
+     */
+    private boolean transition(
+            final String orderReference,
+            final OrderStatus from,
+            final OrderStatus to,
+            final Runnable onMoved
+    ) {
+        final Boolean moved = transactionTemplate.execute(status -> {
+            if (orderRepository.transitionStatus(orderReference, from, to) == 0) {
+                return false;
+            }
+            onMoved.run();
+            return true;
+        });
+        if (Boolean.TRUE.equals(moved)) {
+            meterRegistry.counter("order.saga.transition", "from", from.name(), "to", to.name()).increment();
+            return true;
+        }
+        return false;
+    }
+
+    private static <T> T await(final CompletableFuture<T> future)
+            throws ExecutionException, InterruptedException, BusinessException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException cause) throw cause;
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.forsaken.ecommerce.order.saga;
+
+import com.forsaken.ecommerce.avro.PaymentConfirmation;
+import com.forsaken.ecommerce.avro.PaymentFailed;
+import com.forsaken.ecommerce.common.exceptions.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Feeds payment-service's outcome events into {@link IOrderSagaService}.
+ *
+ * <p>Also consumed with {@code saga.enabled} off: payment-service reports synchronous
+ * payments on the same topics, and a confirmation may arrive before the request
+ * thread confirms the order itself. Both go through
+ * {@link IOrderSagaService#confirmOrder}, so only the first one takes effect.</p>
+ *
+ * <p>Any exception thrown here hands the record to the container's error handler,
+ * which redelivers it; see {@code KafkaConsumerConfigurations}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentEventsListener {
+
+    private final IOrderSagaService orderSagaService;
+
+    @KafkaListener(
+            topics = "${saga.paymentConfirmedTopic}",
+            groupId = "${saga.groupId}",
+            containerFactory = "sagaKafkaListenerContainerFactory"
+    )
+    public void onPaymentConfirmed(final ConsumerRecord<String, PaymentConfirmation> record) {
+        log.debug("Received payment confirmation at offset {}", record.offset());
+        orderSagaService.confirmOrder(record.value().getOrderReference());
+    }
+
+    @KafkaListener(
+            topics = "${saga.paymentFailedTopic}",
+            groupId = "${saga.groupId}",
+            containerFactory = "sagaKafkaListenerContainerFactory"
+    )
+    public void onPaymentFailed(final ConsumerRecord<String, PaymentFailed> record)
+            throws BusinessException, ExecutionException, InterruptedException {
+        log.debug("Received payment failure at offset {}", record.offset());
+        orderSagaService.compensateOrder(record.value().getOrderReference(), record.value().getReason());
+    }
+}
@@ -0,0 +1,67 @@
+-- Schema previously created by Hibernate (ddl-auto: update). Every statement is
+-- guarded so existing databases baseline onto it unchanged.
+create table if not exists customer_order
+(
+    id                 integer      not null
+        primary key,
+    reference          varchar(255) not null
+        constraint uk_customer_order_reference unique,
+    total_amount       numeric(38, 2),
+    payment_method     varchar(255),
+    customer_id        varchar(255),
+    status             varchar(20),
+    created_date       timestamp(6) not null,
+    last_modified_date timestamp(6)
+);
+
+create table if not exists customer_line
+(
+    id         integer          not null
+        primary key,
+    order_id   integer
+        constraint fk_customer_line_order
+            references customer_order,
+    product_id integer,
+    quantity   double precision not null
+);
+
+create table if not exists outbox_event
+(
+    id           bigint       not null
+        primary key,
+    aggregate_id varchar(255) not null,
+    event_type   varchar(255) not null,
+    payload      bytea        not null,
+    created_at   timestamp(6) not null,
+    published_at timestamp(6),
+    attempts     integer      not null,
+    last_error   varchar(1000)
+);
+
+create table if not exists idempotency_key
+(
+    request_key  varchar(128) not null
+        primary key,
+    request_hash varchar(64)  not null,
+    status       varchar(20)  not null,
+    order_id     integer,
+    created_at   timestamp(6) not null,
+    expires_at   timestamp(6) not null
+);
+
+-- Pooled sequences: Hibernate reserves 50 ids per call (allocationSize = 50).
+create sequence if not exists customer_order_seq increment by 50;
+create sequence if not exists customer_line_seq increment by 50;
+create sequence if not exists outbox_event_seq increment by 50;
+
+-- Backs the paged and keyset order listing (ORDER BY created_date DESC, id DESC).
+create index if not exists idx_customer_order_created_date_id
+    on customer_order (created_date, id);
+
+-- Backs the relay's pending batch (WHERE published_at IS NULL ORDER BY id).
+create index if not exists idx_outbox_event_pending
+    on outbox_event (published_at, id);
+
+-- Backs the purge of expired idempotency keys.
+create index if not exists idx_idempotency_key_expires_at
+    on idempotency_key (expires_at);
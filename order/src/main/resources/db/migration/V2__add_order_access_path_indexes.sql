@@ -0,0 +1,12 @@
+-- Backs the customer order history (WHERE customer_id = ? AND created_date BETWEEN ? AND ?).
+CREATE INDEX IF NOT EXISTS idx_customer_order_customer_created
+    ON customer_order (customer_id, created_date);
+
+-- Backs the order line lookups (WHERE order_id = ?), used to release stock when a payment fails.
+CREATE INDEX IF NOT EXISTS idx_customer_line_order_id
+    ON customer_line (order_id);
+
+-- Sequences created before these scripts must step by the allocation size the pooled optimizer expects.
+ALTER SEQUENCE customer_order_seq INCREMENT BY 50;
+ALTER SEQUENCE customer_line_seq INCREMENT BY 50;
+ALTER SEQUENCE outbox_event_seq INCREMENT BY 50;
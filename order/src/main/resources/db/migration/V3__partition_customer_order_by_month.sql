@@ -0,0 +1,83 @@
+-- Range-partitions customer_order by month of created_date so that date-bounded
+-- queries prune to the months they touch and indexes, vacuum and retention work
+-- per month instead of over the whole history.
+--
+-- Every key of a partitioned table must contain the partition key: the primary key
+-- becomes (id, created_date) and reference is indexed but no longer unique at the
+-- database level (duplicate order creation is rejected by the idempotency keys).
+-- For the same reason customer_line.order_id can no longer be a foreign key.
+alter table customer_order rename to customer_order_unpartitioned;
+
+create table customer_order
+(
+    id                 integer      not null,
+    reference          varchar(255) not null,
+    total_amount       numeric(38, 2),
+    payment_method     varchar(255),
+    customer_id        varchar(255),
+    status             varchar(20),
+    created_date       timestamp(6) not null,
+    last_modified_date timestamp(6),
+    constraint pk_customer_order primary key (id, created_date)
+) partition by range (created_date);
+
+-- Safety net for rows outside every monthly partition; stays empty as long as the
+-- partition maintenance keeps months ahead of the clock.
+create table customer_order_default partition of customer_order default;
+
+-- Monthly partitions from the oldest order up to three months ahead; later months
+-- are created by the partition maintenance of the service.
+do
+$$
+    declare
+        month_start date := date_trunc('month', coalesce(
+                (select min(created_date) from customer_order_unpartitioned), now()));
+        last_month  date := date_trunc('month', now()) + interval '3 months';
+    begin
+        while month_start <= last_month
+            loop
+                execute format(
+                        'create table if not exists %I partition of customer_order for values from (%L) to (%L)',
+                        'customer_order_p' || to_char(month_start, 'YYYYMM'),
+                        month_start,
+                        (month_start + interval '1 month')::date);
+                month_start := month_start + interval '1 month';
+            end loop;
+    end
+$$;
+
+insert into customer_order (id, reference, total_amount, payment_method, customer_id, status,
+                            created_date, last_modified_date)
+select id, reference, total_amount, payment_method, customer_id, status, created_date, last_modified_date
+from customer_order_unpartitioned;
+
+-- The foreign key is named fk_customer_line_order when created by V1, but carries a
+-- generated name on databases Hibernate created before Flyway took over.
+do
+$$
+    declare
+        foreign_key record;
+    begin
+        for foreign_key in
+            select conname
+            from pg_constraint
+            where conrelid = 'customer_line'::regclass
+              and confrelid = 'customer_order_unpartitioned'::regclass
+              and contype = 'f'
+            loop
+                execute format('alter table customer_line drop constraint %I', foreign_key.conname);
+            end loop;
+    end
+$$;
+
+drop table customer_order_unpartitioned;
+
+-- Indexes on the parent are created on every partition, present and future.
+create index idx_customer_order_created_date_id
+    on customer_order (created_date, id);
+
+create index idx_customer_order_customer_created
+    on customer_order (customer_id, created_date);
+
+create index idx_customer_order_reference
+    on customer_order (reference);
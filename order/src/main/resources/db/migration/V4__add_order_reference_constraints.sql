@@ -0,0 +1,50 @@
+-- customer_order is partitioned by created_date (V3), so neither reference nor id can
+-- be unique on it alone, and the idempotency keys do not stand in for that: a
+-- client-chosen key replaces the reference check, keys expire, and a failed request
+-- releases its key. order_reference is a plain table that holds one row per order and
+-- gives both guarantees back: reference is its primary key and order_id is unique, so
+-- customer_line can reference it again.
+create table order_reference
+(
+    reference    varchar(255) not null
+        constraint pk_order_reference primary key,
+    order_id     integer      not null
+        constraint uk_order_reference_order_id unique,
+    created_date timestamp(6) not null
+);
+
+-- Orders written while reference was not unique keep their oldest row only.
+insert into order_reference (reference, order_id, created_date)
+select distinct on (reference) reference, id, created_date
+from customer_order
+order by reference, id
+on conflict do nothing;
+
+-- Filled by the database in the statement inserting the order, so every write path
+-- is covered; a second order with the same reference fails with a unique violation
+-- and rolls its transaction back.
+create function record_order_reference() returns trigger
+    language plpgsql as
+$$
+begin
+    insert into order_reference (reference, order_id, created_date)
+    values (new.reference, new.id, new.created_date);
+    return new;
+end
+$$;
+
+create trigger trg_customer_order_reference
+    after insert
+    on customer_order
+    for each row
+execute function record_order_reference();
+
+-- Lines must belong to an existing order. Rows of references dropped above are not
+-- checked (not valid); every new line is. Lines are archived together with the
+-- partition of their order (MonthlyPartitionManager), while order_reference rows are
+-- kept, so a reference stays taken after its order has been archived.
+alter table customer_line
+    add constraint fk_customer_line_order_reference
+        foreign key (order_id) references order_reference (order_id)
+            deferrable initially deferred
+            not valid;
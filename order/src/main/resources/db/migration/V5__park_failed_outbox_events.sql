@@ -0,0 +1,5 @@
+-- Set when the relay gives up on an event that can never be sent or failed maxAttempts
+-- times. Parked events are skipped by the relay, so they no longer hold back the
+-- events behind them; clearing failed_at queues one again.
+alter table outbox_event
+    add column if not exists failed_at timestamp(6);
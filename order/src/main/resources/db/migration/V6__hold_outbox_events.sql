@@ -0,0 +1,9 @@
+-- Held events are written ahead of their publication, e.g. an order confirmation
+-- waiting for the payment, and skipped by the relay until they are released.
+alter table outbox_event
+    add column if not exists held boolean not null default false;
+
+-- Backs the release and discard of an aggregate's held events; only ever holds the
+-- few events still waiting.
+create index if not exists idx_outbox_event_held
+    on outbox_event (aggregate_id) where held;
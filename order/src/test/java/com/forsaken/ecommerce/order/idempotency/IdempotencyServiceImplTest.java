@@ -0,0 +1,316 @@
+package com.forsaken.ecommerce.order.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forsaken.ecommerce.common.exceptions.BusinessException;
+import com.forsaken.ecommerce.order.configs.idempotency.IdempotencyProperties;
+import com.forsaken.ecommerce.order.order.dto.OrderRequest;
+import com.forsaken.ecommerce.order.order.model.Order;
+import com.forsaken.ecommerce.order.order.model.OrderStatus;
+import com.forsaken.ecommerce.order.order.model.PaymentMethod;
+import com.forsaken.ecommerce.order.order.repository.IOrderRepository;
+import com.forsaken.ecommerce.order.product.PurchaseRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link IdempotencyServiceImpl}, validating both deduplication
+ * layers: duplicates waiting on the first request in the same instance, and the
+ * {@code idempotency_key} store arbitrating between instances.
+ *
+ * <p>The key and order repositories are mocked; transactions run on a template
+ * backed by a mocked transaction manager, so callbacks execute inline.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceImplTest {
+
+    private static final String KEY = "key-1";
+
+    @Mock
+    private IIdempotencyKeyRepository repository;
+
+    @Mock
+    private IOrderRepository orderRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private IdempotencyServiceImpl service;
+
+    /**
+     * Builds the service with a short wait timeout so that the 409 paths run fast.
+     */
+    @BeforeEach
+    void setup() {
+        service = new IdempotencyServiceImpl(
+                repository,
+                orderRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new IdempotencyProperties(86_400_000, 30_000, 200, 10, 3_600_000),
+                objectMapper,
+                meterRegistry
+        );
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Verifies that a duplicate reaching the same instance while the first request
+     * runs waits for it and gets its order id, without a second creation or claim.
+     */
+    @Test
+    void testCreateOnce_SameInstanceDuplicateWaitsForFirstRequest() throws Exception {
+        // Given
+        final OrderRequest request = constructOrderRequest("ORD-1", 2);
+        when(repository.claim(eq(KEY), anyString(), any(), any())).thenReturn(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch proceed = new CountDownLatch(1);
+        final AtomicInteger creations = new AtomicInteger();
+
+        // When
+        final Future<Integer> first = executor.submit(() -> service.createOnce(KEY, request, () -> {
+            creations.incrementAndGet();
+            started.countDown();
+            assertTrue(proceed.await(5, TimeUnit.SECONDS));
+            return 42;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        final Future<Integer> duplicate = executor.submit(() -> service.createOnce(KEY, request, () -> {
+            creations.incrementAndGet();
+            return 43;
+        }));
+        while (meterRegistry.counter("order.idempotency.requests", "outcome", "waited").count() == 0) {
+            Thread.sleep(5);
+        }
+        proceed.countDown();
+
+        // Then
+        assertEquals(42, first.get(5, TimeUnit.SECONDS));
+        assertEquals(42, duplicate.get(5, TimeUnit.SECONDS));
+        assertEquals(1, creations.get());
+        verify(repository, times(1)).claim(eq(KEY), anyString(), any(), any());
+        verify(repository).complete(eq(KEY), eq(42), any());
+    }
+
+    /**
+     * Verifies that a key owned by another instance is polled until the wait
+     * timeout and then answered with 409 (Conflict), without running the request.
+     */
+    @Test
+    void testCreateOnce_KeyOwnedElsewhereTimesOutWithConflict() {
+        // Given
+        final OrderRequest request = constructOrderRequest("ORD-1", 2);
+        when(repository.claim(eq(KEY), anyString(), any(), any())).thenReturn(0);
+        when(repository.findById(KEY)).thenReturn(Optional.of(constructKey(request, IdempotencyKey.Status.IN_PROGRESS)));
+
+        // When
+        final ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> service.createOnce(KEY, request, () -> 43));
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, e.getStatusCode());
+        verify(repository, never()).complete(any(), any(), any());
+        verify(repository, never()).release(any());
+    }
+
+    /**
+     * Verifies that a key completed by another instance is replayed with its order id.
+     */
+    @Test
+    void testCreateOnce_CompletedKeyIsReplayed() throws Exception {
+        // Given
+        final OrderRequest request = constructOrderRequest("ORD-1", 2);
+        final IdempotencyKey completed = constructKey(request, IdempotencyKey.Status.COMPLETED);
+        when(repository.claim(eq(KEY), anyString(), any(), any())).thenReturn(0);
+        when(repository.findById(KEY)).thenReturn(Optional.of(completed));
+        when(orderRepository.findById(42))
+                .thenReturn(Optional.of(Order.builder().id(42).status(OrderStatus.CONFIRMED).build()));
+
+        // When
+        final Integer orderId = service.createOnce(KEY, request, () -> 43);
+
+        // Then
+        assertEquals(42, orderId);
+        assertEquals(1, meterRegistry.counter("order.idempotency.requests", "outcome", "replayed").count());
+    }
+
+    /**
+     * Verifies that a duplicate of a request whose order was cancelled after a failed
+     * payment is answered with 402 (Payment Required) instead of the order id.
+     */
+    @Test
+    void testCreateOnce_CancelledOrderIsNotReplayedAsCreated() {
+        // Given
+        final OrderRequest request = constructOrderRequest("ORD-1", 2);
+        final IdempotencyKey completed = constructKey(request, IdempotencyKey.Status.COMPLETED);
+        when(repository.claim(eq(KEY), anyString(), any(), any())).thenReturn(0);
+        when(repository.findById(KEY)).thenReturn(Optional.of(completed));
+        when(orderRepository.findById(42))
+                .thenReturn(Optional.of(Order.builder().id(42).status(OrderStatus.CANCELLED).build()));
+
+        // When
+        final ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> service.createOnce(KEY, request, () -> 43));
+
+        // Then
+        assertEquals(HttpStatus.PAYMENT_REQUIRED, e.getStatusCode());
+    }
+
+    /**
+     * Verifies that a key already used for a different request body is refused
+     * with 422 (Unprocessable Entity).
+     */
+    @Test
+    void testCreateOnce_ReusedKeyIsRejected() {
+        // Given
+        final IdempotencyKey seen = constructKey(constructOrderRequest("ORD-1", 2), IdempotencyKey.Status.COMPLETED);
+        when(repository.claim(eq(KEY), anyString(), any(), any())).thenReturn(0);
+        when(repository.findById(KEY)).thenReturn(Optional.of(seen));
+
+        // When
+        final ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> service.createOnce(KEY, constructOrderRequest("ORD-1", 3), () -> 43));
+
+        // Then
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, e.getStatusCode());
+    }
+
+    /**
+     * Verifies that a request failing before its order is stored releases the key,
+     * so that a retry runs the creation again.
+     */
+    @Test
+    void testCreateOnce_ReleasesKeyWhenNothingWasStored() {
+        // Given
+        final OrderRequest request = constructOrderRequest("ORD-1", 2);
+        when(repository.claim(eq(KEY), anyString(), any(), any())).thenReturn(1);
+        when(orderRepository.findByReference("ORD-1")).thenReturn(Optional.empty());
+
+        // When
+        assertThrows(BusinessException.class, () -> service.createOnce(KEY, request, () -> {
+            throw new BusinessException("customer service down", "test");
+        }));
+
+        // Then
+        verify(repository).release(KEY);
+        verify(repository, never()).complete(any(), any(), any());
+    }
+
+    /**
+     * Verifies that a request failing after its order was stored, e.g. on a
+     * declined payment, keeps the key with that order instead of releasing it.
+     */
+    @Test
+    void testCreateOnce_CompletesKeyWhenOrderWasStored() {
+        // Given
+        final OrderRequest request = constructOrderRequest("ORD-1", 2);
+        when(repository.claim(eq(KEY), anyString(), any(), any())).thenReturn(1);
+        when(orderRepository.findByReference("ORD-1")).thenReturn(Optional.of(Order.builder().id(42).build()));
+
+        // When
+        assertThrows(BusinessException.class, () -> service.createOnce(KEY, request, () -> {
+            throw new BusinessException("payment declined", "test");
+        }));
+
+        // Then
+        verify(repository).complete(eq(KEY), eq(42), any());
+        verify(repository, never()).release(any());
+    }
+
+    /**
+     * Verifies that a key whose owner stopped renewing it is taken over once its
+     * lease has run out: the claim that failed while the lease was live succeeds
+     * afterwards and the request runs in this instance.
+     */
+    @Test
+    void testCreateOnce_TakesOverKeyAfterLeaseExpiry() throws Exception {
+        // Given
+        final OrderRequest request = constructOrderRequest("ORD-1", 2);
+        when(repository.claim(eq(KEY), anyString(), any(), any())).thenReturn(0, 1);
+        when(repository.findById(KEY)).thenReturn(Optional.of(constructKey(request, IdempotencyKey.Status.IN_PROGRESS)));
+
+        // When
+        final Integer orderId = service.createOnce(KEY, request, () -> 43);
+
+        // Then
+        assertEquals(43, orderId);
+        verify(repository, times(2)).claim(eq(KEY), anyString(), any(), any());
+        verify(repository).complete(eq(KEY), eq(43), any());
+    }
+
+    /**
+     * Helper method to construct an order request.
+     *
+     * @param reference the order reference
+     * @param quantity  quantity of the single product line
+     * @return a populated {@link OrderRequest}
+     */
+    private OrderRequest constructOrderRequest(final String reference, final double quantity) {
+        return new OrderRequest(
+                null,
+                reference,
+                new BigDecimal("150.50"),
+                PaymentMethod.VISA,
+                "customer-1",
+                List.of(new PurchaseRequest(1, quantity))
+        );
+    }
+
+    /**
+     * Helper method to construct the stored key of a request, fingerprinted like
+     * the service does, with order 42 once completed.
+     */
+    private IdempotencyKey constructKey(final OrderRequest request, final IdempotencyKey.Status status) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            final LocalDateTime now = LocalDateTime.now();
+            return IdempotencyKey.builder()
+                    .requestKey(KEY)
+                    .requestHash(HexFormat.of().formatHex(digest))
+                    .status(status)
+                    .orderId(status == IdempotencyKey.Status.COMPLETED ? 42 : null)
+                    .createdAt(now)
+                    .expiresAt(now.plusMinutes(1))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.forsaken.ecommerce.order.order.repository;
+
+import com.forsaken.ecommerce.common.partition.MonthlyPartitionManager;
+import com.forsaken.ecommerce.common.partition.PartitionProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Query plan tests for the hot order-service queries, run against PostgreSQL
+ * migrated with the service's Flyway scripts.
+ *
+ * <p>The tables are filled with enough generated rows for the planner to prefer an
+ * index over a sequential scan, analysed, and every query is then run through
+ * {@code EXPLAIN (FORMAT JSON)}. A test fails when a query no longer uses its index,
+ * e.g. because a migration dropped it or the query stopped matching its columns.
+ * {@code customer_order} is partitioned by month, so a plan may read through the
+ * per-partition copies of an index rather than the parent index itself.
+ *
+ * <p>A throwaway PostgreSQL instance is started with Testcontainers; the class is
+ * skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class OrderQueryPlanTest {
+
+    private static final int ORDERS = 50_000;
+    private static final int CUSTOMERS = 1_000;
+    private static final int LINES_PER_ORDER = 3;
+    private static final LocalDateTime FIRST_ORDER = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        final HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(POSTGRES.getJdbcUrl());
+        config.setUsername(POSTGRES.getUsername());
+        config.setPassword(POSTGRES.getPassword());
+        dataSource = new HikariDataSource(config);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new MonthlyPartitionManager(
+                jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                new PartitionProperties(3, 0, null, 3600000L),
+                new SimpleMeterRegistry(),
+                List.of("customer_order")
+        ).createPartitions("customer_order", YearMonth.from(FIRST_ORDER), YearMonth.from(FIRST_ORDER).plusMonths(2));
+        jdbcTemplate.update("""
+                INSERT INTO customer_order (id, reference, total_amount, payment_method, customer_id, status, created_date)
+                SELECT g, 'ORD-' || g, 10.00 + g % 500, (ARRAY['PAYPAL', 'CREDIT_CARD', 'VISA'])[1 + g % 3],
+                       'customer-' || g % ?, 'CONFIRMED', CAST(? AS timestamp) + g * INTERVAL '1 minute'
+                FROM generate_series(1, ?) g
+                """, CUSTOMERS, FIRST_ORDER, ORDERS);
+        jdbcTemplate.update("""
+                INSERT INTO customer_line (id, order_id, product_id, quantity)
+                SELECT g, 1 + (g - 1) / ?, 1 + g % 200, 1
+                FROM generate_series(1, ?) g
+                """, LINES_PER_ORDER, ORDERS * LINES_PER_ORDER);
+        jdbcTemplate.update("""
+                INSERT INTO outbox_event (id, aggregate_id, event_type, payload, created_at, published_at, attempts)
+                SELECT g, 'ORD-' || g, 'com.forsaken.ecommerce.avro.OrderConfirmation', '\\x00',
+                       CAST(? AS timestamp) + g * INTERVAL '1 minute',
+                       CASE WHEN g % 1000 = 0 THEN NULL ELSE CAST(? AS timestamp) + g * INTERVAL '1 minute' END, 0
+                FROM generate_series(1, ?) g
+                """, FIRST_ORDER, FIRST_ORDER, ORDERS);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    static void close() {
+        dataSource.close();
+    }
+
+    /**
+     * The customer history ({@code findAllByCustomerIdAndCreatedDateBetween}) must
+     * seek the {@code (customer_id, created_date)} index instead of scanning every order.
+     */
+    @Test
+    void customerHistory_ShouldUseCustomerCreatedIndex() {
+        assertUsesIndex("idx_customer_order_customer_created", """
+                SELECT o.* FROM customer_order o
+                WHERE o.customer_id = ? AND o.created_date BETWEEN ? AND ?
+                """, "customer-42", FIRST_ORDER, FIRST_ORDER.plusDays(7));
+    }
+
+    /**
+     * A query bounded to one month must only read that month's partition.
+     */
+    @Test
+    void ordersOfOneMonth_ShouldPruneOtherPartitions() {
+        // Given
+        final String explain = """
+                EXPLAIN (FORMAT JSON) SELECT o.* FROM customer_order o
+                WHERE o.created_date >= ? AND o.created_date < ?
+                """;
+
+        // When
+        final String plan = jdbcTemplate.queryForObject(
+                explain, String.class, FIRST_ORDER.plusDays(3), FIRST_ORDER.plusDays(10));
+
+        // Then
+        assertTrue(plan.contains("\"Relation Name\": \"customer_order_p202501\""),
+                () -> "Expected the plan to read customer_order_p202501 but was:\n" + plan);
+        assertFalse(plan.contains("customer_order_p202502") || plan.contains("customer_order_default"),
+                () -> "Expected the other partitions to be pruned but was:\n" + plan);
+    }
+
+    /**
+     * The order line lookup ({@code findAllByOrderId}) must use the {@code order_id} index.
+     */
+    @Test
+    void orderLines_ShouldUseOrderIdIndex() {
+        assertUsesIndex("idx_customer_line_order_id", """
+                SELECT l.* FROM customer_line l
+                WHERE l.order_id = ?
+                """, ORDERS / 2);
+    }
+
+    /**
+     * The keyset order listing ({@code findOrderSliceBefore}) must walk the
+     * {@code (created_date, id)} index backwards and stop after one slice.
+     */
+    @Test
+    void orderSlice_ShouldUseCreatedDateIdIndex() {
+        final LocalDateTime afterDate = FIRST_ORDER.plusDays(20);
+        assertUsesIndex("idx_customer_order_created_date_id", """
+                SELECT o.* FROM customer_order o
+                WHERE o.created_date BETWEEN ? AND ?
+                  AND (o.created_date < ? OR (o.created_date = ? AND o.id < ?))
+                ORDER BY o.created_date DESC, o.id DESC
+                LIMIT 21
+                """, FIRST_ORDER, FIRST_ORDER.plusDays(60), afterDate, afterDate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * The outbox relay's pending batch ({@code findPendingBatch}) must read only the
+     * unpublished events through the {@code (published_at, id)} index.
+     */
+    @Test
+    void outboxPendingBatch_ShouldUsePendingIndex() {
+        assertUsesIndex("idx_outbox_event_pending", """
+                SELECT * FROM outbox_event
+                WHERE published_at IS NULL AND failed_at IS NULL AND NOT held
+                ORDER BY id
+                LIMIT ?
+                """, 500);
+    }
+
+    /**
+     * Asserts that the plan of {@code sql}, bound to {@code args}, reads through
+     * {@code index} or, on a partitioned table, through one of its partition indexes.
+     *
+     * @param index name of the index the plan must use
+     * @param sql   the query to explain
+     * @param args  bind values of the query
+     */
+    private void assertUsesIndex(final String index, final String sql, final Object... args) {
+        // Given
+        final String explain = "EXPLAIN (FORMAT JSON) " + sql;
+        final List<String> indexes = new ArrayList<>(jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?)
+                """, String.class, index));
+        indexes.add(index);
+
+        // When
+        final String plan = jdbcTemplate.queryForObject(explain, String.class, args);
+
+        // Then
+        assertTrue(indexes.stream().anyMatch(name -> plan.contains("\"Index Name\": \"" + name + "\"")),
+                () -> "Expected the plan to use " + index + " but was:\n" + plan);
+    }
+}
@@ -0,0 +1,129 @@
+package com.forsaken.ecommerce.order.order.repository;
+
+import com.forsaken.ecommerce.common.partition.MonthlyPartitionManager;
+import com.forsaken.ecommerce.common.partition.PartitionProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the guarantees the order schema keeps although {@code customer_order} is
+ * partitioned: references are unique, lines belong to an existing order, and lines
+ * leave the live table together with the partition of their order.
+ *
+ * <p>A throwaway PostgreSQL instance is started with Testcontainers; the class is
+ * skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class OrderReferenceConstraintTest {
+
+    private static final YearMonth OLD_MONTH = YearMonth.of(2024, 1);
+    private static final YearMonth NEW_MONTH = YearMonth.of(2024, 2);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    static void migrate() {
+        final HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(POSTGRES.getJdbcUrl());
+        config.setUsername(POSTGRES.getUsername());
+        config.setPassword(POSTGRES.getPassword());
+        dataSource = new HikariDataSource(config);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new JdbcTransactionManager(dataSource));
+        partitionManager(null).createPartitions("customer_order", OLD_MONTH, NEW_MONTH);
+    }
+
+    @AfterAll
+    static void close() {
+        dataSource.close();
+    }
+
+    @Test
+    void insertOrder_WithTakenReference_ShouldBeRejected() {
+        // Given
+        insertOrder(100, "ORD-DUPLICATE", OLD_MONTH);
+
+        // When / Then: the same reference in another month, i.e. another partition.
+        assertThrows(DataIntegrityViolationException.class, () -> insertOrder(101, "ORD-DUPLICATE", NEW_MONTH));
+        assertEquals(1, count("SELECT count(*) FROM customer_order WHERE reference = 'ORD-DUPLICATE'"));
+    }
+
+    @Test
+    void insertLine_OfMissingOrder_ShouldBeRejected() {
+        // The foreign key is deferred, so the violation surfaces at commit.
+        assertThrows(DataIntegrityViolationException.class, () -> transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO customer_line (id, order_id, product_id, quantity) VALUES (200, 999, 1, 1)")));
+    }
+
+    @Test
+    void detachPartitions_ShouldArchiveLinesOfDetachedOrders() {
+        // Given
+        insertOrder(300, "ORD-ARCHIVED", OLD_MONTH);
+        insertOrder(301, "ORD-LIVE", NEW_MONTH);
+        jdbcTemplate.update("INSERT INTO customer_line (id, order_id, product_id, quantity) VALUES (300, 300, 1, 1), (301, 301, 1, 1)");
+
+        // When
+        final int detached = transactionTemplate.execute(status ->
+                partitionManager("order_archive").detachPartitionsBefore("customer_order", NEW_MONTH));
+
+        // Then
+        assertEquals(1, detached);
+        assertEquals(List.of(301), jdbcTemplate.queryForList("SELECT order_id FROM customer_line", Integer.class));
+        assertEquals(1, count("SELECT count(*) FROM order_archive.customer_line_p202401 WHERE order_id = 300"));
+        assertEquals(1, count("SELECT count(*) FROM order_archive.customer_order_p202401 WHERE id = 300"));
+        // The reference of an archived order stays taken.
+        assertEquals(1, count("SELECT count(*) FROM order_reference WHERE reference = 'ORD-ARCHIVED'"));
+    }
+
+    private static MonthlyPartitionManager partitionManager(final String archiveSchema) {
+        return new MonthlyPartitionManager(
+                jdbcTemplate,
+                transactionTemplate,
+                new PartitionProperties(3, 1, archiveSchema, 3600000L),
+                new SimpleMeterRegistry(),
+                List.of("customer_order"),
+                List.of(new MonthlyPartitionManager.DependentTable("customer_order", "customer_line", "order_id"))
+        );
+    }
+
+    private static void insertOrder(final int id, final String reference, final YearMonth month) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update("""
+                INSERT INTO customer_order (id, reference, total_amount, payment_method, customer_id, status, created_date)
+                VALUES (?, ?, 10.00, 'VISA', 'customer-1', 'CONFIRMED', ?)
+                """, id, reference, LocalDateTime.of(month.getYear(), month.getMonth(), 15, 12, 0)));
+    }
+
+    private static int count(final String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
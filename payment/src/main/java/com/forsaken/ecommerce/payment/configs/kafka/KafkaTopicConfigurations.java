@@ -1,5 +1,6 @@
 package com.forsaken.ecommerce.payment.configs.kafka;
 
+import com.forsaken.ecommerce.payment.configs.saga.SagaProperties;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.NewTopic;
@@ -17,6 +18,7 @@ import java.util.Map;
 public class KafkaTopicConfigurations {
 
     private final KafkaProperties kafkaProperties;
+    private final SagaProperties sagaProperties;
 
     @Bean
     public KafkaAdmin kafkaAdmin() {
@@ -45,6 +47,16 @@ public class KafkaTopicConfigurations {
                 .build();
     }
 
+    @Bean
+    public NewTopic paymentFailedTopic() {
+        return TopicBuilder
+                .name(sagaProperties.paymentFailedTopic())
+                .partitions(kafkaProperties.partitions())
+                .replicas(kafkaProperties.replicationFactor())
+                .configs(constructTopicConfigsMap())
+                .build();
+    }
+
     private Map<String, String> constructTopicConfigsMap() {
         return Map.ofEntries(
                 new AbstractMap.SimpleEntry<>
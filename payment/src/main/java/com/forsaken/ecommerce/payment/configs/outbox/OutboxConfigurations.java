@@ -0,0 +1,65 @@
+package com.forsaken.ecommerce.payment.configs.outbox;
+
+import com.forsaken.ecommerce.avro.PaymentConfirmation;
+import com.forsaken.ecommerce.avro.PaymentFailed;
+import com.forsaken.ecommerce.common.outbox.IOutboxRepository;
+import com.forsaken.ecommerce.common.outbox.IOutboxService;
+import com.forsaken.ecommerce.common.outbox.OutboxEvent;
+import com.forsaken.ecommerce.common.outbox.OutboxProperties;
+import com.forsaken.ecommerce.common.outbox.OutboxRelay;
+import com.forsaken.ecommerce.common.outbox.OutboxServiceImpl;
+import com.forsaken.ecommerce.payment.service.INotificationProducerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Wires the shared outbox to the notification producer and enables the scheduled relay and purge.
+ *
+ * <p>{@link OutboxEvent} and its repository live in {@code common}, so their package is
+ * added to the ones scanned for entities and repositories.</p>
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProperties.class)
+@AutoConfigurationPackage(basePackageClasses = OutboxEvent.class)
+public class OutboxConfigurations {
+
+    /** Advisory lock key of the payment database's relay; any constant unique within that database. */
+    private static final long RELAY_LOCK_KEY = 7_002_001L;
+
+    @Bean
+    public IOutboxService outboxService(final IOutboxRepository outboxRepository) {
+        return new OutboxServiceImpl(outboxRepository);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(
+            final IOutboxRepository outboxRepository,
+            final INotificationProducerService notificationProducer,
+            final TransactionTemplate transactionTemplate,
+            final OutboxProperties outboxProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        return new OutboxRelay(
+                outboxRepository,
+                event -> {
+                    if (event instanceof PaymentConfirmation paymentConfirmation) {
+                        return notificationProducer.sendNotification(paymentConfirmation);
+                    }
+                    if (event instanceof PaymentFailed paymentFailed) {
+                        return notificationProducer.sendPaymentFailed(paymentFailed);
+                    }
+                    return null;
+                },
+                RELAY_LOCK_KEY,
+                transactionTemplate,
+                outboxProperties,
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.forsaken.ecommerce.payment.configs.partition;
+
+import com.forsaken.ecommerce.common.partition.MonthlyPartitionManager;
+import com.forsaken.ecommerce.common.partition.PartitionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Schedules the maintenance of the monthly partitions of {@code payment}.
+ */
+@Configuration
+@EnableConfigurationProperties(PartitionProperties.class)
+public class PartitionConfigurations {
+
+    @Bean
+    public MonthlyPartitionManager monthlyPartitionManager(
+            final JdbcTemplate jdbcTemplate,
+            final TransactionTemplate transactionTemplate,
+            final PartitionProperties partitionProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        return new MonthlyPartitionManager(
+                jdbcTemplate,
+                transactionTemplate,
+                partitionProperties,
+                meterRegistry,
+                List.of("payment")
+        );
+    }
+}
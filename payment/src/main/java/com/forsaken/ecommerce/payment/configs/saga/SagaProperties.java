@@ -0,0 +1,44 @@
+package com.forsaken.ecommerce.payment.configs.saga;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the payment step of the event-driven checkout.
+ *
+ * @param orderCreatedTopic  topic order-service publishes {@code OrderCreated} events to
+ * @param paymentFailedTopic topic the {@code PaymentFailed} events are published to
+ * @param groupId            consumer group of the {@code OrderCreated} listener
+ * @param concurrency        listener threads
+ * @param retryBackOffMs     pause between redeliveries of an event whose handling failed
+ * @param maxRetries         redeliveries before the payment is refused with {@code PaymentFailed}
+ */
+@Validated
+@ConfigurationProperties(prefix = "saga")
+public record SagaProperties(
+
+        @NotBlank
+        String orderCreatedTopic,
+
+        @NotBlank
+        String paymentFailedTopic,
+
+        @NotBlank
+        String groupId,
+
+        @Min(1)
+        @Max(64)
+        int concurrency,
+
+        @Min(100)
+        @Max(60000)
+        long retryBackOffMs,
+
+        @Min(0)
+        @Max(100)
+        long maxRetries
+) {
+}
@@ -2,12 +2,14 @@ package com.forsaken.ecommerce.payment.controller;
 
 
 import com.forsaken.ecommerce.common.responses.ApiResponse;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
 import com.forsaken.ecommerce.common.responses.PagedResponse;
 import com.forsaken.ecommerce.payment.dto.PaymentRequest;
 import com.forsaken.ecommerce.payment.dto.PaymentSummaryDto;
 import com.forsaken.ecommerce.payment.model.Payment;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 
@@ -111,4 +114,53 @@ public interface IPaymentController {
             @RequestParam(name = "page", defaultValue = "1") final int page,
             @RequestParam(name = "size", defaultValue = "3") final int size
     );
+
+    /**
+     * Retrieves payments filtered by an optional date-time range using keyset
+     * (cursor) pagination, newest first.
+     *
+     * <p>Pass the {@code nextCursor} of a response to get the following slice. No
+     * total count is computed, so deep slices cost the same as the first one.</p>
+     *
+     * @param fromDate optional start of the date-time filter (ISO-8601 format);
+     *                 if null, no lower bound is applied
+     * @param toDate   optional end of the date-time filter (ISO-8601 format);
+     *                 if null, payments up to now are included
+     * @param cursor   continuation token of the previous slice; omit for the first slice
+     * @param size     number of records per slice, at most 100; defaults to 3
+     * @return {@link ApiResponse} wrapping a {@link CursorPagedResponse} containing
+     *         {@link Payment} entities and the cursor of the next slice; a malformed
+     *         cursor is answered with 400 (Bad Request)
+     */
+    @GetMapping("/allPayments/scroll")
+    ResponseEntity<ApiResponse<CursorPagedResponse<Payment>>> getAllPaymentsByCursor(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime fromDate,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime toDate,
+
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "size", defaultValue = "3") final int size
+    );
+
+    /**
+     * Streams every payment within an optional date range as newline-delimited JSON.
+     *
+     * <p>Rows are written to the response while they are read from the database,
+     * so whole-month exports run in constant memory. The response is not wrapped in
+     * {@link ApiResponse}; each line is a standalone {@link Payment} object, oldest first.</p>
+     *
+     * @param fromDate optional lower bound (inclusive) of the payment creation timestamp
+     * @param toDate   optional upper bound (inclusive) of the payment creation timestamp
+     * @return a {@link ResponseEntity} streaming {@code application/x-ndjson}
+     */
+    @GetMapping(value = "/allPayments/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> exportPayments(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime fromDate,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime toDate
+    );
 }
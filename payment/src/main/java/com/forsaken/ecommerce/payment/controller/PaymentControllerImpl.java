@@ -1,15 +1,19 @@
 package com.forsaken.ecommerce.payment.controller;
 
 import com.forsaken.ecommerce.common.responses.ApiResponse;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
 import com.forsaken.ecommerce.common.responses.PagedResponse;
 import com.forsaken.ecommerce.payment.dto.PaymentRequest;
 import com.forsaken.ecommerce.payment.dto.PaymentSummaryDto;
 import com.forsaken.ecommerce.payment.model.Payment;
+import com.forsaken.ecommerce.payment.service.IPaymentExportService;
 import com.forsaken.ecommerce.payment.service.IPaymentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 
@@ -18,6 +22,7 @@ import java.time.LocalDateTime;
 public class PaymentControllerImpl implements IPaymentController {
 
     private final IPaymentService paymentService;
+    private final IPaymentExportService paymentExportService;
 
     @Override
     public ResponseEntity<ApiResponse<Integer>> createPayment(
@@ -66,4 +71,31 @@ public class PaymentControllerImpl implements IPaymentController {
                                 .build()
                 );
     }
+
+    @Override
+    public ResponseEntity<ApiResponse<CursorPagedResponse<Payment>>> getAllPaymentsByCursor(
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate,
+            final String cursor,
+            final int size
+    ) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(
+                        ApiResponse.<CursorPagedResponse<Payment>>builder()
+                                .status(ApiResponse.Status.SUCCESS)
+                                .data(paymentService.getAllPayments(fromDate, toDate, cursor, size))
+                                .message("Fetched Payments")
+                                .build()
+                );
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate
+    ) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> paymentExportService.exportPayments(fromDate, toDate, out));
+    }
 }
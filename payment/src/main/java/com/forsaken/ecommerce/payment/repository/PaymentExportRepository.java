@@ -0,0 +1,80 @@
+package com.forsaken.ecommerce.payment.repository;
+
+import com.forsaken.ecommerce.avro.PaymentMethod;
+import com.forsaken.ecommerce.payment.model.Payment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Repository streaming payments straight off a server-side cursor for bulk exports.
+ *
+ * <p>PgJDBC only honours the fetch size for forward-only, read-only statements run
+ * with auto-commit disabled; otherwise it buffers the whole result set in memory.
+ * The query is therefore executed inside a read-only transaction and every row is
+ * handed to the caller as soon as it is read, so heap use does not grow with the
+ * size of the export. No count query is issued.
+ */
+@Repository
+public class PaymentExportRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private static final String STREAM_PAYMENTS_SQL = """
+            SELECT p.id, p.amount, p.payment_method, p.order_id, p.created_date, p.last_modified_date
+            FROM payment p
+            WHERE p.created_date BETWEEN ? AND ?
+            ORDER BY p.created_date, p.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public PaymentExportRepository(
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Reads every payment created within the given range, oldest first.
+     *
+     * @param fromDate lower bound (inclusive) of the payment creation timestamp
+     * @param toDate   upper bound (inclusive) of the payment creation timestamp
+     * @param sink     receives each payment as it is read; exceptions it throws abort the export
+     */
+    public void streamByCreatedDateBetween(
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate,
+            final Consumer<Payment> sink
+    ) {
+        readOnlyTransaction.executeWithoutResult(status ->
+                jdbcTemplate.query(connection -> {
+                    final PreparedStatement statement = connection.prepareStatement(
+                            STREAM_PAYMENTS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(FETCH_SIZE);
+                    statement.setObject(1, fromDate);
+                    statement.setObject(2, toDate);
+                    return statement;
+                }, rs -> {
+                    final String method = rs.getString("payment_method");
+                    sink.accept(Payment.builder()
+                            .id(rs.getInt("id"))
+                            .amount(rs.getBigDecimal("amount"))
+                            .paymentMethod(method == null ? null : PaymentMethod.valueOf(method))
+                            .orderId((Integer) rs.getObject("order_id"))
+                            .createdDate(rs.getObject("created_date", LocalDateTime.class))
+                            .lastModifiedDate(rs.getObject("last_modified_date", LocalDateTime.class))
+                            .build());
+                }));
+    }
+}
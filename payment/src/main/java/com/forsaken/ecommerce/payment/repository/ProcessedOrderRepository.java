@@ -0,0 +1,37 @@
+package com.forsaken.ecommerce.payment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository recording which orders have had their {@code OrderCreated} event handled.
+ *
+ * <p>{@code payment} is partitioned by creation date and cannot enforce one payment
+ * per order, so the saga claims the order in {@code processed_order} instead, in the
+ * transaction that pays or refuses it. The insert waits for a concurrent claim of the
+ * same order and does nothing once that one commits; if it rolls back, the order can
+ * be claimed again.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedOrderRepository {
+
+    private static final String CLAIM_ORDER_SQL = """
+            INSERT INTO processed_order (order_id) VALUES (?)
+            ON CONFLICT (order_id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Claims an order for the current transaction.
+     *
+     * @param orderId the order identifier
+     * @return {@code true} if the order was claimed, {@code false} if it has already
+     * been paid or refused
+     */
+    public boolean claim(final Integer orderId) {
+        return jdbcTemplate.update(CLAIM_ORDER_SQL, orderId) > 0;
+    }
+}
@@ -0,0 +1,37 @@
+package com.forsaken.ecommerce.payment.rollup;
+
+import com.forsaken.ecommerce.payment.dto.PaymentSummaryDto;
+import com.forsaken.ecommerce.payment.model.Payment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Maintains and reads the hourly and daily payment rollups behind the payment summary.
+ */
+public interface IPaymentRollupService {
+
+    /**
+     * Adds {@code payment} to the hour and day buckets of its payment method.
+     *
+     * <p>Runs in the caller's transaction, so the rollups commit or roll back together
+     * with the payment itself.</p>
+     *
+     * @param payment a persisted payment, with its {@code createdDate} set
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active
+     */
+    void record(final Payment payment);
+
+    /**
+     * Totals the payments created within the given range, per payment method.
+     *
+     * <p>Whole days and hours are read from the rollups; only the partial hours at either
+     * edge of the range are aggregated from raw payments, so the cost does not grow with
+     * the width of the range.</p>
+     *
+     * @param fromDate optional lower bound (inclusive); {@code null} for no lower bound
+     * @param toDate   optional upper bound (inclusive, to the microsecond); {@code null} for now
+     * @return one summary per payment method with payments in the range, ordered by method name
+     */
+    List<PaymentSummaryDto> summarize(final LocalDateTime fromDate, final LocalDateTime toDate);
+}
@@ -0,0 +1,92 @@
+package com.forsaken.ecommerce.payment.rollup;
+
+import com.forsaken.ecommerce.avro.PaymentMethod;
+import com.forsaken.ecommerce.payment.dto.PaymentSummaryDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Repository of the {@code payment_rollup} table: per payment method count and sum of
+ * the payments created in each hour and each day.
+ *
+ * <p>Every range below is half-open, {@code [from, to)}. Bucket ranges are read through
+ * the primary key {@code (granularity, bucket_start, payment_method)}; raw payment
+ * ranges through {@code idx_payment_created_date_id}.</p>
+ */
+@Repository
+public class PaymentRollupRepository {
+
+    private static final String INCREMENT_SQL = """
+            INSERT INTO payment_rollup (granularity, bucket_start, payment_method, payment_count, total_amount)
+            VALUES (?, ?, ?, 1, ?)
+            ON CONFLICT (granularity, bucket_start, payment_method)
+            DO UPDATE SET payment_count = payment_rollup.payment_count + 1,
+                          total_amount  = payment_rollup.total_amount + EXCLUDED.total_amount
+            """;
+
+    private static final String SUM_BUCKETS_SQL = """
+            SELECT r.payment_method, SUM(r.payment_count) AS payment_count, SUM(r.total_amount) AS total_amount
+            FROM payment_rollup r
+            WHERE r.granularity = ? AND r.bucket_start >= ? AND r.bucket_start < ?
+            GROUP BY r.payment_method
+            """;
+
+    private static final String SUM_PAYMENTS_SQL = """
+            SELECT p.payment_method, COUNT(*) AS payment_count, COALESCE(SUM(p.amount), 0) AS total_amount
+            FROM payment p
+            WHERE p.created_date >= ? AND p.created_date < ? AND p.payment_method IS NOT NULL
+            GROUP BY p.payment_method
+            """;
+
+    private static final RowMapper<PaymentSummaryDto> SUMMARY_MAPPER = (rs, rowNum) -> new PaymentSummaryDto(
+            PaymentMethod.valueOf(rs.getString("payment_method")),
+            rs.getLong("payment_count"),
+            rs.getBigDecimal("total_amount")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PaymentRollupRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds one payment to the bucket of every granularity containing {@code createdDate},
+     * in a single round trip. Buckets are always locked in the same order, so concurrent
+     * payments queue on the bucket rows instead of deadlocking.
+     */
+    public void increment(final LocalDateTime createdDate, final PaymentMethod paymentMethod, final BigDecimal amount) {
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, Arrays.stream(RollupGranularity.values())
+                .map(granularity -> new Object[]{
+                        granularity.name(),
+                        granularity.floor(createdDate),
+                        paymentMethod.name(),
+                        amount
+                })
+                .toList());
+    }
+
+    /**
+     * @return per payment method totals of the {@code granularity} buckets starting in {@code [from, to)}
+     */
+    public List<PaymentSummaryDto> sumBuckets(
+            final RollupGranularity granularity,
+            final LocalDateTime from,
+            final LocalDateTime to
+    ) {
+        return jdbcTemplate.query(SUM_BUCKETS_SQL, SUMMARY_MAPPER, granularity.name(), from, to);
+    }
+
+    /**
+     * @return per payment method totals of the payments created in {@code [from, to)}
+     */
+    public List<PaymentSummaryDto> sumPayments(final LocalDateTime from, final LocalDateTime to) {
+        return jdbcTemplate.query(SUM_PAYMENTS_SQL, SUMMARY_MAPPER, from, to);
+    }
+}
@@ -0,0 +1,99 @@
+package com.forsaken.ecommerce.payment.rollup;
+
+import com.forsaken.ecommerce.avro.PaymentMethod;
+import com.forsaken.ecommerce.payment.dto.PaymentSummaryDto;
+import com.forsaken.ecommerce.payment.model.Payment;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.forsaken.ecommerce.payment.rollup.RollupGranularity.DAY;
+import static com.forsaken.ecommerce.payment.rollup.RollupGranularity.HOUR;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentRollupServiceImpl implements IPaymentRollupService {
+
+    private static final LocalDateTime EARLIEST_PAYMENT_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final PaymentRollupRepository rollupRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(final Payment payment) {
+        rollupRepository.increment(payment.getCreatedDate(), payment.getPaymentMethod(), payment.getAmount());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PaymentSummaryDto> summarize(final LocalDateTime fromDate, final LocalDateTime toDate) {
+        // created_date is stored to the microsecond, so an inclusive upper bound ends one microsecond later.
+        final LocalDateTime start = fromDate == null ? EARLIEST_PAYMENT_DATE : fromDate;
+        final LocalDateTime end = (toDate == null ? LocalDateTime.now() : toDate)
+                .truncatedTo(ChronoUnit.MICROS)
+                .plus(1, ChronoUnit.MICROS);
+        final Map<PaymentMethod, PaymentSummaryDto> totals = new EnumMap<>(PaymentMethod.class);
+
+        // [start, firstHour) raw | [firstHour, firstDay) hours | [firstDay, lastDay) days | [lastDay, lastHour) hours | [lastHour, end) raw
+        final LocalDateTime firstHour = HOUR.ceil(start);
+        final LocalDateTime lastHour = HOUR.floor(end);
+        if (!firstHour.isBefore(lastHour)) {
+            addPayments(totals, start, end);
+        } else {
+            addPayments(totals, start, firstHour);
+            addPayments(totals, lastHour, end);
+            final LocalDateTime firstDay = DAY.ceil(firstHour);
+            final LocalDateTime lastDay = DAY.floor(lastHour);
+            if (!firstDay.isBefore(lastDay)) {
+                addBuckets(totals, HOUR, firstHour, lastHour);
+            } else {
+                addBuckets(totals, HOUR, firstHour, firstDay);
+                addBuckets(totals, DAY, firstDay, lastDay);
+                addBuckets(totals, HOUR, lastDay, lastHour);
+            }
+        }
+        log.debug("Summarized payments from {} to {} over {} payment methods", start, end, totals.size());
+        return totals.values().stream()
+                .sorted(Comparator.comparing(summary -> summary.paymentMethod().name()))
+                .toList();
+    }
+
+    private void addBuckets(
+            final Map<PaymentMethod, PaymentSummaryDto> totals,
+            final RollupGranularity granularity,
+            final LocalDateTime from,
+            final LocalDateTime to
+    ) {
+        if (from.isBefore(to)) {
+            rollupRepository.sumBuckets(granularity, from, to).forEach(summary -> add(totals, summary));
+        }
+    }
+
+    private void addPayments(
+            final Map<PaymentMethod, PaymentSummaryDto> totals,
+            final LocalDateTime from,
+            final LocalDateTime to
+    ) {
+        if (from.isBefore(to)) {
+            rollupRepository.sumPayments(from, to).forEach(summary -> add(totals, summary));
+        }
+    }
+
+    private static void add(final Map<PaymentMethod, PaymentSummaryDto> totals, final PaymentSummaryDto summary) {
+        totals.merge(summary.paymentMethod(), summary, (left, right) -> new PaymentSummaryDto(
+                left.paymentMethod(),
+                left.count() + right.count(),
+                left.totalAmount().add(right.totalAmount())
+        ));
+    }
+}
@@ -0,0 +1,35 @@
+package com.forsaken.ecommerce.payment.rollup;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Width of a {@code payment_rollup} bucket. A bucket starts on a whole unit and
+ * covers {@code [bucket_start, bucket_start + 1 unit)}.
+ */
+public enum RollupGranularity {
+
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(final ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * @return the start of the bucket containing {@code dateTime}
+     */
+    public LocalDateTime floor(final LocalDateTime dateTime) {
+        return dateTime.truncatedTo(unit);
+    }
+
+    /**
+     * @return {@code dateTime} if it starts a bucket, otherwise the start of the next bucket
+     */
+    public LocalDateTime ceil(final LocalDateTime dateTime) {
+        final LocalDateTime floor = floor(dateTime);
+        return floor.equals(dateTime) ? floor : floor.plus(1, unit);
+    }
+}
@@ -0,0 +1,37 @@
+package com.forsaken.ecommerce.payment.saga;
+
+import com.forsaken.ecommerce.avro.OrderCreated;
+
+/**
+ * Payment step of the event-driven checkout.
+ *
+ * <p>Each order ends with exactly one outcome written to the outbox together with
+ * the payment state: a {@code PaymentConfirmation} when the payment is recorded,
+ * or a {@code PaymentFailed} when it is refused. The order is claimed in the same
+ * transaction, so redelivered or concurrent events for an order that is already
+ * paid or refused are ignored.</p>
+ */
+public interface IPaymentSagaService {
+
+    /**
+     * Records the payment of a newly created order.
+     *
+     * <p>An order that can never be paid as requested (unknown payment method,
+     * invalid amount or customer) is refused with {@code PaymentFailed}. Any other
+     * failure propagates so that the event is redelivered.</p>
+     *
+     * @param event the order awaiting payment
+     */
+    void handleOrderCreated(final OrderCreated event);
+
+    /**
+     * Refuses the payment of an order, unless it has been paid or refused in the meantime.
+     *
+     * <p>Used once redelivery of the order's {@code OrderCreated} event is exhausted,
+     * so the order is compensated instead of waiting forever.</p>
+     *
+     * @param event  the order that could not be paid
+     * @param reason why the payment was refused
+     */
+    void rejectPayment(final OrderCreated event, final String reason);
+}
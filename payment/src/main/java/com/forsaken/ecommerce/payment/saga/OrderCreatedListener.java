@@ -0,0 +1,32 @@
+package com.forsaken.ecommerce.payment.saga;
+
+import com.forsaken.ecommerce.avro.OrderCreated;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Charges orders published by order-service in saga mode.
+ *
+ * <p>Failures are redelivered by the container's error handler and, once retries
+ * are exhausted, the order is refused; see {@code KafkaConsumerConfigurations}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderCreatedListener {
+
+    private final IPaymentSagaService paymentSagaService;
+
+    @KafkaListener(
+            topics = "${saga.orderCreatedTopic}",
+            groupId = "${saga.groupId}",
+            containerFactory = "sagaKafkaListenerContainerFactory"
+    )
+    public void onOrderCreated(final ConsumerRecord<String, OrderCreated> record) {
+        log.debug("Received order created at offset {}", record.offset());
+        paymentSagaService.handleOrderCreated(record.value());
+    }
+}
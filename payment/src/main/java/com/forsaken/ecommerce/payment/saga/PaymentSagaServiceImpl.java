@@ -0,0 +1,103 @@
+package com.forsaken.ecommerce.payment.saga;
+
+import com.forsaken.ecommerce.avro.OrderCreated;
+import com.forsaken.ecommerce.avro.PaymentFailed;
+import com.forsaken.ecommerce.avro.PaymentMethod;
+import com.forsaken.ecommerce.common.outbox.IOutboxService;
+import com.forsaken.ecommerce.common.serialization.AvroDecimals;
+import com.forsaken.ecommerce.payment.dto.Customer;
+import com.forsaken.ecommerce.payment.dto.PaymentRequest;
+import com.forsaken.ecommerce.payment.repository.ProcessedOrderRepository;
+import com.forsaken.ecommerce.payment.service.IPaymentService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentSagaServiceImpl implements IPaymentSagaService {
+
+    private final ProcessedOrderRepository processedOrderRepository;
+    private final IPaymentService paymentService;
+    private final IOutboxService outboxService;
+    private final Validator validator;
+
+    @Override
+    @Transactional
+    public void handleOrderCreated(final OrderCreated event) {
+        if (!processedOrderRepository.claim(event.getOrderId())) {
+            log.info("Order {} is already paid or refused, ignoring redelivered event", event.getOrderReference());
+            return;
+        }
+        final PaymentMethod paymentMethod;
+        try {
+            paymentMethod = PaymentMethod.valueOf(event.getPaymentMethod());
+        } catch (IllegalArgumentException e) {
+            appendFailure(event, "Unsupported payment method " + event.getPaymentMethod());
+            return;
+        }
+        final PaymentRequest request = toPaymentRequest(event, paymentMethod);
+        final Set<ConstraintViolation<PaymentRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            appendFailure(event, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return;
+        }
+        // Joins this transaction, so the payment, its confirmation and the claim on the order commit together.
+        paymentService.createPayment(request);
+    }
+
+    @Override
+    @Transactional
+    public void rejectPayment(final OrderCreated event, final String reason) {
+        if (!processedOrderRepository.claim(event.getOrderId())) {
+            log.info("Order {} was paid or refused after all, not refusing it", event.getOrderReference());
+            return;
+        }
+        appendFailure(event, reason);
+    }
+
+    private void appendFailure(final OrderCreated event, final String reason) {
+        log.warn("Refusing payment of order {}: {}", event.getOrderReference(), reason);
+        outboxService.append(
+                event.getOrderReference(),
+                PaymentFailed.newBuilder()
+                        .setOrderReference(event.getOrderReference())
+                        .setOrderId(event.getOrderId())
+                        .setReason(reason)
+                        .setFailedAt(Instant.now())
+                        .setTraceId(event.getTraceId())
+                        .build()
+        );
+    }
+
+    private PaymentRequest toPaymentRequest(final OrderCreated event, final PaymentMethod paymentMethod) {
+        return PaymentRequest.builder()
+                .amount(toBigDecimal(event))
+                .paymentMethod(paymentMethod)
+                .orderId(event.getOrderId())
+                .orderReference(event.getOrderReference())
+                .customer(Customer.builder()
+                        .id(event.getCustomerId())
+                        .firstname(event.getCustomerFirstname())
+                        .lastname(event.getCustomerLastname())
+                        .email(event.getCustomerEmail())
+                        .build())
+                .build();
+    }
+
+    private BigDecimal toBigDecimal(final OrderCreated event) {
+        return AvroDecimals.fromBytes(event.getTotalAmount());
+    }
+}
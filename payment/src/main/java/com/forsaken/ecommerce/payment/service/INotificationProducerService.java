@@ -1,8 +1,13 @@
 package com.forsaken.ecommerce.payment.service;
 
 import com.forsaken.ecommerce.avro.PaymentConfirmation;
+import com.forsaken.ecommerce.avro.PaymentFailed;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.messaging.MessagingException;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Service interface responsible for publishing payment-related notifications
  * to the messaging infrastructure (e.g., Kafka).
@@ -25,14 +30,26 @@ public interface INotificationProducerService {
      * to a configured Kafka topic.
      *
      * <p>This method is responsible for serializing and dispatching the given
-     * {@link PaymentConfirmation} message to the messaging infrastructure. It does
-     * not return a result, but failures during publishing may trigger exceptions
-     * depending on the Kafka producer configuration (e.g., synchronous vs asynchronous
-     * send, retries, or error handlers).</p>
+     * {@link PaymentConfirmation} message to the messaging infrastructure. The send is
+     * asynchronous; broker acknowledgement or failure is reported through the
+     * returned future, which the outbox relay waits on before marking the event sent.
+     * The record is keyed by the order reference.</p>
      *
      * @param request the payment confirmation payload to be published; must not be null
+     * @return a future completed with the send result once the broker acknowledges the record
      * @throws IllegalArgumentException if the request is null
      * @throws MessagingException       if the message cannot be published to Kafka
      */
-    void sendNotification(final PaymentConfirmation request);
+    CompletableFuture<SendResult<String, SpecificRecord>> sendNotification(final PaymentConfirmation request);
+
+    /**
+     * Tells order-service that an order could not be paid, so it can release the
+     * order's stock and cancel it.
+     *
+     * <p>The record is keyed by the order reference, like the order's other events.</p>
+     *
+     * @param paymentFailed the failure event to publish; must not be null
+     * @return a future completed with the send result once the broker acknowledges the record
+     */
+    CompletableFuture<SendResult<String, SpecificRecord>> sendPaymentFailed(final PaymentFailed paymentFailed);
 }
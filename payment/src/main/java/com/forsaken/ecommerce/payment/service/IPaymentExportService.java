@@ -0,0 +1,29 @@
+package com.forsaken.ecommerce.payment.service;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Service contract for bulk payment exports.
+ *
+ * <p>Exports are written as newline-delimited JSON (NDJSON): one payment object
+ * per line, flushed while the rows are still being read from the database, so
+ * arbitrarily large ranges can be exported without materialising them.</p>
+ */
+public interface IPaymentExportService {
+
+    /**
+     * Writes every payment created within the given range to {@code out}, oldest first.
+     *
+     * @param fromDate optional lower bound (inclusive) of the payment creation timestamp
+     * @param toDate   optional upper bound (inclusive) of the payment creation timestamp;
+     *                 defaults to now
+     * @param out      the stream to write the NDJSON lines to; not closed by this method
+     * @throws java.io.UncheckedIOException if writing to {@code out} fails, e.g. the client disconnected
+     */
+    void exportPayments(
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate,
+            final OutputStream out
+    );
+}
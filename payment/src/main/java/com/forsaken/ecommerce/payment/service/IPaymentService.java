@@ -1,5 +1,6 @@
 package com.forsaken.ecommerce.payment.service;
 
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
 import com.forsaken.ecommerce.common.responses.PagedResponse;
 import com.forsaken.ecommerce.payment.dto.PaymentRequest;
 import com.forsaken.ecommerce.payment.dto.PaymentSummaryDto;
@@ -37,6 +38,9 @@ public interface IPaymentService {
      * Retrieves a paginated summary of payments grouped by payment method
      * for the given date range.
      *
+     * <p>Totals are read from the hourly and daily payment rollups, with only the
+     * partial hours at the edges of the range aggregated from raw payments.</p>
+     *
      * @param fromDate optional lower bound (inclusive) of the payment creation date/time filter
      * @param toDate   optional upper bound (inclusive) of the payment creation date/time filter
      * @param page     zero-based page index
@@ -77,4 +81,28 @@ public interface IPaymentService {
             final int page,
             final int size
     );
+
+    /**
+     * Retrieves payments newest first using keyset (cursor) pagination.
+     *
+     * <p>Each slice seeks on {@code (createdDate, id)} from the position encoded in
+     * {@code cursor}; no total count is computed, so the latency of a slice does
+     * not depend on how deep the client has scrolled.</p>
+     *
+     * @param fromDate optional lower bound (inclusive) of the payment creation timestamp
+     * @param toDate   optional upper bound (inclusive) of the payment creation timestamp;
+     *                 defaults to now
+     * @param cursor   continuation token of the previous slice, or {@code null} for the first one
+     * @param size     the number of records per slice; values below 1 fall back to 5
+     *                 and values above 100 are capped
+     * @return a {@link CursorPagedResponse} with the payments and the next continuation token
+     * @throws org.springframework.web.server.ResponseStatusException with status 400 if the
+     *                                                              cursor is malformed
+     */
+    CursorPagedResponse<Payment> getAllPayments(
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate,
+            final String cursor,
+            final int size
+    );
 }
@@ -2,15 +2,17 @@ package com.forsaken.ecommerce.payment.service;
 
 
 import com.forsaken.ecommerce.avro.PaymentConfirmation;
+import com.forsaken.ecommerce.avro.PaymentFailed;
+import com.forsaken.ecommerce.common.kafka.KeyedEventPublisher;
 import com.forsaken.ecommerce.payment.configs.kafka.KafkaProperties;
+import com.forsaken.ecommerce.payment.configs.saga.SagaProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.messaging.Message;
-import org.springframework.messaging.support.MessageBuilder;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
-import static org.springframework.kafka.support.KafkaHeaders.TOPIC;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -18,15 +20,22 @@ import static org.springframework.kafka.support.KafkaHeaders.TOPIC;
 public class NotificationProducerServiceImpl implements INotificationProducerService {
 
     private final KafkaProperties kafkaProperties;
-    private final KafkaTemplate<String, PaymentConfirmation> kafkaTemplate;
+    private final SagaProperties sagaProperties;
+    private final KeyedEventPublisher eventPublisher;
 
     @Override
-    public void sendNotification(final PaymentConfirmation request) {
+    public CompletableFuture<SendResult<String, SpecificRecord>> sendNotification(final PaymentConfirmation request) {
         log.info("Sending notification with body = < {} >", request);
-        final Message<PaymentConfirmation> message = MessageBuilder
-                .withPayload(request)
-                .setHeader(TOPIC, kafkaProperties.topicName())
-                .build();
-        kafkaTemplate.send(message);
+        return eventPublisher.publish(kafkaProperties.topicName(), request.getOrderReference(), request);
+    }
+
+    @Override
+    public CompletableFuture<SendResult<String, SpecificRecord>> sendPaymentFailed(final PaymentFailed paymentFailed) {
+        log.info("Sending payment failure for order {}", paymentFailed.getOrderReference());
+        return eventPublisher.publish(
+                sagaProperties.paymentFailedTopic(),
+                paymentFailed.getOrderReference(),
+                paymentFailed
+        );
     }
 }
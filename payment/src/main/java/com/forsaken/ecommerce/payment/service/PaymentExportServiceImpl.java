@@ -0,0 +1,55 @@
+package com.forsaken.ecommerce.payment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.forsaken.ecommerce.payment.model.Payment;
+import com.forsaken.ecommerce.payment.repository.PaymentExportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class PaymentExportServiceImpl implements IPaymentExportService {
+
+    private static final LocalDateTime EARLIEST_PAYMENT_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final PaymentExportRepository exportRepository;
+    private final ObjectWriter writer;
+
+    public PaymentExportServiceImpl(
+            final PaymentExportRepository exportRepository,
+            final ObjectMapper objectMapper
+    ) {
+        this.exportRepository = exportRepository;
+        this.writer = objectMapper.writerFor(Payment.class);
+    }
+
+    @Override
+    public void exportPayments(
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate,
+            final OutputStream out
+    ) {
+        final LocalDateTime lowerBound = fromDate == null ? EARLIEST_PAYMENT_DATE : fromDate;
+        final LocalDateTime upperBound = toDate == null ? LocalDateTime.now() : toDate;
+        log.info("Exporting Payments: from={}, to={}", lowerBound, upperBound);
+
+        final AtomicLong exported = new AtomicLong();
+        exportRepository.streamByCreatedDateBetween(lowerBound, upperBound, payment -> {
+            try {
+                out.write(writer.writeValueAsBytes(payment));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            exported.incrementAndGet();
+        });
+        log.info("Exported {} Payments: from={}, to={}", exported.get(), lowerBound, upperBound);
+    }
+}
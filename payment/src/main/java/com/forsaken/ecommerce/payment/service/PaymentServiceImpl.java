@@ -3,27 +3,30 @@ package com.forsaken.ecommerce.payment.service;
 
 import com.forsaken.ecommerce.avro.PaymentConfirmation;
 import com.forsaken.ecommerce.avro.PaymentMethod;
+import com.forsaken.ecommerce.common.outbox.IOutboxService;
+import com.forsaken.ecommerce.common.pagination.CursorCodec;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
 import com.forsaken.ecommerce.common.responses.PagedResponse;
+import com.forsaken.ecommerce.common.serialization.AvroDecimals;
 import com.forsaken.ecommerce.payment.dto.PaymentRequest;
 import com.forsaken.ecommerce.payment.dto.PaymentSummaryDto;
 import com.forsaken.ecommerce.payment.model.Payment;
 import com.forsaken.ecommerce.payment.repository.IPaymentRepository;
-import com.forsaken.ecommerce.payment.repository.PaymentSummary;
+import com.forsaken.ecommerce.payment.rollup.IPaymentRollupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.avro.Conversions;
-import org.apache.avro.LogicalTypes;
-import org.apache.avro.Schema;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
-import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 @Service
@@ -32,18 +35,26 @@ import java.util.List;
 public class PaymentServiceImpl implements IPaymentService {
 
     private final IPaymentRepository repository;
-    private final INotificationProducerService notificationProducer;
+    private final IOutboxService outboxService;
+    private final IPaymentRollupService rollupService;
+
+    private static final LocalDateTime EARLIEST_PAYMENT_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     @Override
+    @Transactional
     public Integer createPayment(final PaymentRequest request) {
         final Payment payment = this.repository.save(request.toPayment());
+        this.rollupService.record(payment);
         final LocalDateTime localDateTime = LocalDateTime.now();
         final Instant instant = localDateTime.atZone(ZoneId.of("UTC")).toInstant();
 
-        this.notificationProducer.sendNotification(
+        // Committed with the payment and published by OutboxRelay, so a slow broker never stalls this request.
+        this.outboxService.append(
+                request.orderReference(),
                 new PaymentConfirmation(
                         request.orderReference(),
-                        convertBigDecimalToBytes(request.amount()),
+                        AvroDecimals.toBytes(request.amount()),
                         PaymentMethod.valueOf(request.paymentMethod().name()),
                         request.customer().firstname(),
                         request.customer().lastname(),
@@ -65,29 +76,24 @@ public class PaymentServiceImpl implements IPaymentService {
     ) {
         final int safePage = Math.max(page - 1, 0);
         final int safeSize = size <= 0 ? 10 : size; // default size if needed
-        final Pageable pageable = PageRequest.of(safePage, safeSize);
         log.info("Get Payment Summary By Date: from={}, to={}, page={}, size={}",
                 fromDate, toDate, safePage, safeSize);
 
-        final Page<PaymentSummary> summaryPage =
-                repository.findPaymentSummaryBetween(fromDate, toDate, pageable);
-        final List<PaymentSummaryDto> content = summaryPage.getContent().stream()
-                .map(p -> new PaymentSummaryDto(
-                        p.getPaymentMethod(),
-                        p.getCount(),
-                        p.getTotalAmount()
-                ))
-                .toList();
+        // One row per payment method, so the whole summary is small enough to page in memory.
+        final List<PaymentSummaryDto> summaries = rollupService.summarize(fromDate, toDate);
+        final int fromIndex = (int) Math.min((long) safePage * safeSize, summaries.size());
+        final int toIndex = (int) Math.min((long) fromIndex + safeSize, summaries.size());
         return PagedResponse.<PaymentSummaryDto>builder()
-                .content(content)
-                .page(summaryPage.getNumber())
-                .size(summaryPage.getSize())
-                .totalElements(summaryPage.getTotalElements())
-                .totalPages(summaryPage.getTotalPages())
+                .content(summaries.subList(fromIndex, toIndex))
+                .page(safePage)
+                .size(safeSize)
+                .totalElements(summaries.size())
+                .totalPages((summaries.size() + safeSize - 1) / safeSize)
                 .build();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PagedResponse<Payment> getAllPayments(
             final LocalDateTime fromDate,
             final LocalDateTime toDate,
@@ -115,15 +121,46 @@ public class PaymentServiceImpl implements IPaymentService {
                 .build();
     }
 
-    private ByteBuffer convertBigDecimalToBytes(final BigDecimal value) {
-        if (value == null) return null;
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<Payment> getAllPayments(
+            final LocalDateTime fromDate,
+            final LocalDateTime toDate,
+            final String cursor,
+            final int size
+    ) {
+        log.info("Get All Payments By Date: from={}, to={}, cursor={}, size={}",
+                fromDate, toDate, cursor, size);
+
+        final int safeSize = size <= 0 ? 5 : Math.min(size, MAX_CURSOR_PAGE_SIZE);
+        final LocalDateTime upperBound = toDate == null ? LocalDateTime.now() : toDate;
+        final LocalDateTime lowerBound = fromDate == null ? EARLIEST_PAYMENT_DATE : fromDate;
 
-        final Schema DECIMAL_SCHEMA =
-                LogicalTypes.decimal(18, 2)
-                        .addToSchema(Schema.create(Schema.Type.BYTES));
-        final Conversions.DecimalConversion DECIMAL_CONVERSION =
-                new Conversions.DecimalConversion();
+        // The first slice starts right after (toDate, +inf), i.e. includes toDate itself.
+        LocalDateTime afterDate = upperBound;
+        Integer afterId = Integer.MAX_VALUE;
+        if (cursor != null) {
+            try {
+                final String[] position = CursorCodec.decode(cursor, 2);
+                afterDate = LocalDateTime.parse(position[0]);
+                afterId = Integer.valueOf(position[1]);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + cursor, e);
+            }
+        }
 
-        return DECIMAL_CONVERSION.toBytes(value, DECIMAL_SCHEMA, DECIMAL_SCHEMA.getLogicalType());
+        // Fetch one extra row to learn whether another slice follows.
+        final List<Payment> payments = repository.findAllByCreatedDateBetweenBefore(
+                lowerBound, upperBound, afterDate, afterId, safeSize + 1);
+        final boolean hasNext = payments.size() > safeSize;
+        final List<Payment> slice = hasNext ? payments.subList(0, safeSize) : payments;
+        final Payment last = hasNext ? slice.get(slice.size() - 1) : null;
+
+        return CursorPagedResponse.<Payment>builder()
+                .content(slice)
+                .size(safeSize)
+                .nextCursor(last == null ? null : CursorCodec.encode(last.getCreatedDate(), last.getId()))
+                .hasNext(hasNext)
+                .build();
     }
 }
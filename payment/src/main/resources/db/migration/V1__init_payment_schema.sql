@@ -0,0 +1,41 @@
+-- Schema previously created by Hibernate (ddl-auto: update). Every statement is
+-- guarded so existing databases baseline onto it unchanged.
+create table if not exists payment
+(
+    id                 integer      not null
+        primary key,
+    amount             numeric(38, 2),
+    payment_method     varchar(255),
+    order_id           integer,
+    created_date       timestamp(6) not null,
+    last_modified_date timestamp(6)
+);
+
+create table if not exists outbox_event
+(
+    id           bigint       not null
+        primary key,
+    aggregate_id varchar(255) not null,
+    event_type   varchar(255) not null,
+    payload      bytea        not null,
+    created_at   timestamp(6) not null,
+    published_at timestamp(6),
+    attempts     integer      not null,
+    last_error   varchar(1000)
+);
+
+-- Pooled sequences: Hibernate reserves 50 ids per call (allocationSize = 50).
+create sequence if not exists payment_seq increment by 50;
+create sequence if not exists outbox_event_seq increment by 50;
+
+-- Backs the paged and keyset payment listing (ORDER BY created_date DESC, id DESC).
+create index if not exists idx_payment_created_date_id
+    on payment (created_date, id);
+
+-- Backs the lookup of an order's payments.
+create index if not exists idx_payment_order_id
+    on payment (order_id);
+
+-- Backs the relay's pending batch (WHERE published_at IS NULL ORDER BY id).
+create index if not exists idx_outbox_event_pending
+    on outbox_event (published_at, id);
@@ -0,0 +1,54 @@
+-- Range-partitions payment by month of created_date so that date-bounded queries
+-- prune to the months they touch and indexes, vacuum and retention work per month
+-- instead of over the whole history. Every key of a partitioned table must contain
+-- the partition key, so the primary key becomes (id, created_date).
+alter table payment rename to payment_unpartitioned;
+
+create table payment
+(
+    id                 integer      not null,
+    amount             numeric(38, 2),
+    payment_method     varchar(255),
+    order_id           integer,
+    created_date       timestamp(6) not null,
+    last_modified_date timestamp(6),
+    constraint pk_payment primary key (id, created_date)
+) partition by range (created_date);
+
+-- Safety net for rows outside every monthly partition; stays empty as long as the
+-- partition maintenance keeps months ahead of the clock.
+create table payment_default partition of payment default;
+
+-- Monthly partitions from the oldest payment up to three months ahead; later months
+-- are created by the partition maintenance of the service.
+do
+$$
+    declare
+        month_start date := date_trunc('month', coalesce(
+                (select min(created_date) from payment_unpartitioned), now()));
+        last_month  date := date_trunc('month', now()) + interval '3 months';
+    begin
+        while month_start <= last_month
+            loop
+                execute format(
+                        'create table if not exists %I partition of payment for values from (%L) to (%L)',
+                        'payment_p' || to_char(month_start, 'YYYYMM'),
+                        month_start,
+                        (month_start + interval '1 month')::date);
+                month_start := month_start + interval '1 month';
+            end loop;
+    end
+$$;
+
+insert into payment (id, amount, payment_method, order_id, created_date, last_modified_date)
+select id, amount, payment_method, order_id, created_date, last_modified_date
+from payment_unpartitioned;
+
+drop table payment_unpartitioned;
+
+-- Indexes on the parent are created on every partition, present and future.
+create index idx_payment_created_date_id
+    on payment (created_date, id);
+
+create index idx_payment_order_id
+    on payment (order_id);
@@ -0,0 +1,25 @@
+-- Hourly and daily per payment method totals behind the payment summary. Kept up to
+-- date by the payment service in the same transaction as each new payment, so the
+-- summary no longer scans the payment history.
+create table if not exists payment_rollup
+(
+    granularity    varchar(5)     not null,
+    bucket_start   timestamp(6)   not null,
+    payment_method varchar(255)   not null,
+    payment_count  bigint         not null,
+    total_amount   numeric(38, 2) not null,
+    constraint pk_payment_rollup primary key (granularity, bucket_start, payment_method)
+);
+
+-- Backfill from the payments recorded so far.
+insert into payment_rollup (granularity, bucket_start, payment_method, payment_count, total_amount)
+select 'HOUR', date_trunc('hour', created_date), payment_method, count(*), coalesce(sum(amount), 0)
+from payment
+where payment_method is not null
+group by date_trunc('hour', created_date), payment_method
+union all
+select 'DAY', date_trunc('day', created_date), payment_method, count(*), coalesce(sum(amount), 0)
+from payment
+where payment_method is not null
+group by date_trunc('day', created_date), payment_method
+on conflict do nothing;
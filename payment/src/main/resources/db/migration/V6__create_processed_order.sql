@@ -0,0 +1,19 @@
+-- payment is partitioned by created_date (V2), so order_id cannot be unique on it.
+-- processed_order holds one row per OrderCreated event handled, whether it ended in a
+-- payment or a refusal. The row is inserted in the same transaction as that outcome,
+-- so a concurrent or redelivered event for the same order waits for it and then finds
+-- the order taken.
+create table if not exists processed_order
+(
+    order_id     integer      not null
+        constraint pk_processed_order primary key,
+    processed_at timestamp(6) not null default current_timestamp
+);
+
+-- Orders paid so far.
+insert into processed_order (order_id, processed_at)
+select order_id, min(created_date)
+from payment
+where order_id is not null
+group by order_id
+on conflict do nothing;
@@ -8,12 +8,17 @@ import com.forsaken.ecommerce.payment.dto.Customer;
 import com.forsaken.ecommerce.payment.dto.PaymentRequest;
 import com.forsaken.ecommerce.payment.dto.PaymentSummaryDto;
 import com.forsaken.ecommerce.payment.model.Payment;
+import com.forsaken.ecommerce.payment.service.IPaymentExportService;
 import com.forsaken.ecommerce.payment.service.IPaymentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -21,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -44,6 +50,7 @@ import static org.mockito.Mockito.when;
 class PaymentControllerImplTest {
 
     private IPaymentService paymentService;
+    private IPaymentExportService paymentExportService;
     private PaymentControllerImpl controller;
 
     /**
@@ -55,7 +62,8 @@ class PaymentControllerImplTest {
     @BeforeEach
     void setUp() {
         paymentService = mock(IPaymentService.class);
-        controller = new PaymentControllerImpl(paymentService);
+        paymentExportService = mock(IPaymentExportService.class);
+        controller = new PaymentControllerImpl(paymentService, paymentExportService);
     }
 
     /**
@@ -180,4 +188,43 @@ class PaymentControllerImplTest {
                 .getAllPayments(fromDate, toDate, page, size);
         verifyNoMoreInteractions(paymentService);
     }
+
+    /**
+     * Verifies that {@link PaymentControllerImpl#exportPayments(LocalDateTime, LocalDateTime)}
+     * answers with an NDJSON stream and defers the export until the body is written.
+     *
+     * <p>This test confirms:</p>
+     * <ul>
+     *     <li>HTTP 200 with {@code application/x-ndjson} is returned</li>
+     *     <li>The export service is not invoked before the response body is written</li>
+     *     <li>Writing the body delegates to the export service with the request filters</li>
+     * </ul>
+     *
+     * @throws IOException if writing the response body fails (not expected here)
+     */
+    @Test
+    void exportPayments_ReturnsNdjsonStream() throws IOException {
+        // Given
+        final LocalDateTime fromDate = LocalDateTime.of(2025, 3, 1, 0, 0);
+        final LocalDateTime toDate = LocalDateTime.of(2025, 3, 31, 23, 59);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        final ResponseEntity<StreamingResponseBody> response =
+                controller.exportPayments(fromDate, toDate);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        verify(paymentExportService, never()).exportPayments(fromDate, toDate, out);
+
+        // When
+        final StreamingResponseBody body = response.getBody();
+        assertNotNull(body);
+        body.writeTo(out);
+
+        // Then
+        verify(paymentExportService, times(1)).exportPayments(fromDate, toDate, out);
+        verifyNoMoreInteractions(paymentService);
+    }
 }
@@ -1,7 +1,6 @@
 package com.forsaken.ecommerce.payment.repository;
 
 
-import com.forsaken.ecommerce.avro.PaymentMethod;
 import com.forsaken.ecommerce.payment.model.Payment;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,7 +11,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -27,8 +25,8 @@ import static org.mockito.Mockito.when;
  *
  * <p>This test class does not interact with a real database. Instead, it ensures that
  * repository method contracts are correctly invoked and that mocked responses behave
- * as expected. These tests are valuable for validating query method signatures,
- * projection handling, and ensuring that service-layer code relying on the repository
+ * as expected. These tests are valuable for validating query method signatures
+ * and ensuring that service-layer code relying on the repository
  * will receive the expected data structures.</p>
  */
 @ExtendWith(MockitoExtension.class)
@@ -39,7 +37,6 @@ class PaymentRepositoryTest {
 
     private LocalDateTime dateOne;
     private LocalDateTime dateTwo;
-    private LocalDateTime dateThree;
 
     /**
      * Initializes commonly used date instances for test filtering scenarios.
@@ -51,65 +48,6 @@ class PaymentRepositoryTest {
     void setup() {
         dateOne = LocalDateTime.of(2025, 1, 1, 10, 0);
         dateTwo = LocalDateTime.of(2025, 1, 5, 12, 0);
-        dateThree = LocalDateTime.of(2025, 1, 10, 20, 0);
-    }
-
-    /**
-     * Verifies that the repository method {@link IPaymentRepository#findPaymentSummaryBetween}
-     * correctly returns a page of {@link PaymentSummary} projections when invoked
-     * with a valid date range and pageable request.
-     *
-     * <p>This test ensures:</p>
-     * <ul>
-     *     <li>Proper delegation to the repository method with expected arguments</li>
-     *     <li>Correct transformation and retrieval of projection-based results</li>
-     *     <li>Pagination metadata is preserved in the returned {@link Page}</li>
-     * </ul>
-     */
-    @Test
-    void testFindPaymentSummaryBetween() {
-        // Given
-        final PaymentSummary paypal = new PaymentSummary() {
-            public PaymentMethod getPaymentMethod() {
-                return PaymentMethod.PAYPAL;
-            }
-
-            public Long getCount() {
-                return 2L;
-            }
-
-            public BigDecimal getTotalAmount() {
-                return new BigDecimal("300");
-            }
-        };
-
-        final PaymentSummary card = new PaymentSummary() {
-            public PaymentMethod getPaymentMethod() {
-                return PaymentMethod.CREDIT_CARD;
-            }
-
-            public Long getCount() {
-                return 1L;
-            }
-
-            public BigDecimal getTotalAmount() {
-                return new BigDecimal("500");
-            }
-        };
-        final Page<PaymentSummary> page = new PageImpl<>(List.of(paypal, card));
-        final PageRequest request = PageRequest.of(0, 3);
-        when(paymentRepository.findPaymentSummaryBetween(
-                eq(dateOne),
-                eq(dateThree),
-                eq(request)
-        )).thenReturn(page);
-
-        // When
-        final Page<PaymentSummary> result =
-                paymentRepository.findPaymentSummaryBetween(dateOne, dateThree, request);
-
-        // Then
-        assertEquals(2, result.getTotalElements());
     }
 
     /**
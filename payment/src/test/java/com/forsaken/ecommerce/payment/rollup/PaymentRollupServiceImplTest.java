@@ -0,0 +1,167 @@
+package com.forsaken.ecommerce.payment.rollup;
+
+import com.forsaken.ecommerce.avro.PaymentMethod;
+import com.forsaken.ecommerce.payment.dto.PaymentSummaryDto;
+import com.forsaken.ecommerce.payment.model.Payment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link PaymentRollupServiceImpl}, validating how a summary range is
+ * split into raw payment edges and hourly and daily rollup buckets, and how the
+ * partial totals are combined.
+ *
+ * <p>The {@link PaymentRollupRepository} is mocked; unstubbed ranges return no rows.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentRollupServiceImplTest {
+
+    @Mock
+    private PaymentRollupRepository rollupRepository;
+
+    private PaymentRollupServiceImpl service;
+
+    /**
+     * Builds the service on top of the mocked repository.
+     */
+    @BeforeEach
+    void setup() {
+        service = new PaymentRollupServiceImpl(rollupRepository);
+    }
+
+    /**
+     * Verifies that a payment is added to the rollups with its creation time,
+     * payment method and amount.
+     */
+    @Test
+    void testRecord() {
+        // Given
+        final LocalDateTime createdDate = LocalDateTime.of(2025, 1, 1, 10, 30);
+        final Payment payment = Payment.builder()
+                .amount(new BigDecimal("150.50"))
+                .paymentMethod(PaymentMethod.PAYPAL)
+                .createdDate(createdDate)
+                .build();
+
+        // When
+        service.record(payment);
+
+        // Then
+        verify(rollupRepository).increment(createdDate, PaymentMethod.PAYPAL, new BigDecimal("150.50"));
+    }
+
+    /**
+     * Verifies that a range spanning several days reads:
+     * <ul>
+     *     <li>raw payments for the partial hours at both edges</li>
+     *     <li>hour buckets up to the first and from the last midnight</li>
+     *     <li>day buckets for the whole days in between</li>
+     * </ul>
+     * and that the totals of every part are added up per payment method.
+     */
+    @Test
+    void testSummarize_CombinesBucketsAndEdges() {
+        // Given
+        final LocalDateTime fromDate = LocalDateTime.of(2025, 1, 1, 10, 30);
+        final LocalDateTime toDate = LocalDateTime.of(2025, 1, 4, 5, 15);
+        final LocalDateTime end = toDate.plusNanos(1_000);
+        when(rollupRepository.sumPayments(fromDate, LocalDateTime.of(2025, 1, 1, 11, 0)))
+                .thenReturn(List.of(constructSummary(PaymentMethod.PAYPAL, 1, "10.00")));
+        when(rollupRepository.sumBuckets(RollupGranularity.HOUR,
+                LocalDateTime.of(2025, 1, 1, 11, 0), LocalDateTime.of(2025, 1, 2, 0, 0)))
+                .thenReturn(List.of(constructSummary(PaymentMethod.PAYPAL, 2, "20.00")));
+        when(rollupRepository.sumBuckets(RollupGranularity.DAY,
+                LocalDateTime.of(2025, 1, 2, 0, 0), LocalDateTime.of(2025, 1, 4, 0, 0)))
+                .thenReturn(List.of(
+                        constructSummary(PaymentMethod.VISA, 5, "500.00"),
+                        constructSummary(PaymentMethod.PAYPAL, 3, "30.00")
+                ));
+        when(rollupRepository.sumBuckets(RollupGranularity.HOUR,
+                LocalDateTime.of(2025, 1, 4, 0, 0), LocalDateTime.of(2025, 1, 4, 5, 0)))
+                .thenReturn(List.of());
+        when(rollupRepository.sumPayments(LocalDateTime.of(2025, 1, 4, 5, 0), end))
+                .thenReturn(List.of(constructSummary(PaymentMethod.CREDIT_CARD, 4, "40.00")));
+
+        // When
+        final List<PaymentSummaryDto> result = service.summarize(fromDate, toDate);
+
+        // Then
+        assertEquals(List.of(
+                constructSummary(PaymentMethod.CREDIT_CARD, 4, "40.00"),
+                constructSummary(PaymentMethod.PAYPAL, 6, "60.00"),
+                constructSummary(PaymentMethod.VISA, 5, "500.00")
+        ), result);
+    }
+
+    /**
+     * Verifies that a range within a single hour is answered from raw payments only.
+     */
+    @Test
+    void testSummarize_WithinOneHourReadsRawPayments() {
+        // Given
+        final LocalDateTime fromDate = LocalDateTime.of(2025, 1, 1, 10, 5);
+        final LocalDateTime toDate = LocalDateTime.of(2025, 1, 1, 10, 55);
+        when(rollupRepository.sumPayments(fromDate, toDate.plusNanos(1_000)))
+                .thenReturn(List.of(constructSummary(PaymentMethod.PAYPAL, 1, "10.00")));
+
+        // When
+        final List<PaymentSummaryDto> result = service.summarize(fromDate, toDate);
+
+        // Then
+        assertEquals(List.of(constructSummary(PaymentMethod.PAYPAL, 1, "10.00")), result);
+        verify(rollupRepository, never()).sumBuckets(any(), any(), any());
+    }
+
+    /**
+     * Verifies that a range of whole hours within one day reads hour buckets and only
+     * the trailing microsecond of the inclusive upper bound from raw payments.
+     */
+    @Test
+    void testSummarize_WholeHoursReadHourBuckets() {
+        // Given
+        final LocalDateTime fromDate = LocalDateTime.of(2025, 1, 1, 8, 0);
+        final LocalDateTime toDate = LocalDateTime.of(2025, 1, 1, 12, 0);
+        when(rollupRepository.sumBuckets(RollupGranularity.HOUR, fromDate, toDate))
+                .thenReturn(List.of(constructSummary(PaymentMethod.VISA, 7, "70.00")));
+        when(rollupRepository.sumPayments(toDate, toDate.plusNanos(1_000))).thenReturn(List.of());
+
+        // When
+        final List<PaymentSummaryDto> result = service.summarize(fromDate, toDate);
+
+        // Then
+        assertEquals(List.of(constructSummary(PaymentMethod.VISA, 7, "70.00")), result);
+        verify(rollupRepository).sumBuckets(RollupGranularity.HOUR, fromDate, toDate);
+        verify(rollupRepository).sumPayments(toDate, toDate.plusNanos(1_000));
+        verifyNoMoreInteractions(rollupRepository);
+    }
+
+    /**
+     * Helper method to construct a per payment method summary.
+     *
+     * @param paymentMethod the payment method
+     * @param count         number of payments
+     * @param totalAmount   sum of the payment amounts
+     * @return a {@link PaymentSummaryDto}
+     */
+    private PaymentSummaryDto constructSummary(
+            final PaymentMethod paymentMethod,
+            final long count,
+            final String totalAmount
+    ) {
+        return new PaymentSummaryDto(paymentMethod, count, new BigDecimal(totalAmount));
+    }
+}
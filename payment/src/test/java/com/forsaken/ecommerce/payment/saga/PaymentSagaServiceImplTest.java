@@ -0,0 +1,181 @@
+package com.forsaken.ecommerce.payment.saga;
+
+import com.forsaken.ecommerce.avro.OrderCreated;
+import com.forsaken.ecommerce.avro.PaymentFailed;
+import com.forsaken.ecommerce.avro.PaymentMethod;
+import com.forsaken.ecommerce.common.outbox.IOutboxService;
+import com.forsaken.ecommerce.payment.dto.PaymentRequest;
+import com.forsaken.ecommerce.payment.repository.ProcessedOrderRepository;
+import com.forsaken.ecommerce.payment.service.IPaymentService;
+import jakarta.validation.Validation;
+import org.apache.avro.Conversions;
+import org.apache.avro.LogicalTypes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link PaymentSagaServiceImpl}, validating that every
+ * {@link OrderCreated} event ends in exactly one outcome: a recorded payment or a
+ * {@link PaymentFailed} event in the outbox.
+ *
+ * <p>The processed order repository, payment service and outbox are mocked;
+ * requests are checked by a real Bean Validation validator so the refusal reasons
+ * match production.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentSagaServiceImplTest {
+
+    @Mock
+    private ProcessedOrderRepository processedOrderRepository;
+
+    @Mock
+    private IPaymentService paymentService;
+
+    @Mock
+    private IOutboxService outboxService;
+
+    private PaymentSagaServiceImpl service;
+
+    /**
+     * Builds the service with mocked collaborators and the default validator.
+     */
+    @BeforeEach
+    void setup() {
+        service = new PaymentSagaServiceImpl(
+                processedOrderRepository,
+                paymentService,
+                outboxService,
+                Validation.buildDefaultValidatorFactory().getValidator()
+        );
+    }
+
+    /**
+     * Verifies that a valid order is turned into a payment request carrying the
+     * decoded amount, payment method and customer of the event.
+     */
+    @Test
+    void testHandleOrderCreated_CreatesPayment() {
+        // Given
+        when(processedOrderRepository.claim(7)).thenReturn(true);
+
+        // When
+        service.handleOrderCreated(constructOrderCreated("150.50", "PAYPAL"));
+
+        // Then
+        final ArgumentCaptor<PaymentRequest> request = ArgumentCaptor.forClass(PaymentRequest.class);
+        verify(paymentService).createPayment(request.capture());
+        assertEquals(new BigDecimal("150.50"), request.getValue().amount());
+        assertEquals(PaymentMethod.PAYPAL, request.getValue().paymentMethod());
+        assertEquals(7, request.getValue().orderId());
+        assertEquals("order-123", request.getValue().orderReference());
+        assertEquals("john@doe.com", request.getValue().customer().email());
+        verify(outboxService, never()).append(any(), any());
+    }
+
+    /**
+     * Verifies that a redelivered event for an order that is already paid or
+     * refused neither pays it twice nor refuses it.
+     */
+    @Test
+    void testHandleOrderCreated_IgnoresPaidOrder() {
+        // Given
+        when(processedOrderRepository.claim(7)).thenReturn(false);
+
+        // When
+        service.handleOrderCreated(constructOrderCreated("150.50", "PAYPAL"));
+
+        // Then
+        verify(paymentService, never()).createPayment(any());
+        verify(outboxService, never()).append(any(), any());
+    }
+
+    /**
+     * Verifies that an order with an unknown payment method is refused with a
+     * {@link PaymentFailed} event keyed by the order reference.
+     */
+    @Test
+    void testHandleOrderCreated_RefusesUnknownPaymentMethod() {
+        // Given
+        when(processedOrderRepository.claim(7)).thenReturn(true);
+
+        // When
+        service.handleOrderCreated(constructOrderCreated("150.50", "CASH"));
+
+        // Then
+        final ArgumentCaptor<PaymentFailed> failure = ArgumentCaptor.forClass(PaymentFailed.class);
+        verify(outboxService).append(eq("order-123"), failure.capture());
+        assertEquals(7, failure.getValue().getOrderId());
+        assertTrue(failure.getValue().getReason().contains("CASH"));
+        verify(paymentService, never()).createPayment(any());
+    }
+
+    /**
+     * Verifies that an order failing the payment request constraints, here an
+     * amount below the minimum, is refused rather than retried.
+     */
+    @Test
+    void testHandleOrderCreated_RefusesInvalidAmount() {
+        // Given
+        when(processedOrderRepository.claim(7)).thenReturn(true);
+
+        // When
+        service.handleOrderCreated(constructOrderCreated("0.50", "PAYPAL"));
+
+        // Then
+        final ArgumentCaptor<PaymentFailed> failure = ArgumentCaptor.forClass(PaymentFailed.class);
+        verify(outboxService).append(eq("order-123"), failure.capture());
+        assertTrue(failure.getValue().getReason().startsWith("amount"));
+        verify(paymentService, never()).createPayment(any());
+    }
+
+    /**
+     * Verifies that an order is not refused once retries are exhausted if a
+     * concurrent delivery managed to pay or refuse it.
+     */
+    @Test
+    void testRejectPayment_SkipsPaidOrder() {
+        // Given
+        when(processedOrderRepository.claim(7)).thenReturn(false);
+
+        // When
+        service.rejectPayment(constructOrderCreated("150.50", "PAYPAL"), "timeout");
+
+        // Then
+        verify(outboxService, never()).append(any(), any());
+    }
+
+    /**
+     * Helper method to construct an {@link OrderCreated} event for order 7.
+     *
+     * @param amount        total amount of the order
+     * @param paymentMethod payment method name as sent by order-service
+     * @return a populated {@link OrderCreated}
+     */
+    private OrderCreated constructOrderCreated(final String amount, final String paymentMethod) {
+        final LogicalTypes.Decimal decimal = LogicalTypes.decimal(18, 2);
+        return OrderCreated.newBuilder()
+                .setOrderReference("order-123")
+                .setOrderId(7)
+                .setTotalAmount(new Conversions.DecimalConversion().toBytes(new BigDecimal(amount), null, decimal))
+                .setPaymentMethod(paymentMethod)
+                .setCustomerId("cust_123")
+                .setCustomerFirstname("John")
+                .setCustomerLastname("Doe")
+                .setCustomerEmail("john@doe.com")
+                .build();
+    }
+}
@@ -3,43 +3,39 @@ package com.forsaken.ecommerce.payment.service;
 
 
 import com.forsaken.ecommerce.avro.PaymentConfirmation;
+import com.forsaken.ecommerce.avro.PaymentFailed;
 import com.forsaken.ecommerce.avro.PaymentMethod;
+import com.forsaken.ecommerce.common.kafka.KeyedEventPublisher;
 import com.forsaken.ecommerce.payment.configs.kafka.KafkaProperties;
+import com.forsaken.ecommerce.payment.configs.saga.SagaProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.messaging.Message;
-
 import java.nio.ByteBuffer;
 import java.time.Instant;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for {@link NotificationProducerServiceImpl}, validating that
- * payment confirmation notifications are correctly published to Kafka.
+ * payment events are correctly published to Kafka.
  *
  * <p>This test class uses Mockito to isolate and verify the behavior of the
  * notification producer, ensuring that:</p>
  *
  * <ul>
  *     <li>The Kafka topic is correctly resolved from {@link KafkaProperties}</li>
- *     <li>A {@link Message} containing a {@link PaymentConfirmation} payload
- *         is constructed and sent</li>
- *     <li>Message headers (e.g., the Kafka topic) are properly populated</li>
- *     <li>No additional interactions with the Kafka template occur beyond the send</li>
+ *     <li>The event is handed to the {@link KeyedEventPublisher} unchanged</li>
+ *     <li>Every event is keyed by its order reference</li>
  * </ul>
  *
  * <p>These tests do not interact with a real Kafka broker and instead focus
- * purely on validating message construction and producer invocation logic.</p>
+ * purely on validating topic, key and payload selection.</p>
  */
 @ExtendWith(MockitoExtension.class)
 class NotificationProducerServiceImplTest {
@@ -48,7 +44,10 @@ class NotificationProducerServiceImplTest {
     private KafkaProperties kafkaProperties;
 
     @Mock
-    private KafkaTemplate<String, PaymentConfirmation> kafkaTemplate;
+    private SagaProperties sagaProperties;
+
+    @Mock
+    private KeyedEventPublisher eventPublisher;
 
     private NotificationProducerServiceImpl service;
 
@@ -56,23 +55,22 @@ class NotificationProducerServiceImplTest {
      * Initializes the service with mocked dependencies prior to each test.
      *
      * <p>The goal is to verify that {@link NotificationProducerServiceImpl}
-     * constructs and sends Kafka messages correctly, independent of external systems.</p>
+     * selects the topic and key correctly, independent of external systems.</p>
      */
     @BeforeEach
     void setup() {
-        service = new NotificationProducerServiceImpl(kafkaProperties, kafkaTemplate);
+        service = new NotificationProducerServiceImpl(kafkaProperties, sagaProperties, eventPublisher);
     }
 
     /**
      * Verifies that {@link NotificationProducerServiceImpl#sendNotification(PaymentConfirmation)}
-     * correctly publishes a message to Kafka with the expected payload and headers.
+     * correctly publishes the confirmation to Kafka with the expected topic and key.
      *
      * <p>This test ensures:</p>
      * <ul>
      *     <li>The configured Kafka topic is used</li>
-     *     <li>The {@link PaymentConfirmation} payload is inserted as the message body</li>
-     *     <li>The Kafka message header `kafka_topic` is correctly populated</li>
-     *     <li>{@link KafkaTemplate#send(Message)} is invoked exactly once</li>
+     *     <li>The order reference is used as the record key</li>
+     *     <li>The {@link PaymentConfirmation} is published exactly once, unchanged</li>
      * </ul>
      */
     @Test
@@ -81,17 +79,35 @@ class NotificationProducerServiceImplTest {
         final PaymentConfirmation confirmation = constructPaymentConfirmation();
         final String topic = "payment-topic";
         when(kafkaProperties.topicName()).thenReturn(topic);
-        ArgumentCaptor<Message<PaymentConfirmation>> messageCaptor =
-                ArgumentCaptor.forClass(Message.class);
 
         // When
         service.sendNotification(confirmation);
 
         // Then
-        verify(kafkaTemplate).send(messageCaptor.capture());
-        Message<PaymentConfirmation> msg = messageCaptor.getValue();
-        assertEquals(confirmation, msg.getPayload());
-        assertEquals(topic, msg.getHeaders().get("kafka_topic"));
+        verify(eventPublisher).publish(topic, "order-123", confirmation);
+    }
+
+    /**
+     * Verifies that {@link NotificationProducerServiceImpl#sendPaymentFailed(PaymentFailed)}
+     * publishes the failure to the saga topic, keyed by the order reference so it
+     * follows the order's other events on the same partition.
+     */
+    @Test
+    void testSendPaymentFailed() {
+        // Given
+        final PaymentFailed paymentFailed = PaymentFailed.newBuilder()
+                .setOrderReference("order-123")
+                .setOrderId(7)
+                .setReason("Unsupported payment method CASH")
+                .setFailedAt(Instant.now())
+                .build();
+        when(sagaProperties.paymentFailedTopic()).thenReturn("payment-failed-topic");
+
+        // When
+        service.sendPaymentFailed(paymentFailed);
+
+        // Then
+        verify(eventPublisher).publish("payment-failed-topic", "order-123", paymentFailed);
     }
 
     /**
@@ -0,0 +1,137 @@
+package com.forsaken.ecommerce.payment.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forsaken.ecommerce.avro.PaymentMethod;
+import com.forsaken.ecommerce.payment.model.Payment;
+import com.forsaken.ecommerce.payment.repository.PaymentExportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Unit tests for {@link PaymentExportServiceImpl}, validating the NDJSON framing
+ * of streamed payment exports.
+ *
+ * <p>The {@link PaymentExportRepository} is mocked to push rows into the sink the
+ * service hands it, mimicking the JDBC cursor; a real {@link ObjectMapper} is used
+ * so the written lines can be parsed back.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentExportServiceImplTest {
+
+    @Mock
+    private PaymentExportRepository exportRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private PaymentExportServiceImpl service;
+
+    /**
+     * Initializes the service with the mocked repository before each test execution.
+     */
+    @BeforeEach
+    void setup() {
+        service = new PaymentExportServiceImpl(exportRepository, objectMapper);
+    }
+
+    /**
+     * Verifies that every streamed payment is written as one JSON object per line,
+     * in the order the repository produced them, with the given date filters.
+     *
+     * @throws IOException if the written output cannot be parsed (not expected here)
+     */
+    @Test
+    void exportPayments_WritesOneJsonObjectPerLine() throws IOException {
+        // Given
+        final LocalDateTime fromDate = LocalDateTime.of(2025, 1, 1, 0, 0);
+        final LocalDateTime toDate = LocalDateTime.of(2025, 1, 31, 23, 59);
+        stubRows(fromDate, toDate, constructPayment(1), constructPayment(2));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        service.exportPayments(fromDate, toDate, out);
+
+        // Then
+        final String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        final JsonNode first = objectMapper.readTree(lines[0]);
+        final JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals(1, first.get("id").asInt());
+        assertEquals("PAYPAL", first.get("paymentMethod").asText());
+        assertEquals(2, second.get("id").asInt());
+    }
+
+    /**
+     * Ensures that a failing client stream aborts the export instead of silently
+     * reading the remaining rows.
+     */
+    @Test
+    void exportPayments_ShouldAbort_WhenClientStreamFails() {
+        // Given
+        final LocalDateTime fromDate = LocalDateTime.of(2025, 1, 1, 0, 0);
+        final LocalDateTime toDate = LocalDateTime.of(2025, 1, 31, 23, 59);
+        stubRows(fromDate, toDate, constructPayment(1));
+        final OutputStream broken = new OutputStream() {
+            @Override
+            public void write(final int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When / Then
+        assertThrows(UncheckedIOException.class,
+                () -> service.exportPayments(fromDate, toDate, broken));
+    }
+
+    /**
+     * Stubs the repository to feed the given payments into the export sink.
+     *
+     * @param fromDate the expected lower bound
+     * @param toDate   the expected upper bound
+     * @param payments the rows to stream
+     */
+    @SuppressWarnings("unchecked")
+    private void stubRows(final LocalDateTime fromDate, final LocalDateTime toDate, final Payment... payments) {
+        doAnswer(invocation -> {
+            final Consumer<Payment> sink = invocation.getArgument(2);
+            for (final Payment payment : payments) {
+                sink.accept(payment);
+            }
+            return null;
+        }).when(exportRepository).streamByCreatedDateBetween(eq(fromDate), eq(toDate), any(Consumer.class));
+    }
+
+    /**
+     * Builds a sample {@link Payment} row as read from the database.
+     *
+     * @param id the payment ID
+     * @return a populated {@link Payment}
+     */
+    private Payment constructPayment(final int id) {
+        return Payment.builder()
+                .id(id)
+                .amount(new BigDecimal("150.50"))
+                .paymentMethod(PaymentMethod.PAYPAL)
+                .orderId(123)
+                .createdDate(LocalDateTime.of(2025, 1, 15, 10, 30))
+                .build();
+    }
+}
@@ -3,13 +3,16 @@ package com.forsaken.ecommerce.payment.service;
 
 import com.forsaken.ecommerce.avro.PaymentConfirmation;
 import com.forsaken.ecommerce.avro.PaymentMethod;
+import com.forsaken.ecommerce.common.outbox.IOutboxService;
+import com.forsaken.ecommerce.common.pagination.CursorCodec;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
 import com.forsaken.ecommerce.common.responses.PagedResponse;
 import com.forsaken.ecommerce.payment.dto.Customer;
 import com.forsaken.ecommerce.payment.dto.PaymentRequest;
 import com.forsaken.ecommerce.payment.dto.PaymentSummaryDto;
 import com.forsaken.ecommerce.payment.model.Payment;
 import com.forsaken.ecommerce.payment.repository.IPaymentRepository;
-import com.forsaken.ecommerce.payment.repository.PaymentSummary;
+import com.forsaken.ecommerce.payment.rollup.IPaymentRollupService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,14 +24,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,13 +47,14 @@ import static org.mockito.Mockito.when;
  * <p>This test suite isolates the service layer by mocking all dependencies:
  * <ul>
  *     <li>{@link IPaymentRepository} – to simulate persistence operations</li>
- *     <li>{@link INotificationProducerService} – to verify notification publishing</li>
+ *     <li>{@link IOutboxService} – to verify confirmation events are queued for publishing</li>
+ *     <li>{@link IPaymentRollupService} – to supply and verify the summary rollups</li>
  * </ul>
  *
  * <p>The tests ensure that:</p>
  * <ul>
  *     <li>Payment creation persists the correct entity</li>
- *     <li>Payment confirmation events are published to Kafka</li>
+ *     <li>Payment confirmation events are written to the outbox</li>
  *     <li>Summary queries return correctly transformed DTO results</li>
  *     <li>Pagination calculations and mappings behave as expected</li>
  * </ul>
@@ -60,7 +69,10 @@ class PaymentServiceTest {
     private IPaymentRepository repository;
 
     @Mock
-    private INotificationProducerService notificationProducer;
+    private IOutboxService outboxService;
+
+    @Mock
+    private IPaymentRollupService rollupService;
 
     private PaymentServiceImpl service;
 
@@ -72,7 +84,7 @@ class PaymentServiceTest {
      */
     @BeforeEach
     void setup() {
-        service = new PaymentServiceImpl(repository, notificationProducer);
+        service = new PaymentServiceImpl(repository, outboxService, rollupService);
     }
 
     /**
@@ -81,7 +93,8 @@ class PaymentServiceTest {
      *     <li>Converts the request to a {@link Payment} entity</li>
      *     <li>Persists the entity via the repository</li>
      *     <li>Returns the generated payment ID</li>
-     *     <li>Emits a corresponding {@link PaymentConfirmation} notification</li>
+ *     <li>Adds the payment to the summary rollups</li>
+     *     <li>Queues a corresponding {@link PaymentConfirmation} in the outbox, keyed by order reference</li>
      * </ul>
      *
      * <p>This is the most critical behavior of the payment module, ensuring both
@@ -103,11 +116,12 @@ class PaymentServiceTest {
         final Payment passedToSave = paymentCaptor.getValue();
         assertEquals(new BigDecimal("150.50"), passedToSave.getAmount());
         assertEquals(PaymentMethod.PAYPAL, passedToSave.getPaymentMethod());
+        verify(rollupService).record(payment);
 
-        // Capture notification
+        // Capture queued confirmation
         final ArgumentCaptor<PaymentConfirmation> notifCaptor =
                 ArgumentCaptor.forClass(PaymentConfirmation.class);
-        verify(notificationProducer).sendNotification(notifCaptor.capture());
+        verify(outboxService).append(eq("order-123"), notifCaptor.capture());
         final PaymentConfirmation paymentConfirmation = notifCaptor.getValue();
         assertEquals("order-123", paymentConfirmation.getOrderReference());
         assertEquals("John", paymentConfirmation.getCustomerFirstname());
@@ -118,36 +132,20 @@ class PaymentServiceTest {
      *
      * <p>This test ensures that the service:</p>
      * <ul>
-     *     <li>Delegates to {@link IPaymentRepository#findPaymentSummaryBetween}</li>
-     *     <li>Converts {@link PaymentSummary} projections into {@link PaymentSummaryDto}</li>
+     *     <li>Delegates to {@link IPaymentRollupService#summarize}</li>
      *     <li>Wraps the results in a {@link PagedResponse} structure</li>
      * </ul>
      *
-     * <p>The test uses a single mocked summary entry to verify DTO mapping.</p>
+     * <p>The test uses a single summary entry to verify the mapping.</p>
      */
     @Test
     void testGetPaymentSummary() {
         // Given
         final LocalDateTime fromDate = LocalDateTime.now().minusDays(5);
         final LocalDateTime toDate = LocalDateTime.now();
-        final PageRequest pageable = PageRequest.of(0, 10);
-
-        final PaymentSummary paypal = new PaymentSummary() {
-            public PaymentMethod getPaymentMethod() {
-                return PaymentMethod.PAYPAL;
-            }
-
-            public Long getCount() {
-                return 2L;
-            }
-
-            public BigDecimal getTotalAmount() {
-                return new BigDecimal("300");
-            }
-        };
-        final Page<PaymentSummary> page = new PageImpl<>(List.of(paypal));
-        when(repository.findPaymentSummaryBetween(eq(fromDate), eq(toDate), eq(pageable)))
-                .thenReturn(page);
+        when(rollupService.summarize(fromDate, toDate)).thenReturn(List.of(
+                new PaymentSummaryDto(PaymentMethod.PAYPAL, 2L, new BigDecimal("300"))
+        ));
 
         // When
         final PagedResponse<PaymentSummaryDto> result =
@@ -160,6 +158,30 @@ class PaymentServiceTest {
         assertEquals(new BigDecimal("300"), result.content().get(0).totalAmount());
     }
 
+    /**
+     * Verifies that the per payment method summaries are paged in memory: the
+     * second page holds the remaining entry and the totals cover every entry.
+     */
+    @Test
+    void testGetPaymentSummary_Paged() {
+        // Given
+        when(rollupService.summarize(null, null)).thenReturn(List.of(
+                new PaymentSummaryDto(PaymentMethod.CREDIT_CARD, 1L, new BigDecimal("500")),
+                new PaymentSummaryDto(PaymentMethod.PAYPAL, 2L, new BigDecimal("300")),
+                new PaymentSummaryDto(PaymentMethod.VISA, 3L, new BigDecimal("100"))
+        ));
+
+        // When
+        final PagedResponse<PaymentSummaryDto> result =
+                service.getPaymentSummary(null, null, 2, 2);
+
+        // Then
+        assertEquals(1, result.content().size());
+        assertEquals(PaymentMethod.VISA, result.content().get(0).paymentMethod());
+        assertEquals(3, result.totalElements());
+        assertEquals(2, result.totalPages());
+    }
+
     /**
      * Tests paginated payment retrieval with date filtering.
      *
@@ -200,6 +222,80 @@ class PaymentServiceTest {
         assertEquals(2, result.totalElements());
     }
 
+    /**
+     * Verifies keyset pagination over payments:
+     * <ul>
+     *     <li>The first slice seeks from {@code (toDate, Integer.MAX_VALUE)}, so {@code toDate} is included</li>
+     *     <li>One extra row is requested and trimmed to detect a following slice</li>
+     *     <li>The returned cursor carries the {@code createdDate} and ID of the last payment</li>
+     * </ul>
+     */
+    @Test
+    void testGetAllPaymentsByCursor() {
+        // Given
+        final LocalDateTime fromDate = LocalDateTime.of(2025, 1, 1, 0, 0);
+        final LocalDateTime toDate = LocalDateTime.of(2025, 1, 31, 0, 0);
+        final Payment newest = mock(Payment.class);
+        final Payment older = mock(Payment.class);
+        final Payment oldest = mock(Payment.class);
+        when(older.getId()).thenReturn(7);
+        when(older.getCreatedDate()).thenReturn(LocalDateTime.of(2025, 1, 15, 10, 30));
+        when(repository.findAllByCreatedDateBetweenBefore(fromDate, toDate, toDate, Integer.MAX_VALUE, 3))
+                .thenReturn(List.of(newest, older, oldest));
+
+        // When
+        final CursorPagedResponse<Payment> result =
+                service.getAllPayments(fromDate, toDate, null, 2);
+
+        // Then
+        assertEquals(2, result.content().size());
+        assertTrue(result.hasNext());
+        assertEquals(CursorCodec.encode(LocalDateTime.of(2025, 1, 15, 10, 30), 7), result.nextCursor());
+    }
+
+    /**
+     * Ensures that a tampered continuation token is rejected as a bad request
+     * instead of silently restarting the listing or failing with a server error,
+     * whether its date, its ID, its part count or its encoding is broken.
+     */
+    @Test
+    void testGetAllPaymentsByCursor_InvalidCursor() {
+        for (final String cursor : List.of(
+                CursorCodec.encode("not-a-date", 7),
+                CursorCodec.encode(LocalDateTime.of(2025, 1, 15, 10, 30), "not-an-id"),
+                CursorCodec.encode(7),
+                "%%%")) {
+            // When
+            final ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                    () -> service.getAllPayments(null, null, cursor, 2));
+
+            // Then
+            assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+        }
+    }
+
+    /**
+     * Ensures that slice sizes outside the supported range are clamped: a
+     * non-positive size falls back to the default and an oversized one is capped,
+     * so the extra look-ahead row can never overflow the limit.
+     */
+    @Test
+    void testGetAllPaymentsByCursor_ClampsSize() {
+        // Given
+        final LocalDateTime fromDate = LocalDateTime.of(2025, 1, 1, 0, 0);
+        final LocalDateTime toDate = LocalDateTime.of(2025, 1, 31, 0, 0);
+
+        // When
+        final CursorPagedResponse<Payment> empty = service.getAllPayments(fromDate, toDate, null, 0);
+        final CursorPagedResponse<Payment> huge = service.getAllPayments(fromDate, toDate, null, Integer.MAX_VALUE);
+
+        // Then
+        assertEquals(5, empty.size());
+        assertEquals(100, huge.size());
+        verify(repository).findAllByCreatedDateBetweenBefore(fromDate, toDate, toDate, Integer.MAX_VALUE, 6);
+        verify(repository).findAllByCreatedDateBetweenBefore(fromDate, toDate, toDate, Integer.MAX_VALUE, 101);
+    }
+
     /**
      * Constructs a fully populated {@link PaymentRequest} object for convenient reuse
      * across test scenarios.
@@ -0,0 +1,51 @@
+package com.forsaken.ecommerce.product.configs.inventory;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+/**
+ * Settings of the optional hot-SKU inventory reservation layer.
+ *
+ * @param enabled         whether purchases of hot products are admitted in memory
+ * @param hotProductIds   products served from in-memory counters, typically flash sale SKUs
+ * @param stripes         number of counter stripes per hot product
+ * @param leaseChunk      units leased from the product row each time an instance runs dry
+ * @param flushIntervalMs delay between two write-behind flushes of sold units
+ * @param flushBatchSize  maximum number of journal rows folded into the product table per flush
+ * @param leaseTimeoutMs  time without heartbeat after which the leases of a crashed instance are reclaimed
+ */
+@Validated
+@ConfigurationProperties(prefix = "inventory.reservation")
+public record InventoryReservationProperties(
+        boolean enabled,
+
+        @NotNull
+        List<Integer> hotProductIds,
+
+        @NotNull
+        @Min(1)
+        @Max(256)
+        Integer stripes,
+
+        @NotNull
+        @Min(1)
+        Long leaseChunk,
+
+        @NotNull
+        @Min(50)
+        Long flushIntervalMs,
+
+        @NotNull
+        @Min(1)
+        Integer flushBatchSize,
+
+        @NotNull
+        @Min(1000)
+        Long leaseTimeoutMs
+) {
+}
@@ -0,0 +1,30 @@
+package com.forsaken.ecommerce.product.configs.s3;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Sizing and expiry of the presigned download URL cache.
+ *
+ * <p>A cached URL is dropped {@code safetyMarginMinutes} before its signature
+ * expires, so a URL handed to a client always has at least that long left. With
+ * {@code aws.s3.expiration} of at least 30 minutes, entries live for 15 minutes or
+ * more.</p>
+ *
+ * @param maxSize             maximum number of object keys whose URL is kept
+ * @param safetyMarginMinutes minutes before signature expiry at which a cached URL is discarded
+ */
+@Validated
+@ConfigurationProperties(prefix = "aws.s3.download-url-cache")
+public record PresignedUrlCacheProperties(
+        @Positive
+        long maxSize,
+
+        @Min(1)
+        @Max(15)
+        long safetyMarginMinutes
+) {
+}
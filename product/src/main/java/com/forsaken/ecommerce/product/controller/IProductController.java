@@ -2,6 +2,7 @@ package com.forsaken.ecommerce.product.controller;
 
 import com.forsaken.ecommerce.common.exceptions.ProductNotFoundExceptions;
 import com.forsaken.ecommerce.common.responses.ApiResponse;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
 import com.forsaken.ecommerce.common.responses.PagedResponse;
 import com.forsaken.ecommerce.product.dto.ProductPurchaseRequest;
 import com.forsaken.ecommerce.product.dto.ProductPurchaseResponse;
@@ -103,6 +104,26 @@ public interface IProductController {
     ) throws ProductNotFoundExceptions;
 
 
+    /**
+     * Releases stock reserved by an earlier purchase.
+     *
+     * <p>Used by order-service to compensate an order whose payment failed; the
+     * quantities of every line are added back to the products' available stock.
+     * The stock of an order is released at most once, so the call can be retried.
+     *
+     * @param reference the order the stock was purchased for
+     * @param request   the purchased lines to give back; must be valid
+     * @return a {@link ResponseEntity} with an {@link ApiResponse} containing the
+     *         number of products whose stock was restored, {@code 0} if the order
+     *         had already been released
+     */
+    @PostMapping("/release")
+    ResponseEntity<ApiResponse<Integer>> releaseProducts(
+            @RequestParam(name = "reference") @NotBlank final String reference,
+            @RequestBody @Valid final List<ProductPurchaseRequest> request
+    );
+
+
     /**
      * Retrieves product details by product ID.
      *
@@ -120,6 +141,26 @@ public interface IProductController {
     ) throws ProductNotFoundExceptions;
 
 
+    /**
+     * Retrieves products using keyset (cursor) pagination.
+     *
+     * <p>Pass the {@code nextCursor} of a response to get the following slice. No
+     * total count is returned, which keeps deep scrolling as cheap as the first page.
+     *
+     * @param signedUrl whether to include signed URLs for product images
+     * @param cursor    continuation token of the previous slice; omit for the first slice
+     * @param size      number of products per slice, at most 100
+     * @return a {@link ResponseEntity} with an {@link ApiResponse} wrapping a slice of product data;
+     *         a malformed cursor is answered with 400 (Bad Request)
+     */
+    @GetMapping("/scroll")
+    ResponseEntity<ApiResponse<CursorPagedResponse<ProductResponse>>> findAllByCursor(
+            @RequestParam(name = "signedUrl", defaultValue = "True") final Boolean signedUrl,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "size", defaultValue = "3") final int size
+    );
+
+
     /**
      * Retrieves a paginated list of all products.
      *
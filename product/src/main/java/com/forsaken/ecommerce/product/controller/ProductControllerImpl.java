@@ -2,6 +2,7 @@ package com.forsaken.ecommerce.product.controller;
 
 import com.forsaken.ecommerce.common.exceptions.ProductNotFoundExceptions;
 import com.forsaken.ecommerce.common.responses.ApiResponse;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
 import com.forsaken.ecommerce.common.responses.PagedResponse;
 import com.forsaken.ecommerce.product.dto.ProductPurchaseRequest;
 import com.forsaken.ecommerce.product.dto.ProductPurchaseResponse;
@@ -82,6 +83,21 @@ public class ProductControllerImpl implements IProductController {
                 );
     }
 
+    @Override
+    public ResponseEntity<ApiResponse<Integer>> releaseProducts(
+            final String reference,
+            final List<ProductPurchaseRequest> request
+    ) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(
+                        ApiResponse.<Integer>builder()
+                                .status(ApiResponse.Status.SUCCESS)
+                                .data(service.releaseProducts(reference, request))
+                                .message("Product Stock Released.")
+                                .build()
+                );
+    }
+
     @Override
     public ResponseEntity<ApiResponse<ProductResponse>> findById(final Integer productId, final Boolean signedUrl) throws ProductNotFoundExceptions {
         return ResponseEntity.status(HttpStatus.OK)
@@ -106,6 +122,22 @@ public class ProductControllerImpl implements IProductController {
                 );
     }
 
+    @Override
+    public ResponseEntity<ApiResponse<CursorPagedResponse<ProductResponse>>> findAllByCursor(
+            final Boolean signedUrl,
+            final String cursor,
+            final int size
+    ) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(
+                        ApiResponse.<CursorPagedResponse<ProductResponse>>builder()
+                                .status(ApiResponse.Status.SUCCESS)
+                                .data(service.getAllProducts(signedUrl, cursor, size))
+                                .message("Fetched All Products Information.")
+                                .build()
+                );
+    }
+
     @Override
     public ResponseEntity<ApiResponse<PagedResponse<ProductResponse>>> findAllProducts(final LocalDateTime fromDate,
                                                                                        final LocalDateTime toDate,
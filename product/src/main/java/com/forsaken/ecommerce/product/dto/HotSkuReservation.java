@@ -0,0 +1,24 @@
+package com.forsaken.ecommerce.product.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of admitting the hot lines of a basket in memory.
+ *
+ * @param purchased          lines reserved from the in-memory counters
+ * @param rejectedProductIds hot products that could not be served; when not empty
+ *                           nothing was reserved and the basket must be rejected
+ */
+public record HotSkuReservation(
+        List<ProductPurchaseResponse> purchased,
+        List<Integer> rejectedProductIds
+) {
+
+    public static HotSkuReservation none() {
+        return new HotSkuReservation(List.of(), List.of());
+    }
+
+    public boolean isRejected() {
+        return !rejectedProductIds.isEmpty();
+    }
+}
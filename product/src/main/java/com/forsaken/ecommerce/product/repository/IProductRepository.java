@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -20,17 +21,6 @@ import java.util.List;
  * to support product filtering, category search, price-based search, and date-range retrieval.
  */
 public interface IProductRepository extends JpaRepository<Product, Integer> {
-    /**
-     * Retrieves all products whose IDs are included in the given list, ordered by ID.
-     *
-     * <p>This is typically used for bulk retrieval during operations such as purchasing
-     * or aggregating product details in a specific order.
-     *
-     * @param ids the list of product IDs to retrieve; must not be {@code null}
-     * @return a list of {@link Product} ordered by ascending ID
-     */
-    List<Product> findAllByIdInOrderById(final List<Integer> ids);
-
     /**
      * Retrieves a paginated list of products along with their associated category,
      * using a fetch join to prevent the N+1 select problem.
@@ -48,40 +38,87 @@ public interface IProductRepository extends JpaRepository<Product, Integer> {
     Page<Product> findAllWithCategory(final Pageable pageable);
 
     /**
-     * Retrieves all products whose addition/creation date falls within the
-     * specified start and end timestamps.
+     * Retrieves the products following the given id in id order, along with their
+     * category, for keyset (seek) pagination.
+     *
+     * <p>The query seeks on the primary key and runs no count query, so its cost
+     * does not grow with how deep the client has scrolled. Only the limit of the
+     * given {@link Pageable} is used.
+     *
+     * @param afterId  the id of the last product of the previous page
+     * @param pageable the number of products to return
+     * @return up to {@code pageable.getPageSize()} products with an id greater than {@code afterId}
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.id > :afterId ORDER BY p.id")
+    List<Product> findAllWithCategoryAfter(@Param("afterId") final Integer afterId, final Pageable pageable);
+
+    /**
+     * Retrieves one page of products added within the given date range, with their
+     * category fetched in the same query.
      *
-     * <p>This query is commonly used for analytics, reporting, or date-filtered
-     * product searches.
+     * <p>Paging, sorting and the total count are evaluated by the database (backed by
+     * the {@code addition_date} index), so only the requested page is materialised.
      *
      * @param fromDate the start of the date range (inclusive)
      * @param toDate   the end of the date range (inclusive)
-     * @return a list of products created within the specified date range
+     * @param pageable pagination and sorting information
+     * @return a {@link Page} of products created within the specified date range
      */
-    List<Product> findAllByAdditionDateBetween(final LocalDateTime fromDate, final LocalDateTime toDate);
+    @Query(
+            value = "SELECT p FROM Product p JOIN FETCH p.category " +
+                    "WHERE p.additionDate BETWEEN :fromDate AND :toDate",
+            countQuery = "SELECT count(p) FROM Product p " +
+                    "WHERE p.additionDate BETWEEN :fromDate AND :toDate"
+    )
+    Page<Product> findPageByAdditionDateBetween(
+            @Param("fromDate") final LocalDateTime fromDate,
+            @Param("toDate") final LocalDateTime toDate,
+            final Pageable pageable
+    );
 
     /**
-     * Retrieves all products belonging to the given category whose price is
-     * greater than or equal to the specified amount.
+     * Retrieves one page of products of the given category priced at or above the
+     * given amount, with the category fetched in the same query.
      *
-     * <p>Useful for price-based filtering, threshold-based searches, and building product
-     * recommendation logic.
+     * <p>Backed by the {@code (category_id, price)} index.
      *
      * @param category the category to filter by; must not be {@code null}
      * @param price    the minimum price threshold
-     * @return a list of matching products with price >= given amount
+     * @param pageable pagination and sorting information
+     * @return a {@link Page} of matching products with price >= given amount
      */
-    List<Product> findAllByCategoryAndPriceGreaterThanEqual(final Category category, final BigDecimal price);
+    @Query(
+            value = "SELECT p FROM Product p JOIN FETCH p.category " +
+                    "WHERE p.category = :category AND p.price >= :price",
+            countQuery = "SELECT count(p) FROM Product p " +
+                    "WHERE p.category = :category AND p.price >= :price"
+    )
+    Page<Product> findPageByCategoryAndPriceGreaterThanEqual(
+            @Param("category") final Category category,
+            @Param("price") final BigDecimal price,
+            final Pageable pageable
+    );
 
     /**
-     * Retrieves all products belonging to the given category whose price is
-     * less than or equal to the specified amount.
+     * Retrieves one page of products of the given category priced at or below the
+     * given amount, with the category fetched in the same query.
      *
-     * <p>Useful for building "under budget" or "at most this price" product lists.
+     * <p>Backed by the {@code (category_id, price)} index.
      *
      * @param category the category to filter by; must not be {@code null}
      * @param price    the maximum price threshold
-     * @return a list of matching products with price <= given amount
+     * @param pageable pagination and sorting information
+     * @return a {@link Page} of matching products with price <= given amount
      */
-    List<Product> findAllByCategoryAndPriceLessThanEqual(final Category category, final BigDecimal price);
+    @Query(
+            value = "SELECT p FROM Product p JOIN FETCH p.category " +
+                    "WHERE p.category = :category AND p.price <= :price",
+            countQuery = "SELECT count(p) FROM Product p " +
+                    "WHERE p.category = :category AND p.price <= :price"
+    )
+    Page<Product> findPageByCategoryAndPriceLessThanEqual(
+            @Param("category") final Category category,
+            @Param("price") final BigDecimal price,
+            final Pageable pageable
+    );
 }
@@ -0,0 +1,256 @@
+package com.forsaken.ecommerce.product.repository;
+
+import com.forsaken.ecommerce.product.dto.ProductPurchaseResponse;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Repository backing the hot-SKU reservation layer.
+ *
+ * <p>Stock is handed to an instance in chunks ("leases") by raising
+ * {@code product.leased_quantity}; the instance then sells from memory and
+ * journals every sale in {@code inventory_outbox} inside the purchase
+ * transaction. The write-behind flush folds the journal into
+ * {@code product.available_quantity} in one statement per batch, so the product
+ * row is locked once per lease and once per flush instead of once per purchase.
+ *
+ * <p>Every lease row carries a generation, new each time the row is created. Journal
+ * rows name the generation they were sold from and reference that lease row, so a
+ * purchase from a lease that has been reclaimed in the meantime fails at commit
+ * instead of being applied to stock that was already handed back.
+ *
+ * <p>Leases and flushes run in their own short transactions so that a purchase
+ * never holds the product row lock.
+ */
+@Repository
+public class InventoryLeaseRepository {
+
+    private static final String SELECT_FREE_STOCK_SQL = """
+            SELECT id, name, description, price, available_quantity - leased_quantity AS free
+            FROM product
+            WHERE id = ?
+            FOR UPDATE
+            """;
+
+    private static final String LEASE_STOCK_SQL = """
+            WITH leased AS (
+                UPDATE product SET leased_quantity = leased_quantity + ? WHERE id = ?
+                RETURNING id
+            )
+            INSERT INTO inventory_lease (product_id, instance_id, quantity, heartbeat_at)
+            SELECT id, ?, ?, now() FROM leased
+            ON CONFLICT (product_id, instance_id)
+            DO UPDATE SET quantity = inventory_lease.quantity + EXCLUDED.quantity, heartbeat_at = now()
+            RETURNING generation
+            """;
+
+    private static final String SELECT_GENERATION_SQL = """
+            SELECT generation FROM inventory_lease WHERE product_id = ? AND instance_id = ?
+            """;
+
+    private static final String FLUSH_OUTBOX_SQL = """
+            WITH flushed AS (
+                DELETE FROM inventory_outbox
+                WHERE id IN (
+                    SELECT id FROM inventory_outbox WHERE instance_id = ? ORDER BY id LIMIT ?
+                )
+                RETURNING product_id, quantity
+            ), sold AS (
+                SELECT product_id, sum(quantity) AS quantity FROM flushed GROUP BY product_id
+            ), leases AS (
+                UPDATE inventory_lease l
+                SET quantity = l.quantity - s.quantity, heartbeat_at = now()
+                FROM sold s
+                WHERE l.product_id = s.product_id AND l.instance_id = ?
+            )
+            UPDATE product p
+            SET available_quantity = p.available_quantity - s.quantity,
+                leased_quantity = p.leased_quantity - s.quantity
+            FROM sold s
+            WHERE p.id = s.product_id
+            """;
+
+    /**
+     * Returns whole leases to the product table: units still journalled are sold,
+     * whatever is left of the lease goes back to the free stock. The %s placeholder
+     * selects which leases are reclaimed.
+     */
+    private static final String RECLAIM_LEASES_SQL = """
+            WITH reclaimed AS (
+                SELECT product_id, instance_id FROM inventory_lease
+                WHERE %s
+                FOR UPDATE SKIP LOCKED
+            ), flushed AS (
+                DELETE FROM inventory_outbox o
+                USING reclaimed r
+                WHERE o.product_id = r.product_id AND o.instance_id = r.instance_id
+                RETURNING o.product_id, o.quantity
+            ), released AS (
+                DELETE FROM inventory_lease l
+                USING reclaimed r
+                WHERE l.product_id = r.product_id AND l.instance_id = r.instance_id
+                RETURNING l.product_id, l.quantity
+            ), totals AS (
+                SELECT product_id, sum(sold) AS sold, sum(leased) AS leased
+                FROM (
+                    SELECT product_id, quantity AS sold, 0 AS leased FROM flushed
+                    UNION ALL
+                    SELECT product_id, 0 AS sold, quantity AS leased FROM released
+                ) t
+                GROUP BY product_id
+            )
+            UPDATE product p
+            SET available_quantity = p.available_quantity - t.sold,
+                leased_quantity = p.leased_quantity - t.leased
+            FROM totals t
+            WHERE p.id = t.product_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    public InventoryLeaseRepository(
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Leases up to {@code units} whole units of free stock of a product to an instance.
+     *
+     * @param productId  the product to lease from
+     * @param instanceId the leasing instance
+     * @param units      the desired chunk size
+     * @return the units actually leased (possibly {@code 0}) and the generation of
+     * the instance's lease together with the current product details, or empty if
+     * the product does not exist
+     */
+    public Optional<LeasedStock> leaseStock(
+            final Integer productId,
+            final String instanceId,
+            final long units
+    ) {
+        return requiresNew.execute(status -> {
+            final LeasedStock free;
+            try {
+                free = jdbcTemplate.queryForObject(SELECT_FREE_STOCK_SQL, (rs, rowNum) -> new LeasedStock(
+                        new ProductPurchaseResponse(
+                                rs.getInt("id"),
+                                rs.getString("name"),
+                                rs.getString("description"),
+                                rs.getBigDecimal("price"),
+                                0
+                        ),
+                        (long) Math.floor(rs.getDouble("free")),
+                        null
+                ), productId);
+            } catch (EmptyResultDataAccessException e) {
+                return Optional.empty();
+            }
+            final long granted = Math.max(0, Math.min(units, free.units()));
+            final Long generation = granted > 0
+                    ? jdbcTemplate.queryForObject(LEASE_STOCK_SQL, Long.class, granted, productId, instanceId, granted)
+                    : jdbcTemplate.query(SELECT_GENERATION_SQL, (rs, rowNum) -> rs.getLong(1), productId, instanceId)
+                    .stream().findFirst().orElse(null);
+            return Optional.of(new LeasedStock(free.product(), granted, generation));
+        });
+    }
+
+    /**
+     * Journals units sold from memory. Runs in the caller's (purchase) transaction
+     * so a rolled back purchase leaves no trace.
+     *
+     * @param instanceId the selling instance
+     * @param sold       units sold per product, with the lease generation they came from
+     * @throws org.springframework.dao.DataIntegrityViolationException if one of the leases
+     *                                                                 has been reclaimed
+     */
+    public void appendOutbox(final String instanceId, final List<Sale> sold) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO inventory_outbox (product_id, instance_id, generation, quantity) VALUES (?, ?, ?, ?)",
+                sold,
+                sold.size(),
+                (statement, sale) -> {
+                    statement.setInt(1, sale.productId());
+                    statement.setString(2, instanceId);
+                    statement.setLong(3, sale.generation());
+                    statement.setDouble(4, sale.units());
+                });
+    }
+
+    /**
+     * Folds up to {@code batchSize} journalled sales of an instance into the
+     * product table and refreshes the heartbeat of its leases.
+     *
+     * @param instanceId the flushing instance
+     * @param batchSize  maximum number of journal rows to fold
+     * @return the generation of every lease the instance still holds, by product
+     */
+    public Map<Integer, Long> flushOutbox(final String instanceId, final int batchSize) {
+        return requiresNew.execute(status -> {
+            jdbcTemplate.update(FLUSH_OUTBOX_SQL, instanceId, batchSize, instanceId);
+            final Map<Integer, Long> leases = new HashMap<>();
+            jdbcTemplate.query(
+                    "UPDATE inventory_lease SET heartbeat_at = now() WHERE instance_id = ? RETURNING product_id, generation",
+                    rs -> { leases.put(rs.getInt("product_id"), rs.getLong("generation")); },
+                    instanceId);
+            return leases;
+        });
+    }
+
+    /**
+     * Reclaims every lease of the given instance, typically on shutdown.
+     *
+     * @param instanceId the instance giving its leases back
+     * @return number of product rows updated
+     */
+    public int releaseLeases(final String instanceId) {
+        return requiresNew.execute(status -> jdbcTemplate.update(
+                RECLAIM_LEASES_SQL.formatted("instance_id = ?"), instanceId));
+    }
+
+    /**
+     * Reclaims leases of instances that stopped heart-beating, applying their
+     * journalled sales first so no sold unit is lost.
+     *
+     * @param timeoutMs heartbeat age after which a lease is considered orphaned
+     * @return number of product rows updated
+     */
+    public int reclaimStaleLeases(final long timeoutMs) {
+        return requiresNew.execute(status -> jdbcTemplate.update(
+                RECLAIM_LEASES_SQL.formatted("heartbeat_at < now() - ? * INTERVAL '1 millisecond'"), timeoutMs));
+    }
+
+    /**
+     * Result of a lease: the product details for purchase responses, the units
+     * granted to the instance and the generation of its lease.
+     *
+     * @param product    product details, with a zero quantity
+     * @param units      units granted
+     * @param generation generation of the instance's lease, {@code null} if it holds none
+     */
+    public record LeasedStock(ProductPurchaseResponse product, long units, Long generation) {
+    }
+
+    /**
+     * Units of a product sold from memory.
+     *
+     * @param productId  the product sold
+     * @param generation generation of the lease the units came from
+     * @param units      units sold
+     */
+    public record Sale(Integer productId, long generation, long units) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.forsaken.ecommerce.product.repository;
+
+import com.forsaken.ecommerce.product.dto.ProductPurchaseResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * Repository performing set-based stock reservations on the {@code product} table.
+ *
+ * <p>A whole basket is reserved with a single conditional {@code UPDATE}: every
+ * requested line is decremented only if the free stock
+ * ({@code available_quantity - leased_quantity}, see {@link InventoryLeaseRepository})
+ * still covers it at the moment the row is locked. PostgreSQL re-evaluates that
+ * predicate against the latest committed row version when it has to wait for a
+ * concurrent buyer, so two baskets can never both consume the last units of a SKU.
+ *
+ * <p>Rows are locked in ascending product id order before they are updated, which
+ * keeps concurrent baskets sharing several SKUs from deadlocking each other.
+ *
+ * <p>The statement only reports the lines it could reserve; it is up to the caller
+ * to compare that with the basket and roll back the surrounding transaction when
+ * anything is missing.
+ *
+ * <p>{@link #releaseStock(SortedMap)} is the compensating counterpart, used when an
+ * order is abandoned after its stock was reserved. {@link #recordRelease(String)}
+ * claims the order's reference first, in the same transaction, so that a basket is
+ * only ever given back once.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockRepository {
+
+    private static final String RESERVE_STOCK_SQL = """
+            WITH requested AS (
+                SELECT r.product_id, r.quantity
+                FROM unnest(?::integer[], ?::double precision[]) AS r(product_id, quantity)
+            ), locked AS MATERIALIZED (
+                SELECT p.id
+                FROM product p
+                JOIN requested r ON r.product_id = p.id
+                ORDER BY p.id
+                FOR UPDATE OF p
+            )
+            UPDATE product p
+            SET available_quantity = p.available_quantity - r.quantity
+            FROM requested r, locked l
+            WHERE p.id = r.product_id
+              AND l.id = p.id
+              AND p.available_quantity - p.leased_quantity >= r.quantity
+            RETURNING p.id, p.name, p.description, p.price, r.quantity
+            """;
+
+    private static final String RELEASE_STOCK_SQL = """
+            WITH released AS (
+                SELECT r.product_id, r.quantity
+                FROM unnest(?::integer[], ?::double precision[]) AS r(product_id, quantity)
+            ), locked AS MATERIALIZED (
+                SELECT p.id
+                FROM product p
+                JOIN released r ON r.product_id = p.id
+                ORDER BY p.id
+                FOR UPDATE OF p
+            )
+            UPDATE product p
+            SET available_quantity = p.available_quantity + r.quantity
+            FROM released r, locked l
+            WHERE p.id = r.product_id
+              AND l.id = p.id
+            """;
+
+    private static final String RECORD_RELEASE_SQL = """
+            INSERT INTO stock_release (reference) VALUES (?)
+            ON CONFLICT (reference) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Decrements the stock of every requested product in one round trip.
+     *
+     * @param quantities requested quantity per product id, one entry per distinct product
+     * @return the lines that were reserved, ordered by product id; lines that are
+     * unknown or short on stock are absent
+     */
+    public List<ProductPurchaseResponse> reserveStock(final SortedMap<Integer, Double> quantities) {
+        final Integer[] productIds = quantities.keySet().toArray(Integer[]::new);
+        final Double[] requested = quantities.values().toArray(Double[]::new);
+
+        final List<ProductPurchaseResponse> reserved = jdbcTemplate.query(connection -> {
+            final PreparedStatement statement = connection.prepareStatement(RESERVE_STOCK_SQL);
+            statement.setArray(1, connection.createArrayOf("integer", productIds));
+            statement.setArray(2, connection.createArrayOf("float8", requested));
+            return statement;
+        }, (rs, rowNum) -> new ProductPurchaseResponse(
+                rs.getInt("id"),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getBigDecimal("price"),
+                rs.getDouble("quantity")
+        ));
+        return reserved.stream()
+                .sorted(Comparator.comparing(ProductPurchaseResponse::productId))
+                .toList();
+    }
+
+    /**
+     * Records that the stock of an order is being released.
+     *
+     * <p>A concurrent release of the same order waits for this transaction and then
+     * finds the reference taken; if this transaction rolls back, the reference is
+     * free again.
+     *
+     * @param reference the order whose stock is released
+     * @return {@code true} if the reference was recorded, {@code false} if the stock
+     * of that order has already been released
+     */
+    public boolean recordRelease(final String reference) {
+        return jdbcTemplate.update(RECORD_RELEASE_SQL, reference) > 0;
+    }
+
+    /**
+     * Gives previously reserved units back to every listed product in one round trip.
+     *
+     * <p>Only {@code available_quantity} is incremented; units sold out of a hot SKU's
+     * lease are settled against the same column when the lease is flushed, so the
+     * free stock ends up correct either way.
+     *
+     * @param quantities quantity to restore per product id, one entry per distinct product
+     * @return the number of products whose stock was restored; unknown ids are skipped
+     */
+    public int releaseStock(final SortedMap<Integer, Double> quantities) {
+        final Integer[] productIds = quantities.keySet().toArray(Integer[]::new);
+        final Double[] released = quantities.values().toArray(Double[]::new);
+
+        return jdbcTemplate.update(connection -> {
+            final PreparedStatement statement = connection.prepareStatement(RELEASE_STOCK_SQL);
+            statement.setArray(1, connection.createArrayOf("integer", productIds));
+            statement.setArray(2, connection.createArrayOf("float8", released));
+            return statement;
+        });
+    }
+}
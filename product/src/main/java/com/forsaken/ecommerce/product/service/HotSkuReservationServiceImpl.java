@@ -0,0 +1,216 @@
+package com.forsaken.ecommerce.product.service;
+
+import com.forsaken.ecommerce.product.configs.inventory.InventoryReservationProperties;
+import com.forsaken.ecommerce.product.dto.HotSkuReservation;
+import com.forsaken.ecommerce.product.dto.ProductPurchaseResponse;
+import com.forsaken.ecommerce.product.repository.InventoryLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class HotSkuReservationServiceImpl implements IHotSkuReservationService {
+
+    private final InventoryReservationProperties properties;
+    private final InventoryLeaseRepository leaseRepository;
+    private final Map<Integer, HotSku> hotSkus;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public HotSkuReservationServiceImpl(
+            final InventoryReservationProperties properties,
+            final InventoryLeaseRepository leaseRepository
+    ) {
+        this.properties = properties;
+        this.leaseRepository = leaseRepository;
+        this.hotSkus = properties.hotProductIds()
+                .stream()
+                .distinct()
+                .collect(Collectors.toUnmodifiableMap(
+                        Function.identity(),
+                        id -> new HotSku(new Lease(null, new StripedStockCounter(properties.stripes())))
+                ));
+    }
+
+    @Override
+    public HotSkuReservation reserve(final SortedMap<Integer, Double> quantities) {
+        if (!properties.enabled()) return HotSkuReservation.none();
+
+        // Only whole quantities are counted in memory; anything else stays on the database path.
+        final SortedMap<Integer, Long> hotLines = new TreeMap<>();
+        quantities.forEach((productId, quantity) -> {
+            if (hotSkus.containsKey(productId) && quantity == Math.rint(quantity)) {
+                hotLines.put(productId, quantity.longValue());
+            }
+        });
+        if (hotLines.isEmpty()) return HotSkuReservation.none();
+
+        final List<Acquired> acquired = new ArrayList<>();
+        final List<ProductPurchaseResponse> purchased = new ArrayList<>();
+        for (final Map.Entry<Integer, Long> line : hotLines.entrySet()) {
+            final HotSku sku = hotSkus.get(line.getKey());
+            final Lease lease = acquire(line.getKey(), sku, line.getValue());
+            if (lease == null) {
+                release(acquired);
+                log.info("Hot product {} is sold out in memory", line.getKey());
+                return new HotSkuReservation(List.of(), List.of(line.getKey()));
+            }
+            acquired.add(new Acquired(lease, new InventoryLeaseRepository.Sale(
+                    line.getKey(), lease.generation(), line.getValue())));
+            final ProductPurchaseResponse product = sku.product;
+            purchased.add(new ProductPurchaseResponse(
+                    product.productId(),
+                    product.name(),
+                    product.description(),
+                    product.price(),
+                    line.getValue()
+            ));
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    if (status != STATUS_COMMITTED) release(acquired);
+                }
+            });
+            leaseRepository.appendOutbox(instanceId, sales(acquired));
+        } else {
+            try {
+                leaseRepository.appendOutbox(instanceId, sales(acquired));
+            } catch (RuntimeException e) {
+                release(acquired);
+                throw e;
+            }
+        }
+        return new HotSkuReservation(purchased, List.of());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${inventory.reservation.flushIntervalMs}")
+    public void flush() {
+        if (!properties.enabled()) return;
+        try {
+            // Snapshot before flushing: a lease taken after the snapshot may be missing from the result.
+            final Map<Integer, Lease> before = new HashMap<>();
+            hotSkus.forEach((productId, sku) -> before.put(productId, sku.lease));
+            final Map<Integer, Long> leased = leaseRepository.flushOutbox(instanceId, properties.flushBatchSize());
+            hotSkus.forEach((productId, sku) -> {
+                sku.lock.lock();
+                try {
+                    final Lease lease = sku.lease;
+                    if (lease == before.get(productId) && lease.generation() != null
+                            && !lease.generation().equals(leased.get(productId))) {
+                        // Our lease was reclaimed (e.g. missed heartbeats); its units are no longer ours to sell,
+                        // and purchases still holding some of them are rejected when they journal the sale.
+                        log.warn("Lease on hot product {} was reclaimed, dropping {} units",
+                                productId, lease.counter().drain());
+                        sku.lease = new Lease(null, new StripedStockCounter(properties.stripes()));
+                    }
+                    if (sku.lease.counter().available() < properties.leaseChunk() / 2) {
+                        lease(productId, sku, properties.leaseChunk());
+                    }
+                } finally {
+                    sku.lock.unlock();
+                }
+            });
+            final int reclaimed = leaseRepository.reclaimStaleLeases(properties.leaseTimeoutMs());
+            if (reclaimed > 0) log.info("Reclaimed stale inventory leases on {} products", reclaimed);
+        } catch (DataAccessException e) {
+            log.error("Inventory write-behind flush failed, will retry", e);
+        }
+    }
+
+    @PreDestroy
+    public void releaseLeases() {
+        if (!properties.enabled()) return;
+        hotSkus.values().forEach(sku -> sku.lease.counter().drain());
+        leaseRepository.releaseLeases(instanceId);
+        log.info("Released inventory leases of instance {}", instanceId);
+    }
+
+    /**
+     * @return the lease the units were taken from, or {@code null} if not enough
+     * stock could be leased
+     */
+    private Lease acquire(final Integer productId, final HotSku sku, final long units) {
+        final Lease current = sku.lease;
+        if (current.generation() != null && current.counter().tryAcquire(units)) return current;
+        sku.lock.lock();
+        try {
+            if (sku.lease.generation() != null && sku.lease.counter().tryAcquire(units)) return sku.lease;
+            lease(productId, sku, Math.max(properties.leaseChunk(), units));
+            final Lease lease = sku.lease;
+            return lease.generation() != null && lease.counter().tryAcquire(units) ? lease : null;
+        } finally {
+            sku.lock.unlock();
+        }
+    }
+
+    private void lease(final Integer productId, final HotSku sku, final long units) {
+        leaseRepository.leaseStock(productId, instanceId, units).ifPresent(leased -> {
+            sku.product = leased.product();
+            if (leased.generation() == null) return;
+            if (!leased.generation().equals(sku.lease.generation())) {
+                // A new lease row: units counted for an older generation were reclaimed with it.
+                sku.lease.counter().drain();
+                sku.lease = new Lease(leased.generation(), new StripedStockCounter(properties.stripes()));
+            }
+            sku.lease.counter().add(leased.units());
+        });
+    }
+
+    private void release(final List<Acquired> acquired) {
+        acquired.forEach(a -> a.lease().counter().add(a.sale().units()));
+    }
+
+    private static List<InventoryLeaseRepository.Sale> sales(final List<Acquired> acquired) {
+        return acquired.stream().map(Acquired::sale).toList();
+    }
+
+    /**
+     * In-memory state of one hot product: its current lease and the product
+     * details last seen when stock was leased.
+     *
+     * <p>Leasing runs a database transaction while holding {@code lock}; a
+     * {@link ReentrantLock} rather than a monitor so that purchases waiting for
+     * it on virtual threads unmount instead of pinning their carrier.
+     */
+    private static final class HotSku {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Lease lease;
+        private volatile ProductPurchaseResponse product;
+
+        private HotSku(final Lease lease) {
+            this.lease = lease;
+        }
+    }
+
+    /**
+     * Units held in memory for one generation of a lease; {@code generation} is
+     * {@code null} while the instance holds no lease on the product.
+     */
+    private record Lease(Long generation, StripedStockCounter counter) {
+    }
+
+    /**
+     * Units taken for a purchase, with the lease they go back to if it rolls back.
+     */
+    private record Acquired(Lease lease, InventoryLeaseRepository.Sale sale) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.forsaken.ecommerce.product.service;
+
+import com.forsaken.ecommerce.product.dto.HotSkuReservation;
+
+import java.util.SortedMap;
+
+/**
+ * Optional reservation layer admitting purchases of hot products (flash sale SKUs)
+ * from striped in-memory counters instead of locking their product rows.
+ *
+ * <p>Counters are fed by stock leased from the product table in chunks; sold units
+ * are journalled in an outbox within the purchase transaction and written behind
+ * to the product table in batches. When the layer is disabled every line is
+ * treated as cold and left to the database path.
+ */
+public interface IHotSkuReservationService {
+
+    /**
+     * Reserves the hot lines of a basket in memory, all or nothing.
+     *
+     * <p>When called inside a transaction the reserved units are journalled in the
+     * same transaction and handed back to the counters if it rolls back.
+     *
+     * @param quantities requested quantity per product id
+     * @return the hot lines that were reserved, or the hot products that could not be served
+     */
+    HotSkuReservation reserve(final SortedMap<Integer, Double> quantities);
+
+    /**
+     * Writes journalled sales behind to the product table, tops up running-low
+     * counters and reclaims the leases of crashed instances.
+     */
+    void flush();
+}
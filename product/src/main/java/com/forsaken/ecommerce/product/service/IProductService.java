@@ -1,6 +1,7 @@
 package com.forsaken.ecommerce.product.service;
 
 import com.forsaken.ecommerce.common.exceptions.ProductNotFoundExceptions;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
 import com.forsaken.ecommerce.common.responses.PagedResponse;
 import com.forsaken.ecommerce.product.dto.ProductPurchaseRequest;
 import com.forsaken.ecommerce.product.dto.ProductPurchaseResponse;
@@ -48,6 +49,7 @@ public interface IProductService {
      * @param size       the number of items per page
      * @return a {@link PagedResponse} containing a list of {@link ProductResponse} objects
      */
+    @Transactional(readOnly = true)
     PagedResponse<ProductResponse> getAllProducts(
             final Boolean signedUrls,
             final int page,
@@ -55,6 +57,28 @@ public interface IProductService {
     );
 
 
+    /**
+     * Retrieves a slice of products using keyset (cursor) pagination.
+     *
+     * <p>Unlike {@link #getAllProducts(Boolean, int, int)} no total count is
+     * computed and the latency of a page does not depend on its depth.
+     *
+     * @param signedUrls whether to include signed URLs for product images
+     * @param cursor     the continuation token of the previous slice, or {@code null} for the first one
+     * @param size       the number of items per slice; values below 1 fall back to 3
+     *                   and values above 100 are capped
+     * @return a {@link CursorPagedResponse} containing a list of {@link ProductResponse} objects
+     * @throws org.springframework.web.server.ResponseStatusException with status 400 if the
+     *                                                              cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    CursorPagedResponse<ProductResponse> getAllProducts(
+            final Boolean signedUrls,
+            final String cursor,
+            final int size
+    );
+
+
     /**
      * Retrieves detailed product information for the given product ID.
      *
@@ -77,13 +101,16 @@ public interface IProductService {
      * <p>This method decreases product quantities, calculates total amounts,
      * and returns a paginated list of purchase results.
      *
-     * <p>The transaction rolls back if any product in the request is not found.
+     * <p>All lines are reserved with a single conditional update, so concurrent
+     * buyers of the same product can never oversell it. The basket is all or
+     * nothing: the transaction rolls back if any product in the request is not
+     * found or does not have enough stock left.
      *
      * @param request list of purchase requests; must not be {@code null}
      * @param page    page index starting from 1
      * @param size    number of elements per page
      * @return a {@link PagedResponse} containing {@link ProductPurchaseResponse} items
-     * @throws ProductNotFoundExceptions if any product in the purchase request is missing
+     * @throws ProductNotFoundExceptions if any product in the purchase request is missing or out of stock
      */
     @Transactional(rollbackFor = ProductNotFoundExceptions.class)
     PagedResponse<ProductPurchaseResponse> purchaseProducts(
@@ -93,6 +120,23 @@ public interface IProductService {
     ) throws ProductNotFoundExceptions;
 
 
+    /**
+     * Returns stock reserved by an earlier {@link #purchaseProducts(List, int, int)}
+     * call, typically because the order it was reserved for could not be paid.
+     *
+     * <p>Repeated lines for the same product are summed and every product is
+     * restored with a single update. The order reference is recorded in the same
+     * transaction, so releasing the stock of an order again restores nothing.
+     *
+     * @param reference the order the stock was purchased for; must not be {@code null}
+     * @param request   the purchased lines to give back; must not be {@code null}
+     * @return the number of products whose stock was restored, {@code 0} if the
+     * stock of this order had already been released
+     */
+    @Transactional
+    Integer releaseProducts(final String reference, final List<ProductPurchaseRequest> request);
+
+
     /**
      * Retrieves products created between the specified start and end timestamps.
      *
@@ -105,6 +149,7 @@ public interface IProductService {
      * @param size     number of items per page
      * @return a paginated list of {@link ProductResponse} objects
      */
+    @Transactional(readOnly = true)
     PagedResponse<ProductResponse> findAllProducts(
             final LocalDateTime fromDate,
             final LocalDateTime toDate,
@@ -130,6 +175,7 @@ public interface IProductService {
      * @return a paginated list of {@link ProductResponse} objects matching the filter
      * @throws CategoryNotFoundExceptions if the category does not exist
      */
+    @Transactional(readOnly = true)
     PagedResponse<ProductResponse> findAllProductsByCategory(
             final Integer categoryId,
             final BigDecimal price,
@@ -1,6 +1,7 @@
 package com.forsaken.ecommerce.product.service;
 
 
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -30,8 +31,22 @@ public interface IS3Service {
      * <p>The generated URL provides time-limited access to the specified object,
      * allowing clients to retrieve protected content without exposing AWS credentials.
      *
+     * <p>URLs are cached per object key and reused while their signature still has
+     * more than the configured safety margin left.
+     *
      * @param imageUrl the full S3 object key for the file; must not be {@code null}
      * @return a temporarily valid URL that can be used to download the object from S3
      */
     String generatePresignedDownloadUrl(final String imageUrl);
+
+    /**
+     * Generates presigned download URLs for several files at once, e.g. a page of products.
+     *
+     * <p>Cached URLs are reused and all remaining keys are signed in a single cache load.
+     * {@code null} entries are skipped.
+     *
+     * @param imageUrls the S3 object keys of the files
+     * @return the presigned URL of each non-null entry of {@code imageUrls}, keyed by that entry
+     */
+    Map<String, String> generatePresignedDownloadUrls(final Collection<String> imageUrls);
 }
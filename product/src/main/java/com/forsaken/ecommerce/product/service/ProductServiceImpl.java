@@ -1,7 +1,10 @@
 package com.forsaken.ecommerce.product.service;
 
 import com.forsaken.ecommerce.common.exceptions.ProductNotFoundExceptions;
+import com.forsaken.ecommerce.common.pagination.CursorCodec;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
 import com.forsaken.ecommerce.common.responses.PagedResponse;
+import com.forsaken.ecommerce.product.dto.HotSkuReservation;
 import com.forsaken.ecommerce.product.dto.ProductPurchaseRequest;
 import com.forsaken.ecommerce.product.dto.ProductPurchaseResponse;
 import com.forsaken.ecommerce.product.dto.ProductRequest;
@@ -11,19 +14,27 @@ import com.forsaken.ecommerce.product.model.Category;
 import com.forsaken.ecommerce.product.model.Product;
 import com.forsaken.ecommerce.product.repository.ICategoryRepository;
 import com.forsaken.ecommerce.product.repository.IProductRepository;
+import com.forsaken.ecommerce.product.repository.ProductStockRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import static com.forsaken.ecommerce.product.dto.ProductRequest.Direction;
@@ -35,7 +46,11 @@ import static com.forsaken.ecommerce.product.dto.ProductRequest.Direction.GE;
 @RequiredArgsConstructor
 public class ProductServiceImpl implements IProductService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final IProductRepository repository;
+    private final ProductStockRepository stockRepository;
+    private final IHotSkuReservationService hotSkuReservationService;
     private final ICategoryRepository categoryRepository;
     private final IS3Service s3Service;
     private final Class<?> className = ProductServiceImpl.class;
@@ -54,7 +69,7 @@ public class ProductServiceImpl implements IProductService {
 
 
         if (signedUrls && productPage.hasContent())
-            productPage.forEach(p -> p.setImageUrl(s3Service.generatePresignedDownloadUrl(p.getImageUrl())));
+            signImageUrls(productPage.getContent());
 
         final List<ProductResponse> content = productPage.getContent()
                 .stream()
@@ -70,6 +85,33 @@ public class ProductServiceImpl implements IProductService {
                 .build();
     }
 
+    @Override
+    public CursorPagedResponse<ProductResponse> getAllProducts(final Boolean signedUrls, final String cursor, final int size) {
+        final int safeSize = size <= 0 ? 3 : Math.min(size, MAX_CURSOR_PAGE_SIZE);
+        int afterId = 0;
+        if (cursor != null) {
+            try {
+                afterId = Integer.parseInt(CursorCodec.decode(cursor, 1)[0]);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + cursor, e);
+            }
+        }
+        // Fetch one extra row to learn whether another slice follows.
+        final List<Product> products = repository.findAllWithCategoryAfter(afterId, PageRequest.of(0, safeSize + 1));
+        final boolean hasNext = products.size() > safeSize;
+        final List<Product> slice = hasNext ? products.subList(0, safeSize) : products;
+
+        if (signedUrls)
+            signImageUrls(slice);
+
+        return CursorPagedResponse.<ProductResponse>builder()
+                .content(slice.stream().map(Product::toProductResponse).toList())
+                .size(safeSize)
+                .nextCursor(hasNext ? CursorCodec.encode(slice.get(slice.size() - 1).getId()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
     @Override
     public ProductResponse getProductById(final Integer id, final boolean signedUrl) throws ProductNotFoundExceptions {
         log.info("Received request to get product by ID {}", id);
@@ -91,32 +133,41 @@ public class ProductServiceImpl implements IProductService {
     ) throws ProductNotFoundExceptions {
 
         log.info("Received request to purchase products {}", request);
-        final var productIds = request
+        // Collapse repeated lines for the same product so each row is decremented once.
+        final SortedMap<Integer, Double> quantities = request
                 .stream()
-                .map(ProductPurchaseRequest::productId)
-                .toList();
-        final var storedProducts = repository.findAllByIdInOrderById(productIds);
-        if (productIds.size() != storedProducts.size()) {
-            throw new ProductNotFoundExceptions("One or more products does not exist",
+                .collect(Collectors.toMap(
+                        ProductPurchaseRequest::productId,
+                        ProductPurchaseRequest::quantity,
+                        Double::sum,
+                        TreeMap::new
+                ));
+        final HotSkuReservation hotReservation = hotSkuReservationService.reserve(quantities);
+        if (hotReservation.isRejected()) {
+            throw new ProductNotFoundExceptions("Insufficient stock quantity for product with ID(s):: " + hotReservation.rejectedProductIds(),
                     "purchaseProducts(List<ProductPurchaseRequest> request) in " + className);
         }
-        final var sortedRequest = request
-                .stream()
-                .sorted(Comparator.comparing(ProductPurchaseRequest::productId))
-                .toList();
-        final var purchasedProducts = new ArrayList<ProductPurchaseResponse>();
-        for (int i = 0; i < storedProducts.size(); i++) {
-            final var product = storedProducts.get(i);
-            final var productRequest = sortedRequest.get(i);
-            if (product.getAvailableQuantity() < productRequest.quantity()) {
-                throw new ProductNotFoundExceptions("Insufficient stock quantity for product with ID:: " + productRequest.productId(),
+        final SortedMap<Integer, Double> coldQuantities = new TreeMap<>(quantities);
+        hotReservation.purchased().forEach(line -> coldQuantities.remove(line.productId()));
+
+        final List<ProductPurchaseResponse> purchasedProducts = new ArrayList<>(hotReservation.purchased());
+        if (!coldQuantities.isEmpty()) {
+            final List<ProductPurchaseResponse> reserved = stockRepository.reserveStock(coldQuantities);
+            if (reserved.size() != coldQuantities.size()) {
+                final Set<Integer> reservedIds = reserved
+                        .stream()
+                        .map(ProductPurchaseResponse::productId)
+                        .collect(Collectors.toSet());
+                final List<Integer> rejectedIds = coldQuantities.keySet()
+                        .stream()
+                        .filter(id -> !reservedIds.contains(id))
+                        .toList();
+                throw new ProductNotFoundExceptions("Product does not exist or has insufficient stock quantity for ID(s):: " + rejectedIds,
                         "purchaseProducts(List<ProductPurchaseRequest> request) in " + className);
             }
-            final var newAvailableQuantity = product.getAvailableQuantity() - productRequest.quantity();
-            product.setAvailableQuantity(newAvailableQuantity);
-            repository.save(product);
-            purchasedProducts.add(product.toproductPurchaseResponse(productRequest.quantity()));
+            purchasedProducts.addAll(reserved);
         }
+        purchasedProducts.sort(Comparator.comparing(ProductPurchaseResponse::productId));
 
         final int finalPage = Math.max(page - 1, 0);
         final int start = finalPage * size;
@@ -134,6 +185,28 @@ public class ProductServiceImpl implements IProductService {
                 .build();
     }
 
+    @Override
+    public Integer releaseProducts(final String reference, final List<ProductPurchaseRequest> request) {
+        log.info("Received request to release products {} of order {}", request, reference);
+        if (!stockRepository.recordRelease(reference)) {
+            log.info("Stock of order {} has already been released", reference);
+            return 0;
+        }
+        final SortedMap<Integer, Double> quantities = request
+                .stream()
+                .collect(Collectors.toMap(
+                        ProductPurchaseRequest::productId,
+                        ProductPurchaseRequest::quantity,
+                        Double::sum,
+                        TreeMap::new
+                ));
+        final int released = stockRepository.releaseStock(quantities);
+        if (released != quantities.size()) {
+            log.warn("Released stock of {} out of {} products, unknown ids were skipped", released, quantities.size());
+        }
+        return released;
+    }
+
     @Override
     public PagedResponse<ProductResponse> findAllProducts(LocalDateTime fromDate,
                                                           LocalDateTime toDate,
@@ -144,25 +217,12 @@ public class ProductServiceImpl implements IProductService {
 
         if (toDate == null) toDate = LocalDateTime.now();
         if (fromDate == null) fromDate = toDate.minusMonths(6);
-        final List<ProductResponse> responses = repository.findAllByAdditionDateBetween(fromDate, toDate)
-                .stream()
-                .map(Product::toProductResponse)
-                .toList();
-
-        final int finalPage = Math.max(page - 1, 0);
-        final int start = finalPage * size;
-        final int end = Math.min(start + size, responses.size());
-
-        final List<ProductResponse> pagedContent =
-                (start >= responses.size()) ? List.of() : responses.subList(start, end);
-        final int totalPages = (int) Math.ceil((double) responses.size() / size);
-        return PagedResponse.<ProductResponse>builder()
-                .content(pagedContent)
-                .page(finalPage + 1)
-                .size(size)
-                .totalElements(responses.size())
-                .totalPages(totalPages)
-                .build();
+        final Pageable pageable = PageRequest.of(
+                Math.max(page - 1, 0),
+                size,
+                Sort.by(Sort.Order.desc("additionDate"), Sort.Order.asc("id"))
+        );
+        return toPagedResponse(repository.findPageByAdditionDateBetween(fromDate, toDate, pageable));
     }
 
     @Override
@@ -182,28 +242,33 @@ public class ProductServiceImpl implements IProductService {
                                         "Direction direction,int page,int size) in " + className)
                 );
 
-        List<ProductResponse> products = null;
-        if (GE.equals(direction)) {
-            products = repository.findAllByCategoryAndPriceGreaterThanEqual(category, price)
-                    .stream().map(Product::toProductResponse).collect(Collectors.toList());
-        } else {
-            products = repository.findAllByCategoryAndPriceLessThanEqual(category, price)
-                    .stream().map(Product::toProductResponse).collect(Collectors.toList());
-        }
+        final Pageable pageable = PageRequest.of(
+                Math.max(page - 1, 0),
+                size,
+                Sort.by(Sort.Order.asc("price"), Sort.Order.asc("id"))
+        );
+        final Page<Product> productPage = GE.equals(direction)
+                ? repository.findPageByCategoryAndPriceGreaterThanEqual(category, price, pageable)
+                : repository.findPageByCategoryAndPriceLessThanEqual(category, price, pageable);
+        return toPagedResponse(productPage);
+    }
 
-        final int finalPage = Math.max(page - 1, 0);
-        final int start = finalPage * size;
-        final int end = Math.min(start + size, products.size());
+    private void signImageUrls(final List<Product> products) {
+        final Map<String, String> signed = s3Service.generatePresignedDownloadUrls(
+                products.stream().map(Product::getImageUrl).toList());
+        products.forEach(p -> p.setImageUrl(signed.getOrDefault(p.getImageUrl(), p.getImageUrl())));
+    }
 
-        final List<ProductResponse> pagedContent =
-                (start >= products.size()) ? List.of() : products.subList(start, end);
-        final int totalPages = (int) Math.ceil((double) products.size() / size);
+    private PagedResponse<ProductResponse> toPagedResponse(final Page<Product> productPage) {
         return PagedResponse.<ProductResponse>builder()
-                .content(pagedContent)
-                .page(finalPage + 1)
-                .size(size)
-                .totalElements(products.size())
-                .totalPages(totalPages)
+                .content(productPage.getContent()
+                        .stream()
+                        .map(Product::toProductResponse)
+                        .toList())
+                .page(productPage.getNumber() + 1)
+                .size(productPage.getSize())
+                .totalElements(productPage.getTotalElements())
+                .totalPages(productPage.getTotalPages())
                 .build();
     }
 }
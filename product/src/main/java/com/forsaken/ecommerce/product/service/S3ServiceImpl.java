@@ -1,8 +1,12 @@
 package com.forsaken.ecommerce.product.service;
 
 
+import com.forsaken.ecommerce.product.configs.s3.PresignedUrlCacheProperties;
 import com.forsaken.ecommerce.product.configs.s3.S3Properties;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -12,16 +16,45 @@ import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequ
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+/**
+ * {@link IS3Service} backed by {@link S3Presigner}.
+ *
+ * <p>Download URLs are cached per object key in a bounded Caffeine cache and reused
+ * until a safety margin before their signature expires, so repeated catalogue
+ * reads do not sign the same key again. Metrics are exposed through
+ * {@link CaffeineCacheMetrics} as {@code cache.*{cache=product.presigned-url}}.</p>
+ */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class S3ServiceImpl implements IS3Service {
 
     private final S3Properties s3Properties;
     private final S3Presigner presigner;
+    private final Cache<String, String> downloadUrls;
+
+    public S3ServiceImpl(
+            final S3Properties s3Properties,
+            final PresignedUrlCacheProperties cacheProperties,
+            final S3Presigner presigner,
+            final MeterRegistry meterRegistry
+    ) {
+        this.s3Properties = s3Properties;
+        this.presigner = presigner;
+        this.downloadUrls = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.maxSize())
+                .expireAfterWrite(Duration.ofMinutes(s3Properties.expiration() - cacheProperties.safetyMarginMinutes()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, downloadUrls, "product.presigned-url");
+    }
 
     @Override
     public Map<String, String> generatePresignedUploadUrl(
@@ -55,8 +88,33 @@ public class S3ServiceImpl implements IS3Service {
 
     @Override
     public String generatePresignedDownloadUrl(final String imageUrl) {
-        log.info("Generate Presigned Download URL for image: {}", imageUrl);
-        final String key = imageUrl.substring(imageUrl.lastIndexOf("/uploads") + 1);
+        return downloadUrls.get(keyOf(imageUrl), this::presignDownload);
+    }
+
+    @Override
+    public Map<String, String> generatePresignedDownloadUrls(final Collection<String> imageUrls) {
+        final Set<String> keys = imageUrls.stream()
+                .filter(Objects::nonNull)
+                .map(this::keyOf)
+                .collect(Collectors.toSet());
+        final Map<String, String> urlsByKey = downloadUrls.getAll(keys, missing -> {
+            log.debug("Presigning {} of {} download URLs", missing.size(), keys.size());
+            final Map<String, String> signed = new HashMap<>();
+            missing.forEach(key -> signed.put(key, presignDownload(key)));
+            return signed;
+        });
+        final Map<String, String> result = new HashMap<>();
+        imageUrls.stream()
+                .filter(Objects::nonNull)
+                .forEach(imageUrl -> result.put(imageUrl, urlsByKey.get(keyOf(imageUrl))));
+        return result;
+    }
+
+    private String keyOf(final String imageUrl) {
+        return imageUrl.substring(imageUrl.lastIndexOf("/uploads") + 1);
+    }
+
+    private String presignDownload(final String key) {
         final GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(s3Properties.bucketName())
                 .key(key)
@@ -71,7 +129,7 @@ public class S3ServiceImpl implements IS3Service {
             throw new IllegalStateException("Unable to generate presigned download URL");
         }
 
-        log.info("Presigned Download URL: {}", presignedGet.url());
+        log.debug("Presigned download URL for key {}", key);
         return presignedGet.url().toString();
     }
 }
@@ -0,0 +1,99 @@
+package com.forsaken.ecommerce.product.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free stock counter split over several stripes.
+ *
+ * <p>Each buyer thread starts on its own stripe, so concurrent purchases of the
+ * same product mostly CAS different cache lines instead of contending on one.
+ * When no single stripe holds enough units the request falls back to gathering
+ * units across stripes, giving them back if the total is still short.
+ */
+public final class StripedStockCounter {
+
+    private final AtomicLong[] stripes;
+
+    public StripedStockCounter(final int stripes) {
+        this.stripes = new AtomicLong[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * Takes {@code units} from the counter if enough are available.
+     *
+     * @param units units to take; must be positive
+     * @return {@code true} if the units were taken
+     */
+    public boolean tryAcquire(final long units) {
+        final int home = homeStripe();
+        for (int i = 0; i < stripes.length; i++) {
+            final AtomicLong stripe = stripes[(home + i) % stripes.length];
+            long current = stripe.get();
+            while (current >= units) {
+                if (stripe.compareAndSet(current, current - units)) {
+                    return true;
+                }
+                current = stripe.get();
+            }
+        }
+        return gather(units);
+    }
+
+    /**
+     * Adds units to the counter, spreading them evenly over the stripes.
+     *
+     * @param units units to add
+     */
+    public void add(final long units) {
+        final long share = units / stripes.length;
+        for (final AtomicLong stripe : stripes) {
+            stripe.addAndGet(share);
+        }
+        stripes[homeStripe()].addAndGet(units - share * stripes.length);
+    }
+
+    /**
+     * Takes every unit currently held by the counter.
+     *
+     * @return the units taken
+     */
+    public long drain() {
+        long total = 0;
+        for (final AtomicLong stripe : stripes) {
+            total += stripe.getAndSet(0);
+        }
+        return total;
+    }
+
+    /**
+     * @return units currently available over all stripes
+     */
+    public long available() {
+        long total = 0;
+        for (final AtomicLong stripe : stripes) {
+            total += stripe.get();
+        }
+        return total;
+    }
+
+    private boolean gather(final long units) {
+        long taken = 0;
+        for (int i = 0; i < stripes.length && taken < units; i++) {
+            final long missing = units - taken;
+            final long before = stripes[i].getAndUpdate(v -> v - Math.min(v, missing));
+            taken += Math.min(before, missing);
+        }
+        if (taken < units) {
+            stripes[homeStripe()].addAndGet(taken);
+            return false;
+        }
+        return true;
+    }
+
+    private int homeStripe() {
+        return (int) (Thread.currentThread().threadId() % stripes.length);
+    }
+}
@@ -0,0 +1,28 @@
+-- Units of stock leased to product-service instances for in-memory admission.
+-- Cold purchases may only consume available_quantity - leased_quantity.
+ALTER TABLE product
+    ADD COLUMN IF NOT EXISTS leased_quantity DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+-- Stock each instance currently holds in its striped counters (sold units included
+-- until they are flushed). heartbeat_at lets peers reclaim leases of crashed instances.
+CREATE TABLE IF NOT EXISTS inventory_lease
+(
+    product_id   INTEGER          NOT NULL REFERENCES product (id),
+    instance_id  VARCHAR(64)      NOT NULL,
+    quantity     DOUBLE PRECISION NOT NULL,
+    heartbeat_at TIMESTAMP        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (product_id, instance_id)
+);
+
+-- Durable journal of units sold from memory, written in the purchase transaction
+-- and folded into the product table in batches by the write-behind flusher.
+CREATE TABLE IF NOT EXISTS inventory_outbox
+(
+    id          BIGSERIAL PRIMARY KEY,
+    product_id  INTEGER          NOT NULL,
+    instance_id VARCHAR(64)      NOT NULL,
+    quantity    DOUBLE PRECISION NOT NULL,
+    created_at  TIMESTAMP        NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_inventory_outbox_instance ON inventory_outbox (instance_id, id);
@@ -0,0 +1,7 @@
+-- Backs the paged date-range listing (ORDER BY addition_date DESC, id).
+CREATE INDEX IF NOT EXISTS idx_product_addition_date
+    ON product (addition_date, id);
+
+-- Backs the paged category listing filtered and ordered by price.
+CREATE INDEX IF NOT EXISTS idx_product_category_price
+    ON product (category_id, price, id);
@@ -0,0 +1,46 @@
+-- Every lease row gets a generation, new each time the row is created. A lease that
+-- was reclaimed and later taken again by the same instance is a new generation.
+CREATE SEQUENCE IF NOT EXISTS inventory_lease_generation_seq;
+
+ALTER TABLE inventory_lease
+    ADD COLUMN IF NOT EXISTS generation BIGINT NOT NULL DEFAULT nextval('inventory_lease_generation_seq');
+
+ALTER TABLE inventory_lease
+    ADD CONSTRAINT uk_inventory_lease_generation UNIQUE (product_id, instance_id, generation);
+
+-- Journal rows name the lease generation they were sold from.
+ALTER TABLE inventory_outbox
+    ADD COLUMN IF NOT EXISTS generation BIGINT;
+
+UPDATE inventory_outbox o
+SET generation = l.generation
+FROM inventory_lease l
+WHERE l.product_id = o.product_id
+  AND l.instance_id = o.instance_id;
+
+-- Rows journalled after their lease was reclaimed: the lease was already handed back,
+-- so the units only come off the available stock.
+WITH orphaned AS (
+    DELETE FROM inventory_outbox
+    WHERE generation IS NULL
+    RETURNING product_id, quantity
+), sold AS (
+    SELECT product_id, sum(quantity) AS quantity FROM orphaned GROUP BY product_id
+)
+UPDATE product p
+SET available_quantity = p.available_quantity - s.quantity
+FROM sold s
+WHERE p.id = s.product_id;
+
+ALTER TABLE inventory_outbox
+    ALTER COLUMN generation SET NOT NULL;
+
+-- A purchase can only journal units of a lease that still exists in the generation it
+-- sold from. Once a lease is reclaimed, purchases still holding its units fail at
+-- commit instead of being folded into stock that was already handed back. The check
+-- key-share locks the lease row, so a reclaim (FOR UPDATE SKIP LOCKED) passes over a
+-- lease with purchases in flight.
+ALTER TABLE inventory_outbox
+    ADD CONSTRAINT fk_inventory_outbox_lease
+        FOREIGN KEY (product_id, instance_id, generation)
+            REFERENCES inventory_lease (product_id, instance_id, generation);
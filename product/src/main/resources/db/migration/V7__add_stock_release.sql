@@ -0,0 +1,8 @@
+-- One row per order whose stock has been released. Written in the same transaction as
+-- the release itself, so a redelivered or retried compensation finds its reference
+-- taken and restores nothing a second time.
+CREATE TABLE IF NOT EXISTS stock_release
+(
+    reference   VARCHAR(255) PRIMARY KEY,
+    released_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,237 @@
+package com.forsaken.ecommerce.product.configs.aurora;
+
+import com.forsaken.ecommerce.common.datasource.DataSourcePoolProperties;
+import com.forsaken.ecommerce.common.datasource.PooledDataSourceFactory;
+import com.forsaken.ecommerce.common.datasource.ReadReplicaRouter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Routing tests for {@link ReadReplicaRouter} and
+ * {@link PooledDataSourceFactory#readWriteSplit}, run against two PostgreSQL
+ * instances standing in for the writer and a reader endpoint.
+ *
+ * <p>Each instance holds a one-row {@code endpoint} table naming itself, so a query
+ * tells which instance served it. The tests verify that:
+ * <ul>
+ *     <li>Read-only transactions are served by the reader</li>
+ *     <li>Read-write transactions are served by the writer</li>
+ *     <li>Reads fall back to the writer when the reader is unreachable or lagging</li>
+ * </ul>
+ *
+ * <p>Both instances are started with Testcontainers; the class is skipped when
+ * Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReadReplicaRoutingTest {
+
+    private static final long MAX_LAG_MS = 1_000;
+    private static final DataSourcePoolProperties POOL_PROPERTIES =
+            new DataSourcePoolProperties(4, 0, 1000L, 10000L, 30000L, 0L, 5, 256, 5);
+
+    @Container
+    private static final PostgreSQLContainer<?> WRITER = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    private static final PostgreSQLContainer<?> READER = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static HikariDataSource writer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void createEndpoints() {
+        writer = PooledDataSourceFactory.create(
+                "product-pool", WRITER.getJdbcUrl(), WRITER.getUsername(), WRITER.getPassword(),
+                POOL_PROPERTIES, new SimpleMeterRegistry());
+        nameEndpoint(writer, "writer");
+        try (HikariDataSource reader = PooledDataSourceFactory.create(
+                "seed-pool", READER.getJdbcUrl(), READER.getUsername(), READER.getPassword(),
+                POOL_PROPERTIES, new SimpleMeterRegistry())) {
+            nameEndpoint(reader, "reader");
+        }
+    }
+
+    @AfterAll
+    static void close() {
+        writer.close();
+    }
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    /**
+     * A {@code readOnly} transaction must be served by a reader that keeps up with the writer.
+     */
+    @Test
+    void readOnlyTransaction_ShouldUseReader() throws Exception {
+        // Given
+        try (ReadReplicaRouter router = constructRouter(READER.getJdbcUrl())) {
+            router.refreshLag();
+
+            // When
+            final String endpoint = queryEndpoint(router, true);
+
+            // Then
+            assertEquals("reader", endpoint);
+            assertEquals(1.0, routed("product-reader-pool-1", "read-only"));
+        }
+    }
+
+    /**
+     * A read-write transaction must be served by the writer even when a reader is available.
+     */
+    @Test
+    void readWriteTransaction_ShouldUseWriter() throws Exception {
+        // Given
+        try (ReadReplicaRouter router = constructRouter(READER.getJdbcUrl())) {
+            router.refreshLag();
+
+            // When
+            final String endpoint = queryEndpoint(router, false);
+
+            // Then
+            assertEquals("writer", endpoint);
+            assertEquals(0.0, routed("product-reader-pool-1", "read-only"));
+        }
+    }
+
+    /**
+     * A read must fall back to the writer when no reader answers the lag probe.
+     */
+    @Test
+    void unreachableReader_ShouldFallBackToWriter() throws Exception {
+        // Given
+        try (ReadReplicaRouter router = constructRouter("jdbc:postgresql://localhost:1/test")) {
+            router.refreshLag();
+
+            // When
+            final String endpoint = queryEndpoint(router, true);
+
+            // Then
+            assertEquals("writer", endpoint);
+            assertEquals(1.0, routed("product-pool", "replica-unavailable"));
+        }
+    }
+
+    /**
+     * A read must fall back to the writer when every reader lags by more than the allowed
+     * maximum, and the measured lag must be published.
+     */
+    @Test
+    void laggingReader_ShouldFallBackToWriter() throws Exception {
+        // Given
+        try (ReadReplicaRouter router = new ReadReplicaRouter(
+                Map.of("lagging-reader", constructLaggingReader(5_000)), MAX_LAG_MS, meterRegistry)) {
+            router.refreshLag();
+
+            // When
+            final String endpoint = queryEndpoint(router, true);
+
+            // Then
+            assertEquals("writer", endpoint);
+            assertEquals(1.0, routed("product-pool", "replica-lag"));
+            assertEquals(5_000.0, meterRegistry.get("datasource.replica.lag")
+                    .tag("target", "lagging-reader").timeGauge().value(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * Creates the one-row {@code endpoint} table naming the instance behind {@code dataSource}.
+     *
+     * @param dataSource pool of the instance
+     * @param name       name stored in the table
+     */
+    private static void nameEndpoint(final DataSource dataSource, final String name) {
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS endpoint (name varchar(16) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO endpoint (name) VALUES (?)", name);
+    }
+
+    /**
+     * Runs one transaction on the routing data source and reads which instance served it.
+     *
+     * @param router   reader endpoints
+     * @param readOnly whether the transaction is read-only
+     * @return the name of the serving instance
+     */
+    private String queryEndpoint(final ReadReplicaRouter router, final boolean readOnly) {
+        final DataSource dataSource = PooledDataSourceFactory.readWriteSplit("product-pool", writer, router);
+        final TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT name FROM endpoint", String.class));
+    }
+
+    /**
+     * Helper method to construct a router over a single reader.
+     *
+     * @param jdbcUrl jdbc url of the reader
+     * @return a {@link ReadReplicaRouter} publishing to the test registry
+     */
+    private ReadReplicaRouter constructRouter(final String jdbcUrl) {
+        return ReadReplicaRouter.create(
+                "product-reader-pool",
+                List.of(jdbcUrl),
+                READER.getUsername(),
+                READER.getPassword(),
+                POOL_PROPERTIES,
+                MAX_LAG_MS,
+                meterRegistry
+        );
+    }
+
+    /**
+     * Helper method to construct a reader whose lag probe reports {@code lagMs}.
+     *
+     * @param lagMs replication lag returned by the probe
+     * @return a mocked reader {@link DataSource}
+     */
+    private DataSource constructLaggingReader(final double lagMs) throws Exception {
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+        final Statement statement = mock(Statement.class);
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagMs);
+        return dataSource;
+    }
+
+    /**
+     * @return the number of read-only connections {@code target} served for {@code reason}
+     */
+    private double routed(final String target, final String reason) {
+        return meterRegistry.get("datasource.routing").tag("target", target).tag("reason", reason)
+                .counter().count();
+    }
+}
@@ -194,6 +194,36 @@ class ProductControllerImplTest {
         verifyNoInteractions(s3Service);
     }
 
+    /**
+     * Tests releasing the stock of a previously purchased basket.
+     *
+     * <p>Ensures that the controller:
+     * <ul>
+     *     <li>Delegates to {@link IProductService#releaseProducts(String, List)}</li>
+     *     <li>Returns HTTP 200 (OK)</li>
+     *     <li>Wraps the number of restored products inside {@link ApiResponse}</li>
+     *     <li>Does not interact with {@link IS3Service}</li>
+     * </ul>
+     */
+    @Test
+    void releaseProducts_ShouldReturnOkWithReleasedCount() {
+        // given
+        final List<ProductPurchaseRequest> req = List.of(productPurchaseRequest);
+        when(service.releaseProducts("ORD-1", req)).thenReturn(1);
+
+        // when
+        final ResponseEntity<ApiResponse<Integer>> response = controller.releaseProducts("ORD-1", req);
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        final var body = response.getBody();
+        assertNotNull(body);
+        assertEquals(1, body.data());
+        assertEquals("Product Stock Released.", body.message());
+        verify(service).releaseProducts("ORD-1", req);
+        verifyNoInteractions(s3Service);
+    }
+
     /**
      * Tests successful retrieval of a product by ID.
      *
@@ -41,31 +41,6 @@ class ProductRepositoryTest {
     @Mock
     private IProductRepository repository;
 
-    /**
-     * Verifies that {@link IProductRepository#findAllByIdInOrderById(List)}
-     * returns the expected list of products when invoked with a list of IDs.
-     *
-     * <p>Ensures:
-     * <ul>
-     *     <li>The repository is called with the correct argument</li>
-     *     <li>The returned product list matches the mocked response</li>
-     * </ul>
-     */
-    @Test
-    void findAllByIdInOrderById_ShouldReturnProducts() {
-        // Given
-        final List<Integer> ids = List.of(1, 2, 3);
-        final List<Product> products = List.of(new Product(), new Product());
-        when(repository.findAllByIdInOrderById(ids)).thenReturn(products);
-
-        // When
-        List<Product> result = repository.findAllByIdInOrderById(ids);
-
-        // Then
-        assertEquals(products, result);
-        verify(repository).findAllByIdInOrderById(ids);
-    }
-
     /**
      * Verifies that {@link IProductRepository#findAllWithCategory(Pageable)}
      * returns a paginated list of products when invoked with a pageable request.
@@ -93,85 +68,88 @@ class ProductRepositoryTest {
     }
 
     /**
-     * Tests that {@link IProductRepository#findAllByAdditionDateBetween(LocalDateTime, LocalDateTime)}
-     * returns all products created within the given date range.
+     * Tests that {@link IProductRepository#findPageByAdditionDateBetween(LocalDateTime, LocalDateTime, Pageable)}
+     * returns one page of the products created within the given date range.
      *
      * <p>Ensures:
      * <ul>
-     *     <li>The repository receives the correct date parameters</li>
-     *     <li>The returned list matches the mocked data</li>
+     *     <li>The repository receives the correct date and pagination parameters</li>
+     *     <li>The returned {@link Page} matches the mocked data</li>
      * </ul>
      */
     @Test
-    void findAllByAdditionDateBetween_ShouldReturnProducts() {
+    void findPageByAdditionDateBetween_ShouldReturnPagedProducts() {
         // Given
         final LocalDateTime from = LocalDateTime.now().minusDays(7);
         final LocalDateTime to = LocalDateTime.now();
-        final List<Product> productList = List.of(new Product());
-        when(repository.findAllByAdditionDateBetween(from, to)).thenReturn(productList);
+        final Pageable pageable = PageRequest.of(0, 10);
+        final Page<Product> page = new PageImpl<>(List.of(new Product()), pageable, 1);
+        when(repository.findPageByAdditionDateBetween(from, to, pageable)).thenReturn(page);
 
         // When
-        final List<Product> result = repository.findAllByAdditionDateBetween(from, to);
+        final Page<Product> result = repository.findPageByAdditionDateBetween(from, to, pageable);
 
         // Then
-        assertEquals(productList, result);
-        verify(repository).findAllByAdditionDateBetween(from, to);
+        assertEquals(page, result);
+        verify(repository).findPageByAdditionDateBetween(from, to, pageable);
     }
 
 
     /**
-     * Verifies that {@link IProductRepository#findAllByCategoryAndPriceGreaterThanEqual(Category, BigDecimal)}
-     * returns all products whose price is greater than or equal to the provided limit.
+     * Verifies that {@link IProductRepository#findPageByCategoryAndPriceGreaterThanEqual(Category, BigDecimal, Pageable)}
+     * returns one page of the products whose price is greater than or equal to the provided limit.
      *
      * <p>Ensures:
      * <ul>
-     *     <li>Correct method invocation with category and price</li>
-     *     <li>Returned product list matches the expectation</li>
+     *     <li>Correct method invocation with category, price and pagination</li>
+     *     <li>Returned {@link Page} matches the expectation</li>
      * </ul>
      */
     @Test
-    void findAllByCategoryAndPriceGreaterThanEqual_ShouldReturnProducts() {
+    void findPageByCategoryAndPriceGreaterThanEqual_ShouldReturnPagedProducts() {
         // Given
         final Category category = new Category();
         final BigDecimal price = BigDecimal.valueOf(100);
-        final List<Product> productList = List.of(new Product());
-        when(repository.findAllByCategoryAndPriceGreaterThanEqual(category, price))
-                .thenReturn(productList);
+        final Pageable pageable = PageRequest.of(0, 10);
+        final Page<Product> page = new PageImpl<>(List.of(new Product()), pageable, 1);
+        when(repository.findPageByCategoryAndPriceGreaterThanEqual(category, price, pageable))
+                .thenReturn(page);
 
         // When
-        final List<Product> result =
-                repository.findAllByCategoryAndPriceGreaterThanEqual(category, price);
+        final Page<Product> result =
+                repository.findPageByCategoryAndPriceGreaterThanEqual(category, price, pageable);
 
         // Then
-        assertEquals(productList, result);
-        verify(repository).findAllByCategoryAndPriceGreaterThanEqual(category, price);
+        assertEquals(page, result);
+        verify(repository).findPageByCategoryAndPriceGreaterThanEqual(category, price, pageable);
     }
 
     /**
-     * Verifies that {@link IProductRepository#findAllByCategoryAndPriceLessThanEqual(Category, BigDecimal)}
-     * returns all products priced less than or equal to the provided amount.
+     * Verifies that {@link IProductRepository#findPageByCategoryAndPriceLessThanEqual(Category, BigDecimal, Pageable)}
+     * returns one page of the products priced less than or equal to the provided amount.
      *
      * <p>Ensures:
      * <ul>
-     *     <li>The repository receives the correct category and price parameters</li>
-     *     <li>The returned product list is exactly the mocked result</li>
+     *     <li>The repository receives the correct category, price and pagination parameters</li>
+     *     <li>The returned {@link Page} is exactly the mocked result</li>
      * </ul>
      */
     @Test
-    void findAllByCategoryAndPriceLessThanEqual_ShouldReturnProducts() {
+    void findPageByCategoryAndPriceLessThanEqual_ShouldReturnPagedProducts() {
         // Given
         final Category category = new Category();
         final BigDecimal price = BigDecimal.valueOf(100);
-        final List<Product> productList = List.of(new Product());
-        when(repository.findAllByCategoryAndPriceLessThanEqual(category, price))
-                .thenReturn(productList);
+        final Pageable pageable = PageRequest.of(0, 10);
+        final Page<Product> page = new PageImpl<>(List.of(new Product()), pageable, 1);
+        when(repository.findPageByCategoryAndPriceLessThanEqual(category, price, pageable))
+                .thenReturn(page);
 
         // When
-        final List<Product> result =
-                repository.findAllByCategoryAndPriceLessThanEqual(category, price);
+        final Page<Product> result =
+                repository.findPageByCategoryAndPriceLessThanEqual(category, price, pageable);
 
         // Then
-        assertEquals(productList, result);
-        verify(repository).findAllByCategoryAndPriceLessThanEqual(category, price);
+        assertEquals(page, result);
+        verify(repository).findPageByCategoryAndPriceLessThanEqual(category, price, pageable);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,237 @@
+package com.forsaken.ecommerce.product.repository;
+
+import com.forsaken.ecommerce.common.exceptions.ProductNotFoundExceptions;
+import com.forsaken.ecommerce.product.dto.HotSkuReservation;
+import com.forsaken.ecommerce.product.dto.ProductPurchaseRequest;
+import com.forsaken.ecommerce.product.service.IHotSkuReservationService;
+import com.forsaken.ecommerce.product.service.IS3Service;
+import com.forsaken.ecommerce.product.service.ProductServiceImpl;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Concurrency tests for {@link ProductStockRepository} running the real
+ * {@link ProductServiceImpl#purchaseProducts} path against PostgreSQL.
+ *
+ * <p>The tests hammer a single hot SKU from many threads and verify that:
+ * <ul>
+ *     <li>Exactly the available stock is sold, never more</li>
+ *     <li>A basket with one short line leaves every other line untouched</li>
+ *     <li>Baskets sharing several SKUs in different orders do not deadlock</li>
+ * </ul>
+ *
+ * <p>A throwaway PostgreSQL instance is started with Testcontainers and migrated
+ * with the service's Flyway scripts; the class is skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ProductStockRepositoryConcurrencyTest {
+
+    private static final int BUYERS = 32;
+    private static final int ATTEMPTS_PER_BUYER = 20;
+    private static final int HOT_STOCK = 100;
+    private static final int HOT_PRODUCT_ID = 1_000_001;
+    private static final int SCARCE_PRODUCT_ID = 1_000_002;
+    private static final int BULK_PRODUCT_ID = 1_000_003;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static HikariDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ProductServiceImpl service;
+
+    @BeforeAll
+    static void migrate() {
+        final HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(POSTGRES.getJdbcUrl());
+        config.setUsername(POSTGRES.getUsername());
+        config.setPassword(POSTGRES.getPassword());
+        config.setMaximumPoolSize(BUYERS);
+        dataSource = new HikariDataSource(config);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .load()
+                .migrate();
+    }
+
+    @AfterAll
+    static void close() {
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        final IHotSkuReservationService hotSkuReservationService = mock(IHotSkuReservationService.class);
+        when(hotSkuReservationService.reserve(any())).thenReturn(HotSkuReservation.none());
+        service = new ProductServiceImpl(
+                mock(IProductRepository.class),
+                new ProductStockRepository(jdbcTemplate),
+                hotSkuReservationService,
+                mock(ICategoryRepository.class),
+                mock(IS3Service.class)
+        );
+        upsertProduct(HOT_PRODUCT_ID, HOT_STOCK);
+        upsertProduct(SCARCE_PRODUCT_ID, 1);
+        upsertProduct(BULK_PRODUCT_ID, 100_000);
+    }
+
+    /**
+     * Many buyers race for the last units of one SKU; the number of successful
+     * purchases must equal the stock and the stock must end at exactly zero.
+     */
+    @Test
+    void purchaseProducts_ShouldNeverOversell_WhenManyBuyersHitOneSku() throws InterruptedException {
+        // Given
+        final List<ProductPurchaseRequest> basket = List.of(new ProductPurchaseRequest(HOT_PRODUCT_ID, 1));
+        final AtomicInteger purchased = new AtomicInteger();
+        final AtomicInteger rejected = new AtomicInteger();
+
+        // When
+        runConcurrently(() -> {
+            if (purchase(basket)) purchased.incrementAndGet();
+            else rejected.incrementAndGet();
+        });
+
+        // Then
+        assertEquals(HOT_STOCK, purchased.get());
+        assertEquals(BUYERS * ATTEMPTS_PER_BUYER - HOT_STOCK, rejected.get());
+        assertEquals(0d, availableQuantity(HOT_PRODUCT_ID));
+    }
+
+    /**
+     * A basket whose second line is short on stock must be rejected as a whole,
+     * leaving the stock of the first line untouched.
+     */
+    @Test
+    void purchaseProducts_ShouldRollbackWholeBasket_WhenOneLineIsShort() {
+        // Given
+        final List<ProductPurchaseRequest> basket = List.of(
+                new ProductPurchaseRequest(HOT_PRODUCT_ID, 5),
+                new ProductPurchaseRequest(SCARCE_PRODUCT_ID, 2)
+        );
+
+        // When
+        final boolean accepted = purchase(basket);
+
+        // Then
+        assertFalse(accepted);
+        assertEquals(HOT_STOCK, availableQuantity(HOT_PRODUCT_ID));
+        assertEquals(1d, availableQuantity(SCARCE_PRODUCT_ID));
+    }
+
+    /**
+     * Baskets that share two SKUs but list them in opposite orders must all go
+     * through without deadlocks, and every unit must be accounted for.
+     */
+    @Test
+    void purchaseProducts_ShouldNotDeadlock_WhenBasketsOverlapInDifferentOrder() throws InterruptedException {
+        // Given
+        jdbcTemplate.update("UPDATE product SET available_quantity = 100000 WHERE id = ?", HOT_PRODUCT_ID);
+        final List<ProductPurchaseRequest> forward = List.of(
+                new ProductPurchaseRequest(HOT_PRODUCT_ID, 1),
+                new ProductPurchaseRequest(BULK_PRODUCT_ID, 1)
+        );
+        final List<ProductPurchaseRequest> backward = List.of(
+                new ProductPurchaseRequest(BULK_PRODUCT_ID, 1),
+                new ProductPurchaseRequest(HOT_PRODUCT_ID, 1)
+        );
+        final AtomicInteger attempts = new AtomicInteger();
+        final AtomicInteger purchased = new AtomicInteger();
+
+        // When
+        runConcurrently(() -> {
+            final List<ProductPurchaseRequest> basket = attempts.incrementAndGet() % 2 == 0 ? forward : backward;
+            if (purchase(basket)) purchased.incrementAndGet();
+        });
+
+        // Then
+        final int total = BUYERS * ATTEMPTS_PER_BUYER;
+        assertEquals(total, purchased.get());
+        assertEquals(100_000d - total, availableQuantity(HOT_PRODUCT_ID));
+        assertEquals(100_000d - total, availableQuantity(BULK_PRODUCT_ID));
+    }
+
+    /**
+     * Runs the given purchase attempt {@link #ATTEMPTS_PER_BUYER} times on each of
+     * {@link #BUYERS} threads, all released at the same instant.
+     *
+     * @param attempt the purchase attempt to run
+     */
+    private void runConcurrently(final Runnable attempt) throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(BUYERS);
+        final CountDownLatch start = new CountDownLatch(1);
+        for (int buyer = 0; buyer < BUYERS; buyer++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ATTEMPTS_PER_BUYER; i++) {
+                    attempt.run();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(2, TimeUnit.MINUTES));
+    }
+
+    /**
+     * Purchases the basket in its own transaction, rolling back on rejection just
+     * like {@code @Transactional(rollbackFor = ProductNotFoundExceptions.class)}.
+     *
+     * @param basket the lines to purchase
+     * @return {@code true} if the basket was accepted
+     */
+    private boolean purchase(final List<ProductPurchaseRequest> basket) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            try {
+                service.purchaseProducts(basket, 1, basket.size());
+                return true;
+            } catch (ProductNotFoundExceptions e) {
+                status.setRollbackOnly();
+                return false;
+            }
+        }));
+    }
+
+    private void upsertProduct(final int id, final double quantity) {
+        jdbcTemplate.update("""
+                INSERT INTO product (id, available_quantity, description, name, price)
+                VALUES (?, ?, 'stress test product', 'Stress Product', 9.99)
+                ON CONFLICT (id) DO UPDATE SET available_quantity = EXCLUDED.available_quantity
+                """, id, quantity);
+    }
+
+    private double availableQuantity(final int id) {
+        return jdbcTemplate.queryForObject("SELECT available_quantity FROM product WHERE id = ?", Double.class, id);
+    }
+}
@@ -2,7 +2,10 @@ package com.forsaken.ecommerce.product.service;
 
 
 import com.forsaken.ecommerce.common.exceptions.ProductNotFoundExceptions;
+import com.forsaken.ecommerce.common.pagination.CursorCodec;
+import com.forsaken.ecommerce.common.responses.CursorPagedResponse;
 import com.forsaken.ecommerce.common.responses.PagedResponse;
+import com.forsaken.ecommerce.product.dto.HotSkuReservation;
 import com.forsaken.ecommerce.product.dto.ProductPurchaseRequest;
 import com.forsaken.ecommerce.product.dto.ProductPurchaseResponse;
 import com.forsaken.ecommerce.product.dto.ProductRequest;
@@ -12,8 +15,10 @@ import com.forsaken.ecommerce.product.model.Category;
 import com.forsaken.ecommerce.product.model.Product;
 import com.forsaken.ecommerce.product.repository.ICategoryRepository;
 import com.forsaken.ecommerce.product.repository.IProductRepository;
+import com.forsaken.ecommerce.product.repository.ProductStockRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,15 +26,26 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -58,6 +74,12 @@ class ProductServiceImplTest {
     @Mock
     private IProductRepository productRepository;
 
+    @Mock
+    private ProductStockRepository stockRepository;
+
+    @Mock
+    private IHotSkuReservationService hotSkuReservationService;
+
     @Mock
     private ICategoryRepository categoryRepository;
 
@@ -98,7 +120,7 @@ class ProductServiceImplTest {
      * Verifies that when signed URLs are enabled, the service:
      * <ul>
      *     <li>Fetches paginated products with categories</li>
-     *     <li>Generates presigned download URLs for product images</li>
+     *     <li>Generates presigned download URLs for all product images in one batch call</li>
      *     <li>Mutates the product entity to contain the signed URL</li>
      *     <li>Returns a {@link PagedResponse} containing the enriched DTOs</li>
      * </ul>
@@ -111,8 +133,8 @@ class ProductServiceImplTest {
         final Page<Product> page = new PageImpl<>(List.of(product), pageable, 1);
         when(productRepository.findAllWithCategory(pageable))
                 .thenReturn(page);
-        when(s3Service.generatePresignedDownloadUrl("image-key"))
-                .thenReturn("signed-url");
+        when(s3Service.generatePresignedDownloadUrls(List.of("image-key")))
+                .thenReturn(Map.of("image-key", "signed-url"));
 
         // When
         final PagedResponse<ProductResponse> response =
@@ -121,7 +143,87 @@ class ProductServiceImplTest {
         // Then
         assertEquals(1, response.totalElements());
         assertEquals("signed-url", page.getContent().get(0).getImageUrl());
-        verify(s3Service).generatePresignedDownloadUrl("image-key");
+        verify(s3Service).generatePresignedDownloadUrls(List.of("image-key"));
+        verify(s3Service, never()).generatePresignedDownloadUrl(any());
+    }
+
+    /**
+     * Verifies keyset pagination over products:
+     * <ul>
+     *     <li>The first slice seeks from ID {@code 0} and over-fetches a single row</li>
+     *     <li>The extra row is trimmed and signals that another slice follows</li>
+     *     <li>The returned cursor resumes right after the last product of the slice</li>
+     * </ul>
+     */
+    @Test
+    void getAllProducts_ShouldReturnNextCursor_WhenMoreRowsFollow() {
+        // Given
+        final Product first = constructProduct();
+        final Product second = constructProduct();
+        second.setId(2);
+        when(productRepository.findAllWithCategoryAfter(0, PageRequest.of(0, 2)))
+                .thenReturn(List.of(first, second));
+
+        // When
+        final CursorPagedResponse<ProductResponse> response =
+                service.getAllProducts(false, null, 1);
+
+        // Then
+        assertEquals(1, response.content().size());
+        assertTrue(response.hasNext());
+        assertEquals(CursorCodec.encode(1), response.nextCursor());
+        verify(s3Service, never()).generatePresignedDownloadUrls(any());
+
+        // When
+        when(productRepository.findAllWithCategoryAfter(1, PageRequest.of(0, 2)))
+                .thenReturn(List.of(second));
+        final CursorPagedResponse<ProductResponse> last =
+                service.getAllProducts(false, response.nextCursor(), 1);
+
+        // Then
+        assertEquals(1, last.content().size());
+        assertFalse(last.hasNext());
+        assertNull(last.nextCursor());
+    }
+
+    /**
+     * Ensures that slice sizes outside the supported range are clamped instead of
+     * reaching the repository: non-positive sizes fall back to the default and
+     * oversized ones are capped.
+     */
+    @Test
+    void getAllProducts_ShouldClampSliceSize() {
+        // Given
+        when(productRepository.findAllWithCategoryAfter(eq(0), any(Pageable.class))).thenReturn(List.of());
+
+        // When
+        final CursorPagedResponse<ProductResponse> empty = service.getAllProducts(false, null, 0);
+        final CursorPagedResponse<ProductResponse> huge = service.getAllProducts(false, null, Integer.MAX_VALUE);
+
+        // Then
+        assertEquals(3, empty.size());
+        assertEquals(100, huge.size());
+        verify(productRepository).findAllWithCategoryAfter(0, PageRequest.of(0, 4));
+        verify(productRepository).findAllWithCategoryAfter(0, PageRequest.of(0, 101));
+    }
+
+    /**
+     * Ensures that a cursor that is not valid Base64 or does not carry a numeric ID
+     * is rejected as a bad request rather than surfacing as a server error.
+     */
+    @Test
+    void getAllProducts_ShouldRejectMalformedCursor() {
+        // Given
+        final String notNumeric = CursorCodec.encode("abc");
+
+        // Then
+        final ResponseStatusException notBase64 = assertThrows(ResponseStatusException.class,
+                () -> service.getAllProducts(false, "%%%", 5));
+        assertEquals(HttpStatus.BAD_REQUEST, notBase64.getStatusCode());
+        final ResponseStatusException notAnId = assertThrows(ResponseStatusException.class,
+                () -> service.getAllProducts(false, notNumeric, 5));
+        assertEquals(HttpStatus.BAD_REQUEST, notAnId.getStatusCode());
+        verify(productRepository, never()).findAllWithCategoryAfter(any(), any());
     }
 
     /**
@@ -168,8 +270,8 @@ class ProductServiceImplTest {
     }
 
     /**
-     * Ensures that the purchase operation fails when the number of retrieved products
-     * does not match the number of requested product IDs.
+     * Ensures that the purchase operation fails when one of the requested products
+     * could not be reserved because it does not exist.
      *
      * <p>This validates the integrity rule: every requested product must exist.
      */
@@ -178,7 +280,8 @@ class ProductServiceImplTest {
         // Given
         final ProductPurchaseRequest productPurchaseRequest =
                 new ProductPurchaseRequest(1, 1);
-        when(productRepository.findAllByIdInOrderById(List.of(1)))
+        when(hotSkuReservationService.reserve(any())).thenReturn(HotSkuReservation.none());
+        when(stockRepository.reserveStock(new TreeMap<>(Map.of(1, 1d))))
                 .thenReturn(List.of());
 
         // Then
@@ -188,55 +291,168 @@ class ProductServiceImplTest {
 
     /**
      * Ensures that the service throws {@link ProductNotFoundExceptions} when
-     * attempting to purchase a quantity greater than the available stock.
+     * one line of the basket cannot be reserved because of insufficient stock,
+     * even though the other lines could be.
      *
-     * <p>Validates the business rule enforcing stock sufficiency.
+     * <p>Validates that the basket is rejected as a whole.
      */
     @Test
     void purchaseProducts_ShouldThrow_WhenStockInsufficient() {
         // Given
-        final ProductPurchaseRequest productPurchaseRequest =
-                new ProductPurchaseRequest(1, 10);
-        final Product product = constructProduct();
-        // Ensure insufficient stock
-        product.setAvailableQuantity(5);
-        when(productRepository.findAllByIdInOrderById(List.of(1)))
-                .thenReturn(List.of(product));
+        final List<ProductPurchaseRequest> basket = List.of(
+                new ProductPurchaseRequest(1, 2),
+                new ProductPurchaseRequest(2, 10)
+        );
+        when(hotSkuReservationService.reserve(any())).thenReturn(HotSkuReservation.none());
+        when(stockRepository.reserveStock(new TreeMap<>(Map.of(1, 2d, 2, 10d))))
+                .thenReturn(List.of(constructPurchaseResponse(1, 2)));
 
         // Then
         assertThrows(ProductNotFoundExceptions.class,
-                () -> service.purchaseProducts(List.of(productPurchaseRequest), 1, 10));
+                () -> service.purchaseProducts(basket, 1, 10));
     }
 
     /**
      * Verifies that a successful product purchase:
      * <ul>
-     *     <li>Loads all required products</li>
-     *     <li>Validates available stock</li>
-     *     <li>Updates inventory quantities correctly</li>
-     *     <li>Saves updated product state</li>
+     *     <li>Merges repeated lines of the same product before reserving</li>
+     *     <li>Reserves the whole basket with a single repository call</li>
+     *     <li>Never saves products one by one</li>
      *     <li>Returns a {@link PagedResponse} containing purchase results</li>
      * </ul>
      */
     @Test
     void purchaseProducts_ShouldReturnPagedResponse_WhenSuccessful() throws ProductNotFoundExceptions {
         // Given
-        final ProductPurchaseRequest productPurchaseRequest =
-                new ProductPurchaseRequest(1, 2);
-        final Product product = constructProduct();
-        product.setId(1);
-        product.setAvailableQuantity(5); // VERY IMPORTANT → matches your expected result
-        when(productRepository.findAllByIdInOrderById(List.of(1)))
-                .thenReturn(List.of(product));
-        when(productRepository.save(product)).thenReturn(product);
+        final List<ProductPurchaseRequest> basket = List.of(
+                new ProductPurchaseRequest(1, 2),
+                new ProductPurchaseRequest(1, 1)
+        );
+        final SortedMap<Integer, Double> expectedQuantities = new TreeMap<>(Map.of(1, 3d));
+        when(hotSkuReservationService.reserve(expectedQuantities)).thenReturn(HotSkuReservation.none());
+        when(stockRepository.reserveStock(expectedQuantities))
+                .thenReturn(List.of(constructPurchaseResponse(1, 3)));
 
         // When
         final PagedResponse<ProductPurchaseResponse> response =
-                service.purchaseProducts(List.of(productPurchaseRequest), 1, 10);
+                service.purchaseProducts(basket, 1, 10);
 
         // Then
         assertEquals(1, response.totalElements());
-        assertEquals(3, product.getAvailableQuantity());
+        assertEquals(3, response.content().get(0).quantity());
+        verify(stockRepository).reserveStock(expectedQuantities);
+        verify(productRepository, never()).save(any());
+    }
+
+    /**
+     * Verifies that hot lines served from memory are not sent to the database
+     * and that the response combines hot and cold lines ordered by product ID.
+     */
+    @Test
+    void purchaseProducts_ShouldOnlyLockColdLines_WhenHotLinesReservedInMemory() throws ProductNotFoundExceptions {
+        // Given
+        final List<ProductPurchaseRequest> basket = List.of(
+                new ProductPurchaseRequest(2, 1),
+                new ProductPurchaseRequest(1, 4)
+        );
+        when(hotSkuReservationService.reserve(new TreeMap<>(Map.of(1, 4d, 2, 1d))))
+                .thenReturn(new HotSkuReservation(List.of(constructPurchaseResponse(2, 1)), List.of()));
+        when(stockRepository.reserveStock(new TreeMap<>(Map.of(1, 4d))))
+                .thenReturn(List.of(constructPurchaseResponse(1, 4)));
+
+        // When
+        final PagedResponse<ProductPurchaseResponse> response =
+                service.purchaseProducts(basket, 1, 10);
+
+        // Then
+        assertEquals(2, response.totalElements());
+        assertEquals(1, response.content().get(0).productId());
+        assertEquals(2, response.content().get(1).productId());
+    }
+
+    /**
+     * Ensures that a basket is rejected without touching the database when one of
+     * its hot lines is sold out in memory.
+     */
+    @Test
+    void purchaseProducts_ShouldThrow_WhenHotLineSoldOut() {
+        // Given
+        final List<ProductPurchaseRequest> basket = List.of(new ProductPurchaseRequest(1, 4));
+        when(hotSkuReservationService.reserve(any()))
+                .thenReturn(new HotSkuReservation(List.of(), List.of(1)));
+
+        // Then
+        assertThrows(ProductNotFoundExceptions.class,
+                () -> service.purchaseProducts(basket, 1, 10));
+        verify(stockRepository, never()).reserveStock(any());
+    }
+
+    /**
+     * Verifies that released lines are collapsed per product and restored with a
+     * single set-based update, bypassing the hot SKU counters.
+     */
+    @Test
+    void releaseProducts_ShouldRestoreStockInOneUpdate() {
+        // Given
+        final List<ProductPurchaseRequest> basket = List.of(
+                new ProductPurchaseRequest(2, 1),
+                new ProductPurchaseRequest(1, 4),
+                new ProductPurchaseRequest(2, 2)
+        );
+        final TreeMap<Integer, Double> expectedQuantities = new TreeMap<>(Map.of(1, 4d, 2, 3d));
+        when(stockRepository.recordRelease("ORD-1")).thenReturn(true);
+        when(stockRepository.releaseStock(expectedQuantities)).thenReturn(2);
+
+        // When
+        final Integer released = service.releaseProducts("ORD-1", basket);
+
+        // Then
+        assertEquals(2, released);
+        verify(stockRepository).releaseStock(expectedQuantities);
+        verify(hotSkuReservationService, never()).reserve(any());
+    }
+
+    /**
+     * Ensures that releasing the stock of an order a second time, e.g. on a
+     * redelivered compensation, leaves the stock untouched.
+     */
+    @Test
+    void releaseProducts_ShouldRestoreNothing_WhenOrderAlreadyReleased() {
+        // Given
+        final List<ProductPurchaseRequest> basket = List.of(new ProductPurchaseRequest(1, 4));
+        when(stockRepository.recordRelease("ORD-1")).thenReturn(false);
+
+        // When
+        final Integer released = service.releaseProducts("ORD-1", basket);
+
+        // Then
+        assertEquals(0, released);
+        verify(stockRepository, never()).releaseStock(any());
+    }
+
+    /**
+     * Verifies that the requested page is translated into a database page request
+     * (zero-based, stable order) instead of being cut out of a full result in memory.
+     */
+    @Test
+    void findAllProducts_ShouldDelegatePagingToRepository() {
+        // Given
+        final LocalDateTime fromDate = LocalDateTime.now().minusDays(1);
+        final LocalDateTime toDate = LocalDateTime.now();
+        final ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        when(productRepository.findPageByAdditionDateBetween(eq(fromDate), eq(toDate), pageableCaptor.capture()))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(2, 5), 12));
+
+        // When
+        final PagedResponse<ProductResponse> response =
+                service.findAllProducts(fromDate, toDate, 3, 5);
+
+        // Then
+        assertEquals(2, pageableCaptor.getValue().getPageNumber());
+        assertEquals(5, pageableCaptor.getValue().getPageSize());
+        assertEquals(3, response.page());
+        assertEquals(12, response.totalElements());
+        assertEquals(3, response.totalPages());
     }
 
     /**
@@ -257,9 +473,9 @@ class ProductServiceImplTest {
         final LocalDateTime fromDate = LocalDateTime.now().minusDays(1);
         final LocalDateTime toDate = LocalDateTime.now();
 
-        // Stub using EXACT arguments (no any())
-        when(productRepository.findAllByAdditionDateBetween(fromDate, toDate))
-                .thenReturn(List.of(product));
+        // Stub using EXACT dates; paging is delegated to the repository
+        when(productRepository.findPageByAdditionDateBetween(eq(fromDate), eq(toDate), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(product), PageRequest.of(0, 10), 1));
 
         // When
         final PagedResponse<ProductResponse> response =
@@ -303,8 +519,8 @@ class ProductServiceImplTest {
         when(categoryRepository.findById(1)).thenReturn(Optional.of(category));
 
         final Product product = constructProduct();
-        when(productRepository.findAllByCategoryAndPriceGreaterThanEqual(category, BigDecimal.TEN))
-                .thenReturn(List.of(product));
+        when(productRepository.findPageByCategoryAndPriceGreaterThanEqual(eq(category), eq(BigDecimal.TEN), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(product), PageRequest.of(0, 10), 1));
 
         // When
         final PagedResponse<ProductResponse> response =
@@ -333,8 +549,8 @@ class ProductServiceImplTest {
         final Category category = constructCategory();
         when(categoryRepository.findById(1)).thenReturn(Optional.of(category));
         final Product product = constructProduct();
-        when(productRepository.findAllByCategoryAndPriceLessThanEqual(category, BigDecimal.TEN))
-                .thenReturn(List.of(product));
+        when(productRepository.findPageByCategoryAndPriceLessThanEqual(eq(category), eq(BigDecimal.TEN), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(product), PageRequest.of(0, 10), 1));
 
         // When
         final PagedResponse<ProductResponse> response =
@@ -374,4 +590,16 @@ class ProductServiceImplTest {
                 .name("Test Category")
                 .build();
     }
+
+    /**
+     * Utility method for creating a {@link ProductPurchaseResponse} as returned by
+     * the stock reservation.
+     *
+     * @param productId the reserved product ID
+     * @param quantity  the reserved quantity
+     * @return a {@link ProductPurchaseResponse} for the given line
+     */
+    private ProductPurchaseResponse constructPurchaseResponse(final int productId, final double quantity) {
+        return new ProductPurchaseResponse(productId, "Test Product", "Test description", BigDecimal.TEN, quantity);
+    }
 }
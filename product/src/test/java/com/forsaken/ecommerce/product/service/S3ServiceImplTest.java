@@ -1,7 +1,9 @@
 package com.forsaken.ecommerce.product.service;
 
 
+import com.forsaken.ecommerce.product.configs.s3.PresignedUrlCacheProperties;
 import com.forsaken.ecommerce.product.configs.s3.S3Properties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +18,7 @@ import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequ
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -24,6 +27,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -36,6 +42,7 @@ import static org.mockito.Mockito.when;
  *     <li>Correct S3 bucket and expiration properties are used</li>
  *     <li>Appropriate exceptions are thrown when AWS SDK returns invalid or null responses</li>
  *     <li>Keys for uploaded files are generated with proper prefixes and formatting</li>
+ *     <li>Download URLs are cached per object key and only cache misses are signed</li>
  * </ul>
  *
  * <p>All AWS interactions are fully mocked using Mockito to isolate service logic.
@@ -59,11 +66,22 @@ class S3ServiceImplTest {
     @Mock
     private PresignedGetObjectRequest presignedGetObjectRequest;
 
+    private SimpleMeterRegistry meterRegistry;
     private S3ServiceImpl s3Service;
 
+    /**
+     * Builds the service with a 30 minute signature and a 5 minute cache safety margin.
+     */
     @BeforeEach
     void setup() {
-        s3Service = new S3ServiceImpl(s3Properties, presigner);
+        meterRegistry = new SimpleMeterRegistry();
+        when(s3Properties.expiration()).thenReturn(30L);
+        s3Service = new S3ServiceImpl(
+                s3Properties,
+                new PresignedUrlCacheProperties(100, 5),
+                presigner,
+                meterRegistry
+        );
     }
 
     /**
@@ -268,4 +286,77 @@ class S3ServiceImplTest {
         // Then
         assertEquals("Unable to generate presigned download URL", exception.getMessage());
     }
+
+    /**
+     * Verifies that a second request for the same object key is served from the
+     * cache without signing again, and that the hit is reported through the cache
+     * metrics.
+     */
+    @Test
+    void generatePresignedDownloadUrl_ShouldReuseCachedUrl() {
+        // Given
+        when(s3Properties.bucketName()).thenReturn("test-bucket");
+        stubPresignGetObjectPerKey();
+        final String imageUrl = "https://cdn.com/uploads/img_123.png";
+
+        // When
+        final String first = s3Service.generatePresignedDownloadUrl(imageUrl);
+        final String second = s3Service.generatePresignedDownloadUrl(imageUrl);
+
+        // Then
+        assertEquals("https://s3.com/uploads/img_123.png", first);
+        assertEquals(first, second);
+        verify(presigner, times(1)).presignGetObject(any(Consumer.class));
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", "product.presigned-url")
+                .tag("result", "hit")
+                .functionCounter()
+                .count());
+    }
+
+    /**
+     * Verifies that a batch request signs only the keys not already cached,
+     * skips {@code null} entries and maps every URL back to the entry it was
+     * requested for.
+     */
+    @Test
+    void generatePresignedDownloadUrls_ShouldSignOnlyMisses() {
+        // Given
+        when(s3Properties.bucketName()).thenReturn("test-bucket");
+        stubPresignGetObjectPerKey();
+        s3Service.generatePresignedDownloadUrl("https://cdn.com/uploads/a.png");
+
+        // When
+        final Map<String, String> result = s3Service.generatePresignedDownloadUrls(Arrays.asList(
+                "https://cdn.com/uploads/a.png",
+                "https://cdn.com/uploads/b.png",
+                null,
+                "https://cdn.com/uploads/b.png"
+        ));
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals("https://s3.com/uploads/a.png", result.get("https://cdn.com/uploads/a.png"));
+        assertEquals("https://s3.com/uploads/b.png", result.get("https://cdn.com/uploads/b.png"));
+        verify(presigner, times(2)).presignGetObject(any(Consumer.class));
+    }
+
+    /**
+     * Helper method to stub {@link S3Presigner#presignGetObject(Consumer)} so that
+     * each signed URL is derived from the requested object key.
+     */
+    private void stubPresignGetObjectPerKey() {
+        when(presigner.presignGetObject(any(Consumer.class)))
+                .thenAnswer(inv -> {
+                    final GetObjectPresignRequest.Builder builder =
+                            GetObjectPresignRequest.builder();
+                    final Consumer<GetObjectPresignRequest.Builder> consumer =
+                            inv.getArgument(0);
+                    consumer.accept(builder);
+                    final String key = builder.build().getObjectRequest().key();
+                    final PresignedGetObjectRequest presigned = mock(PresignedGetObjectRequest.class);
+                    when(presigned.url()).thenReturn(new URL("https://s3.com/" + key));
+                    return presigned;
+                });
+    }
 }
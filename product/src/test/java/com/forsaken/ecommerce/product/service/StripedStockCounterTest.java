@@ -0,0 +1,88 @@
+package com.forsaken.ecommerce.product.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link StripedStockCounter}, verifying that units are never
+ * handed out twice, including under heavy concurrent use.
+ */
+class StripedStockCounterTest {
+
+    /**
+     * Verifies that a request larger than any single stripe is served by
+     * gathering units across stripes.
+     */
+    @Test
+    void tryAcquire_ShouldGatherAcrossStripes_WhenNoStripeIsLargeEnough() {
+        // Given
+        final StripedStockCounter counter = new StripedStockCounter(8);
+        counter.add(16);
+
+        // When
+        final boolean acquired = counter.tryAcquire(10);
+
+        // Then
+        assertTrue(acquired);
+        assertEquals(6, counter.available());
+    }
+
+    /**
+     * Verifies that a request exceeding the total is rejected and leaves the
+     * counter untouched.
+     */
+    @Test
+    void tryAcquire_ShouldRejectAndKeepUnits_WhenTotalIsShort() {
+        // Given
+        final StripedStockCounter counter = new StripedStockCounter(4);
+        counter.add(5);
+
+        // When
+        final boolean acquired = counter.tryAcquire(6);
+
+        // Then
+        assertFalse(acquired);
+        assertEquals(5, counter.available());
+    }
+
+    /**
+     * Verifies that concurrent buyers take exactly the units that were added.
+     */
+    @Test
+    void tryAcquire_ShouldNeverOversell_WhenHammeredConcurrently() throws InterruptedException {
+        // Given
+        final int threads = 16;
+        final StripedStockCounter counter = new StripedStockCounter(8);
+        counter.add(10_000);
+        final AtomicLong sold = new AtomicLong();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                while (counter.tryAcquire(3)) {
+                    sold.addAndGet(3);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        // Then
+        assertEquals(10_000 - sold.get(), counter.available());
+        assertTrue(counter.available() < 3);
+    }
+}